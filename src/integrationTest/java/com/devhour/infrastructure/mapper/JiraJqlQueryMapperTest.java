@@ -169,7 +169,8 @@ class JiraJqlQueryMapperTest extends AbstractMapperTest {
             originalQuery.isActive(),
             originalQuery.getPriority(),
             originalQuery.getUpdatedAt(),
-            originalQuery.getUpdatedBy()
+            originalQuery.getUpdatedBy(),
+            originalQuery.getLastSyncedAt()
         );
 
         // Assert
@@ -623,7 +624,8 @@ class JiraJqlQueryMapperTest extends AbstractMapperTest {
             nonExistingQuery.isActive(),
             nonExistingQuery.getPriority(),
             nonExistingQuery.getUpdatedAt(),
-            nonExistingQuery.getUpdatedBy()
+            nonExistingQuery.getUpdatedBy(),
+            nonExistingQuery.getLastSyncedAt()
         );
 
         // Assert
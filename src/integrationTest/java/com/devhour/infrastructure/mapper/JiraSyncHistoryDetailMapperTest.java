@@ -82,6 +82,27 @@ class JiraSyncHistoryDetailMapperTest extends AbstractMapperTest {
         );
     }
 
+    @Test
+    @DisplayName("同期履歴詳細一括挿入 - 成功ケース")
+    void insertAll_Success() {
+        // Arrange
+        List<JiraSyncHistoryDetail> details = List.of(
+            JiraSyncHistoryDetail.createSuccess(testSyncHistoryId, 1, "CREATED", "Project created"),
+            JiraSyncHistoryDetail.createError(testSyncHistoryId, 2, "UPDATED", "Update failed")
+        );
+
+        // Act
+        syncHistoryDetailMapper.insertAll(details);
+
+        // Assert
+        List<JiraSyncHistoryDetail> results = syncHistoryDetailMapper.selectBySyncHistoryId(testSyncHistoryId);
+        assertThat(results).extracting(JiraSyncHistoryDetail::getId)
+            .containsExactly(details.get(0).getId(), details.get(1).getId());
+        assertThat(results).extracting(JiraSyncHistoryDetail::getStatus)
+            .containsExactly(DetailStatus.SUCCESS, DetailStatus.ERROR);
+        assertThat(results.get(1).getResult()).isEqualTo("Update failed");
+    }
+
     @Test
     @DisplayName("同期履歴詳細挿入 - 成功ケース")
     void insert_Success_WithProjectId() {
@@ -187,6 +187,7 @@ class JiraSyncHistoryMapperTest extends AbstractMapperTest {
             syncHistory.getTotalProjectsProcessed(),
             syncHistory.getSuccessCount(),
             syncHistory.getErrorCount(),
+            syncHistory.getSkippedCount(),
             syncHistory.getErrorDetails()
         );
 
@@ -235,6 +236,7 @@ class JiraSyncHistoryMapperTest extends AbstractMapperTest {
             syncHistory.getTotalProjectsProcessed(),
             syncHistory.getSuccessCount(),
             syncHistory.getErrorCount(),
+            syncHistory.getSkippedCount(),
             syncHistory.getErrorDetails()
         );
 
@@ -355,6 +357,7 @@ class JiraSyncHistoryMapperTest extends AbstractMapperTest {
             1,
             1,
             0,
+            0,
             null
         );
 
@@ -2,6 +2,8 @@ package com.devhour.infrastructure.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.time.LocalDateTime;
@@ -238,6 +240,50 @@ class ApprovalAuthorityRepositoryImplTest {
             .hasMessage("メールアドレスは必須です");
     }
 
+    @Test
+    @DisplayName("saveAll: 複数の承認権限を1回の一括登録で保存できる")
+    void saveAll_MultipleAuthorities_UpsertsInOneStatement() {
+        // Arrange
+        List<ApprovalAuthority> authorities = List.of(testManager, testDepartmentManager);
+
+        // Act
+        repository.saveAll(authorities);
+
+        // Assert
+        verify(mapper).upsertAll(authorities);
+        verify(mapper, never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("saveAll: 空リストではDBにアクセスしない")
+    void saveAll_EmptyList_DoesNothing() {
+        // Act
+        repository.saveAll(List.of());
+
+        // Assert
+        verify(mapper, never()).upsertAll(any());
+    }
+
+    @Test
+    @DisplayName("deleteByEmails: 重複を除いたメールアドレスで一括削除できる")
+    void deleteByEmails_DistinctEmails_DeletesInOneStatement() {
+        // Act
+        repository.deleteByEmails(List.of("manager@example.com", "dept.manager@example.com", "manager@example.com"));
+
+        // Assert
+        verify(mapper).deleteByEmails(List.of("manager@example.com", "dept.manager@example.com"));
+    }
+
+    @Test
+    @DisplayName("deleteByEmails: 空文字メールアドレスを含む場合は例外を発生させる")
+    void deleteByEmails_BlankEmail_ThrowsException() {
+        // Act & Assert
+        assertThatThrownBy(() -> repository.deleteByEmails(List.of("manager@example.com", " ")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("メールアドレスは必須です");
+        verify(mapper, never()).deleteByEmails(any());
+    }
+
     @Test
     @DisplayName("findByPosition: 役職で検索できる")
     void findByPosition_ValidPosition_ReturnsMatches() {
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,9 +19,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.devhour.domain.event.WorkRecordApprovalEvent;
 import com.devhour.infrastructure.event.DomainEventEntity;
+import com.devhour.infrastructure.event.DomainEventStoredEvent;
 import com.devhour.infrastructure.mapper.DomainEventMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -33,11 +36,14 @@ class DomainEventRepositoryImplTest {
     @Mock
     private ObjectMapper objectMapper;
     
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    
     private DomainEventRepositoryImpl repository;
     
     @BeforeEach
     void setUp() {
-        repository = new DomainEventRepositoryImpl(mapper, objectMapper);
+        repository = new DomainEventRepositoryImpl(mapper, objectMapper, applicationEventPublisher);
     }
     
     @Test
@@ -64,6 +70,7 @@ class DomainEventRepositoryImplTest {
         assertThat(capturedEntity.getEventAction()).isEqualTo("APPROVE");
         assertThat(capturedEntity.getEventData()).isEqualTo(eventJson);
         assertThat(capturedEntity.getPartitionKey()).isEqualTo(partitionKey);
+        verify(applicationEventPublisher).publishEvent(new DomainEventStoredEvent("test-event-id"));
     }
     
     @Test
@@ -85,6 +92,32 @@ class DomainEventRepositoryImplTest {
         assertThat(capturedEntity.getPartitionKey()).isEqualTo("user-123");
     }
     
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveAll_ShouldInsertAllEventsInOneStatementAndNotifyEach() throws Exception {
+        // Given
+        WorkRecordApprovalEvent event = createTestEvent();
+        WorkRecordApprovalEvent otherEvent = new WorkRecordApprovalEvent(
+            "other-event-id", "user-789", LocalDate.of(2024, 1, 16), "REJECT", "approver-456",
+            "理由", "REJECTED", List.of(), LocalDateTime.now());
+        
+        when(objectMapper.writeValueAsString(any(WorkRecordApprovalEvent.class))).thenReturn("{}");
+        
+        // When
+        repository.saveAll(List.of(event, otherEvent));
+        
+        // Then
+        ArgumentCaptor<List<DomainEventEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mapper).insertAll(captor.capture());
+        assertThat(captor.getValue()).extracting(DomainEventEntity::getEventId)
+            .containsExactly("test-event-id", "other-event-id");
+        assertThat(captor.getValue()).extracting(DomainEventEntity::getPartitionKey)
+            .containsExactly("user-123", "user-789");
+        verify(mapper, never()).insert(any());
+        verify(applicationEventPublisher).publishEvent(new DomainEventStoredEvent("test-event-id"));
+        verify(applicationEventPublisher).publishEvent(new DomainEventStoredEvent("other-event-id"));
+    }
+    
     @Test
     void findById_ExistingEvent_ShouldReturnDeserializedEvent() throws Exception {
         // Given
@@ -359,6 +359,7 @@ class JiraJqlQueryRepositoryImplTest {
             eq(true),
             eq(2),
             any(LocalDateTime.class),
+            isNull(),
             isNull()
         );
     }
@@ -369,7 +370,7 @@ class JiraJqlQueryRepositoryImplTest {
         assertThrows(IllegalArgumentException.class, () -> repository.save(null));
         verify(jqlQueryMapper, never()).selectById(any());
         verify(jqlQueryMapper, never()).insert(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
-        verify(jqlQueryMapper, never()).update(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(jqlQueryMapper, never()).update(any(), any(), any(), any(), any(), any(), any(), any(), any());
     }
 
     @Test
@@ -391,7 +392,7 @@ class JiraJqlQueryRepositoryImplTest {
         verify(jqlQueryMapper).selectById("query1");
         verify(jqlQueryMapper).selectById("query2");
         verify(jqlQueryMapper).insert(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
-        verify(jqlQueryMapper).update(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(jqlQueryMapper).update(any(), any(), any(), any(), any(), any(), any(), any(), any());
     }
 
     @Test
@@ -406,7 +407,7 @@ class JiraJqlQueryRepositoryImplTest {
         assertTrue(result.isEmpty());
         verify(jqlQueryMapper, never()).selectById(any());
         verify(jqlQueryMapper, never()).insert(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
-        verify(jqlQueryMapper, never()).update(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(jqlQueryMapper, never()).update(any(), any(), any(), any(), any(), any(), any(), any(), any());
     }
 
     @Test
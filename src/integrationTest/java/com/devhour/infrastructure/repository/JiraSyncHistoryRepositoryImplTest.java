@@ -6,8 +6,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.time.LocalDateTime;
@@ -24,8 +27,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import com.devhour.domain.model.entity.JiraSyncHistory;
 import com.devhour.domain.model.entity.JiraSyncHistoryDetail;
+import com.devhour.domain.model.valueobject.DetailStatus;
 import com.devhour.domain.model.valueobject.JiraSyncStatus;
 import com.devhour.domain.model.valueobject.JiraSyncType;
+import com.devhour.infrastructure.dto.JiraSyncDetailStatusCount;
 import com.devhour.infrastructure.mapper.JiraSyncHistoryDetailMapper;
 import com.devhour.infrastructure.mapper.JiraSyncHistoryMapper;
 
@@ -154,6 +159,65 @@ class JiraSyncHistoryRepositoryImplTest {
         verify(syncHistoryDetailMapper, never()).selectBySyncHistoryId(any());
     }
     
+    // ========================================
+    // findDetailsPage テスト
+    // ========================================
+    
+    @Test
+    @DisplayName("findDetailsPage - 正常系: カーソルと件数をマッパーに渡す")
+    void findDetailsPage_Success_PassesCursorAndLimit() {
+        // Given
+        String syncId = "sync-123";
+        List<JiraSyncHistoryDetail> details = Arrays.asList(testDetail);
+        when(syncHistoryDetailMapper.selectPageBySyncHistoryId(syncId, 20, 50)).thenReturn(details);
+
+        // When
+        List<JiraSyncHistoryDetail> result = repository.findDetailsPage(syncId, 20, 50);
+
+        // Then
+        assertEquals(details, result);
+        verify(syncHistoryDetailMapper).selectPageBySyncHistoryId(syncId, 20, 50);
+    }
+    
+    @Test
+    @DisplayName("findDetailsPage - 正常系: カーソルがnullの場合は先頭から取得")
+    void findDetailsPage_Success_WhenCursorIsNull() {
+        // Given
+        String syncId = "sync-123";
+        when(syncHistoryDetailMapper.selectPageBySyncHistoryId(syncId, null, 10)).thenReturn(Collections.emptyList());
+
+        // When
+        List<JiraSyncHistoryDetail> result = repository.findDetailsPage(syncId, null, 10);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(syncHistoryDetailMapper).selectPageBySyncHistoryId(syncId, null, 10);
+    }
+    
+    @Test
+    @DisplayName("findDetailsPage - 異常系: 同期履歴IDがnullの場合")
+    void findDetailsPage_ThrowException_WhenIdIsNull() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> repository.findDetailsPage(null, null, 10)
+        );
+        assertEquals("同期履歴IDは必須です", exception.getMessage());
+        verify(syncHistoryDetailMapper, never()).selectPageBySyncHistoryId(any(), any(), anyInt());
+    }
+    
+    @Test
+    @DisplayName("findDetailsPage - 異常系: 取得件数が0以下の場合")
+    void findDetailsPage_ThrowException_WhenLimitIsNotPositive() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> repository.findDetailsPage("sync-123", null, 0)
+        );
+        assertEquals("取得件数は1以上である必要があります", exception.getMessage());
+        verify(syncHistoryDetailMapper, never()).selectPageBySyncHistoryId(any(), any(), anyInt());
+    }
+    
     // ========================================
     // findRecent テスト
     // ========================================
@@ -199,11 +263,15 @@ class JiraSyncHistoryRepositoryImplTest {
         // Given
         LocalDateTime start = LocalDateTime.now().minusDays(7);
         LocalDateTime end = LocalDateTime.now();
-        List<JiraSyncHistory> expectedHistories = Arrays.asList(testSyncHistory);
-        List<JiraSyncHistoryDetail> details = Arrays.asList(testDetail);
+        JiraSyncHistory otherSyncHistory = JiraSyncHistory.startSync(JiraSyncType.MANUAL, "user");
+        List<JiraSyncHistory> expectedHistories = Arrays.asList(testSyncHistory, otherSyncHistory);
+        List<String> ids = Arrays.asList(testSyncHistory.getId(), otherSyncHistory.getId());
 
         when(syncHistoryMapper.selectByDateRange(start, end, null)).thenReturn(expectedHistories);
-        when(syncHistoryDetailMapper.selectBySyncHistoryId(testSyncHistory.getId())).thenReturn(details);
+        when(syncHistoryDetailMapper.countByStatusGroupedBySyncHistoryId(ids)).thenReturn(Arrays.asList(
+            new JiraSyncDetailStatusCount(testSyncHistory.getId(), DetailStatus.SUCCESS, 3L),
+            new JiraSyncDetailStatusCount(testSyncHistory.getId(), DetailStatus.ERROR, 1L),
+            new JiraSyncDetailStatusCount(otherSyncHistory.getId(), DetailStatus.ERROR, 2L)));
 
         // When
         List<JiraSyncHistory> result = repository.findByDateRange(start, end, null);
@@ -211,7 +279,12 @@ class JiraSyncHistoryRepositoryImplTest {
         // Then
         assertEquals(expectedHistories, result);
         verify(syncHistoryMapper).selectByDateRange(start, end, null);
-        verify(syncHistoryDetailMapper).selectBySyncHistoryId(testSyncHistory.getId());
+        verify(syncHistoryDetailMapper).countByStatusGroupedBySyncHistoryId(ids);
+        verify(syncHistoryDetailMapper, never()).selectBySyncHistoryId(any());
+        assertEquals(3L, testSyncHistory.getDetailCount(DetailStatus.SUCCESS));
+        assertEquals(1L, testSyncHistory.getDetailCount(DetailStatus.ERROR));
+        assertEquals(0L, otherSyncHistory.getDetailCount(DetailStatus.SUCCESS));
+        assertEquals(2L, otherSyncHistory.getDetailCount(DetailStatus.ERROR));
     }
     
     @Test
@@ -270,10 +343,11 @@ class JiraSyncHistoryRepositoryImplTest {
         // Given
         JiraSyncStatus status = JiraSyncStatus.COMPLETED;
         List<JiraSyncHistory> expectedHistories = Arrays.asList(testSyncHistory);
-        List<JiraSyncHistoryDetail> details = Arrays.asList(testDetail);
+        List<String> ids = Arrays.asList(testSyncHistory.getId());
 
         when(syncHistoryMapper.selectByStatus(status.getValue())).thenReturn(expectedHistories);
-        when(syncHistoryDetailMapper.selectBySyncHistoryId(testSyncHistory.getId())).thenReturn(details);
+        when(syncHistoryDetailMapper.countByStatusGroupedBySyncHistoryId(ids)).thenReturn(Arrays.asList(
+            new JiraSyncDetailStatusCount(testSyncHistory.getId(), DetailStatus.SUCCESS, 5L)));
 
         // When
         List<JiraSyncHistory> result = repository.findByStatus(status);
@@ -281,7 +355,10 @@ class JiraSyncHistoryRepositoryImplTest {
         // Then
         assertEquals(expectedHistories, result);
         verify(syncHistoryMapper).selectByStatus(status.getValue());
-        verify(syncHistoryDetailMapper).selectBySyncHistoryId(testSyncHistory.getId());
+        verify(syncHistoryDetailMapper).countByStatusGroupedBySyncHistoryId(ids);
+        verify(syncHistoryDetailMapper, never()).selectBySyncHistoryId(any());
+        assertEquals(5L, testSyncHistory.getDetailCount(DetailStatus.SUCCESS));
+        assertEquals(0L, testSyncHistory.getDetailCount(DetailStatus.ERROR));
     }
     
     @Test
@@ -306,10 +383,11 @@ class JiraSyncHistoryRepositoryImplTest {
         // Given
         JiraSyncType triggerType = JiraSyncType.MANUAL;
         List<JiraSyncHistory> expectedHistories = Arrays.asList(testSyncHistory);
-        List<JiraSyncHistoryDetail> details = Arrays.asList(testDetail);
+        List<String> ids = Arrays.asList(testSyncHistory.getId());
 
         when(syncHistoryMapper.selectByTriggerType(triggerType.getValue())).thenReturn(expectedHistories);
-        when(syncHistoryDetailMapper.selectBySyncHistoryId(testSyncHistory.getId())).thenReturn(details);
+        when(syncHistoryDetailMapper.countByStatusGroupedBySyncHistoryId(ids)).thenReturn(Arrays.asList(
+            new JiraSyncDetailStatusCount(testSyncHistory.getId(), DetailStatus.SUCCESS, 5L)));
 
         // When
         List<JiraSyncHistory> result = repository.findByTriggerType(triggerType);
@@ -317,7 +395,10 @@ class JiraSyncHistoryRepositoryImplTest {
         // Then
         assertEquals(expectedHistories, result);
         verify(syncHistoryMapper).selectByTriggerType(triggerType.getValue());
-        verify(syncHistoryDetailMapper).selectBySyncHistoryId(testSyncHistory.getId());
+        verify(syncHistoryDetailMapper).countByStatusGroupedBySyncHistoryId(ids);
+        verify(syncHistoryDetailMapper, never()).selectBySyncHistoryId(any());
+        assertEquals(5L, testSyncHistory.getDetailCount(DetailStatus.SUCCESS));
+        assertEquals(0L, testSyncHistory.getDetailCount(DetailStatus.ERROR));
     }
     
     @Test
@@ -341,9 +422,10 @@ class JiraSyncHistoryRepositoryImplTest {
     void findInProgress_Success_ReturnsInProgressSyncHistories() {
         // Given
         List<JiraSyncHistory> expectedHistories = Arrays.asList(testSyncHistory);
-        List<JiraSyncHistoryDetail> details = Arrays.asList(testDetail);
+        List<String> ids = Arrays.asList(testSyncHistory.getId());
         when(syncHistoryMapper.selectInProgress()).thenReturn(expectedHistories);
-        when(syncHistoryDetailMapper.selectBySyncHistoryId(testSyncHistory.getId())).thenReturn(details);
+        when(syncHistoryDetailMapper.countByStatusGroupedBySyncHistoryId(ids)).thenReturn(Arrays.asList(
+            new JiraSyncDetailStatusCount(testSyncHistory.getId(), DetailStatus.SUCCESS, 5L)));
 
         // When
         List<JiraSyncHistory> result = repository.findInProgress();
@@ -351,7 +433,10 @@ class JiraSyncHistoryRepositoryImplTest {
         // Then
         assertEquals(expectedHistories, result);
         verify(syncHistoryMapper).selectInProgress();
-        verify(syncHistoryDetailMapper).selectBySyncHistoryId(testSyncHistory.getId());
+        verify(syncHistoryDetailMapper).countByStatusGroupedBySyncHistoryId(ids);
+        verify(syncHistoryDetailMapper, never()).selectBySyncHistoryId(any());
+        assertEquals(5L, testSyncHistory.getDetailCount(DetailStatus.SUCCESS));
+        assertEquals(0L, testSyncHistory.getDetailCount(DetailStatus.ERROR));
     }
     
     // ========================================
@@ -365,10 +450,11 @@ class JiraSyncHistoryRepositoryImplTest {
         int limit = 10;
         int offset = 0;
         List<JiraSyncHistory> expectedHistories = Arrays.asList(testSyncHistory);
-        List<JiraSyncHistoryDetail> details = Arrays.asList(testDetail);
+        List<String> ids = Arrays.asList(testSyncHistory.getId());
 
         when(syncHistoryMapper.selectRecentWithPagination(limit, offset, null)).thenReturn(expectedHistories);
-        when(syncHistoryDetailMapper.selectBySyncHistoryId(testSyncHistory.getId())).thenReturn(details);
+        when(syncHistoryDetailMapper.countByStatusGroupedBySyncHistoryId(ids)).thenReturn(Arrays.asList(
+            new JiraSyncDetailStatusCount(testSyncHistory.getId(), DetailStatus.SUCCESS, 5L)));
 
         // When
         List<JiraSyncHistory> result = repository.findWithPagination(limit, offset, null);
@@ -376,7 +462,10 @@ class JiraSyncHistoryRepositoryImplTest {
         // Then
         assertEquals(expectedHistories, result);
         verify(syncHistoryMapper).selectRecentWithPagination(limit, offset, null);
-        verify(syncHistoryDetailMapper).selectBySyncHistoryId(testSyncHistory.getId());
+        verify(syncHistoryDetailMapper).countByStatusGroupedBySyncHistoryId(ids);
+        verify(syncHistoryDetailMapper, never()).selectBySyncHistoryId(any());
+        assertEquals(5L, testSyncHistory.getDetailCount(DetailStatus.SUCCESS));
+        assertEquals(0L, testSyncHistory.getDetailCount(DetailStatus.ERROR));
     }
     
     @Test
@@ -413,7 +502,6 @@ class JiraSyncHistoryRepositoryImplTest {
         // Given
         testSyncHistory.addDetail("CREATE", testDetail.getStatus(), "Project created");
         when(syncHistoryMapper.selectById(testSyncHistory.getId())).thenReturn(Optional.empty());
-        when(syncHistoryDetailMapper.selectBySyncHistoryId(testSyncHistory.getId())).thenReturn(Collections.emptyList());
 
         // When
         JiraSyncHistory result = repository.save(testSyncHistory);
@@ -433,16 +521,11 @@ class JiraSyncHistoryRepositoryImplTest {
             eq(testSyncHistory.getErrorDetails()),
             eq(testSyncHistory.getTriggeredBy())
         );
-        verify(syncHistoryDetailMapper).selectBySyncHistoryId(testSyncHistory.getId());
-        verify(syncHistoryDetailMapper).insert(
-            any(String.class),
-            eq(testSyncHistory.getId()),
-            any(Integer.class),
-            eq("CREATE"),
-            any(String.class),
-            eq("Project created"),
-            any(LocalDateTime.class)
-        );
+        verify(syncHistoryDetailMapper).insertAll(argThat(details ->
+            details.size() == 1 && "CREATE".equals(details.get(0).getOperation())
+                && "Project created".equals(details.get(0).getResult())));
+        verify(syncHistoryDetailMapper, never()).selectBySyncHistoryId(any());
+        assertEquals(0, testSyncHistory.getUnpersistedDetailCount());
     }
     
     @Test
@@ -451,7 +534,6 @@ class JiraSyncHistoryRepositoryImplTest {
         // Given
         testSyncHistory.addDetail("UPDATE", testDetail.getStatus(), "Project updated");
         when(syncHistoryMapper.selectById(testSyncHistory.getId())).thenReturn(Optional.of(testSyncHistory));
-        when(syncHistoryDetailMapper.selectBySyncHistoryId(testSyncHistory.getId())).thenReturn(Collections.emptyList());
 
         // When
         JiraSyncHistory result = repository.save(testSyncHistory);
@@ -466,18 +548,14 @@ class JiraSyncHistoryRepositoryImplTest {
             eq(testSyncHistory.getTotalProjectsProcessed()),
             eq(testSyncHistory.getSuccessCount()),
             eq(testSyncHistory.getErrorCount()),
+            eq(testSyncHistory.getSkippedCount()),
             eq(testSyncHistory.getErrorDetails())
         );
-        verify(syncHistoryDetailMapper).selectBySyncHistoryId(testSyncHistory.getId());
-        verify(syncHistoryDetailMapper).insert(
-            any(String.class),
-            eq(testSyncHistory.getId()),
-            any(Integer.class),
-            eq("UPDATE"),
-            any(String.class),
-            eq("Project updated"),
-            any(LocalDateTime.class)
-        );
+        verify(syncHistoryDetailMapper).insertAll(argThat(details ->
+            details.size() == 1 && "UPDATE".equals(details.get(0).getOperation())
+                && "Project updated".equals(details.get(0).getResult())));
+        verify(syncHistoryDetailMapper, never()).selectBySyncHistoryId(any());
+        assertEquals(0, testSyncHistory.getUnpersistedDetailCount());
     }
     
     @Test
@@ -492,6 +570,55 @@ class JiraSyncHistoryRepositoryImplTest {
         verify(syncHistoryMapper, never()).selectById(any());
     }
     
+    // ========================================
+    // appendDetails テスト
+    // ========================================
+    
+    @Test
+    @DisplayName("appendDetails - 正常系: 未永続化の詳細履歴のみを分割して一括挿入")
+    void appendDetails_Success_InsertsOnlyNewDetailsInChunks() {
+        // Given
+        for (int i = 0; i < 501; i++) {
+            testSyncHistory.addDetail("UPDATE", testDetail.getStatus(), "Project updated " + i);
+        }
+        
+        // When
+        int appended = repository.appendDetails(testSyncHistory);
+        int appendedAgain = repository.appendDetails(testSyncHistory);
+        
+        // Then
+        assertEquals(501, appended);
+        assertEquals(0, appendedAgain);
+        verify(syncHistoryDetailMapper).insertAll(argThat(details -> details.size() == 500));
+        verify(syncHistoryDetailMapper).insertAll(argThat(details -> details.size() == 1
+            && details.get(0).getSeq() == 501));
+        verify(syncHistoryDetailMapper, never()).selectBySyncHistoryId(any());
+    }
+    
+    @Test
+    @DisplayName("appendDetails - 異常系: 挿入に失敗した場合は未永続化の詳細履歴として戻す")
+    void appendDetails_RequeueDetails_WhenInsertFails() {
+        // Given
+        testSyncHistory.addDetail("CREATE", testDetail.getStatus(), "Project created");
+        doThrow(new RuntimeException("Database error")).when(syncHistoryDetailMapper).insertAll(any());
+        
+        // When & Then
+        assertThrows(RuntimeException.class, () -> repository.appendDetails(testSyncHistory));
+        assertEquals(1, testSyncHistory.getUnpersistedDetailCount());
+        verify(syncHistoryDetailMapper, times(1)).insertAll(any());
+    }
+    
+    @Test
+    @DisplayName("appendDetails - 異常系: 同期履歴がnullの場合")
+    void appendDetails_ThrowException_WhenSyncHistoryIsNull() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class, 
+            () -> repository.appendDetails(null)
+        );
+        assertEquals("同期履歴エンティティは必須です", exception.getMessage());
+    }
+    
     // ========================================
     // saveAll テスト
     // ========================================
@@ -505,7 +632,6 @@ class JiraSyncHistoryRepositoryImplTest {
 
         when(syncHistoryMapper.selectById(testSyncHistory.getId())).thenReturn(Optional.empty());
         when(syncHistoryMapper.selectById(testSyncHistory2.getId())).thenReturn(Optional.empty());
-        when(syncHistoryDetailMapper.selectBySyncHistoryId(any())).thenReturn(Collections.emptyList());
 
         // When
         List<JiraSyncHistory> result = repository.saveAll(syncHistories);
@@ -307,43 +307,35 @@ class ProjectRepositoryImplTest {
 
     @Test
     void testSaveAll() {
-        List<Project> projects = Arrays.asList(
-            createTestProject("project1", "Project 1"),
-            createTestProject("project2", "Project 2")
-        );
+        Project newProject = createTestProject("project1", "Project 1");
+        Project existingProject = createTestProject("project2", "Project 2");
+        Project otherNewProject = createTestProject("project3", "Project 3");
+        List<Project> projects = Arrays.asList(newProject, existingProject, otherNewProject);
         
-        when(projectMapper.existsById("project1")).thenReturn(false);
-        when(projectMapper.existsById("project2")).thenReturn(true);
+        when(projectMapper.selectExistingIds(List.of("project1", "project2", "project3")))
+            .thenReturn(List.of("project2"));
         
         List<Project> result = repository.saveAll(projects);
         
         assertEquals(projects, result);
-        verify(projectMapper).existsById("project1");
-        verify(projectMapper).existsById("project2");
-        verify(projectMapper).insert(
-            eq("project1"),
-            eq("Project 1"),
-            any(),
-            any(),
-            any(),
-            any(),
-            any(),
-            any(),
-            any(),
-            any(),
-            any()
-        );
-        verify(projectMapper).update(
-            eq("project2"),
-            eq("Project 2"),
-            any(),
-            any(),
-            any(),
-            any(),
-            any(),
-            any(),
-            any()
-        );
+        verify(projectMapper).selectExistingIds(List.of("project1", "project2", "project3"));
+        verify(projectMapper).insertAll(List.of(newProject, otherNewProject));
+        verify(projectMapper).updateAll(List.of(existingProject));
+        verify(projectMapper, never()).existsById(any());
+        verify(projectMapper, never()).insert(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+        verify(projectMapper, never()).update(any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testSaveAll_AllNew() {
+        Project project = createTestProject("project1", "Project 1");
+        
+        when(projectMapper.selectExistingIds(List.of("project1"))).thenReturn(List.of());
+        
+        repository.saveAll(List.of(project));
+        
+        verify(projectMapper).insertAll(List.of(project));
+        verify(projectMapper, never()).updateAll(any());
     }
 
     @Test
@@ -353,9 +345,9 @@ class ProjectRepositoryImplTest {
         List<Project> result = repository.saveAll(projects);
         
         assertTrue(result.isEmpty());
-        verify(projectMapper, never()).existsById(any());
-        verify(projectMapper, never()).insert(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
-        verify(projectMapper, never()).update(any(), any(), any(), any(), any(), any(), any(), any(), any());
+        verify(projectMapper, never()).selectExistingIds(any());
+        verify(projectMapper, never()).insertAll(any());
+        verify(projectMapper, never()).updateAll(any());
     }
 
     @Test
@@ -5,10 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -213,4 +215,30 @@ class UserRepositoryImplTest {
         // Assert
         verify(userMapper).updateLastLoginAt(eq(userId), eq(loginTime), any(LocalDateTime.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findByEmails: 複数のメールアドレスで一括検索できる")
+    void findByEmails_MultipleEmails_ReturnsUsers() {
+        // Arrange
+        List<String> emails = List.of("test@example.com", "okta@example.com");
+        when(userMapper.findByEmails(emails)).thenReturn(List.of(testUser, oktaUser));
+
+        // Act
+        List<User> result = userRepository.findByEmails(emails);
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(userMapper).findByEmails(emails);
+    }
+
+    @Test
+    @DisplayName("findByEmails: 空のコレクションではマッパーを呼び出さない")
+    void findByEmails_EmptyEmails_ReturnsEmptyWithoutQuery() {
+        // Act
+        List<User> result = userRepository.findByEmails(List.of());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(userMapper, never()).findByEmails(any());
+    }
+}
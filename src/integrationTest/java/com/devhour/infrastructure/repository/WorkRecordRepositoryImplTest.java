@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -16,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -96,6 +98,33 @@ class WorkRecordRepositoryImplTest {
         verify(workRecordMapper).findByUserIdAndDate(userId, workDate);
     }
 
+    @Test
+    void testFindByUserIdsAndDates() {
+        Map<String, Set<LocalDate>> workDatesByUserId = Map.of(
+            "user123", Set.of(LocalDate.of(2024, 11, 15), LocalDate.of(2024, 11, 16)),
+            "user456", Set.of(LocalDate.of(2024, 11, 15))
+        );
+        List<WorkRecord> expectedRecords = Arrays.asList(
+            createTestWorkRecord("record1", "user123", "project1"),
+            createTestWorkRecord("record2", "user456", "project2")
+        );
+        
+        when(workRecordMapper.findByUserIdsAndDates(workDatesByUserId)).thenReturn(expectedRecords);
+        
+        List<WorkRecord> result = repository.findByUserIdsAndDates(workDatesByUserId);
+        
+        assertEquals(expectedRecords, result);
+        verify(workRecordMapper).findByUserIdsAndDates(workDatesByUserId);
+    }
+
+    @Test
+    void testFindByUserIdsAndDates_Empty() {
+        List<WorkRecord> result = repository.findByUserIdsAndDates(Map.of());
+        
+        assertTrue(result.isEmpty());
+        verify(workRecordMapper, never()).findByUserIdsAndDates(any());
+    }
+
     @Test
     void testFindByUser() {
         String userId = "user123";
@@ -296,14 +325,11 @@ class WorkRecordRepositoryImplTest {
             createTestWorkRecord("record2", "user1", "project2")
         );
         
-        when(workRecordMapper.findById("record1")).thenReturn(Optional.empty());
-        when(workRecordMapper.findById("record2")).thenReturn(Optional.of(workRecords.get(1)));
-        
         List<WorkRecord> result = repository.saveAll(workRecords);
         
         assertEquals(workRecords, result);
-        verify(workRecordMapper).findById("record1");
-        verify(workRecordMapper).findById("record2");
+        verify(workRecordMapper).upsertAll(workRecords);
+        verify(workRecordMapper, never()).findById(any());
     }
 
     @Test
@@ -0,0 +1,85 @@
+package com.devhour.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * バッチ処理進捗DTO
+ *
+ * 実行中の承認権限者CSVバッチ処理の処理段階と件数を表す不変オブジェクト
+ * バッチ実行中に監視・管理用途で別スレッドから参照される
+ *
+ * @param phase 処理段階
+ * @param linesRead 読み込み済み行数（ヘッダー・空行を含む）
+ * @param validRecords 検証に成功したレコード数
+ * @param errorRecords 検証エラーとなったレコード数
+ * @param startTime 処理開始時刻（未実行の場合はnull）
+ * @param updatedAt 最終更新時刻（未実行の場合はnull）
+ */
+public record BatchProgress(
+    Phase phase,
+    int linesRead,
+    int validRecords,
+    int errorRecords,
+    LocalDateTime startTime,
+    LocalDateTime updatedAt
+) {
+
+    /**
+     * 処理段階
+     */
+    public enum Phase {
+        /** 未実行 */
+        IDLE,
+        /** CSV解析中 */
+        PARSING,
+        /** 承認者関係の計算中 */
+        CALCULATING,
+        /** 承認権限者・承認者関係の更新中 */
+        APPLYING,
+        /** 完了 */
+        COMPLETED,
+        /** 失敗 */
+        FAILED
+    }
+
+    /**
+     * 未実行状態の進捗を作成
+     *
+     * @return 未実行状態の進捗
+     */
+    public static BatchProgress idle() {
+        return new BatchProgress(Phase.IDLE, 0, 0, 0, null, null);
+    }
+
+    /**
+     * CSV解析を開始した状態の進捗を作成
+     *
+     * @return CSV解析中の進捗
+     */
+    public static BatchProgress started() {
+        LocalDateTime now = LocalDateTime.now();
+        return new BatchProgress(Phase.PARSING, 0, 0, 0, now, now);
+    }
+
+    /**
+     * 件数を更新した進捗を作成
+     *
+     * @param linesRead 読み込み済み行数
+     * @param validRecords 検証に成功したレコード数
+     * @param errorRecords 検証エラーとなったレコード数
+     * @return 更新後の進捗
+     */
+    public BatchProgress withCounts(int linesRead, int validRecords, int errorRecords) {
+        return new BatchProgress(phase, linesRead, validRecords, errorRecords, startTime, LocalDateTime.now());
+    }
+
+    /**
+     * 処理段階を更新した進捗を作成
+     *
+     * @param nextPhase 次の処理段階
+     * @return 更新後の進捗
+     */
+    public BatchProgress withPhase(Phase nextPhase) {
+        return new BatchProgress(nextPhase, linesRead, validRecords, errorRecords, startTime, LocalDateTime.now());
+    }
+}
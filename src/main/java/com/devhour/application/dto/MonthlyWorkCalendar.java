@@ -0,0 +1,75 @@
+package com.devhour.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import com.devhour.presentation.dto.response.DateStatusResponse;
+
+/**
+ * 月次工数カレンダーDTO
+ * 
+ * ユーザーの1ヶ月分の工数記録と承認状態を日別に集約した結果
+ * カレンダー表示の日付ステータス・未入力日・月合計を1回の読み込みから提供する
+ * 
+ * キャッシュして共有するため、生成後は変更できない
+ */
+public class MonthlyWorkCalendar {
+    
+    private final String userId;
+    private final YearMonth yearMonth;
+    private final Map<LocalDate, DateStatusResponse.DateStatus> dateStatuses;
+    private final List<LocalDate> missingDates;
+    private final BigDecimal totalHours;
+    private final int recordedDays;
+    
+    public MonthlyWorkCalendar(String userId, YearMonth yearMonth,
+                               Map<LocalDate, DateStatusResponse.DateStatus> dateStatuses,
+                               List<LocalDate> missingDates, BigDecimal totalHours, int recordedDays) {
+        this.userId = userId;
+        this.yearMonth = yearMonth;
+        this.dateStatuses = Collections.unmodifiableMap(new LinkedHashMap<>(dateStatuses));
+        this.missingDates = List.copyOf(missingDates);
+        this.totalHours = totalHours;
+        this.recordedDays = recordedDays;
+    }
+    
+    public String getUserId() {
+        return userId;
+    }
+    
+    public YearMonth getYearMonth() {
+        return yearMonth;
+    }
+    
+    /**
+     * 月の各日付のステータス（日付昇順）
+     */
+    public Map<LocalDate, DateStatusResponse.DateStatus> getDateStatuses() {
+        return dateStatuses;
+    }
+    
+    /**
+     * 未入力の営業日（日付昇順）
+     */
+    public List<LocalDate> getMissingDates() {
+        return missingDates;
+    }
+    
+    /**
+     * 月の合計工数
+     */
+    public BigDecimal getTotalHours() {
+        return totalHours;
+    }
+    
+    /**
+     * 工数記録がある日数
+     */
+    public int getRecordedDays() {
+        return recordedDays;
+    }
+}
@@ -2,20 +2,29 @@ package com.devhour.application.service;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.devhour.application.dto.BatchProgress;
 import com.devhour.application.dto.BatchResult;
 import com.devhour.application.exception.BatchProcessingException;
 import com.devhour.application.exception.RecordValidationException;
@@ -25,8 +34,8 @@ import com.devhour.domain.model.valueobject.EmployeeRecord;
 import com.devhour.domain.model.valueobject.Position;
 import com.devhour.domain.repository.ApprovalAuthorityRepository;
 import com.devhour.domain.repository.ApproverRepository;
+import com.devhour.domain.service.ApproverRelationGraph;
 import com.devhour.domain.service.OrganizationHierarchyProcessor;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -42,18 +51,57 @@ import lombok.extern.slf4j.Slf4j;
  * - 差分更新による効率的なデータ更新
  * - エラー処理と回復機能
  * - トランザクション管理
+ * - 実行中の進捗公開（getProgress）
+ * 
+ * CSVは1行ずつ読み込んで検証し、検証済みの従業員レコードのみをメールアドレスごとに保持する
+ * 差分は全件を計算してから、チャンクごとに独立したトランザクションで一括適用する
  * 
  * CSVフォーマット:
  * メールアドレス,氏名,最上位の組織コード,最上位の組織名,２階層目の組織コード,２階層目の組織名,３階層目の組織コード,３階層目の組織名,４階層目の組織コード,４階層目の組織名,役職
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ApprovalAuthorityBatchService {
     
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    
     private final ApprovalAuthorityRepository approvalAuthorityRepository;
     private final ApproverRepository approverRepository;
     private final OrganizationHierarchyProcessor hierarchyProcessor;
+    private final ApproverRelationGraph approverRelationGraph;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${app.batch.approval-authority.progress-log-interval:5000}")
+    private int progressLogInterval = 5000;
+    
+    // 1トランザクションで適用する承認権限者の件数
+    @Value("${app.batch.approval-authority.chunk-size:500}")
+    private int chunkSize = 500;
+    
+    private volatile BatchProgress progress = BatchProgress.idle();
+    
+    public ApprovalAuthorityBatchService(ApprovalAuthorityRepository approvalAuthorityRepository,
+                                         ApproverRepository approverRepository,
+                                         OrganizationHierarchyProcessor hierarchyProcessor,
+                                         ApproverRelationGraph approverRelationGraph,
+                                         PlatformTransactionManager transactionManager) {
+        this.approvalAuthorityRepository = approvalAuthorityRepository;
+        this.approverRepository = approverRepository;
+        this.hierarchyProcessor = hierarchyProcessor;
+        this.approverRelationGraph = approverRelationGraph;
+        // チャンクごとに呼び出し元とは独立してコミット・ロールバックする
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * 実行中または直近のバッチ処理の進捗を取得
+     * 
+     * @return バッチ処理進捗
+     */
+    public BatchProgress getProgress() {
+        return progress;
+    }
     
     /**
      * ファイルパスから承認権限者をインポート（スケジューラー用）
@@ -67,19 +115,20 @@ public class ApprovalAuthorityBatchService {
         log.info("処理対象ファイル: {}", filePath);
         
         BatchResult result = new BatchResult();
+        progress = BatchProgress.started();
         
         try {
             ParseResult parseResult = parseCSV(filePath);
-            log.info("CSV解析完了 - 総レコード数: {} 件", parseResult.getRecords().size());
+            log.info("CSV解析完了 - 総レコード数: {} 件", parseResult.getEmployees().size());
             
             // CSV解析エラーを結果に追加
             result.addErrors(parseResult.getErrors());
             
-            if (!parseResult.getRecords().isEmpty()) {
+            if (!parseResult.getEmployees().isEmpty()) {
                 // 役職別集計をログ出力
-                logPositionStatistics(parseResult.getRecords());
+                logPositionStatistics(parseResult.getPositionCounts());
                 
-                BatchResult processingResult = updateApprovalAuthoritiesWithApprovers(parseResult.getRecords());
+                BatchResult processingResult = updateApprovalAuthoritiesWithApprovers(parseResult.getEmployees());
                 
                 // 結果をマージ
                 result.setProcessed(processingResult.getProcessed());
@@ -90,12 +139,14 @@ public class ApprovalAuthorityBatchService {
                 result.addErrors(processingResult.getErrors());
             }
             
+            progress = progress.withPhase(BatchProgress.Phase.COMPLETED);
             long processingTime = System.currentTimeMillis() - startTime;
             log.info("=== 承認権限バッチ処理完了 ===");
             log.info("処理時間: {}ms", processingTime);
             logBatchResults(result);
             
         } catch (Exception e) {
+            progress = progress.withPhase(BatchProgress.Phase.FAILED);
             long processingTime = System.currentTimeMillis() - startTime;
             log.error("=== 承認権限バッチ処理失敗 ===");
             log.error("処理時間: {}ms", processingTime);
@@ -131,27 +182,25 @@ public class ApprovalAuthorityBatchService {
     /**
      * 役職別集計のログ出力
      * 
-     * @param records 従業員レコードのリスト
+     * @param positionCounts 役職ごとの有効レコード数
      */
-    private void logPositionStatistics(List<EmployeeRecord> records) {
-        Map<String, Long> positionCounts = records.stream()
-            .collect(Collectors.groupingBy(EmployeeRecord::position, Collectors.counting()));
-        
+    private void logPositionStatistics(Map<String, Long> positionCounts) {
         log.info("--- 役職別集計 ---");
         positionCounts.forEach((position, count) -> 
             log.info("{}: {} 名", position, count));
         
-        long approvalAuthorityCount = records.stream()
-            .mapToLong(record -> isApprovalPosition(record.position()) ? 1 : 0)
+        long approvalAuthorityCount = positionCounts.entrySet().stream()
+            .filter(entry -> isApprovalPosition(entry.getKey()))
+            .mapToLong(Map.Entry::getValue)
             .sum();
         log.info("承認権限者総数: {} 名", approvalAuthorityCount);
     }
     
     /**
-     * CSVファイルを解析してEmployeeRecordのリストを作成（検証強化版）
+     * CSVファイルを解析してEmployeeRecordのマップを作成（検証強化版）
      * 
      * @param filePath CSVファイルのパス
-     * @return 解析結果（従業員レコードのリストとエラーリスト）
+     * @return 解析結果（従業員レコードのマップとエラーリスト）
      * @throws IOException ファイル読み込みエラー
      */
     private ParseResult parseCSV(String filePath) throws IOException {
@@ -170,68 +219,47 @@ public class ApprovalAuthorityBatchService {
     
     /**
      * CSVファイル解析（エラー処理強化版）
+     * 
+     * ファイル全体を行リストとして読み込まず、1行ずつ検証して従業員マップに追加する
+     * 同じメールアドレスが複数行ある場合は後の行を優先する
      */
     private ParseResult parseCSVWithValidation(String filePath) throws BatchProcessingException {
         // File access validation
         validateFileAccess(filePath);
         
-        List<EmployeeRecord> validRecords = new ArrayList<>();
-        List<String> validationErrors = new ArrayList<>();
+        ParseResult parseResult = new ParseResult();
         int totalLines = 0;
-        int validLines = 0;
         
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            int lineNumber = 0;
-            
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(filePath), StandardCharsets.UTF_8)) {
             // Header validation (optional header support)
-            boolean hasHeader = false;
-            if ((line = reader.readLine()) != null) {
-                lineNumber++;
-                totalLines++;
-                hasHeader = validateCsvHeader(line);
-                if (!hasHeader) {
-                    // 先頭行がデータの場合、そのまま処理対象として扱う
-                    if (line.trim().isEmpty()) {
-                        log.debug("行{}: 空行をスキップ", lineNumber);
-                    } else {
-                        try {
-                            EmployeeRecord record = validateAndParseRecord(line, lineNumber);
-                            validRecords.add(record);
-                            validLines++;
-                        } catch (RecordValidationException e) {
-                            validationErrors.add(String.format("行%d: %s", lineNumber, e.getMessage()));
-                            log.warn("行{}の検証エラー: {}", lineNumber, e.getMessage());
-                        }
-                    }
-                }
-            } else {
+            String line = reader.readLine();
+            if (line == null) {
                 throw new BatchProcessingException("CSVファイルが空です");
             }
+            totalLines++;
+            if (!validateCsvHeader(line)) {
+                // 先頭行がデータの場合、そのまま処理対象として扱う
+                parseLine(line, totalLines, parseResult);
+            }
             
             // Data lines processing
             while ((line = reader.readLine()) != null) {
-                lineNumber++;
                 totalLines++;
+                parseLine(line, totalLines, parseResult);
                 
-                if (line.trim().isEmpty()) {
-                    log.debug("行{}: 空行をスキップ", lineNumber);
-                    continue;
-                }
-                
-                try {
-                    EmployeeRecord record = validateAndParseRecord(line, lineNumber);
-                    validRecords.add(record);
-                    validLines++;
-                } catch (RecordValidationException e) {
-                    validationErrors.add(String.format("行%d: %s", lineNumber, e.getMessage()));
-                    log.warn("行{}の検証エラー: {}", lineNumber, e.getMessage());
+                if (progressLogInterval > 0 && totalLines % progressLogInterval == 0) {
+                    updateParseProgress(totalLines, parseResult);
+                    log.info("CSV解析中 - 読み込み行数: {}, 有効行数: {}, エラー行数: {}",
+                            totalLines, parseResult.getValidLines(), parseResult.getErrors().size());
                 }
             }
+            updateParseProgress(totalLines, parseResult);
+            
+            List<String> validationErrors = parseResult.getErrors();
             
             // Validation result logging
             log.info("CSV解析完了 - 総行数: {}, 有効行数: {}, エラー行数: {}", 
-                    totalLines, validLines, validationErrors.size());
+                    totalLines, parseResult.getValidLines(), validationErrors.size());
                     
             // Error threshold check (fail if more than 10% errors)
             double errorRate = (double) validationErrors.size() / Math.max(1, totalLines - 1);
@@ -247,7 +275,7 @@ public class ApprovalAuthorityBatchService {
                 validationErrors.forEach(error -> log.warn("  {}", error));
             }
             
-            return new ParseResult(validRecords, validationErrors);
+            return parseResult;
             
         } catch (IOException e) {
             log.error("CSVファイル読み取りエラー: {}", filePath, e);
@@ -255,20 +283,55 @@ public class ApprovalAuthorityBatchService {
         }
     }
     
+    /**
+     * 1行を検証して解析結果に追加（空行はスキップ）
+     */
+    private void parseLine(String line, int lineNumber, ParseResult parseResult) {
+        if (line.trim().isEmpty()) {
+            log.debug("行{}: 空行をスキップ", lineNumber);
+            return;
+        }
+        
+        try {
+            parseResult.addRecord(validateAndParseRecord(line, lineNumber));
+        } catch (RecordValidationException e) {
+            parseResult.addError(String.format("行%d: %s", lineNumber, e.getMessage()));
+            log.warn("行{}の検証エラー: {}", lineNumber, e.getMessage());
+        }
+    }
+    
+    /**
+     * CSV解析の進捗を更新
+     */
+    private void updateParseProgress(int totalLines, ParseResult parseResult) {
+        progress = progress.withCounts(totalLines, parseResult.getValidLines(), parseResult.getErrors().size());
+    }
+    
     /**
      * CSV解析結果を表すクラス
+     * 
+     * 従業員レコードはCSVの出現順を保持し、同じメールアドレスは後の行で上書きする
      */
     private static class ParseResult {
-        private final List<EmployeeRecord> records;
-        private final List<String> errors;
+        private final Map<String, EmployeeRecord> employees = new LinkedHashMap<>();
+        private final Map<String, Long> positionCounts = new LinkedHashMap<>();
+        private final List<String> errors = new ArrayList<>();
+        private int validLines = 0;
+        
+        void addRecord(EmployeeRecord record) {
+            employees.put(record.email(), record);
+            positionCounts.merge(record.position(), 1L, Long::sum);
+            validLines++;
+        }
         
-        public ParseResult(List<EmployeeRecord> records, List<String> errors) {
-            this.records = records;
-            this.errors = errors;
+        void addError(String error) {
+            errors.add(error);
         }
         
-        public List<EmployeeRecord> getRecords() { return records; }
+        public Map<String, EmployeeRecord> getEmployees() { return employees; }
+        public Map<String, Long> getPositionCounts() { return positionCounts; }
         public List<String> getErrors() { return errors; }
+        public int getValidLines() { return validLines; }
     }
     
     /**
@@ -387,8 +450,7 @@ public class ApprovalAuthorityBatchService {
             throw new RecordValidationException("メールアドレスが空です");
         }
         
-        String emailPattern = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
-        if (!email.matches(emailPattern)) {
+        if (!EMAIL_PATTERN.matcher(email).matches()) {
             throw new RecordValidationException("メールアドレスの形式が不正です: " + email);
         }
         
@@ -436,33 +498,30 @@ public class ApprovalAuthorityBatchService {
     /**
      * 承認権限者と承認者関係の更新
      * 
-     * @param records 従業員レコードのリスト
+     * @param allEmployees 全従業員マップ（メールアドレス -> EmployeeRecord、CSVの出現順）
      * @return バッチ処理結果
      */
-    private BatchResult updateApprovalAuthoritiesWithApprovers(List<EmployeeRecord> records) {
+    private BatchResult updateApprovalAuthoritiesWithApprovers(Map<String, EmployeeRecord> allEmployees) {
         BatchResult result = new BatchResult();
         
         try {
-            // 1. 承認権限者（マネージャー以上）のみを抽出してメモリにロード
-            Map<String, ApprovalAuthority> authorityMap = records.stream()
+            // 1. 承認権限者（マネージャー以上）のみを抽出
+            Map<String, ApprovalAuthority> authorityMap = allEmployees.values().stream()
                 .filter(r -> isApprovalPosition(r.position()))
                 .collect(Collectors.toMap(
                     EmployeeRecord::email,
                     this::toApprovalAuthority,
-                    (existing, replacement) -> replacement // 重複時は新しい方を優先
+                    (existing, replacement) -> replacement,
+                    LinkedHashMap::new
                 ));
             
             log.debug("Extracted {} approval authorities from {} records", 
-                     authorityMap.size(), records.size());
+                     authorityMap.size(), allEmployees.size());
             
-            // 2. 全社員情報をメモリにロードして承認関係を計算
-            Map<String, EmployeeRecord> allEmployees = records.stream()
-                .collect(Collectors.toMap(
-                    EmployeeRecord::email,
-                    Function.identity(),
-                    (existing, replacement) -> replacement
-                ));
+            // 2. 全社員情報から承認関係を計算
+            progress = progress.withPhase(BatchProgress.Phase.CALCULATING);
             Map<String, Set<String>> approverRelations = calculateApproverRelations(allEmployees);
+            progress = progress.withPhase(BatchProgress.Phase.APPLYING);
             
             // 3. 既存の承認権限者と承認者関係を取得
             List<ApprovalAuthority> existingAuthorities = approvalAuthorityRepository.findAll();
@@ -475,20 +534,37 @@ public class ApprovalAuthorityBatchService {
             log.debug("Found {} existing authorities and {} existing approver relationships",
                      existingAuthorities.size(), existingApprovers.size());
             
-            // 4. 承認権限者毎にトランザクション処理
-            for (String authorityEmail : authorityMap.keySet()) {
-                processAuthorityInTransaction(
-                    authorityEmail,
-                    authorityMap.get(authorityEmail),
-                    approverRelations.getOrDefault(authorityEmail, Collections.emptySet()),
-                    existingApprovers.getOrDefault(authorityEmail, Collections.emptySet()),
-                    existingAuthorityMap.containsKey(authorityEmail),
-                    result
-                );
+            // 4. 承認権限者・承認者関係の追加・更新・削除をすべて計算
+            List<AuthorityChange> changes = calculateAuthorityChanges(
+                authorityMap, approverRelations, existingAuthorityMap, existingApprovers, result);
+            List<String> deletedEmails = existingAuthorityMap.keySet().stream()
+                .filter(email -> !authorityMap.containsKey(email))
+                .toList();
+            
+            log.info("差分計算完了 - 承認権限者 保存: {} 件, 削除: {} 件", changes.size(), deletedEmails.size());
+            
+            // 5. チャンク単位のトランザクションで差分を適用
+            Set<String> changedTargets = new HashSet<>();
+            try {
+                applyInChunks(changes,
+                    this::writeAuthorityChanges,
+                    chunk -> chunk.forEach(change -> recordAppliedChange(change, changedTargets, result)),
+                    (change, e) -> {
+                        log.error("承認権限者処理エラー: {}", change.email(), e);
+                        result.addError("承認権限者処理失敗 [" + change.email() + "]: " + e.getMessage());
+                    });
+            } finally {
+                refreshApproverRelationGraph(changedTargets);
             }
             
-            // 5. 削除された承認権限者の処理
-            processDeletedAuthorities(existingAuthorityMap, authorityMap, result);
+            // 6. 削除された承認権限者の処理
+            applyInChunks(deletedEmails,
+                approvalAuthorityRepository::deleteByEmails,
+                chunk -> result.setDeleted(result.getDeleted() + chunk.size()),
+                (email, e) -> {
+                    log.error("Failed to delete authority: {}", email, e);
+                    result.addError("Failed to delete authority: " + email + " - " + e.getMessage());
+                });
             
         } catch (Exception e) {
             log.error("Error during approval authorities update", e);
@@ -551,159 +627,203 @@ public class ApprovalAuthorityBatchService {
     }
     
     /**
-     * 承認権限者毎のトランザクション処理（ログ強化）
+     * 承認権限者ごとの差分を計算
      * 
-     * @param authorityEmail 承認権限者のメールアドレス
-     * @param authority 承認権限エンティティ
-     * @param newApprovers 新しい承認者のセット
-     * @param existingApprovers 既存の承認者のセット
-     * @param isUpdate 既存レコードの更新か新規作成か
+     * 追加する承認者関係のエンティティはここで生成し、生成に失敗した関係はエラーとして記録して除外する
+     * 
+     * @param authorityMap 新しい承認権限者マップ
+     * @param approverRelations 新しい承認者関係（対象者 -> 承認者のセット）
+     * @param existingAuthorityMap 既存の承認権限者マップ
+     * @param existingApprovers 既存の承認者関係（対象者 -> 承認者のセット）
      * @param result バッチ処理結果
+     * @return 承認権限者ごとの差分（CSVの出現順）
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    private void processAuthorityInTransaction(
-        String authorityEmail,
-        ApprovalAuthority authority,
-        Set<String> newApprovers,
-        Set<String> existingApprovers,
-        boolean isUpdate,
+    private List<AuthorityChange> calculateAuthorityChanges(
+        Map<String, ApprovalAuthority> authorityMap,
+        Map<String, Set<String>> approverRelations,
+        Map<String, ApprovalAuthority> existingAuthorityMap,
+        Map<String, Set<String>> existingApprovers,
         BatchResult result
     ) {
-        try {
-            log.debug("承認権限者処理開始: {}", authorityEmail);
-            
-            // 承認権限者の更新
-            approvalAuthorityRepository.save(authority);
-            result.incrementProcessed();
-            
-            if (isUpdate) {
-                result.incrementUpdated();
-            } else {
-                result.incrementAdded();
+        LocalDateTime now = LocalDateTime.now();
+        List<AuthorityChange> changes = new ArrayList<>(authorityMap.size());
+        
+        for (Map.Entry<String, ApprovalAuthority> entry : authorityMap.entrySet()) {
+            String targetEmail = entry.getKey();
+            Set<String> newApprovers = approverRelations.getOrDefault(targetEmail, Collections.emptySet());
+            Set<String> currentApprovers = existingApprovers.getOrDefault(targetEmail, Collections.emptySet());
+            
+            // 削除する承認者
+            Set<String> approversToDelete = new HashSet<>(currentApprovers);
+            approversToDelete.removeAll(newApprovers);
+            
+            // 追加する承認者
+            List<Approver> approversToAdd = new ArrayList<>();
+            for (String approverEmail : newApprovers) {
+                if (currentApprovers.contains(approverEmail)) {
+                    continue;
+                }
+                try {
+                    // 終了日時はnull（無期限）
+                    approversToAdd.add(Approver.create(targetEmail, approverEmail, now, null));
+                } catch (Exception e) {
+                    log.error("Failed to add approver relationship: {} -> {}", targetEmail, approverEmail, e);
+                    result.addError(String.format("Failed to add approver relationship: %s -> %s - %s",
+                                   targetEmail, approverEmail, e.getMessage()));
+                }
             }
             
-            // 承認者関係の差分更新前の状態を記録
-            int beforeAdded = result.getApproverRelations().getAdded();
-            int beforeDeleted = result.getApproverRelations().getDeleted();
-            
-            // 承認者関係の差分更新
-            updateApproverRelationships(authorityEmail, newApprovers, existingApprovers, result);
-            
-            // 処理後の変更数を計算
-            int addedCount = result.getApproverRelations().getAdded() - beforeAdded;
-            int deletedCount = result.getApproverRelations().getDeleted() - beforeDeleted;
-            
-            log.debug("承認権限者処理完了: {} - 承認者関係 追加:{} 削除:{}", 
-                     authorityEmail, addedCount, deletedCount);
+            log.debug("Approver relationships for {}: adding {}, deleting {}",
+                     targetEmail, approversToAdd.size(), approversToDelete.size());
             
-        } catch (Exception e) {
-            log.error("承認権限者処理エラー: {}", authorityEmail, e);
-            result.addError("承認権限者処理失敗 [" + authorityEmail + "]: " + e.getMessage());
-            // Note: Don't re-throw the exception to allow other authorities to be processed
+            changes.add(new AuthorityChange(entry.getValue(), existingAuthorityMap.containsKey(targetEmail),
+                approversToAdd, approversToDelete));
         }
+        
+        return changes;
     }
     
     /**
-     * 承認者関係の差分更新
+     * 承認権限者のチャンクを一括で書き込み
      * 
-     * @param targetEmail 対象者メールアドレス
-     * @param newApprovers 新しい承認者のセット
-     * @param existingApprovers 既存の承認者のセット
-     * @param result バッチ処理結果
+     * 承認権限者の保存、承認者関係の削除・追加をそれぞれ1回の一括処理で行う
+     * 
+     * @param chunk 承認権限者ごとの差分のチャンク
      */
-    private void updateApproverRelationships(
-        String targetEmail,
-        Set<String> newApprovers,
-        Set<String> existingApprovers,
-        BatchResult result
-    ) {
-        // 追加する承認者
-        Set<String> toAdd = new HashSet<>(newApprovers);
-        toAdd.removeAll(existingApprovers);
-        
-        // 削除する承認者
-        Set<String> toDelete = new HashSet<>(existingApprovers);
-        toDelete.removeAll(newApprovers);
-        
-        log.debug("Approver relationships for {}: adding {}, deleting {}", 
-                 targetEmail, toAdd.size(), toDelete.size());
-        
-        // 削除処理
-        for (String approverEmail : toDelete) {
-            try {
-                approverRepository.deleteByTargetAndApprover(targetEmail, approverEmail);
-                result.incrementApproverDeleted();
-                log.debug("Deleted approver relationship: {} -> {}", targetEmail, approverEmail);
-            } catch (Exception e) {
-                log.error("Failed to delete approver relationship: {} -> {}", targetEmail, approverEmail, e);
-                result.addError(String.format("Failed to delete approver relationship: %s -> %s - %s", 
-                               targetEmail, approverEmail, e.getMessage()));
+    private void writeAuthorityChanges(List<AuthorityChange> chunk) {
+        List<ApprovalAuthority> authorities = new ArrayList<>(chunk.size());
+        Map<String, Set<String>> approversToDelete = new LinkedHashMap<>();
+        List<Approver> approversToAdd = new ArrayList<>();
+        
+        for (AuthorityChange change : chunk) {
+            authorities.add(change.authority());
+            if (!change.approversToDelete().isEmpty()) {
+                approversToDelete.put(change.email(), change.approversToDelete());
             }
+            approversToAdd.addAll(change.approversToAdd());
         }
         
-        // 追加処理
-        for (String approverEmail : toAdd) {
-            try {
-                Approver relation = Approver.create(
-                    targetEmail,
-                    approverEmail,
-                    LocalDateTime.now(),
-                    null // 終了日時はnull（無期限）
-                );
-                approverRepository.save(relation);
-                result.incrementApproverAdded();
-                log.debug("Added approver relationship: {} -> {}", targetEmail, approverEmail);
-            } catch (Exception e) {
-                log.error("Failed to add approver relationship: {} -> {}", targetEmail, approverEmail, e);
-                result.addError(String.format("Failed to add approver relationship: %s -> %s - %s", 
-                               targetEmail, approverEmail, e.getMessage()));
-            }
+        approvalAuthorityRepository.saveAll(authorities);
+        if (!approversToDelete.isEmpty()) {
+            approverRepository.deleteByTargetAndApprovers(approversToDelete);
+        }
+        if (!approversToAdd.isEmpty()) {
+            approverRepository.insertAll(approversToAdd);
         }
     }
     
     /**
-     * 削除された承認権限者の処理
+     * 適用済みの差分をバッチ処理結果に反映
      * 
-     * @param existingAuthorityMap 既存の承認権限者マップ
-     * @param newAuthorityMap 新しい承認権限者マップ
+     * @param change 適用済みの承認権限者の差分
+     * @param changedTargets 承認者関係が変更された対象者の収集先
      * @param result バッチ処理結果
      */
-    private void processDeletedAuthorities(
-        Map<String, ApprovalAuthority> existingAuthorityMap,
-        Map<String, ApprovalAuthority> newAuthorityMap,
-        BatchResult result
-    ) {
-        Set<String> deletedEmails = existingAuthorityMap.keySet().stream()
-            .filter(email -> !newAuthorityMap.containsKey(email))
-            .collect(Collectors.toSet());
+    private void recordAppliedChange(AuthorityChange change, Set<String> changedTargets, BatchResult result) {
+        result.incrementProcessed();
+        if (change.isUpdate()) {
+            result.incrementUpdated();
+        } else {
+            result.incrementAdded();
+        }
         
-        log.debug("Found {} deleted authorities", deletedEmails.size());
+        BatchResult.ApproverRelationResult relations = result.getApproverRelations();
+        relations.setAdded(relations.getAdded() + change.approversToAdd().size());
+        relations.setDeleted(relations.getDeleted() + change.approversToDelete().size());
         
-        for (String email : deletedEmails) {
-            deleteAuthorityInTransaction(email, result);
+        if (!change.approversToAdd().isEmpty() || !change.approversToDelete().isEmpty()) {
+            changedTargets.add(change.email());
         }
     }
     
     /**
-     * 承認権限者削除のトランザクション処理
+     * チャンクごとに独立したトランザクションで書き込み
      * 
-     * @param email 削除対象のメールアドレス
-     * @param result バッチ処理結果
+     * チャンクの書き込みに失敗した場合はロールバックし、そのチャンクのみ1件ずつ再実行して
+     * 失敗した要素を特定する。他のチャンクの処理は継続する。
+     * 
+     * @param items 書き込み対象
+     * @param writer チャンクの書き込み処理
+     * @param onSuccess コミットされたチャンクに対する処理
+     * @param onFailure 1件単位でも失敗した要素に対する処理
+     */
+    private <T> void applyInChunks(
+        List<T> items,
+        Consumer<List<T>> writer,
+        Consumer<List<T>> onSuccess,
+        BiConsumer<T, Exception> onFailure
+    ) {
+        int size = Math.max(chunkSize, 1);
+        for (int from = 0; from < items.size(); from += size) {
+            applyChunk(items.subList(from, Math.min(from + size, items.size())), writer, onSuccess, onFailure);
+        }
+    }
+    
+    /**
+     * チャンクを1つのトランザクションで書き込み（失敗時は1件ずつ再実行）
+     * 
+     * @param chunk 書き込み対象のチャンク
+     * @param writer チャンクの書き込み処理
+     * @param onSuccess コミットされたチャンクに対する処理
+     * @param onFailure 1件単位でも失敗した要素に対する処理
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    private void deleteAuthorityInTransaction(String email, BatchResult result) {
+    private <T> void applyChunk(
+        List<T> chunk,
+        Consumer<List<T>> writer,
+        Consumer<List<T>> onSuccess,
+        BiConsumer<T, Exception> onFailure
+    ) {
         try {
-            log.debug("Deleting authority: {}", email);
-            
-            // 承認者関係も含めて削除（cascade的な処理）
-            approvalAuthorityRepository.deleteByEmail(email);
-            result.incrementDeleted();
-            
-            log.debug("Successfully deleted authority: {}", email);
-            
+            transactionTemplate.executeWithoutResult(status -> writer.accept(chunk));
+        } catch (Exception e) {
+            if (chunk.size() == 1) {
+                onFailure.accept(chunk.get(0), e);
+                return;
+            }
+            log.warn("チャンクの書き込みに失敗したため1件ずつ再実行します - 件数: {} 件, 原因: {}",
+                    chunk.size(), e.getMessage());
+            chunk.forEach(item -> applyChunk(List.of(item), writer, onSuccess, onFailure));
+            return;
+        }
+        onSuccess.accept(chunk);
+    }
+    
+    /**
+     * 承認者関係が変更された対象者について承認者関係グラフを差分更新
+     * 
+     * 差分更新に失敗した場合はグラフを破棄し、次回参照時の全件読み込みに任せる
+     * 
+     * @param changedTargets 承認者関係が変更された対象者メールアドレス
+     */
+    private void refreshApproverRelationGraph(Set<String> changedTargets) {
+        if (changedTargets.isEmpty()) {
+            return;
+        }
+        try {
+            approverRelationGraph.refreshTargets(changedTargets);
+            log.info("承認者関係グラフを差分更新 - 対象者数: {} 名", changedTargets.size());
         } catch (Exception e) {
-            log.error("Failed to delete authority: {}", email, e);
-            result.addError("Failed to delete authority: " + email + " - " + e.getMessage());
+            log.warn("承認者関係グラフの差分更新に失敗したため破棄します", e);
+            approverRelationGraph.invalidate();
+        }
+    }
+    
+    /**
+     * 承認権限者ごとの差分
+     * 
+     * @param authority 保存する承認権限エンティティ
+     * @param isUpdate 既存レコードの更新か新規作成か
+     * @param approversToAdd 追加する承認者関係
+     * @param approversToDelete 削除する承認者メールアドレス
+     */
+    private record AuthorityChange(
+        ApprovalAuthority authority,
+        boolean isUpdate,
+        List<Approver> approversToAdd,
+        Set<String> approversToDelete
+    ) {
+        String email() {
+            return authority.getEmail();
         }
     }
-}
\ No newline at end of file
+}
@@ -4,10 +4,16 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,6 +46,10 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class DailyApprovalApplicationService {
     
+    // 承認待ち一覧の集計対象ステータス
+    private static final List<ApprovalStatus> PENDING_AGGREGATION_STATUSES =
+        List.of(ApprovalStatus.PENDING, ApprovalStatus.REJECTED);
+    
     private final WorkRecordApprovalRepository workRecordApprovalRepository;
     private final ApprovalAuthorityValidationService approvalAuthorityService;
     private final ListApproverDomainService listApproverService;
@@ -47,6 +57,7 @@ public class DailyApprovalApplicationService {
     private final WorkRecordRepository workRecordRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final MonthlyWorkCalendarCache monthlyWorkCalendarCache;
     
     /**
      * 申請者/日付単位で承認
@@ -70,6 +81,7 @@ public class DailyApprovalApplicationService {
         // 承認実行
         approval.approve(approverId);
         WorkRecordApproval saved = workRecordApprovalRepository.save(approval);
+        monthlyWorkCalendarCache.invalidate(userId, workDate);
         
         // 対象工数記録を取得
         List<WorkRecord> targetWorkRecords = workRecordRepository.findByUserIdAndDate(userId, workDate);
@@ -107,6 +119,7 @@ public class DailyApprovalApplicationService {
         // 差し戻し実行
         approval.reject(approverId, reason);
         WorkRecordApproval saved = workRecordApprovalRepository.save(approval);
+        monthlyWorkCalendarCache.invalidate(userId, workDate);
         
         // 対象工数記録を取得
         List<WorkRecord> targetWorkRecords = workRecordRepository.findByUserIdAndDate(userId, workDate);
@@ -129,50 +142,111 @@ public class DailyApprovalApplicationService {
      * @return 承認結果リスト
      */
     public List<ApprovalResult> approveBatch(List<ApprovalRequest> requests, String approverId) {
-        List<ApprovalResult> results = new ArrayList<>();
-        
-        for (ApprovalRequest request : requests) {
-            try {
-                ApprovalResult result = approveDaily(
-                    request.getUserId(),
-                    request.getWorkDate(),
-                    approverId
-                );
-                results.add(result);
-            } catch (Exception e) {
-                // エラーの場合はスキップして続行
-                results.add(new ApprovalResult(request.getUserId(), request.getWorkDate(), e.getMessage()));
-            }
-        }
-        
-        return results;
+        return processBatch(requests, approverId,
+            approval -> approval.approve(approverId),
+            WorkRecordApprovalEvent::createForApproval);
     }
     
-        /**
-     * 一括承認処理
+    /**
+     * 一括差し戻し処理
      * 
+     * @param reason 却下理由
      * @param requests 承認リクエストリスト
      * @param approverId 承認者ID
      * @return 承認結果リスト
      */
     public List<ApprovalResult> rejectBatch(String reason, List<ApprovalRequest> requests, String approverId) {
-        List<ApprovalResult> results = new ArrayList<>();
+        return processBatch(requests, approverId,
+            approval -> approval.reject(approverId, reason),
+            WorkRecordApprovalEvent::createForRejection);
+    }
+    
+    /**
+     * 申請者/日付の組をまとめて承認・差し戻しする
+     * 
+     * 承認権限の検証、承認レコード・工数記録の取得、承認レコードの保存、ドメインイベントの保存を
+     * それぞれ一括で行う。権限がない組や状態遷移できない組はその行のみエラーとして返し、残りは処理を続行する。
+     * 同じ申請者/日付が複数含まれる場合は順に適用し、ドメインイベントは最終状態で1件のみ保存する。
+     * 
+     * @param requests 承認リクエストリスト
+     * @param approverId 承認者ID
+     * @param action 承認レコードに適用する操作
+     * @param eventFactory ドメインイベントの生成方法
+     * @return 承認結果リスト（リクエストと同じ順序）
+     */
+    private List<ApprovalResult> processBatch(List<ApprovalRequest> requests, String approverId,
+                                              Consumer<WorkRecordApproval> action,
+                                              BiFunction<WorkRecordApproval, List<WorkRecord>, WorkRecordApprovalEvent> eventFactory) {
+        if (requests.isEmpty()) {
+            return new ArrayList<>();
+        }
         
+        // 全ての組の承認権限を一括検証
+        Map<String, Set<LocalDate>> requestedDates = new HashMap<>();
         for (ApprovalRequest request : requests) {
+            if (request.getUserId() != null && request.getWorkDate() != null) {
+                requestedDates.computeIfAbsent(request.getUserId(), userId -> new HashSet<>())
+                    .add(request.getWorkDate());
+            }
+        }
+        Map<String, Set<LocalDate>> authorizedDates =
+            approvalAuthorityService.filterAuthorizedDates(approverId, requestedDates);
+        
+        // 既存の承認レコードを一括取得
+        Map<ApprovalKey, WorkRecordApproval> approvals = new HashMap<>();
+        workRecordApprovalRepository.findByUserIdsAndDates(authorizedDates)
+            .forEach(approval -> approvals.put(ApprovalKey.of(approval), approval));
+        
+        // 行ごとに承認・差し戻しを適用（失敗した行はエラーとして記録し続行）
+        List<ApprovalResult> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        Map<ApprovalKey, List<Integer>> succeededIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ApprovalRequest request = requests.get(i);
+            ApprovalKey key = new ApprovalKey(request.getUserId(), request.getWorkDate());
             try {
-                ApprovalResult result = rejectDaily(
-                    request.getUserId(),
-                    request.getWorkDate(),
-                    approverId,
-                    reason
-                );
-                results.add(result);
+                if (!authorizedDates.getOrDefault(key.userId(), Collections.emptySet()).contains(key.workDate())) {
+                    throw new UnauthorizedException("承認権限がありません");
+                }
+                WorkRecordApproval approval = approvals.computeIfAbsent(key,
+                    k -> new WorkRecordApproval(k.userId(), k.workDate()));
+                action.accept(approval);
+                succeededIndexes.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
             } catch (Exception e) {
                 // エラーの場合はスキップして続行
-                results.add(new ApprovalResult(request.getUserId(), request.getWorkDate(), e.getMessage()));
+                results.set(i, new ApprovalResult(request.getUserId(), request.getWorkDate(), e.getMessage()));
             }
         }
         
+        if (succeededIndexes.isEmpty()) {
+            return results;
+        }
+        
+        // 承認レコードを一括保存
+        List<WorkRecordApproval> savedApprovals = workRecordApprovalRepository.saveAll(
+            succeededIndexes.keySet().stream()
+                .map(approvals::get)
+                .collect(Collectors.toList()));
+        
+        // 対象工数記録を一括取得
+        Map<String, Set<LocalDate>> savedDates = new HashMap<>();
+        savedApprovals.forEach(saved -> savedDates
+            .computeIfAbsent(saved.getUserId(), userId -> new HashSet<>())
+            .add(saved.getWorkDate()));
+        Map<ApprovalKey, List<WorkRecord>> workRecordsByKey = workRecordRepository.findByUserIdsAndDates(savedDates)
+            .stream()
+            .collect(Collectors.groupingBy(workRecord ->
+                new ApprovalKey(workRecord.getUserId(), workRecord.getWorkDate())));
+        
+        // ドメインイベントを一括保存
+        List<WorkRecordApprovalEvent> events = new ArrayList<>();
+        for (WorkRecordApproval saved : savedApprovals) {
+            ApprovalKey key = ApprovalKey.of(saved);
+            events.add(eventFactory.apply(saved, workRecordsByKey.getOrDefault(key, List.of())));
+            succeededIndexes.get(key).forEach(index -> results.set(index, new ApprovalResult(saved)));
+            monthlyWorkCalendarCache.invalidate(saved.getUserId(), saved.getWorkDate());
+        }
+        domainEventRepository.saveAll(events);
+        
         return results;
     }
     
@@ -184,56 +258,19 @@ public class DailyApprovalApplicationService {
      */
     @Transactional(readOnly = true)
     public List<AggregatedApproval> getPendingAggregatedApprovals(String approverId) {
-        // 承認者のユーザー情報を取得
-        User approverUser = userRepository.findById(approverId)
-            .orElseThrow(() -> EntityNotFoundException.userNotFound(approverId));
-        
         // 承認対象者リストを取得
-        List<User> approvalTargets = listApproverService.findApprovalTargetsByApprover(approverUser);
+        List<User> approvalTargets = findApprovalTargets(approverId);
         
         if (approvalTargets.isEmpty()) {
             return Collections.emptyList();
         }
         
-        // ユーザーIDのリストに変換
-        List<String> approvalTargetIds = approvalTargets.stream()
-            .map(User::getId)
-            .collect(Collectors.toList());
-        
         // 承認待ち・差し戻しステータスのレコードを取得
-        List<ApprovalStatus> targetStatuses = Arrays.asList(
-            ApprovalStatus.PENDING,
-            ApprovalStatus.REJECTED
-        );
-        
         List<WorkRecordApproval> approvals = workRecordApprovalRepository
-            .findByUsersAndStatuses(approvalTargetIds, targetStatuses);
+            .findByUsersAndStatuses(toUserIds(approvalTargets), PENDING_AGGREGATION_STATUSES);
         
         // 申請者/日付ごとに集計
-        List<AggregatedApproval> result = approvals.stream()
-            .map(approval -> {
-                // ユーザー情報を取得
-                User applicantUser = userRepository.findById(approval.getUserId())
-                    .orElseThrow(() -> EntityNotFoundException.userNotFound(approval.getUserId()));
-
-                // 対象の工数記録を取得
-                List<WorkRecord> workRecords = workRecordRepository.findByUserIdAndDate(
-                    approval.getUserId(),
-                    approval.getWorkDate()
-                );                
-                    
-                workRecords.forEach(workRecord -> {
-                    // プロジェクトとユーザー情報を設定
-                    Project project = projectRepository.findById(workRecord.getProjectId())
-                        .orElseThrow(() -> EntityNotFoundException.projectNotFound(workRecord.getProjectId())  );
-                    workRecord.setProject(project);
-                    workRecord.setUser(applicantUser);
-                });
-                
-                // ファクトリメソッドを使用してAggregatedApprovalを作成
-                return AggregatedApproval.create(approval, workRecords, applicantUser);
-            })
-            .collect(Collectors.toList());
+        List<AggregatedApproval> result = aggregateApprovals(approvals, approvalTargets);
         
         // 日付の降順でソート
         result.sort((a, b) -> b.getWorkDate().compareTo(a.getWorkDate()));
@@ -241,6 +278,139 @@ public class DailyApprovalApplicationService {
         return result;
     }
     
+    /**
+     * 承認待ち一覧をカーソル指定でページ取得（集計済み）
+     * 
+     * 工数日の降順・申請者IDの昇順で、前ページ最後の工数日と申請者IDをカーソルとして一定件数ずつ取得する。
+     * 次ページの有無を判定するため、ページサイズより1件多く読み込む。
+     * 
+     * @param approverId 承認者ID
+     * @param cursorWorkDate 前ページ最後の工数日（nullの場合は先頭から）
+     * @param cursorUserId 前ページ最後の申請者ID
+     * @param size ページサイズ
+     * @return 集計済み承認待ちページ
+     * @throws IllegalArgumentException ページサイズが不正な場合
+     */
+    @Transactional(readOnly = true)
+    public AggregatedApprovalPage getPendingAggregatedApprovalsPage(String approverId, LocalDate cursorWorkDate,
+                                                                    String cursorUserId, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("ページサイズは1以上である必要があります");
+        }
+        
+        List<User> approvalTargets = findApprovalTargets(approverId);
+        
+        if (approvalTargets.isEmpty()) {
+            return new AggregatedApprovalPage(Collections.emptyList(), null, null, false, size);
+        }
+        
+        List<WorkRecordApproval> approvals = workRecordApprovalRepository.findPageByUsersAndStatuses(
+            toUserIds(approvalTargets), PENDING_AGGREGATION_STATUSES, cursorWorkDate, cursorUserId, size + 1);
+        boolean hasNext = approvals.size() > size;
+        List<WorkRecordApproval> page = hasNext ? approvals.subList(0, size) : approvals;
+        WorkRecordApproval last = hasNext ? page.get(page.size() - 1) : null;
+        
+        return new AggregatedApprovalPage(
+            aggregateApprovals(page, approvalTargets),
+            last != null ? last.getWorkDate() : null,
+            last != null ? last.getUserId() : null,
+            hasNext,
+            size
+        );
+    }
+    
+    /**
+     * 承認者の承認対象者リストを取得
+     * 
+     * @param approverId 承認者ID
+     * @return 承認対象者のユーザーリスト
+     */
+    private List<User> findApprovalTargets(String approverId) {
+        User approverUser = userRepository.findById(approverId)
+            .orElseThrow(() -> EntityNotFoundException.userNotFound(approverId));
+        
+        return listApproverService.findApprovalTargetsByApprover(approverUser);
+    }
+    
+    private static List<String> toUserIds(List<User> users) {
+        return users.stream()
+            .map(User::getId)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * 承認レコードを申請者/日付ごとに集計
+     * 
+     * 対象の工数記録とプロジェクトをそれぞれ1回の一括検索で取得し、メモリ上で組み立てる。
+     * 
+     * @param approvals 承認レコードリスト
+     * @param approvalTargets 承認対象者リスト（申請者情報の解決に使用）
+     * @return 集計済み承認情報リスト（承認レコードと同じ順序）
+     */
+    private List<AggregatedApproval> aggregateApprovals(List<WorkRecordApproval> approvals, List<User> approvalTargets) {
+        if (approvals.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        Map<String, User> usersById = approvalTargets.stream()
+            .collect(Collectors.toMap(User::getId, Function.identity(), (first, second) -> first));
+        
+        // 申請者/日付の組に該当する工数記録を一括取得
+        Map<String, Set<LocalDate>> workDatesByUserId = new HashMap<>();
+        approvals.forEach(approval -> workDatesByUserId
+            .computeIfAbsent(approval.getUserId(), userId -> new HashSet<>())
+            .add(approval.getWorkDate()));
+        List<WorkRecord> workRecords = workRecordRepository.findByUserIdsAndDates(workDatesByUserId);
+        
+        // 工数記録が参照するプロジェクトを一括取得
+        Set<String> projectIds = workRecords.stream()
+            .map(WorkRecord::getProjectId)
+            .collect(Collectors.toSet());
+        Map<String, Project> projectsById = projectRepository.findByIds(projectIds).stream()
+            .collect(Collectors.toMap(Project::getId, Function.identity()));
+        
+        Map<String, Map<LocalDate, List<WorkRecord>>> workRecordsByUserAndDate = new HashMap<>();
+        for (WorkRecord workRecord : workRecords) {
+            // プロジェクトとユーザー情報を設定
+            Project project = projectsById.get(workRecord.getProjectId());
+            if (project == null) {
+                throw EntityNotFoundException.projectNotFound(workRecord.getProjectId());
+            }
+            workRecord.setProject(project);
+            workRecord.setUser(usersById.get(workRecord.getUserId()));
+            
+            workRecordsByUserAndDate
+                .computeIfAbsent(workRecord.getUserId(), userId -> new HashMap<>())
+                .computeIfAbsent(workRecord.getWorkDate(), workDate -> new ArrayList<>())
+                .add(workRecord);
+        }
+        
+        return approvals.stream()
+            .map(approval -> {
+                User applicantUser = usersById.get(approval.getUserId());
+                if (applicantUser == null) {
+                    throw EntityNotFoundException.userNotFound(approval.getUserId());
+                }
+                
+                List<WorkRecord> approvalWorkRecords = workRecordsByUserAndDate
+                    .getOrDefault(approval.getUserId(), Collections.emptyMap())
+                    .getOrDefault(approval.getWorkDate(), Collections.emptyList());
+                
+                // ファクトリメソッドを使用してAggregatedApprovalを作成
+                return AggregatedApproval.create(approval, approvalWorkRecords, applicantUser);
+            })
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * 申請者/日付の組
+     */
+    private record ApprovalKey(String userId, LocalDate workDate) {
+        static ApprovalKey of(WorkRecordApproval approval) {
+            return new ApprovalKey(approval.getUserId(), approval.getWorkDate());
+        }
+    }
+    
     /**
      * 承認結果クラス
      */
@@ -405,6 +575,33 @@ public class DailyApprovalApplicationService {
         public User getUser() { return user; }
     }
     
+    /**
+     * 集計済み承認待ちページ
+     */
+    public static class AggregatedApprovalPage {
+        private final List<AggregatedApproval> items;
+        private final LocalDate nextCursorWorkDate;
+        private final String nextCursorUserId;
+        private final boolean hasNext;
+        private final int pageSize;
+        
+        public AggregatedApprovalPage(List<AggregatedApproval> items, LocalDate nextCursorWorkDate,
+                                      String nextCursorUserId, boolean hasNext, int pageSize) {
+            this.items = items;
+            this.nextCursorWorkDate = nextCursorWorkDate;
+            this.nextCursorUserId = nextCursorUserId;
+            this.hasNext = hasNext;
+            this.pageSize = pageSize;
+        }
+        
+        // Getters
+        public List<AggregatedApproval> getItems() { return items; }
+        public LocalDate getNextCursorWorkDate() { return nextCursorWorkDate; }
+        public String getNextCursorUserId() { return nextCursorUserId; }
+        public boolean isHasNext() { return hasNext; }
+        public int getPageSize() { return pageSize; }
+    }
+    
     /**
      * 案件内訳
      */
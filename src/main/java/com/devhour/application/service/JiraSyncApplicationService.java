@@ -1,6 +1,23 @@
 package com.devhour.application.service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -8,6 +25,7 @@ import org.springframework.retry.RecoveryCallback;
 import org.springframework.retry.RetryCallback;
 import org.springframework.retry.RetryContext;
 import org.springframework.retry.support.RetryTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.devhour.application.service.JsonTransformService.JsonTransformException;
@@ -19,14 +37,16 @@ import com.devhour.domain.model.entity.JiraJqlQuery;
 import com.devhour.domain.model.entity.JiraResponseTemplate;
 import com.devhour.domain.model.entity.JiraSyncHistory;
 import com.devhour.domain.model.valueobject.DetailStatus;
+import com.devhour.domain.model.valueobject.JiraSearchProjection;
+import com.devhour.domain.model.valueobject.JiraSyncDetailVerbosity;
 import com.devhour.domain.model.valueobject.JiraSyncType;
 import com.devhour.domain.repository.JiraJqlQueryRepository;
 import com.devhour.domain.repository.JiraResponseTemplateRepository;
 import com.devhour.domain.repository.JiraSyncHistoryRepository;
+import com.devhour.domain.service.DataMappingDomainService.CommonFormatProject;
 import com.devhour.domain.service.JiraSyncDomainService;
 import com.devhour.infrastructure.jira.JiraClient;
 import com.devhour.infrastructure.jira.dto.JiraIssueSearchResponse;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -58,6 +78,10 @@ import lombok.extern.slf4j.Slf4j;
 @ConditionalOnProperty(name = "jira.integration.enabled", havingValue = "true", matchIfMissing = false)
 public class JiraSyncApplicationService {
     
+    // 同期時は各イシューを共通フォーマットテンプレートでも変換するため、その参照項目は常に要求する
+    private static final JiraSearchProjection COMMON_FORMAT_PROJECTION =
+        JiraSearchProjection.fromVelocityTemplate(CommonFormatProject.COMMON_FORMAT_VM_TEMPLATE);
+    
     private final JiraJqlQueryRepository jqlQueryRepository;
     private final JiraResponseTemplateRepository responseTemplateRepository;
     private final JiraSyncHistoryRepository syncHistoryRepository;
@@ -84,9 +108,50 @@ public class JiraSyncApplicationService {
     @Value("${jira.sync.streaming.chunk-size:50}")
     private int streamingChunkSize;
     
+    // ストリーミングモード（検索レスポンスを逐次読み込み、chunk-size件ずつ処理する。先読みは行わない）
+    @Value("${jira.sync.streaming.enabled:false}")
+    private boolean streamingEnabled;
+    
+    // 同期中に未保存の詳細履歴がこの件数に達したら追記保存する（0以下の場合は同期終了時にまとめて保存）
+    @Value("${jira.sync.history.detail-flush-size:500}")
+    private int detailFlushSize;
+    
+    // イシューごとの詳細履歴の記録レベル（SUMMARY / SAMPLED / FULL）とSAMPLED時のペイロード保存間隔
+    @Value("${jira.sync.history.detail-verbosity:FULL}")
+    private JiraSyncDetailVerbosity detailVerbosity = JiraSyncDetailVerbosity.FULL;
+    
+    @Value("${jira.sync.history.detail-sample-interval:100}")
+    private int detailSampleInterval = 100;
+    
     @Value("${jira.sync.performance-monitoring.enabled:true}")
     private boolean performanceMonitoringEnabled;
     
+    // JIRA検索のページサイズと先読みページ数（0の場合は先読みしない）
+    @Value("${jira.sync.page-size:50}")
+    private int pageSize;
+    
+    @Value("${jira.sync.prefetch-depth:1}")
+    private int prefetchDepth;
+    
+    // JQLクエリ並列実行設定（1以下の場合は従来通り順次実行）
+    @Value("${jira.sync.query-parallelism:1}")
+    private int queryParallelism;
+    
+    // レート制限で延期したJQLクエリを再開する上限回数（延期はリトライ回数に含めない）
+    @Value("${jira.sync.rate-limit.max-deferrals:10}")
+    private int maxRateLimitDeferrals;
+    
+    // 差分同期設定（同期済み日時 - 重複期間 以降に更新されたイシューのみ取得）
+    @Value("${jira.sync.incremental.enabled:true}")
+    private boolean incrementalSyncEnabled;
+    
+    @Value("${jira.sync.incremental.overlap-minutes:10}")
+    private int incrementalOverlapMinutes;
+    
+    // JIRAがJQLの日時を解釈するタイムゾーン（JIRA同期ユーザーのプロフィール設定。未指定の場合はサーバーのタイムゾーン）
+    @Value("${jira.sync.incremental.time-zone:}")
+    private String incrementalTimeZone;
+    
     public JiraSyncApplicationService(
             JiraJqlQueryRepository jqlQueryRepository,
             JiraResponseTemplateRepository responseTemplateRepository,
@@ -113,22 +178,74 @@ public class JiraSyncApplicationService {
      * 
      * スケジュールされた同期処理として、すべてのアクティブなJQLクエリを
      * 優先度順に実行し、JIRA統合プロジェクトの同期を行う。
+     * jira.sync.incremental.enabled が有効な場合、各クエリは前回同期以降に
+     * 更新されたイシューのみを取得する差分同期となる。
      * 
      * 処理フロー:
      * 1. 同期履歴作成・開始
      * 2. アクティブJQLクエリ取得（優先度順）
-     * 3. 各クエリの順次実行
+     * 3. 各クエリの実行（jira.sync.query-parallelism に応じて順次または並列）
      * 4. 同期結果の集約・履歴更新
      * 5. トランザクション確定
      * 
      * @return 実行結果を含む同期履歴エンティティ
      */
     public JiraSyncHistory executeSync() {
-        log.info("JIRA全同期処理を開始");
+        return executeSync(JiraSyncType.SCHEDULED, incrementalSyncEnabled);
+    }
+    
+    /**
+     * 全アクティブJQLクエリの全件再同期
+     * 
+     * 同期済み日時による絞り込みを行わず、各JQLクエリの全結果を再取得して反映する。
+     * 差分同期で取りこぼしが疑われる場合の手動リカバリ用。
+     * 全件処理に成功したクエリは同期済み日時が更新される。
+     * 
+     * @return 実行結果を含む同期履歴エンティティ
+     */
+    public JiraSyncHistory executeFullSync() {
+        return executeSync(JiraSyncType.MANUAL, false);
+    }
+    
+    /**
+     * JIRA接続テスト
+     * 
+     * JIRA APIへの接続状態を確認し、設定が正しく動作するかテストする。
+     * 管理画面での接続確認機能に使用される。
+     * 
+     * @return 接続可能な場合true、不可能またはエラーの場合false
+     */
+    @Transactional(readOnly = true)
+    public boolean testConnection() {
+        log.info("JIRA接続テストを開始");
+        
+        try {
+            boolean connectionResult = jiraClient.testConnection();
+            log.info("JIRA接続テスト結果: {}", connectionResult ? "成功" : "失敗");
+            return connectionResult;
+            
+        } catch (Exception e) {
+            log.warn("JIRA接続テスト中に例外が発生: {}", e.getMessage(), e);
+            return false;
+        }
+    }
+    
+    // ========== プライベートメソッド ==========
+    
+    /**
+     * 同期処理本体
+     * 
+     * @param syncType 同期タイプ
+     * @param incremental 同期済み日時でJQLを絞り込む場合true
+     * @return 実行結果を含む同期履歴エンティティ
+     */
+    private JiraSyncHistory executeSync(JiraSyncType syncType, boolean incremental) {
+        log.info("JIRA全同期処理を開始 (モード: {})", incremental ? "差分" : "全件");
         
         // 同期履歴の作成と開始
-        JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.SCHEDULED, "system");
+        JiraSyncHistory syncHistory = JiraSyncHistory.startSync(syncType, "system");
         syncHistory = syncHistoryRepository.save(syncHistory);
+        syncHistory.configureDetailVerbosity(detailVerbosity, detailSampleInterval);
         
         try {
             // アクティブJQLクエリを優先度順で取得
@@ -146,27 +263,19 @@ public class JiraSyncApplicationService {
             
             syncHistory.addDetail("Fetch Active JQL Queries", DetailStatus.SUCCESS, String.format("Found %d active JQL queries", activeQueries.size()));
             
-            // 各JQLクエリを順次実行
-            for (JiraJqlQuery query : activeQueries) {
-                try {
-                    log.info("JQLクエリを実行中: {} (優先度: {})", query.getQueryName(), query.getPriority());
-                    executeJqlQuery(query, syncHistory);
-
-                    syncHistory.addDetail("Completed JQL Query", DetailStatus.SUCCESS, "Success: " + query.getQueryName());
-                } catch (Exception e) {
-                    log.error("JQLクエリ実行中にエラーが発生: {} - {}", query.getQueryName(), e.getMessage(), e);
-        
-                    syncHistory.addDetail("Execute JQL Query", DetailStatus.ERROR, String.format("JQLクエリ実行エラー [%s]: %s", query.getQueryName(), e.getMessage()));
-                }
-            }
+            // 各JQLクエリを実行（並列度設定に応じて順次または並列）
+            executeQueries(activeQueries, syncHistory, incremental);
             
-            // 同期履歴の完了処理
-            if (syncHistory.getDetails().stream().anyMatch(detail -> detail.getStatus() == DetailStatus.ERROR)) {
+            // 同期履歴の完了処理（追記保存済みの詳細履歴はメモリに保持しないため、件数で判定する）
+            long successDetailCount = syncHistory.getDetailCount(DetailStatus.SUCCESS);
+            long errorDetailCount = syncHistory.getDetailCount(DetailStatus.ERROR);
+            if (errorDetailCount > 0) {
                 syncHistory.failSync("一部のクエリ実行でエラーが発生");
-                log.warn("同期処理が部分的にエラーで完了: {} 件の詳細", syncHistory.getDetails().size());
+                log.warn("同期処理が部分的にエラーで完了: {} 件の詳細（エラー {} 件）",
+                    successDetailCount + errorDetailCount, errorDetailCount);
             } else {
                 syncHistory.completeSync();
-                log.info("同期処理が正常に完了: {} 件の詳細", syncHistory.getDetails().size());
+                log.info("同期処理が正常に完了: {} 件の詳細", successDetailCount);
             }
             
             return syncHistoryRepository.save(syncHistory);
@@ -179,29 +288,186 @@ public class JiraSyncApplicationService {
     }
     
     /**
-     * JIRA接続テスト
+     * アクティブJQLクエリの実行
      * 
-     * JIRA APIへの接続状態を確認し、設定が正しく動作するかテストする。
-     * 管理画面での接続確認機能に使用される。
+     * 上限付きのワーカープール（jira.sync.query-parallelism、1以下の場合は1スレッドで順次実行）で
+     * クエリを実行する。クエリは優先度順にキューへ投入されるため、
+     * 優先度の高いクエリから実行が開始される（完了順序は保証しない）。
+     * 各クエリの結果は同一の同期履歴に記録される。
      * 
-     * @return 接続可能な場合true、不可能またはエラーの場合false
+     * JIRA APIのレート制限（JiraRateLimitException）で中断したクエリはワーカーを解放し、
+     * 指定された待機時間の経過後に未処理のページから再開する。待機中は他のクエリが実行される。
+     * 
+     * @param activeQueries 優先度順のアクティブJQLクエリリスト
+     * @param syncHistory 同期履歴エンティティ
+     * @param incremental 同期済み日時でJQLを絞り込む場合true
+     * @throws JiraSyncException 実行の待機中に割り込みが発生した場合
      */
-    @Transactional(readOnly = true)
-    public boolean testConnection() {
-        log.info("JIRA接続テストを開始");
+    private void executeQueries(List<JiraJqlQuery> activeQueries, JiraSyncHistory syncHistory, boolean incremental) {
+        int parallelism = Math.max(Math.min(queryParallelism, activeQueries.size()), 1);
         
+        if (parallelism > 1) {
+            log.info("JQLクエリを並列実行: {} 件 (並列度: {})", activeQueries.size(), parallelism);
+        }
+        
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(parallelism, new CustomizableThreadFactory("jira-sync-query-"));
         try {
-            boolean connectionResult = jiraClient.testConnection();
-            log.info("JIRA接続テスト結果: {}", connectionResult ? "成功" : "失敗");
-            return connectionResult;
+            // 優先度順に投入することで、優先度の高いクエリから実行を開始する
+            List<CompletableFuture<Void>> completions = new ArrayList<>(activeQueries.size());
+            for (JiraJqlQuery query : activeQueries) {
+                QueryRun run = new QueryRun(query, incremental);
+                completions.add(run.completion);
+                executor.execute(() -> runQuery(run, syncHistory, executor));
+            }
             
+            for (CompletableFuture<Void> completion : completions) {
+                completion.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JiraSyncException("JQLクエリの実行が中断されました", e);
+        } catch (ExecutionException e) {
+            // executeQueryAndRecordは例外を内部で記録するため、ここに到達するのは想定外のエラーのみ
+            throw new JiraSyncException("JQLクエリの実行中にエラーが発生: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * ワーカー上でJQLクエリを実行し、レート制限で中断した場合は再開を予約する
+     * 
+     * 待機はスケジューラーの遅延実行で行い、ワーカーのスレッドを停止させない。
+     * 
+     * @param run クエリの実行状態
+     * @param syncHistory 同期履歴エンティティ
+     * @param executor クエリ実行用のワーカープール
+     */
+    private void runQuery(QueryRun run, JiraSyncHistory syncHistory, ScheduledExecutorService executor) {
+        try {
+            executeQueryAndRecord(run, syncHistory);
+            run.completion.complete(null);
+        } catch (JiraRateLimitException e) {
+            long delaySeconds = Math.max(e.getRetryAfterSeconds(), 0);
+            log.info("JIRA APIレート制限のためJQLクエリを延期: {} ({} 秒後に開始位置 {} から再開, 延期 {}/{})",
+                    run.query.getQueryName(), delaySeconds, run.resumeStartAt, run.deferrals, maxRateLimitDeferrals);
+            try {
+                executor.schedule(() -> runQuery(run, syncHistory, executor), delaySeconds, TimeUnit.SECONDS);
+            } catch (RejectedExecutionException rejected) {
+                run.completion.completeExceptionally(rejected);
+            }
+        } catch (Throwable t) {
+            run.completion.completeExceptionally(t);
+        }
+    }
+    
+    /**
+     * 単一JQLクエリを実行し、結果を同期履歴に記録する
+     * 
+     * クエリ単位のエラーは同期履歴に記録し、他のクエリの実行を妨げない。
+     * 全イシューの処理に成功した場合のみ、クエリ開始時点の日時を同期済み日時として記録する。
+     * 失敗したイシューがある場合は同期済み日時を進めず、次回の差分同期で再取得させる。
+     * 
+     * @param run クエリの実行状態（延期後の再開時は前回の続きから実行する）
+     * @param syncHistory 同期履歴エンティティ
+     * @throws JiraRateLimitException レート制限により延期する場合（延期の上限に達した場合はエラーとして記録する）
+     */
+    private void executeQueryAndRecord(QueryRun run, JiraSyncHistory syncHistory) {
+        JiraJqlQuery query = run.query;
+        try {
+            if (run.jql == null) {
+                run.startedAt = Instant.now();
+                run.jql = run.incremental
+                    ? query.buildIncrementalJql(Duration.ofMinutes(incrementalOverlapMinutes), resolveJiraTimeZone())
+                    : query.getJqlExpression();
+                log.info("JQLクエリを実行中: {} (優先度: {}, 同期済み日時: {})", 
+                        query.getQueryName(), query.getPriority(), run.incremental ? query.getLastSyncedAt() : "-");
+            } else {
+                log.info("延期したJQLクエリを再開: {} (開始位置: {})", query.getQueryName(), run.resumeStartAt);
+            }
+            int failedIssues = executeJqlQuery(run, syncHistory);
+            
+            if (failedIssues == 0) {
+                recordSyncMark(query, run.startedAt);
+            } else {
+                log.warn("失敗したイシューがあるため同期済み日時を更新しません: {} ({} 件)", query.getQueryName(), failedIssues);
+            }
+
+            syncHistory.addDetail("Completed JQL Query", DetailStatus.SUCCESS, "Success: " + query.getQueryName());
+        } catch (JiraRateLimitException e) {
+            if (run.deferrals < maxRateLimitDeferrals) {
+                run.deferrals++;
+                throw e;
+            }
+            log.error("レート制限による延期が上限に達したためJQLクエリを中止: {} - {}", query.getQueryName(), e.getMessage(), e);
+
+            syncHistory.addDetail("Execute JQL Query", DetailStatus.ERROR, String.format("JQLクエリ実行エラー [%s]: レート制限エラー: %s", query.getQueryName(), e.getMessage()));
         } catch (Exception e) {
-            log.warn("JIRA接続テスト中に例外が発生: {}", e.getMessage(), e);
-            return false;
+            log.error("JQLクエリ実行中にエラーが発生: {} - {}", query.getQueryName(), e.getMessage(), e);
+
+            syncHistory.addDetail("Execute JQL Query", DetailStatus.ERROR, String.format("JQLクエリ実行エラー [%s]: %s", query.getQueryName(), e.getMessage()));
         }
     }
     
-    // ========== プライベートメソッド ==========
+    /**
+     * 単一JQLクエリの実行状態
+     * 
+     * レート制限で延期したクエリを再開できるよう、実行するJQL・開始時点・未処理のページ位置を保持する。
+     * 同時に複数のワーカーから参照されることはなく、受け渡しはワーカープールへの投入で行われる。
+     */
+    private static final class QueryRun {
+        
+        private final JiraJqlQuery query;
+        private final boolean incremental;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        /** 実行するJQL式（初回実行時に確定し、再開時も同じ式を使用する） */
+        private String jql;
+        /** 初回実行の開始時点（同期済み日時として記録する） */
+        private Instant startedAt;
+        /** 未処理の先頭ページの開始位置 */
+        private int resumeStartAt;
+        private int failedIssues;
+        private int deferrals;
+        
+        private QueryRun(JiraJqlQuery query, boolean incremental) {
+            this.query = query;
+            this.incremental = incremental;
+        }
+    }
+    
+    /**
+     * 同期済み日時（ハイウォーターマーク）の記録
+     * 
+     * 差分同期が無効の場合は記録しない。記録に失敗しても同期結果には影響させず、
+     * 次回は前回の同期済み日時から再取得する。
+     * 
+     * @param query 同期に成功したJQLクエリエンティティ
+     * @param syncedAt クエリ開始時点
+     */
+    private void recordSyncMark(JiraJqlQuery query, Instant syncedAt) {
+        if (!incrementalSyncEnabled) {
+            return;
+        }
+        
+        try {
+            query.markSynced(syncedAt);
+            jqlQueryRepository.updateLastSyncedAt(query);
+        } catch (Exception e) {
+            log.warn("同期済み日時の記録に失敗: {} - {}", query.getQueryName(), e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 差分同期JQLの日時に使用するJIRAのタイムゾーンを取得
+     * 
+     * @return 設定されたタイムゾーン（未指定の場合はサーバーのタイムゾーン）
+     */
+    private ZoneId resolveJiraTimeZone() {
+        if (incrementalTimeZone == null || incrementalTimeZone.isBlank()) {
+            return ZoneId.systemDefault();
+        }
+        return ZoneId.of(incrementalTimeZone.trim());
+    }
     
     /**
      * 単一JQLクエリの実行処理（バッチ処理最適化版 - Task 5.2.1）
@@ -214,116 +480,336 @@ public class JiraSyncApplicationService {
      * - 進捗状況の定期的なログ出力
      * - パフォーマンス監視機能
      * - ストリーミング処理による安定性向上
+     * - 次ページの先読み（jira.sync.prefetch-depth）によるネットワーク待ちとDB処理の重畳
+     * 
+     * 先読み数は同時に発行するJIRA API呼び出し数の上限を兼ねるため、
+     * レート制限に合わせて小さく保つこと。0の場合は先読みせず順次取得する。
+     * 
+     * ストリーミングモード（jira.sync.streaming.enabled）の場合は {@link #streamJqlQuery} で処理する。
+     * 
+     * JIRAにはレスポンステンプレートと共通フォーマットテンプレートが参照するfields / expandのみを要求する。
+     * テンプレートが見つからない場合は全項目を要求し、イシューの処理時にエラーとする。
      * 
      * REQ-8.1, REQ-8.2, REQ-8.3に対応:
      * - タイムアウトエラーの自動リトライ（30秒間隔、最大3回）
      * - ネットワークエラーのエクスポネンシャルバックオフ
      * - レート制限エラーの適応的リトライ
      * 
-     * @param query 実行するJQLクエリエンティティ
+     * 取得は未処理の先頭ページ（延期前に処理済みのページの次）から開始し、ページの処理完了ごとに再開位置を進める。
+     * レート制限エラーは呼び出し元でクエリを延期するため、そのまま再スローする。
+     * 
+     * @param run クエリの実行状態（JQL式は差分同期の場合は同期済み日時で絞り込み済み）
      * @param syncHistory 同期履歴エンティティ
-     * @return 処理結果の同期履歴詳細リスト
+     * @return 処理に失敗したイシュー数（延期前の実行分を含む）
+     * @throws JiraRateLimitException レート制限により中断した場合
      */
-    private void executeJqlQuery(JiraJqlQuery query, JiraSyncHistory syncHistory) {
-        JiraIssueSearchResponse response = null;
-        do{
-            try {
+    private int executeJqlQuery(QueryRun run, JiraSyncHistory syncHistory) {
+        JiraJqlQuery query = run.query;
+        String jql = run.jql;
+        ExecutorService prefetchExecutor = prefetchDepth > 0 && !streamingEnabled
+            ? Executors.newFixedThreadPool(prefetchDepth, new CustomizableThreadFactory("jira-sync-prefetch-"))
+            : null;
+        Deque<Future<JiraIssueSearchResponse>> prefetchedPages = new ArrayDeque<>();
+        
+        try {
+            // レスポンステンプレート取得（クエリ単位で1回）し、JIRAに要求する項目を導出
+            Optional<JiraResponseTemplate> template = responseTemplateRepository.findById(query.getTemplateId());
+            JiraSearchProjection projection = template
+                .map(found -> found.deriveSearchProjection().union(COMMON_FORMAT_PROJECTION))
+                .orElseGet(JiraSearchProjection::all);
+            
+            if (streamingEnabled) {
+                return streamJqlQuery(run, template, projection, syncHistory);
+            }
+            
+            // 先頭ページは同期的に取得し、総件数とページサイズを確定する
+            JiraIssueSearchResponse response = executeJqlQueryWithRetry(query, jql, run.resumeStartAt, projection);
+            int pageStep = resolvePageStep(response);
+            int pageStartAt = response.getStartAt() != null ? response.getStartAt() : run.resumeStartAt;
+            int nextStartAt = pageStartAt + pageStep;
+            
+            while (true) {
+                // 現在ページの処理中に後続ページを先読み
+                while (prefetchExecutor != null && prefetchedPages.size() < prefetchDepth
+                        && hasMorePages(response, nextStartAt, pageStep)) {
+                    int startAt = nextStartAt;
+                    prefetchedPages.add(prefetchExecutor.submit(() -> executeJqlQueryWithRetry(query, jql, startAt, projection)));
+                    nextStartAt += pageStep;
+                }
+                
                 long startTime = performanceMonitoringEnabled ? System.currentTimeMillis() : 0;
-                // リトライ可能なJQLクエリ実行
-                response = executeJqlQueryWithRetry(query, response != null ? response.getStartAt() : null);
                 
                 int totalIssues = response.getIssues().size();
                 log.info("JQLクエリ実行結果: {} 件のイシューを取得 (クエリ: {})", totalIssues, query.getQueryName());
                 
                 syncHistory.addDetail("Execute JQL Query", DetailStatus.SUCCESS, 
-                                    String.format("JQL Execution Succeeded [%s]: %d issues found\n%s", query.getQueryName(), totalIssues, query.getJqlExpression()));
+                                    String.format("JQL Execution Succeeded [%s]: %d issues found\n%s", query.getQueryName(), totalIssues, jql));
 
                 if (response.getIssues().isEmpty()) {
                     log.info("JQLクエリ結果が空です: {}", query.getQueryName());
-                    return ;
+                    return run.failedIssues;
                 }
                 
-                // レスポンステンプレート取得
-                JiraResponseTemplate template = responseTemplateRepository.findById(query.getTemplateId())
-                    .orElseThrow(() -> new IllegalStateException("レスポンステンプレートが見つかりません: " + query.getTemplateId()));
-                
                 // バッチ処理最適化: メモリ効率的な処理
-                processBatchedIssues(response.getIssues(), template, syncHistory, query);
+                run.failedIssues += processBatchedIssues(response.getIssues(), requireTemplate(template, query), syncHistory, query);
+                pageStartAt += pageStep;
+                run.resumeStartAt = pageStartAt;
                 
                 // パフォーマンス監視ログ
                 if (performanceMonitoringEnabled) {
                     long executionTime = System.currentTimeMillis() - startTime;
-                    double itemsPerSecond = totalIssues > 0 ? (totalIssues * 1000.0) / executionTime : 0;
-                    log.info("JQLクエリ処理完了 - 処理時間: {} ms, 処理速度: {:.2f} 件/秒 (クエリ: {})", 
-                            executionTime, itemsPerSecond, query.getQueryName());
+                    double itemsPerSecond = executionTime > 0 ? (totalIssues * 1000.0) / executionTime : 0;
+                    log.info("JQLクエリ処理完了 - 処理時間: {} ms, 処理速度: {} 件/秒 (クエリ: {})", 
+                            executionTime, String.format("%.2f", itemsPerSecond), query.getQueryName());
                 }
-            } catch (JiraAuthenticationException e) {
-                log.error("JQLクエリ実行中に認証エラーが発生: {} - {}", query.getQueryName(), e.getMessage(), e);
-                
-                adminNotificationService.notifyAuthenticationError(
-                    e.getMessage(), e.getStatusCode(), query.getQueryName());
-                
-                throw new JiraSyncException("認証エラー: " + e.getMessage(), e);
-                
-            } catch (JiraRateLimitException e) {
-                log.error("JQLクエリ実行中にレート制限エラーが発生: {} - {}", query.getQueryName(), e.getMessage(), e);
-                throw new JiraSyncException("レート制限エラー: " + e.getMessage(), e);
                 
-            } catch (JiraClient.JiraClientException e) {
-                log.error("JQLクエリ実行中にJIRAクライアントエラーが発生: {} - {}", query.getQueryName(), e.getMessage(), e);
-                throw new JiraSyncException("JQLクエリ実行エラー: " + e.getMessage(), e);
-            } catch (Exception e) {
-                log.error("JQLクエリ実行中に予期しないエラーが発生: {} - {}", query.getQueryName(), e.getMessage(), e);
-                throw new JiraSyncException("JQLクエリ実行中のエラー: " + e.getMessage(), e);
+                // 次ページの取得（先読み済みの場合は完了を待つ）
+                if (!prefetchedPages.isEmpty()) {
+                    response = awaitPrefetchedPage(prefetchedPages.poll());
+                } else if (hasMorePages(response, nextStartAt, pageStep)) {
+                    response = executeJqlQueryWithRetry(query, jql, nextStartAt, projection);
+                    nextStartAt += pageStep;
+                } else {
+                    break;
+                }
+            }
+            return run.failedIssues;
+        } catch (JiraAuthenticationException e) {
+            log.error("JQLクエリ実行中に認証エラーが発生: {} - {}", query.getQueryName(), e.getMessage(), e);
+            
+            adminNotificationService.notifyAuthenticationError(
+                e.getMessage(), e.getStatusCode(), query.getQueryName());
+            
+            throw new JiraSyncException("認証エラー: " + e.getMessage(), e);
+            
+        } catch (JiraRateLimitException e) {
+            log.warn("JQLクエリ実行中にレート制限エラーが発生: {} (再開位置: {}) - {}", query.getQueryName(), run.resumeStartAt, e.getMessage());
+            throw e;
+            
+        } catch (JiraClient.JiraClientException e) {
+            log.error("JQLクエリ実行中にJIRAクライアントエラーが発生: {} - {}", query.getQueryName(), e.getMessage(), e);
+            throw new JiraSyncException("JQLクエリ実行エラー: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("JQLクエリ実行中に割り込み発生: {}", query.getQueryName());
+            throw new JiraSyncException("JQLクエリ実行中断: " + e.getMessage(), e);
+        } catch (Exception e) {
+            log.error("JQLクエリ実行中に予期しないエラーが発生: {} - {}", query.getQueryName(), e.getMessage(), e);
+            throw new JiraSyncException("JQLクエリ実行中のエラー: " + e.getMessage(), e);
+        } finally {
+            // エラー終了時に未使用の先読みを破棄
+            prefetchedPages.forEach(page -> page.cancel(true));
+            if (prefetchExecutor != null) {
+                prefetchExecutor.shutdownNow();
+            }
+        }
+    }
+    
+    /**
+     * ストリーミングモードでのJQLクエリ実行
+     * 
+     * 各ページのレスポンスを逐次読み込み、イシューをstreaming.chunk-size件ずつ変換・反映する。
+     * ページ全体のイシューを保持しないため、ヒープ使用量はチャンクサイズ分に抑えられる。
+     * 
+     * リトライ時は同じページを先頭から読み直すが、前回の試行で処理済みのイシューは読み飛ばす。
+     * 延期後の再開時は未処理の先頭ページから読み込む。
+     * 
+     * @param run クエリの実行状態
+     * @param template レスポンステンプレート（見つからない場合は空）
+     * @param projection JIRAに要求する項目
+     * @param syncHistory 同期履歴エンティティ
+     * @return 処理に失敗したイシュー数（延期前の実行分を含む）
+     */
+    private int streamJqlQuery(QueryRun run, Optional<JiraResponseTemplate> template,
+                               JiraSearchProjection projection, JiraSyncHistory syncHistory) {
+        JiraJqlQuery query = run.query;
+        String jql = run.jql;
+        StreamingIssueProcessor processor = new StreamingIssueProcessor(run, template, syncHistory);
+        int startAt = run.resumeStartAt;
+        
+        while (true) {
+            long startTime = performanceMonitoringEnabled ? System.currentTimeMillis() : 0;
+            int pageStartAt = startAt;
+            
+            processor.startPage();
+            JiraIssueSearchResponse page = executeJqlQueryWithRetry(query, () -> {
+                processor.startAttempt();
+                return jiraClient.streamIssues(jql, pageSize, pageStartAt, projection, processor);
+            });
+            processor.flush();
+            
+            int pageIssues = processor.getPageIssueCount();
+            log.info("JQLクエリ実行結果(ストリーミング): {} 件のイシューを処理 (クエリ: {})", pageIssues, query.getQueryName());
+            syncHistory.addDetail("Execute JQL Query", DetailStatus.SUCCESS, 
+                                String.format("JQL Execution Succeeded [%s]: %d issues found\n%s", query.getQueryName(), pageIssues, jql));
+            
+            if (performanceMonitoringEnabled) {
+                long executionTime = System.currentTimeMillis() - startTime;
+                double itemsPerSecond = executionTime > 0 ? (pageIssues * 1000.0) / executionTime : 0;
+                log.info("JQLクエリ処理完了 - 処理時間: {} ms, 処理速度: {} 件/秒 (クエリ: {})", 
+                        executionTime, String.format("%.2f", itemsPerSecond), query.getQueryName());
+            }
+            
+            int pageStep = resolvePageStep(page);
+            startAt = (page.getStartAt() != null ? page.getStartAt() : pageStartAt) + pageStep;
+            run.resumeStartAt = startAt;
+            if (pageIssues == 0 || !hasMorePages(page, startAt, pageStep)) {
+                return run.failedIssues;
+            }
+        }
+    }
+    
+    /**
+     * ストリーミングモードで受け取ったイシューをチャンク単位で処理する
+     * 
+     * JiraClientから1件ずつ渡されるイシューをチャンクサイズまで溜め、
+     * {@link #processIssueBatch} で変換・反映する。
+     */
+    private final class StreamingIssueProcessor implements Consumer<JsonNode> {
+        
+        private final QueryRun run;
+        private final Optional<JiraResponseTemplate> template;
+        private final JiraSyncHistory syncHistory;
+        private List<JsonNode> chunk = new ArrayList<>();
+        private int pageIssueCount;
+        private int attemptIssueCount;
+        
+        private StreamingIssueProcessor(QueryRun run, Optional<JiraResponseTemplate> template,
+                                        JiraSyncHistory syncHistory) {
+            this.run = run;
+            this.template = template;
+            this.syncHistory = syncHistory;
+        }
+        
+        /** 新しいページの読み込み開始 */
+        private void startPage() {
+            pageIssueCount = 0;
+        }
+        
+        /** 同一ページの読み込み試行開始（リトライ時は処理済みのイシューを読み飛ばす） */
+        private void startAttempt() {
+            attemptIssueCount = 0;
+        }
+        
+        @Override
+        public void accept(JsonNode issue) {
+            if (attemptIssueCount++ < pageIssueCount) {
+                return;
+            }
+            pageIssueCount++;
+            chunk.add(issue);
+            if (chunk.size() >= Math.max(streamingChunkSize, 1)) {
+                flush();
+            }
+        }
+        
+        /** 溜まっているイシューを処理 */
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<JsonNode> issues = chunk;
+            chunk = new ArrayList<>();
+            run.failedIssues += processIssueBatch(issues, requireTemplate(template, run.query), syncHistory);
+        }
+        
+        private int getPageIssueCount() {
+            return pageIssueCount;
+        }
+    }
+    
+    /**
+     * イシュー処理に使用するレスポンステンプレートを取得
+     * 
+     * @param template クエリ開始時に取得したレスポンステンプレート
+     * @param query 実行中のJQLクエリ
+     * @return レスポンステンプレート
+     * @throws IllegalStateException テンプレートが見つからない場合
+     */
+    private JiraResponseTemplate requireTemplate(Optional<JiraResponseTemplate> template, JiraJqlQuery query) {
+        return template.orElseThrow(() -> new IllegalStateException("レスポンステンプレートが見つかりません: " + query.getTemplateId()));
+    }
+    
+    /**
+     * ページ送り幅を決定
+     * 
+     * JIRAが実際に適用したmaxResultsを優先し、未設定の場合は要求したページサイズを使用する。
+     * 
+     * @param response 先頭ページの検索結果
+     * @return ページ送り幅（0の場合は単一ページとして扱う）
+     */
+    private int resolvePageStep(JiraIssueSearchResponse response) {
+        if (response.getMaxResults() != null && response.getMaxResults() > 0) {
+            return response.getMaxResults();
+        }
+        return Math.max(pageSize, 0);
+    }
+    
+    /**
+     * 指定位置以降に未取得のページが残っているかを判定
+     * 
+     * @param response 直近の検索結果（総件数の参照用）
+     * @param nextStartAt 次に取得する開始位置
+     * @param pageStep ページ送り幅
+     * @return 未取得のページがある場合true
+     */
+    private boolean hasMorePages(JiraIssueSearchResponse response, int nextStartAt, int pageStep) {
+        return pageStep > 0 && response.getTotal() != null && nextStartAt < response.getTotal();
+    }
+    
+    /**
+     * 先読みしたページの取得完了を待機
+     * 
+     * 先読みスレッドで発生した例外は呼び出し元の例外処理に委ねるため、原因例外をそのまま再スローする。
+     * 
+     * @param prefetchedPage 先読み中のページ
+     * @return JIRA検索結果
+     * @throws InterruptedException 待機中に割り込みが発生した場合
+     */
+    private JiraIssueSearchResponse awaitPrefetchedPage(Future<JiraIssueSearchResponse> prefetchedPage) throws InterruptedException {
+        try {
+            return prefetchedPage.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
-        } while (response.getStartAt() + batchSize < response.getTotal());
+            throw new JiraSyncException("ページの先読みに失敗: " + e.getCause().getMessage(), e.getCause());
+        }
     }
     
     /**
-     * 個別JIRAイシューの処理
+     * 個別JIRAイシューの変換
      * 
-     * JIRAイシューを共通フォーマットJSONに変換し、
-     * コンフリクト解決を経てプロジェクトエンティティとして保存する。
+     * JIRAイシューを共通フォーマットJSONに変換する。
+     * プロジェクトへの反映はバッチ単位で {@link #processIssueBatch} が行う。
+     * 変換結果のペイロード詳細は、内容に変更があり反映対象となったイシューについてのみ
+     * {@link JiraSyncDomainService#applyProjectChangesInBatch} が同期履歴に記録する。
      * 
      * @param issue 処理対象のJIRAイシュー（JsonNode）
      * @param template 変換用レスポンステンプレート
      * @param syncHistory 同期履歴エンティティ
-     * @return 処理結果の同期履歴詳細
+     * @return 共通フォーマットJSONツリー（変換に失敗した場合null）
      */
-    private void processJiraIssue(JsonNode issue, JiraResponseTemplate template, JiraSyncHistory syncHistory) {
+    private JsonNode transformJiraIssue(JsonNode issue, JiraResponseTemplate template, JiraSyncHistory syncHistory) {
         String issueKey = issue.has("key") ? issue.get("key").asText() : "unknown";
         
         try {
-            // JIRAイシューをJSON文字列に変換
-            String jiraResponseJson = objectMapper.writeValueAsString(issue);
-            
-            // Velocityテンプレートで共通フォーマットJSONに変換
-            String commonFormatJson = jsonTransformService.transformResponse(
-                jiraResponseJson, 
-                template.getTemplateName()
-            );
-            
-            syncHistory.addDetail("Convert Response by Velocity Template", DetailStatus.SUCCESS, commonFormatJson);
+            // Velocityテンプレートで共通フォーマットJSONに変換（JsonNodeのまま受け渡し、文字列往復を行わない）
+            JsonNode commonFormat = jsonTransformService.transformToTree(issue, template);
             log.debug("イシュー {} を共通フォーマットJSONに変換完了", issueKey);
-            
-            // プロジェクト情報を反映
-            jiraSyncDomainService.applyProjectChanges(commonFormatJson, syncHistory);
+            return commonFormat;
         } catch (JsonTransformException e) {
             log.error("JSON変換エラー: issueKey={} - {}", issueKey, e.getMessage(), e);
 
             // エラー詳細を同期履歴に追加
             syncHistory.addDetail("SYNC_ERROR", DetailStatus.ERROR, "JSON変換エラー: " + e.getMessage());
-        } catch (JsonProcessingException e) {
-            log.error("JIRAレスポンスのシリアライゼーションエラー: issueKey={} - {}", issueKey, e.getMessage(), e);
-
-            // エラー詳細を同期履歴に追加
-            syncHistory.addDetail("SYNC_ERROR", DetailStatus.ERROR, "JIRAレスポンス変換エラー: " + e.getMessage());
         } catch (Exception e) {
             log.error("イシュー処理中に予期しないエラーが発生: issueKey={} - {}", issueKey, e.getMessage(), e);
 
             // エラー詳細を同期履歴に追加
             syncHistory.addDetail("SYNC_ERROR", DetailStatus.ERROR, "イシュー処理エラー: " + e.getMessage());
         }
+        return null;
     }
     
     /**
@@ -332,16 +818,38 @@ public class JiraSyncApplicationService {
      * REQ-8.1, REQ-8.2, REQ-8.3に対応した包括的なリトライロジック：
      * - タイムアウトエラー: 30秒間隔で最大3回リトライ
      * - ネットワークエラー: エクスポネンシャルバックオフでリトライ
-     * - レート制限エラー: APIヘッダーから取得した時間だけ待機してリトライ
+     * - レート制限エラー: 短い待機は共有トークンバケット（JiraRateLimiter）が送信前に行い、
+     *   最大待機時間を超える場合や429応答はリトライせずに再スローし、呼び出し元がRetry-Afterの秒数だけクエリを延期する
      * - 認証エラー: リトライしない（即座に管理者通知）
      * 
      * @param query 実行するJQLクエリエンティティ
+     * @param jql 実行するJQL式
+     * @param startAt 取得開始位置
+     * @param projection JIRAに要求する項目
      * @return JIRA検索結果
      * @throws JiraAuthenticationException 認証エラーの場合（REQ-8.4）
      * @throws JiraRateLimitException レート制限エラーの場合（REQ-8.3）
      * @throws JiraSyncException その他のエラーの場合
      */
-    private JiraIssueSearchResponse executeJqlQueryWithRetry(JiraJqlQuery query, Integer startAt) {
+    private JiraIssueSearchResponse executeJqlQueryWithRetry(JiraJqlQuery query, String jql, Integer startAt,
+                                                             JiraSearchProjection projection) {
+        return executeJqlQueryWithRetry(query, () -> jiraClient.searchIssues(
+            jql, 
+            pageSize, // maxResults
+            startAt,  // startAt
+            projection
+        ));
+    }
+    
+    /**
+     * リトライ機能付きJIRA検索の実行
+     * 
+     * @param query 実行するJQLクエリエンティティ（ログ・通知用）
+     * @param search JIRA検索処理
+     * @return JIRA検索結果
+     * @see #executeJqlQueryWithRetry(JiraJqlQuery, String, Integer, JiraSearchProjection)
+     */
+    private JiraIssueSearchResponse executeJqlQueryWithRetry(JiraJqlQuery query, Supplier<JiraIssueSearchResponse> search) {
         return jiraSyncRetryTemplate.execute(new RetryCallback<JiraIssueSearchResponse, RuntimeException>() {
             @Override
             public JiraIssueSearchResponse doWithRetry(RetryContext context) throws RuntimeException {
@@ -351,16 +859,12 @@ public class JiraSyncApplicationService {
                 
                 try {
                     // 基本的なJQLクエリ実行
-                    return jiraClient.searchIssues(
-                        query.getJqlExpression(), 
-                        50, // maxResults
-                        startAt   // startAt
-                    );
+                    return search.get();
                     
                 } catch (JiraRateLimitException e) {
-                    // REQ-8.3: レート制限エラーの特別処理
+                    // REQ-8.3: レート制限エラーはリトライせず、クエリの延期に委ねる
                     handleRateLimitError(e, query, attemptCount);
-                    throw e; // 再スローしてリトライ処理に委ねる
+                    throw e;
                     
                 } catch (JiraAuthenticationException e) {
                     // REQ-8.4: 認証エラーはリトライしない
@@ -387,6 +891,11 @@ public class JiraSyncApplicationService {
                 Throwable lastException = context.getLastThrowable();
                 int attemptCount = context.getRetryCount();
                 
+                // レート制限はリトライせず、呼び出し元でクエリを延期する（リトライ失敗として通知しない）
+                if (lastException instanceof JiraRateLimitException) {
+                    throw (JiraRateLimitException) lastException;
+                }
+                
                 log.error("JQLクエリの全リトライが失敗: {} (試行回数: {})", 
                          query.getQueryName(), attemptCount);
                 
@@ -410,27 +919,16 @@ public class JiraSyncApplicationService {
     /**
      * レート制限エラーの処理
      * 
-     * JIRA APIから取得したRetry-Afterヘッダーの値に基づいて
-     * 適切な待機時間を設定する（REQ-8.3）。
+     * 429レスポンスのRetry-Afterはトークンバケットに反映済みで、待機はクエリの延期（再スケジュール）で行うため、
+     * ここでは呼び出しスレッドを停止させずに記録のみ行う（REQ-8.3）。
      * 
      * @param rateLimitException レート制限例外
      * @param query 実行中のJQLクエリ
      * @param attemptCount 現在の試行回数
      */
     private void handleRateLimitError(JiraRateLimitException rateLimitException, JiraJqlQuery query, int attemptCount) {
-        long waitTimeSeconds = rateLimitException.getRetryAfterSeconds();
-        
-        log.warn("JIRA APIレート制限発生: {} 秒待機後にリトライ (クエリ: {}, 試行: {}/{})",
-                waitTimeSeconds, query.getQueryName(), attemptCount, RetryConfiguration.MAX_ATTEMPTS);
-        
-        try {
-            // APIが指定した時間だけ待機
-            Thread.sleep(rateLimitException.getRetryAfterMillis());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("レート制限待機中に割り込み発生: {}", query.getQueryName());
-            throw new JiraSyncException("レート制限待機中断: " + e.getMessage(), e);
-        }
+        log.warn("JIRA APIレート制限発生: クエリを {} 秒後に再開 (クエリ: {}, 試行: {}/{})",
+                rateLimitException.getRetryAfterSeconds(), query.getQueryName(), attemptCount, RetryConfiguration.MAX_ATTEMPTS);
     }
     
     /**
@@ -443,12 +941,13 @@ public class JiraSyncApplicationService {
      * @param template レスポンステンプレート
      * @param syncHistory 同期履歴
      * @param query JQLクエリ（ログ出力用）
-     * @return 処理結果の同期履歴詳細リスト
+     * @return 処理に失敗したイシュー数
      */
-    private void processBatchedIssues(List<JsonNode> issues, JiraResponseTemplate template, 
+    private int processBatchedIssues(List<JsonNode> issues, JiraResponseTemplate template, 
                                                         JiraSyncHistory syncHistory, JiraJqlQuery query) {
         int totalIssues = issues.size();
         int processedCount = 0;
+        int failedCount = 0;
         
         log.info("バッチ処理開始: {} 件のイシューを {} 件ずつ処理 (クエリ: {})", 
                 totalIssues, batchSize, query.getQueryName());
@@ -459,7 +958,7 @@ public class JiraSyncApplicationService {
             List<JsonNode> batch = issues.subList(i, endIndex);
             
             // バッチ処理実行
-            processIssueBatch(batch, template, syncHistory);
+            failedCount += processIssueBatch(batch, template, syncHistory);
             
             processedCount += batch.size();
             
@@ -477,28 +976,66 @@ public class JiraSyncApplicationService {
         }
         
         log.info("バッチ処理完了: {} 件のイシューを処理 (クエリ: {})", totalIssues, query.getQueryName());
+        return failedCount;
     }
     
     /**
      * 単一バッチのイシュー処理
      * 
+     * バッチ内のイシューを変換した後、プロジェクトへの反映をまとめて行う。
+     * 既存プロジェクトの検索と保存はバッチ単位の一括処理となり、イシューごとの往復を行わない。
+     * 
      * @param batch 処理対象のバッチ
      * @param template レスポンステンプレート
      * @param syncHistory 同期履歴
-     * @return バッチ処理結果の同期履歴詳細リスト
+     * @return 処理に失敗したイシュー数
      */
-    @Transactional
-    private void processIssueBatch(List<JsonNode> batch, JiraResponseTemplate template, 
+    private int processIssueBatch(List<JsonNode> batch, JiraResponseTemplate template, 
                                                      JiraSyncHistory syncHistory) {
+        int failedCount = 0;
+        List<JsonNode> commonFormats = new ArrayList<>(batch.size());
         for (JsonNode issue : batch) {
-            try {
-                processJiraIssue(issue, template, syncHistory);
-            } catch (Exception e) {
-                String issueKey = issue.has("key") ? issue.get("key").asText() : "unknown";
-                log.error("バッチ内イシュー処理エラー: issueKey={} - {}", issueKey, e.getMessage(), e);
-                syncHistory.addDetail("Sync Error", DetailStatus.ERROR, String.format("バッチ処理エラー [%s]: %s", issueKey, e.getMessage()));
+            JsonNode commonFormat = transformJiraIssue(issue, template, syncHistory);
+            if (commonFormat != null) {
+                commonFormats.add(commonFormat);
+            } else {
+                failedCount++;
             }
         }
+        
+        if (commonFormats.isEmpty()) {
+            return failedCount;
+        }
+        
+        try {
+            failedCount += jiraSyncDomainService.applyProjectChangesInBatch(commonFormats, syncHistory);
+        } catch (Exception e) {
+            failedCount += commonFormats.size();
+            log.error("バッチ内プロジェクト反映エラー: {} 件 - {}", commonFormats.size(), e.getMessage(), e);
+            syncHistory.addDetail("Sync Error", DetailStatus.ERROR, String.format("バッチ処理エラー [%d件]: %s", commonFormats.size(), e.getMessage()));
+        }
+        flushHistoryDetailsIfNeeded(syncHistory);
+        return failedCount;
+    }
+    
+    /**
+     * 未保存の詳細履歴が閾値に達していれば追記保存
+     * 
+     * 同期終了時の保存で全詳細履歴を書き込まずに済むよう、実行中に新規分のみを書き出す。
+     * 書き出しに失敗した詳細履歴は未保存のまま残り、同期終了時の保存で再度書き込まれる。
+     * 
+     * @param syncHistory 同期履歴
+     */
+    private void flushHistoryDetailsIfNeeded(JiraSyncHistory syncHistory) {
+        if (detailFlushSize <= 0 || syncHistory.getUnpersistedDetailCount() < detailFlushSize) {
+            return;
+        }
+        try {
+            int flushed = syncHistoryRepository.appendDetails(syncHistory);
+            log.debug("同期履歴詳細を追記保存: {} 件", flushed);
+        } catch (Exception e) {
+            log.warn("同期履歴詳細の追記保存に失敗しました。同期終了時に再試行します - {}", e.getMessage());
+        }
     }
     
     /**
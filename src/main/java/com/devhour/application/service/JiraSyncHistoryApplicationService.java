@@ -8,8 +8,10 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.devhour.domain.model.entity.JiraSyncHistory;
+import com.devhour.domain.model.entity.JiraSyncHistoryDetail;
 import com.devhour.domain.model.valueobject.JiraSyncStatus;
 import com.devhour.domain.repository.JiraSyncHistoryRepository;
+import com.devhour.presentation.dto.response.JiraSyncHistoryDetailPageResponse;
 import com.devhour.presentation.dto.response.JiraSyncHistoryDetailResponse;
 import com.devhour.presentation.dto.response.JiraSyncHistoryResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
  * 責務:
  * - ページネーション対応の同期履歴検索 (getSyncHistory)
  * - 詳細情報取得による同期実行状況分析 (getSyncHistoryDetails)
+ * - 詳細履歴のカーソル方式ページ取得 (getSyncHistoryDetailPage)
  * - 日付範囲フィルタによる期間別分析 (REQ-6.3)
  * - 実行中同期の監視機能 (getRecentSyncStatus)
  * 
@@ -159,6 +162,45 @@ public class JiraSyncHistoryApplicationService {
         }
     }
     
+    /**
+     * 特定同期の詳細履歴をカーソル指定でページ取得 (REQ-6.2)
+     * 
+     * 詳細件数の多い同期実行でも、シーケンス番号をカーソルとして一定件数ずつ取得する。
+     * 次ページの有無を判定するため、ページサイズより1件多く読み込む。
+     * 
+     * @param syncId 同期履歴ID（UUID文字列）
+     * @param cursor 前ページの最後のシーケンス番号（nullの場合は先頭から）
+     * @param size ページサイズ
+     * @return 同期履歴詳細ページレスポンス
+     * @throws IllegalArgumentException syncIdに対応する同期履歴が見つからない場合、またはパラメータが不正な場合
+     */
+    @Transactional(readOnly = true)
+    public JiraSyncHistoryDetailPageResponse getSyncHistoryDetailPage(String syncId, Integer cursor, int size) {
+        log.info("同期履歴詳細ページを取得: syncId={}, cursor={}, size={}", syncId, cursor, size);
+        
+        if (syncId == null || syncId.trim().isEmpty()) {
+            throw new IllegalArgumentException("同期履歴IDは必須です");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("ページサイズは1以上である必要があります");
+        }
+        if (!syncHistoryRepository.existsById(syncId)) {
+            throw new IllegalArgumentException("同期履歴が見つかりません: " + syncId);
+        }
+        
+        List<JiraSyncHistoryDetail> details = syncHistoryRepository.findDetailsPage(syncId, cursor, size + 1);
+        boolean hasNext = details.size() > size;
+        List<JiraSyncHistoryDetail> page = hasNext ? details.subList(0, size) : details;
+        Integer nextCursor = hasNext ? page.get(page.size() - 1).getSeq() : null;
+        
+        List<JiraSyncHistoryDetailResponse.SyncDetailItem> items = page.stream()
+            .map(JiraSyncHistoryDetailResponse.SyncDetailItem::new)
+            .collect(Collectors.toList());
+        
+        log.info("同期履歴詳細ページ取得完了: syncId={}, detailsCount={}, hasNext={}", syncId, items.size(), hasNext);
+        return new JiraSyncHistoryDetailPageResponse(syncId, items, nextCursor, hasNext, size);
+    }
+    
     /**
      * 最近の同期ステータス取得
      * 
@@ -7,9 +7,12 @@ import com.devhour.domain.model.entity.JiraResponseTemplate;
 import com.devhour.domain.repository.JiraResponseTemplateRepository;
 import com.devhour.domain.service.DataMappingDomainService.CommonFormatProject;
 import com.devhour.infrastructure.velocity.VelocityTemplateProcessor;
+import com.devhour.infrastructure.velocity.VelocityTemplateProcessor.TemplateContext;
 import com.devhour.infrastructure.velocity.VelocityTemplateProcessor.ValidationResult;
 import com.devhour.infrastructure.velocity.VelocityTemplateProcessor.VelocityTemplateException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -21,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
  * 
  * 主な機能:
  * - JIRA APIレスポンスの変換処理（REQ-5.3対応）
+ * - JsonNodeのまま変換するツリー変換処理（同期処理での文字列往復の回避）
  * - レスポンステンプレート管理（REQ-5.2対応）
  * - テンプレート検証機能（REQ-5.4対応）
  * - エラーハンドリングとトランザクション管理
@@ -35,6 +39,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JsonTransformService {
     
+    /** 共通フォーマットテンプレートのキャッシュキー（カスタムテンプレートのIDと衝突しない値） */
+    static final String COMMON_FORMAT_TEMPLATE_ID = "__common_format__";
+    
     private final VelocityTemplateProcessor velocityTemplateProcessor;
     private final JiraResponseTemplateRepository responseTemplateRepository;
     private final ObjectMapper objectMapper;
@@ -75,11 +82,13 @@ public class JsonTransformService {
                 .orElseThrow(() -> new JsonTransformException("Template not found: " + templateName));
 
             // テンプレートが存在する場合のみVelocity処理を実行
-            String commonFieldJsonString = velocityTemplateProcessor.transformResponse(jiraResponse, CommonFormatProject.COMMON_FORMAT_VM_TEMPLATE);
+            // 解析済みテンプレートはテンプレートIDと内容でキャッシュされ、イシューごとの再解析を行わない
+            String commonFieldJsonString = velocityTemplateProcessor.transformResponse(
+                jiraResponse, COMMON_FORMAT_TEMPLATE_ID, CommonFormatProject.COMMON_FORMAT_VM_TEMPLATE);
 
             // VelocityTemplateProcessorを使用して変換実行
             String customFieldJsonString = velocityTemplateProcessor.transformResponse(
-                jiraResponse, customFieldTemplate.getVelocityTemplate());
+                jiraResponse, customFieldTemplate.getId(), customFieldTemplate.getVelocityTemplate());
 
             // 共通フィールドとカスタムフィールドをマージ
             String transformedJson = mergeJsonFields(commonFieldJsonString, customFieldJsonString);
@@ -98,6 +107,44 @@ public class JsonTransformService {
         }
     }
     
+    /**
+     * JIRAイシューを共通フォーマットJSONツリーに変換
+     * 
+     * {@link #transformResponse(String, String)} と同じ変換をJsonNodeのまま行う。
+     * イシューの文字列化・再解析、マージ時のMap往復を行わず、Velocityコンテキストはイシューごとに1回だけ作成する。
+     * テンプレートは呼び出し元で取得済みのエンティティを使用する（イシューごとのテンプレート検索を行わない）。
+     * 
+     * @param jiraIssue JIRAイシュー（JsonNode）
+     * @param template 変換に使用するレスポンステンプレート
+     * @return 共通フィールドにcustomFieldsをマージした共通フォーマットJSONツリー
+     * @throws JsonTransformException 変換処理でエラーが発生した場合
+     */
+    public JsonNode transformToTree(JsonNode jiraIssue, JiraResponseTemplate template) {
+        if (jiraIssue == null || jiraIssue.isNull() || jiraIssue.isMissingNode()) {
+            throw new JsonTransformException("JIRA response cannot be null or empty");
+        }
+        if (template == null) {
+            throw new JsonTransformException("Response template cannot be null");
+        }
+        
+        try {
+            // イシューからのコンテキスト作成（JsonNode→Map変換）は1回だけ行い、両テンプレートの変換で共有する
+            TemplateContext context = velocityTemplateProcessor.createContext(jiraIssue);
+            
+            JsonNode commonFields = velocityTemplateProcessor.transformToTree(
+                context, COMMON_FORMAT_TEMPLATE_ID, CommonFormatProject.COMMON_FORMAT_VM_TEMPLATE);
+            
+            JsonNode customFields = velocityTemplateProcessor.transformToTree(
+                context, template.getId(), template.getVelocityTemplate());
+            
+            return mergeJsonFields(commonFields, customFields);
+            
+        } catch (VelocityTemplateException e) {
+            log.error("Velocity template processing failed for template '{}': {}", template.getTemplateName(), e.getMessage(), e);
+            throw new JsonTransformException("Failed to transform JIRA response with template: " + template.getTemplateName(), e);
+        }
+    }
+    
     /**
      * 新規レスポンステンプレートを作成
      * 
@@ -178,6 +225,9 @@ public class JsonTransformService {
             // データベースに保存
             JiraResponseTemplate updatedTemplate = responseTemplateRepository.save(existingTemplate);
             
+            // 解析済みテンプレートのキャッシュを破棄
+            velocityTemplateProcessor.evictTemplate(updatedTemplate.getId());
+            
             log.info("Response template updated successfully: {} (ID: {})", templateName, updatedTemplate.getId());
             
             return updatedTemplate;
@@ -296,6 +346,23 @@ public class JsonTransformService {
         }
     }
 
+    /**
+     * 共通フィールドとカスタムフィールドのJSONツリーをマージ
+     *
+     * @param commonFields 共通フィールドのJSONツリー
+     * @param customFields カスタムフィールドのJSONツリー
+     * @return customFieldsを追加した共通フィールドのJSONツリー
+     * @throws JsonTransformException いずれかがJSONオブジェクトでない場合
+     */
+    private ObjectNode mergeJsonFields(JsonNode commonFields, JsonNode customFields) {
+        if (!(commonFields instanceof ObjectNode merged) || !customFields.isObject()) {
+            throw new JsonTransformException("Failed to merge common and custom fields: transformed result is not a JSON object");
+        }
+        
+        merged.set("customFields", customFields);
+        return merged;
+    }
+
     /**
      * JSON変換処理における例外クラス
      *
@@ -0,0 +1,93 @@
+package com.devhour.application.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.devhour.application.dto.MonthlyWorkCalendar;
+import com.devhour.domain.util.TtlCache;
+
+/**
+ * 月次工数カレンダーのキャッシュ
+ * 
+ * カレンダー表示のたびに月全体の工数記録・承認情報を読み込むことを避けるため、
+ * (ユーザーID, 年月) 単位で集約済みのカレンダーを保持する
+ * 
+ * 仕様:
+ * - 工数記録の保存・削除、承認・差し戻しの際に該当月のエントリを破棄する
+ * - トランザクション中の破棄はコミット後にも再度破棄し、コミット前の状態が再キャッシュされることを防ぐ
+ * - 読み込み中に破棄が発生した場合は読み込んだ結果をキャッシュしない
+ * - 上記以外の経路での更新に備え、エントリはTTL経過後に失効する
+ * - 最大件数を超える場合は失効済みエントリ、次いで最も早く失効するエントリから削除する
+ */
+@Component
+public class MonthlyWorkCalendarCache {
+    
+    private final TtlCache<CalendarKey, MonthlyWorkCalendar> calendars;
+    
+    public MonthlyWorkCalendarCache(
+            @Value("${work-record.calendar-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${work-record.calendar-cache.max-size:10000}") int maxSize) {
+        this(Duration.ofSeconds(ttlSeconds), maxSize, Clock.systemUTC());
+    }
+    
+    MonthlyWorkCalendarCache(Duration ttl, int maxSize, Clock clock) {
+        this.calendars = new TtlCache<>("月次工数カレンダー", ttl, maxSize, clock);
+    }
+    
+    /**
+     * キャッシュ済みのカレンダーを取得し、存在しない場合は読み込んでキャッシュ
+     * 
+     * @param userId ユーザーID
+     * @param yearMonth 年月
+     * @param loader キャッシュにない場合のカレンダー読み込み処理
+     * @return 月次工数カレンダー
+     */
+    public MonthlyWorkCalendar get(String userId, YearMonth yearMonth, Supplier<MonthlyWorkCalendar> loader) {
+        return calendars.get(new CalendarKey(userId, yearMonth), loader);
+    }
+    
+    /**
+     * 指定日を含む月のカレンダーを破棄
+     * 
+     * @param userId ユーザーID
+     * @param date 変更された日付
+     */
+    public void invalidate(String userId, LocalDate date) {
+        if (userId == null || date == null) {
+            return;
+        }
+        
+        CalendarKey key = new CalendarKey(userId, YearMonth.from(date));
+        calendars.invalidate(key);
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    calendars.invalidate(key);
+                }
+            });
+        }
+    }
+    
+    /**
+     * キャッシュ件数を取得
+     * 
+     * @return キャッシュ件数
+     */
+    public int size() {
+        return calendars.size();
+    }
+    
+    /**
+     * キャッシュキー
+     */
+    private record CalendarKey(String userId, YearMonth yearMonth) {
+    }
+}
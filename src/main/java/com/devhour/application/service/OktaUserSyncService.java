@@ -4,11 +4,13 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.devhour.domain.event.UserChangedEvent;
 import com.devhour.domain.model.entity.User;
 import com.devhour.domain.repository.UserRepository;
 
@@ -22,6 +24,7 @@ import com.devhour.domain.repository.UserRepository;
  * - 新規Oktaユーザーの作成
  * - 既存ユーザーの情報更新
  * - 既存メールアドレスユーザーとのリンク
+ * - ユーザー保存時のユーザー変更通知（UserChangedEvent）
  */
 @Service
 @Transactional
@@ -31,9 +34,12 @@ public class OktaUserSyncService {
     private static final Logger logger = LoggerFactory.getLogger(OktaUserSyncService.class);
     
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
     
-    public OktaUserSyncService(UserRepository userRepository) {
+    public OktaUserSyncService(UserRepository userRepository,
+                               ApplicationEventPublisher applicationEventPublisher) {
         this.userRepository = userRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
     
     /**
@@ -129,15 +135,40 @@ public class OktaUserSyncService {
     
     /**
      * 既存Oktaユーザーの情報を更新する
+     * 
+     * メールアドレス・氏名に変更がない場合は保存を行わない
+     * 
+     * @throws IllegalStateException 無効化されたユーザーの場合（変更がない場合も同様）
      */
     private User updateExistingOktaUser(User existingUser, OktaUserInfo oktaUserInfo) {
+        // 変更なしの判定より先に行い、無効化されたユーザーを内部ユーザーとして返さない
+        if (!existingUser.isActive()) {
+            throw new IllegalStateException("無効化されたユーザーは更新できません");
+        }
+        
+        if (isUnchanged(existingUser, oktaUserInfo)) {
+            logger.debug("Oktaユーザー情報に変更がないため更新をスキップ: userId={}", existingUser.getId());
+            return existingUser;
+        }
+        
         existingUser.updateFromOkta(oktaUserInfo.getEmail(), oktaUserInfo.getFullName());
         User savedUser = userRepository.save(existingUser);
+        applicationEventPublisher.publishEvent(new UserChangedEvent(existingUser.getId()));
         
         logger.info("既存Oktaユーザーを更新: userId={}", savedUser.getId());
         return savedUser;
     }
     
+    /**
+     * 既存ユーザーのメールアドレス・氏名がOktaの情報と一致するかを判定
+     * 
+     * User.updateFromOktaと同じ正規化（前後空白除去・メールアドレスの小文字化）を行って比較する
+     */
+    private boolean isUnchanged(User existingUser, OktaUserInfo oktaUserInfo) {
+        return oktaUserInfo.getEmail().trim().toLowerCase().equals(existingUser.getEmail())
+            && oktaUserInfo.getFullName().trim().equals(existingUser.getFullName());
+    }
+    
     /**
      * 既存ユーザーをOktaとリンクする
      */
@@ -145,6 +176,7 @@ public class OktaUserSyncService {
         existingUser.linkToOkta(oktaUserInfo.getOktaUserId());
         existingUser.updateFromOkta(oktaUserInfo.getEmail(), oktaUserInfo.getFullName());
         User savedUser = userRepository.save(existingUser);
+        applicationEventPublisher.publishEvent(new UserChangedEvent(existingUser.getId()));
         
         logger.info("既存ユーザーをOktaとリンク: userId={}, oktaUserId={}", 
                    savedUser.getId(), oktaUserInfo.getOktaUserId());
@@ -163,6 +195,7 @@ public class OktaUserSyncService {
         );
         
         User savedUser = userRepository.save(newUser);
+        applicationEventPublisher.publishEvent(new UserChangedEvent(newUser.getId()));
         
         logger.info("新規Oktaユーザーを作成: userId={}, email={}, oktaUserId={}", 
                    savedUser.getId(), savedUser.getEmail(), savedUser.getOktaUserId());
@@ -4,8 +4,10 @@ import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.devhour.domain.event.UserChangedEvent;
 import com.devhour.domain.exception.EntityNotFoundException;
 import com.devhour.domain.model.entity.User;
 import com.devhour.domain.repository.UserRepository;
@@ -30,9 +32,12 @@ public class UserApplicationService {
     private static final Logger logger = LoggerFactory.getLogger(UserApplicationService.class);
     
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
     
-    public UserApplicationService(UserRepository userRepository) {
+    public UserApplicationService(UserRepository userRepository,
+                                  ApplicationEventPublisher applicationEventPublisher) {
         this.userRepository = userRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
     
     /**
@@ -58,7 +63,7 @@ public class UserApplicationService {
         // ユーザー作成 (Okta認証使用のためパスワードは不要)
         User user = User.create(username, email, fullName);
         User savedUser = userRepository.save(user);
-        
+        applicationEventPublisher.publishEvent(new UserChangedEvent(user.getId()));
         
         return savedUser;
     }
@@ -85,6 +90,7 @@ public class UserApplicationService {
         
         user.updateUserInfo(email, fullName);
         User savedUser = userRepository.save(user);
+        applicationEventPublisher.publishEvent(new UserChangedEvent(userId));
         
         return savedUser;
     }
@@ -103,6 +109,7 @@ public class UserApplicationService {
         
         user.activate();
         User savedUser = userRepository.save(user);
+        applicationEventPublisher.publishEvent(new UserChangedEvent(userId));
         
         return savedUser;
     }
@@ -120,6 +127,7 @@ public class UserApplicationService {
         
         user.deactivate();
         User savedUser = userRepository.save(user);
+        applicationEventPublisher.publishEvent(new UserChangedEvent(userId));
         
         return savedUser;
     }
@@ -138,6 +146,7 @@ public class UserApplicationService {
         // 論理削除として無効化
         user.deactivate();
         userRepository.save(user);
+        applicationEventPublisher.publishEvent(new UserChangedEvent(userId));
     }
     
     // === 検索・取得メソッド ===
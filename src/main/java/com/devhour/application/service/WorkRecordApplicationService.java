@@ -4,15 +4,20 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.devhour.application.dto.MonthlyWorkCalendar;
 import com.devhour.domain.exception.EntityNotFoundException;
 import com.devhour.domain.exception.InvalidParameterException;
 import com.devhour.domain.model.entity.Project;
@@ -53,19 +58,22 @@ public class WorkRecordApplicationService {
     private final ProjectRepository projectRepository;
     private final CategoryHoursValidationService categoryHoursValidationService;
     private final WorkRecordStatusService workRecordStatusService;
+    private final MonthlyWorkCalendarCache monthlyWorkCalendarCache;
     
     public WorkRecordApplicationService(WorkRecordRepository workRecordRepository,
                                         WorkRecordApprovalRepository workRecordApprovalRepository,  
                                       UserRepository userRepository,
                                       ProjectRepository projectRepository,
                                       CategoryHoursValidationService categoryHoursValidationService,
-                                      WorkRecordStatusService workRecordStatusService) {
+                                      WorkRecordStatusService workRecordStatusService,
+                                      MonthlyWorkCalendarCache monthlyWorkCalendarCache) {
         this.workRecordRepository = workRecordRepository;
         this.workRecordApprovalRepository = workRecordApprovalRepository;
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
         this.categoryHoursValidationService = categoryHoursValidationService;
         this.workRecordStatusService = workRecordStatusService;
+        this.monthlyWorkCalendarCache = monthlyWorkCalendarCache;
     }
     
     /**
@@ -119,7 +127,9 @@ public class WorkRecordApplicationService {
         workRecord.setProject(project);
 
         // 保存
-        return workRecordRepository.save(workRecord);
+        WorkRecord saved = workRecordRepository.save(workRecord);
+        monthlyWorkCalendarCache.invalidate(userId, workDate);
+        return saved;
     }
     
     public void removeWorkRecords(String userId, LocalDate date , List<String> recordIds) {
@@ -135,17 +145,19 @@ public class WorkRecordApplicationService {
         // 削除
         workRecordRepository.deleteByUserIdAndDateAndRecordIds(userId, date, recordIds);
         workRecordApprovalRepository.delete(userId, date);
+        monthlyWorkCalendarCache.invalidate(userId, date);
     }
 
     /**
-     * 工数記録を作成
+     * 指定日の工数記録を一括保存
+     * 
+     * ユーザー・承認状態の検証は1回だけ行い、プロジェクトと既存記録はそれぞれ1回のクエリで解決して、
+     * 全記録を1回の一括保存で書き込む。同じプロジェクトが複数回指定された場合は最後の指定を採用する。
      * 
      * @param userId ユーザーID
-     * @param projectId プロジェクトID
-     * @param workDate 作業日
-     * @param categoryHours カテゴリ別工数
-     * @param description 作業内容・備考
-     * @return 作成された工数記録
+     * @param date 作業日
+     * @param request 保存する工数記録と削除する工数記録ID
+     * @return 保存された工数記録と承認状態
      * @throws IllegalArgumentException パラメータエラーの場合
      * @throws IllegalStateException ビジネスルール違反の場合
      */
@@ -166,18 +178,53 @@ public class WorkRecordApplicationService {
         if (workRecordApproval.isApproved()) {
             throw new IllegalStateException("承認済みの工数記録は更新できません");
         }
-        workRecordApproval.makePending();
-        workRecordApprovalRepository.save(workRecordApproval);
-
-        List<WorkRecord> results = new ArrayList<>();
-        request.getRecords().forEach(record -> {
-            String projectId = record.getProjectId();
+        
+        // ユーザー存在チェック
+        userRepository.findById(userId)
+            .orElseThrow(() -> EntityNotFoundException.userNotFound(userId));
+        
+        // プロジェクトを一括取得し、工数記録可能な状態かチェック
+        Map<String, WorkRecordSaveRequest.WorkRecordDto> recordsByProject = new LinkedHashMap<>();
+        request.getRecords().forEach(record -> recordsByProject.put(record.getProjectId(), record));
+        
+        Map<String, Project> projects = projectRepository.findByIds(recordsByProject.keySet()).stream()
+            .collect(Collectors.toMap(Project::getId, project -> project, (first, second) -> first));
+        for (String projectId : recordsByProject.keySet()) {
+            Project project = projects.get(projectId);
+            if (project == null) {
+                throw EntityNotFoundException.projectNotFound(projectId);
+            }
+            if (!project.canRecordWorkHours()) {
+                throw new IllegalStateException("プロジェクトは工数記録できない状態です: " + project.getStatus());
+            }
+        }
+        
+        // 既存の工数記録を1回のクエリで取得し、更新または新規作成
+        Map<String, WorkRecord> existingRecords = workRecordRepository.findByUserIdAndDate(userId, date).stream()
+            .collect(Collectors.toMap(WorkRecord::getProjectId, record -> record, (first, second) -> first));
+        
+        List<WorkRecord> results = new ArrayList<>(recordsByProject.size());
+        recordsByProject.forEach((projectId, record) -> {
             CategoryHours categoryHours = record.getCategoryHours();
-            String description = record.getDescription();
-
-            // 工数記録を保存
-            results.add(saveWorkRecord(userId, projectId, date, categoryHours, description, userId));
+            categoryHoursValidationService.validate(categoryHours);
+            
+            WorkRecord workRecord = existingRecords.get(projectId);
+            if (workRecord != null) {
+                // 承認状態チェックは日次承認レベルで管理されるため、ここでは期間チェックのみ
+                workRecord.updateWorkRecord(categoryHours, record.getDescription(), userId);
+            } else {
+                workRecord = WorkRecord.create(userId, projectId, date, categoryHours, record.getDescription(), userId);
+            }
+            workRecord.setProject(projects.get(projectId));
+            results.add(workRecord);
         });
+        
+        workRecordApproval.makePending();
+        workRecordApprovalRepository.save(workRecordApproval);
+        
+        // 工数記録を一括保存
+        workRecordRepository.saveAll(results);
+        monthlyWorkCalendarCache.invalidate(userId, date);
 
         return WorkRecordsResponse.builder()
             .workRecords(results)
@@ -253,6 +300,9 @@ public class WorkRecordApplicationService {
      * 指定期間の開発者の工数を日別・プロジェクト別・カテゴリ別で集計
      * 開発者ダッシュボードで使用
      * 
+     * 工数記録は1回の走査で固定小数点（long）に積算し、
+     * プロジェクト名は1回のクエリでまとめて取得する
+     * 
      * @param userId 開発者のユーザーID
      * @param startDate 集計開始日
      * @param endDate 集計終了日
@@ -271,31 +321,40 @@ public class WorkRecordApplicationService {
             return createEmptySummary(userId, user.getFullName(), startDate, endDate);
         }
         
-        // 総工数計算
-        BigDecimal totalHours = calculateTotalHours(workRecords);
+        // プロジェクト名を一括取得
+        Map<String, String> projectNames = findProjectNames(workRecords);
+        
+        // 総工数・プロジェクト別・カテゴリ別・日別を1回の走査で集計
+        HoursAccumulator total = new HoursAccumulator();
+        Map<String, HoursAccumulator> projectTotals = new LinkedHashMap<>();
+        Map<String, HoursAccumulator> categoryTotals = new LinkedHashMap<>();
+        Map<LocalDate, HoursAccumulator> dailyTotals = new LinkedHashMap<>();
+        
+        for (WorkRecord record : workRecords) {
+            HoursAccumulator recordTotal = new HoursAccumulator();
+            record.getCategoryHours().hours().forEach((categoryCode, hours) -> {
+                recordTotal.add(hours);
+                categoryTotals.computeIfAbsent(categoryCode.value(), key -> new HoursAccumulator()).add(hours);
+            });
+            
+            String projectName = projectNames.getOrDefault(record.getProjectId(), "Unknown Project");
+            total.add(recordTotal);
+            projectTotals.computeIfAbsent(projectName, key -> new HoursAccumulator()).add(recordTotal);
+            dailyTotals.computeIfAbsent(record.getWorkDate(), key -> new HoursAccumulator()).add(recordTotal);
+        }
+        
+        BigDecimal totalHours = total.toBigDecimal();
         
         // 稼働日数計算（工数記録がある日の数）
-        int totalDays = (int) workRecords.stream()
-            .map(WorkRecord::getWorkDate)
-            .distinct()
-            .count();
+        int totalDays = dailyTotals.size();
             
         // 日平均工数計算
         BigDecimal averageHoursPerDay = totalDays > 0 
             ? totalHours.divide(BigDecimal.valueOf(totalDays), 2, RoundingMode.HALF_UP)
             : BigDecimal.ZERO;
-            
-        // プロジェクト別集計
-        Map<String, BigDecimal> projectHours = calculateProjectHours(workRecords);
-        
-        // カテゴリ別集計
-        Map<String, BigDecimal> categoryHours = calculateCategoryHours(workRecords);
         
-        // 日別集計
-        Map<LocalDate, BigDecimal> dailyHours = calculateDailyHours(workRecords);
-        
-        // 週別集計
-        List<WorkHoursSummaryResponse.WeeklySummary> weeklySummaries = calculateWeeklySummaries(workRecords, startDate, endDate);
+        // 週別集計（日別集計から算出）
+        List<WorkHoursSummaryResponse.WeeklySummary> weeklySummaries = calculateWeeklySummaries(dailyTotals, startDate, endDate);
         
         return new WorkHoursSummaryResponse(
             userId,
@@ -305,9 +364,9 @@ public class WorkRecordApplicationService {
             totalHours,
             totalDays,
             averageHoursPerDay,
-            projectHours,
-            categoryHours,
-            dailyHours,
+            toHoursMap(projectTotals),
+            toHoursMap(categoryTotals),
+            toHoursMap(dailyTotals),
             weeklySummaries
         );
     }
@@ -329,97 +388,80 @@ public class WorkRecordApplicationService {
         );
     }
     
-    private BigDecimal calculateTotalHours(List<WorkRecord> workRecords) {
-        return workRecords.stream()
-            .map(record -> record.getCategoryHours().getTotalHours())
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private Map<String, String> findProjectNames(List<WorkRecord> workRecords) {
+        Set<String> projectIds = workRecords.stream()
+            .map(WorkRecord::getProjectId)
+            .collect(Collectors.toSet());
+        
+        return projectRepository.findByIds(projectIds).stream()
+            .collect(Collectors.toMap(Project::getId, Project::getName, (first, second) -> first));
     }
     
-    private Map<String, BigDecimal> calculateProjectHours(List<WorkRecord> workRecords) {
-        Map<String, BigDecimal> projectHoursMap = new LinkedHashMap<>();
-        
-        for (WorkRecord record : workRecords) {
-            // プロジェクト情報を取得
-            Optional<Project> project = projectRepository.findById(record.getProjectId());
-            String projectName = project.map(Project::getName).orElse("Unknown Project");
-            
-            BigDecimal hours = record.getCategoryHours().getTotalHours();
-            projectHoursMap.merge(projectName, hours, BigDecimal::add);
-        }
-        
-        return projectHoursMap;
+    private static <K> Map<K, BigDecimal> toHoursMap(Map<K, HoursAccumulator> totals) {
+        Map<K, BigDecimal> hoursMap = new LinkedHashMap<>();
+        totals.forEach((key, accumulator) -> hoursMap.put(key, accumulator.toBigDecimal()));
+        return hoursMap;
     }
     
-    private Map<String, BigDecimal> calculateCategoryHours(List<WorkRecord> workRecords) {
-        Map<String, BigDecimal> categoryHoursMap = new LinkedHashMap<>();
+    private List<WorkHoursSummaryResponse.WeeklySummary> calculateWeeklySummaries(
+            Map<LocalDate, HoursAccumulator> dailyTotals, LocalDate startDate, LocalDate endDate) {
         
-        for (WorkRecord record : workRecords) {
-            CategoryHours categoryHours = record.getCategoryHours();
-            categoryHours.hours().forEach((categoryCode, hours) -> {
-                categoryHoursMap.merge(categoryCode.value(), hours, BigDecimal::add);
-            });
-        }
+        // 週の開始日（月曜日）ごとに日別集計をまとめる
+        Map<LocalDate, HoursAccumulator> weeklyTotals = new TreeMap<>();
+        Map<LocalDate, Integer> weeklyWorkingDays = new HashMap<>();
         
-        return categoryHoursMap;
-    }
-    
-    private Map<LocalDate, BigDecimal> calculateDailyHours(List<WorkRecord> workRecords) {
-        return workRecords.stream()
-            .collect(Collectors.groupingBy(
-                WorkRecord::getWorkDate,
-                LinkedHashMap::new,
-                Collectors.reducing(
-                    BigDecimal.ZERO,
-                    record -> record.getCategoryHours().getTotalHours(),
-                    BigDecimal::add
-                )
+        dailyTotals.forEach((workDate, dailyTotal) -> {
+            if (workDate.isBefore(startDate) || workDate.isAfter(endDate)) {
+                return;
+            }
+            LocalDate weekStart = workDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            weeklyTotals.computeIfAbsent(weekStart, key -> new HoursAccumulator()).add(dailyTotal);
+            weeklyWorkingDays.merge(weekStart, 1, Integer::sum);
+        });
+        
+        List<WorkHoursSummaryResponse.WeeklySummary> weeklySummaries = new ArrayList<>(weeklyTotals.size());
+        weeklyTotals.forEach((weekStart, weeklyTotal) -> {
+            BigDecimal weeklyHours = weeklyTotal.toBigDecimal();
+            int workingDays = weeklyWorkingDays.get(weekStart);
+            BigDecimal weeklyAverage = weeklyHours.divide(BigDecimal.valueOf(workingDays), 2, RoundingMode.HALF_UP);
+                
+            weeklySummaries.add(new WorkHoursSummaryResponse.WeeklySummary(
+                weekStart,
+                weekStart.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)),
+                weeklyHours,
+                workingDays,
+                weeklyAverage
             ));
+        });
+        
+        return weeklySummaries;
     }
     
-    private List<WorkHoursSummaryResponse.WeeklySummary> calculateWeeklySummaries(
-            List<WorkRecord> workRecords, LocalDate startDate, LocalDate endDate) {
+    /**
+     * 工数の積算器
+     * 
+     * 工数を小数点以下4桁の固定小数点（long）で積算し、BigDecimalの生成を結果の変換時のみに抑える。
+     * 結果の小数点以下桁数は入力値の最大桁数に合わせる（BigDecimal#addと同じ）。
+     */
+    private static final class HoursAccumulator {
+        private static final int SCALE = 4;
         
-        List<WorkHoursSummaryResponse.WeeklySummary> weeklySummaries = new ArrayList<>();
+        private long units;
+        private int scale;
         
-        // 週の開始日（月曜日）を取得
-        LocalDate weekStart = startDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        void add(BigDecimal hours) {
+            units += hours.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            scale = Math.max(scale, Math.min(hours.scale(), SCALE));
+        }
         
-        while (!weekStart.isAfter(endDate)) {
-            final LocalDate finalWeekStart = weekStart;
-            final LocalDate weekEnd = weekStart.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
-            
-            // この週の工数記録を抽出
-            List<WorkRecord> weeklyRecords = workRecords.stream()
-                .filter(record -> {
-                    LocalDate workDate = record.getWorkDate();
-                    return !workDate.isBefore(finalWeekStart) && !workDate.isAfter(weekEnd) &&
-                           !workDate.isBefore(startDate) && !workDate.isAfter(endDate);
-                })
-                .collect(Collectors.toList());
-            
-            if (!weeklyRecords.isEmpty()) {
-                BigDecimal weeklyTotal = calculateTotalHours(weeklyRecords);
-                int workingDays = (int) weeklyRecords.stream()
-                    .map(WorkRecord::getWorkDate)
-                    .distinct()
-                    .count();
-                BigDecimal weeklyAverage = workingDays > 0 
-                    ? weeklyTotal.divide(BigDecimal.valueOf(workingDays), 2, RoundingMode.HALF_UP)
-                    : BigDecimal.ZERO;
-                    
-                weeklySummaries.add(new WorkHoursSummaryResponse.WeeklySummary(
-                    finalWeekStart,
-                    weekEnd,
-                    weeklyTotal,
-                    workingDays,
-                    weeklyAverage
-                ));
-            }
-            
-            weekStart = weekStart.plusWeeks(1);
+        void add(HoursAccumulator other) {
+            units += other.units;
+            scale = Math.max(scale, other.scale);
         }
         
-        return weeklySummaries;
+        BigDecimal toBigDecimal() {
+            return BigDecimal.valueOf(units, SCALE).setScale(scale, RoundingMode.HALF_UP);
+        }
     }
 
     /**
@@ -433,32 +475,7 @@ public class WorkRecordApplicationService {
      */
     @Transactional(readOnly = true)
     public List<LocalDate> getMissingDatesForMonth(String userId, int year, int month) {
-        // パラメータ検証
-        if (userId == null || userId.trim().isEmpty()) {
-            throw new InvalidParameterException("ユーザーIDは必須です");
-        }
-        
-        // LocalDateで日付の妥当性をチェック
-        LocalDate startDate;
-        try {
-            startDate = LocalDate.of(year, month, 1);
-        } catch (Exception e) {
-            throw new InvalidParameterException("無効な年月が指定されました: " + year + "年" + month + "月", e);
-        }
-        
-        // 日付の期間制限（3ヶ月以内）
-        LocalDate now = LocalDate.now();
-        LocalDate threeMonthsAgo = now.minusMonths(3);
-        
-        if (startDate.isBefore(threeMonthsAgo.withDayOfMonth(1)) || startDate.isAfter(now.withDayOfMonth(1))) {
-            throw new InvalidParameterException("指定された月は過去3ヶ月以内から当月までの範囲で入力してください");
-        }
-
-        // 指定月の終了日を計算
-        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-        
-        // WorkRecordStatusServiceを使用して未入力日を取得
-        return workRecordStatusService.findMissingDates(userId, startDate, endDate);
+        return getMonthlyWorkCalendar(userId, year, month).getMissingDates();
     }
     
     /**
@@ -471,29 +488,50 @@ public class WorkRecordApplicationService {
      */
     @Transactional(readOnly = true)
     public Map<LocalDate, DateStatusResponse.DateStatus> getDateStatusesForMonth(String userId, int year, int month) {
+        return getMonthlyWorkCalendar(userId, year, month).getDateStatuses();
+    }
+    
+    /**
+     * 指定された月の工数カレンダーを取得
+     * 
+     * 日付ステータス・未入力日・月合計を (ユーザーID, 年月) 単位でキャッシュから提供する
+     * 
+     * @param userId ユーザーID
+     * @param year 年
+     * @param month 月（1-12）
+     * @return 月次工数カレンダー
+     * @throws InvalidParameterException パラメータが不正な場合
+     */
+    @Transactional(readOnly = true)
+    public MonthlyWorkCalendar getMonthlyWorkCalendar(String userId, int year, int month) {
         // パラメータ検証
         if (userId == null || userId.trim().isEmpty()) {
             throw new InvalidParameterException("ユーザーIDは必須です");
         }
         
-        // LocalDateで日付の妥当性をチェック
-        LocalDate startDate;
+        // YearMonthで年月の妥当性をチェック
+        YearMonth yearMonth;
         try {
-            startDate = LocalDate.of(year, month, 1);
+            yearMonth = YearMonth.of(year, month);
         } catch (Exception e) {
             throw new InvalidParameterException("無効な年月が指定されました: " + year + "年" + month + "月", e);
         }
         
         // 日付の期間制限（3ヶ月以内）
-        LocalDate now = LocalDate.now();
-        LocalDate threeMonthsAgo = now.minusMonths(3);
-        
-        if (startDate.isBefore(threeMonthsAgo.withDayOfMonth(1)) || startDate.isAfter(now.withDayOfMonth(1))) {
+        YearMonth currentMonth = YearMonth.now();
+        if (yearMonth.isBefore(currentMonth.minusMonths(3)) || yearMonth.isAfter(currentMonth)) {
             throw new InvalidParameterException("指定された月は過去3ヶ月以内から当月までの範囲で入力してください");
         }
-
-        // 指定月の終了日を計算
-        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
+        
+        return monthlyWorkCalendarCache.get(userId, yearMonth, () -> loadMonthlyWorkCalendar(userId, yearMonth));
+    }
+    
+    /**
+     * 月の工数記録・承認情報を読み込み、1回の走査で日別に集約
+     */
+    private MonthlyWorkCalendar loadMonthlyWorkCalendar(String userId, YearMonth yearMonth) {
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.atEndOfMonth();
         
         // 指定期間の全ての工数記録を取得
         List<WorkRecord> workRecords = workRecordRepository.findByUserIdAndDateRange(userId, startDate, endDate);
@@ -503,36 +541,36 @@ public class WorkRecordApplicationService {
         Map<LocalDate, WorkRecordApproval> approvalMap = approvals.stream()
             .collect(Collectors.toMap(WorkRecordApproval::getWorkDate, approval -> approval));
         
-        Map<LocalDate, DateStatusResponse.DateStatus> result = new LinkedHashMap<>();
+        // 日別の工数合計を1回の走査で集計
+        Map<LocalDate, BigDecimal> dailyHours = new HashMap<>();
+        for (WorkRecord record : workRecords) {
+            CategoryHours categoryHours = record.getCategoryHours();
+            BigDecimal hours = categoryHours != null ? categoryHours.getTotalHours() : BigDecimal.ZERO;
+            dailyHours.merge(record.getWorkDate(), hours, BigDecimal::add);
+        }
+        
+        Map<LocalDate, DateStatusResponse.DateStatus> dateStatuses = new LinkedHashMap<>();
+        BigDecimal totalHours = BigDecimal.ZERO;
         
         // 月の各日をループ
         for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            final LocalDate currentDate = date;
+            BigDecimal hours = dailyHours.get(date);
             
-            // その日の工数記録があるかチェック
-            List<WorkRecord> dayRecords = workRecords.stream()
-                .filter(record -> record.getWorkDate().equals(currentDate))
-                .collect(Collectors.toList());
-            
-            if (dayRecords.isEmpty()) {
+            if (hours == null) {
                 // 工数記録がない場合
-                result.put(currentDate, DateStatusResponse.DateStatus.empty());
+                dateStatuses.put(date, DateStatusResponse.DateStatus.empty());
             } else {
                 // 工数記録がある場合
-                double totalHours = dayRecords.stream()
-                    .mapToDouble(record -> {
-                        CategoryHours categoryHours = record.getCategoryHours();
-                        return categoryHours != null ? categoryHours.getTotalHours().doubleValue() : 0.0;
-                    })
-                    .sum();
-                
-                WorkRecordApproval approval = approvalMap.get(currentDate);
+                WorkRecordApproval approval = approvalMap.get(date);
                 ApprovalStatus approvalStatus = approval != null ? approval.getApprovalStatus() : ApprovalStatus.NOT_ENTERED;
                 
-                result.put(currentDate, DateStatusResponse.DateStatus.withRecord(approvalStatus, totalHours));
+                dateStatuses.put(date, DateStatusResponse.DateStatus.withRecord(approvalStatus, hours.doubleValue()));
+                totalHours = totalHours.add(hours);
             }
         }
         
-        return result;
+        List<LocalDate> missingDates = workRecordStatusService.findMissingDates(startDate, endDate, dailyHours.keySet());
+        
+        return new MonthlyWorkCalendar(userId, yearMonth, dateStatuses, missingDates, totalHours, dailyHours.size());
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.devhour.config;
 
+import java.time.Duration;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -8,18 +9,23 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 import com.devhour.domain.exception.JiraAuthenticationException;
 import com.devhour.domain.exception.JiraRateLimitException;
+import com.devhour.infrastructure.jira.JiraRateLimiter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * JIRA API通信用のRestTemplate設定クラス
  *
  * JIRA API専用のRestTemplateを構成し、タイムアウト設定、
- * 接続プール設定、エラーハンドラーを適用する。
+ * 接続プール設定、エラーハンドラー、クライアント側レート制限を適用する。
  *
  * jira.integration.enabled=true の場合のみ有効化される
  */
@@ -30,15 +36,31 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JiraClientConfiguration {
 
+    /**
+     * JIRA API呼び出しで共有するレート制限用トークンバケットを作成
+     *
+     * @param jiraConfiguration JIRA設定
+     * @return トークンバケット
+     */
+    @Bean
+    public JiraRateLimiter jiraRateLimiter(JiraConfiguration jiraConfiguration) {
+        JiraConfiguration.RateLimitConfig rateLimit = jiraConfiguration.getRateLimit();
+        log.info("JIRA APIレート制限設定: enabled={}, requestsPerSecond={}, burst={}, maxWaitMs={}",
+                rateLimit.isEnabled(), rateLimit.getRequestsPerSecond(), rateLimit.getBurst(), rateLimit.getMaxWaitMs());
+        return new JiraRateLimiter(rateLimit.getRequestsPerSecond(), rateLimit.getBurst(),
+                Duration.ofMillis(rateLimit.getMaxWaitMs()));
+    }
+    
     /**
      * JIRA API通信専用のRestTemplateを作成
      *
      * @param jiraConfiguration JIRA設定
+     * @param jiraRateLimiter JIRA API呼び出しで共有するトークンバケット
      * @return 設定済みのRestTemplate
      */
     @Bean
     @Qualifier("jiraRestTemplate")
-    public RestTemplate jiraRestTemplate(JiraConfiguration jiraConfiguration) {
+    public RestTemplate jiraRestTemplate(JiraConfiguration jiraConfiguration, JiraRateLimiter jiraRateLimiter) {
         log.info("JIRA RestTemplate設定開始");
         
         RestTemplate restTemplate = new RestTemplate();
@@ -47,6 +69,11 @@ public class JiraClientConfiguration {
         HttpComponentsClientHttpRequestFactory factory = createHttpRequestFactory(jiraConfiguration);
         restTemplate.setRequestFactory(factory);
         
+        // クライアント側レート制限（全JIRA API呼び出しで共有）
+        if (jiraConfiguration.getRateLimit().isEnabled()) {
+            restTemplate.getInterceptors().add(new JiraRateLimitInterceptor(jiraRateLimiter));
+        }
+        
         // エラーハンドラーの設定
         restTemplate.setErrorHandler(new JiraResponseErrorHandler());
         
@@ -86,6 +113,30 @@ public class JiraClientConfiguration {
         return factory;
     }
     
+    /**
+     * JIRA API呼び出しのレート制限インターセプター
+     * 
+     * 送信前にトークンバケットから許可を取得し、レスポンスのレート制限ヘッダーをトークンバケットに反映する。
+     * レスポンスボディには触れないため、ストリーミング読み込みにも影響しない。
+     */
+    public static class JiraRateLimitInterceptor implements ClientHttpRequestInterceptor {
+        
+        private final JiraRateLimiter rateLimiter;
+        
+        public JiraRateLimitInterceptor(JiraRateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+        }
+        
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+                throws java.io.IOException {
+            rateLimiter.acquire();
+            ClientHttpResponse response = execution.execute(request, body);
+            rateLimiter.onResponse(response.getStatusCode(), response.getHeaders());
+            return response;
+        }
+    }
+    
     /**
      * JIRA API専用のレスポンスエラーハンドラー
      * 
@@ -52,6 +52,12 @@ public class JiraConfiguration {
     @Valid
     private AuthConfig auth = new AuthConfig();
     
+    /**
+     * クライアント側レート制限設定
+     */
+    @Valid
+    private RateLimitConfig rateLimit = new RateLimitConfig();
+    
     /**
      * タイムアウト設定の内部クラス
      */
@@ -88,6 +94,39 @@ public class JiraConfiguration {
         private double backoffMultiplier = 2.0;
     }
     
+    /**
+     * クライアント側レート制限設定の内部クラス
+     * 
+     * JIRA APIへのリクエストをトークンバケットで平準化する。
+     * JIRAがX-RateLimit-*ヘッダーを返す場合は、その値に合わせて補充レートと容量を調整する。
+     */
+    @Data
+    public static class RateLimitConfig {
+        /**
+         * クライアント側レート制限を有効にするか
+         */
+        private boolean enabled = true;
+        
+        /**
+         * 初期の補充レート（リクエスト/秒）
+         */
+        @DecimalMin(value = "0.1", message = "補充レートは0.1以上である必要があります")
+        private double requestsPerSecond = 10.0;
+        
+        /**
+         * バケット容量（連続して送信できるリクエスト数）
+         */
+        @Min(value = 1, message = "バケット容量は1以上である必要があります")
+        private int burst = 10;
+        
+        /**
+         * 送信前に呼び出しスレッドを待機させる最大時間（ミリ秒）
+         * 超える場合は待機せずにレート制限エラーとし、リトライのバックオフに委ねる
+         */
+        @Min(value = 0, message = "最大待機時間は0以上である必要があります")
+        private long maxWaitMs = 2000;
+    }
+    
     /**
      * 認証設定の内部クラス
      *
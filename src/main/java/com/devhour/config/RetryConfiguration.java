@@ -12,6 +12,7 @@ import org.springframework.retry.policy.SimpleRetryPolicy;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
+import com.devhour.domain.exception.JiraRateLimitException;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -23,7 +24,7 @@ import lombok.extern.slf4j.Slf4j;
  * REQ-8.1, REQ-8.2, REQ-8.3に対応:
  * - タイムアウトエラーのリトライ（30秒間隔、最大3回）
  * - ネットワークエラーのエクスポネンシャルバックオフ
- * - レート制限に対する適応的待機
+ * - レート制限はリトライ対象外（待機はJIRA同期処理のクエリ延期で行い、試行回数に含めない）
  */
 @Configuration
 @EnableRetry
@@ -63,7 +64,10 @@ public class RetryConfiguration {
                 TimeoutException.class, true,
                 
                 // HTTP 5xxサーバーエラー（一時的な問題と判断）
-                HttpServerErrorException.class, true
+                HttpServerErrorException.class, true,
+                
+                // レート制限（REQ-8.3）: バックオフで待機せず、呼び出し元がRetry-Afterの秒数だけクエリを延期する
+                JiraRateLimitException.class, false
             );
         
         SimpleRetryPolicy retryPolicy = new SimpleRetryPolicy(MAX_ATTEMPTS, retryableExceptions);
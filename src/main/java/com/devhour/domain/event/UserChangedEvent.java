@@ -0,0 +1,12 @@
+package com.devhour.domain.event;
+
+/**
+ * ユーザー変更通知
+ * 
+ * ユーザー情報の更新・有効化・無効化時にアプリケーション内で通知するイベント
+ * 認証済みユーザーをキャッシュしている箇所で該当ユーザーを破棄するために使用
+ * 
+ * @param userId 変更されたユーザーのID
+ */
+public record UserChangedEvent(String userId) {
+}
@@ -1,8 +1,14 @@
 package com.devhour.domain.model.entity;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * JQLクエリエンティティ
@@ -14,9 +20,16 @@ import java.util.UUID;
  * - 実行優先度の制御
  * - アクティブ状態の管理
  * - テンプレート関連付けの管理
+ * - 差分同期用の同期済み日時（ハイウォーターマーク）の管理
  */
 public class JiraJqlQuery {
     
+    /** JQLの日時リテラル形式（JIRAユーザーのタイムゾーンで解釈される） */
+    private static final DateTimeFormatter JQL_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm");
+    
+    /** JQL末尾のORDER BY句 */
+    private static final Pattern ORDER_BY_CLAUSE = Pattern.compile("(?i)\\s*\\bORDER\\s+BY\\b");
+    
     private String id;
     private String queryName;
     private String jqlExpression;
@@ -27,6 +40,7 @@ public class JiraJqlQuery {
     private LocalDateTime updatedAt;
     private String createdBy;
     private String updatedBy;
+    private Instant lastSyncedAt;
     
     private JiraJqlQuery() {
         // MyBatisのマッピング用に必要
@@ -213,6 +227,8 @@ public class JiraJqlQuery {
     /**
      * JQL式を更新
      * 
+     * JQL式が変わった場合は同期済み日時をリセットし、次回の同期で新しい条件に一致する全イシューを取得する。
+     * 
      * @param newJqlExpression 新しいJQL式
      * @param updatedBy 更新者ID
      * @throws IllegalArgumentException パラメータエラーの場合
@@ -224,7 +240,11 @@ public class JiraJqlQuery {
         
         validateUpdatedBy(updatedBy);
         
-        this.jqlExpression = newJqlExpression.trim();
+        String trimmedJqlExpression = newJqlExpression.trim();
+        if (!trimmedJqlExpression.equals(this.jqlExpression)) {
+            this.lastSyncedAt = null;
+        }
+        this.jqlExpression = trimmedJqlExpression;
         this.updatedBy = updatedBy.trim();
         this.updatedAt = LocalDateTime.now();
     }
@@ -232,6 +252,8 @@ public class JiraJqlQuery {
     /**
      * テンプレートIDを更新
      * 
+     * テンプレートが変わった場合は同期済み日時をリセットし、次回の同期で全イシューを新しいテンプレートで再変換する。
+     * 
      * @param newTemplateId 新しいテンプレートID
      * @param updatedBy 更新者ID
      * @throws IllegalArgumentException パラメータエラーの場合
@@ -243,11 +265,103 @@ public class JiraJqlQuery {
         
         validateUpdatedBy(updatedBy);
         
-        this.templateId = newTemplateId.trim();
+        String trimmedTemplateId = newTemplateId.trim();
+        if (!trimmedTemplateId.equals(this.templateId)) {
+            this.lastSyncedAt = null;
+        }
+        this.templateId = trimmedTemplateId;
         this.updatedBy = updatedBy.trim();
         this.updatedAt = LocalDateTime.now();
     }
     
+    /**
+     * 差分同期用のJQL式を生成
+     * 
+     * 同期済み日時が記録されている場合、元のJQL式を「updated >= 同期済み日時 - overlap」で絞り込む。
+     * JQLの日時リテラルはタイムゾーンを持たずJIRAユーザーのタイムゾーンで解釈されるため、
+     * 同期済み日時（UTCの時点）を指定タイムゾーンの日時に変換して埋め込む。
+     * ORDER BY句は絞り込み条件の後ろに維持する（引用符で囲まれた文字列リテラル内のORDER BYは対象外）。
+     * 未同期の場合は元のJQL式をそのまま返す。
+     * 
+     * @param overlap 時刻ずれ・同期中の更新を取りこぼさないための重複期間
+     * @param jiraTimeZone JIRAがJQLの日時を解釈するタイムゾーン
+     * @return 差分同期用のJQL式
+     * @throws IllegalArgumentException 同期済みでjiraTimeZoneがnullの場合
+     */
+    public String buildIncrementalJql(Duration overlap, ZoneId jiraTimeZone) {
+        if (lastSyncedAt == null) {
+            return jqlExpression;
+        }
+        if (jiraTimeZone == null) {
+            throw new IllegalArgumentException("JIRAのタイムゾーンは必須です");
+        }
+        
+        Instant since = overlap != null ? lastSyncedAt.minus(overlap) : lastSyncedAt;
+        String filter = jqlExpression;
+        String orderBy = "";
+        
+        Matcher matcher = ORDER_BY_CLAUSE.matcher(maskQuotedLiterals(jqlExpression));
+        int orderByStart = -1;
+        while (matcher.find()) {
+            orderByStart = matcher.start();
+        }
+        if (orderByStart >= 0) {
+            filter = jqlExpression.substring(0, orderByStart).trim();
+            orderBy = " " + jqlExpression.substring(orderByStart).trim();
+        }
+        
+        String updatedCondition = String.format("updated >= \"%s\"", since.atZone(jiraTimeZone).format(JQL_DATE_TIME_FORMAT));
+        if (filter.isEmpty()) {
+            return updatedCondition + orderBy;
+        }
+        return String.format("(%s) AND %s%s", filter, updatedCondition, orderBy);
+    }
+    
+    /**
+     * 引用符で囲まれた文字列リテラルの中身を空白に置き換える
+     * 
+     * 文字位置は維持するため、置き換え後の文字列で検索した位置を元のJQL式にそのまま適用できる。
+     * JQLの文字列リテラルはダブルクォート・シングルクォートで囲み、バックスラッシュでエスケープする。
+     */
+    private static String maskQuotedLiterals(String jql) {
+        StringBuilder masked = new StringBuilder(jql);
+        char quote = 0;
+        for (int i = 0; i < masked.length(); i++) {
+            char c = masked.charAt(i);
+            if (quote == 0) {
+                if (c == '"' || c == '\'') {
+                    quote = c;
+                }
+            } else if (c == '\\') {
+                masked.setCharAt(i, ' ');
+                if (i + 1 < masked.length()) {
+                    masked.setCharAt(++i, ' ');
+                }
+            } else if (c == quote) {
+                quote = 0;
+            } else {
+                masked.setCharAt(i, ' ');
+            }
+        }
+        return masked.toString();
+    }
+    
+    /**
+     * 同期済み日時を記録
+     * 
+     * クエリの全件処理が成功した場合に、同期開始時点を記録する。
+     * 同期状態の更新であり、クエリ定義の更新日時・更新者は変更しない。
+     * 
+     * @param syncedAt 同期開始時点
+     * @throws IllegalArgumentException syncedAtがnullの場合
+     */
+    public void markSynced(Instant syncedAt) {
+        if (syncedAt == null) {
+            throw new IllegalArgumentException("同期済み日時は必須です");
+        }
+        this.lastSyncedAt = syncedAt;
+    }
+    
     /**
      * 指定されたJQLクエリより高い優先度を持つかチェック
      * 
@@ -272,6 +386,7 @@ public class JiraJqlQuery {
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public String getCreatedBy() { return createdBy; }
     public String getUpdatedBy() { return updatedBy; }
+    public Instant getLastSyncedAt() { return lastSyncedAt; }
     
     // MyBatis専用セッター（パッケージプライベート）
     // ドメインロジックからは使用しない
@@ -285,6 +400,7 @@ public class JiraJqlQuery {
     void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
     void setCreatedBy(String createdBy) { this.createdBy = createdBy; }
     void setUpdatedBy(String updatedBy) { this.updatedBy = updatedBy; }
+    void setLastSyncedAt(Instant lastSyncedAt) { this.lastSyncedAt = lastSyncedAt; }
     
     /**
      * 等価性の判定（IDベース）
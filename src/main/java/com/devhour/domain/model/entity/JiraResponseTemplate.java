@@ -3,6 +3,7 @@ package com.devhour.domain.model.entity;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
+import com.devhour.domain.model.valueobject.JiraSearchProjection;
 
 /**
  * レスポンステンプレートエンティティ
@@ -14,6 +15,7 @@ import java.util.UUID;
  * - Velocityテンプレート情報の管理
  * - テンプレート構文の検証
  * - フィールド参照の検出
+ * - JIRA検索で取得する項目の導出
  * - テンプレートの更新管理
  */
 public class JiraResponseTemplate {
@@ -214,6 +216,15 @@ public class JiraResponseTemplate {
         return this.velocityTemplate.contains(fieldName);
     }
     
+    /**
+     * テンプレートが参照する項目からJIRA検索の取得指定を導出
+     * 
+     * @return このテンプレートが参照するfields / expandのみの取得指定
+     */
+    public JiraSearchProjection deriveSearchProjection() {
+        return JiraSearchProjection.fromVelocityTemplate(this.velocityTemplate);
+    }
+    
     // ゲッター
     public String getId() { return id; }
     public String getTemplateName() { return templateName; }
@@ -4,10 +4,14 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Supplier;
 import com.devhour.domain.model.valueobject.DetailStatus;
+import com.devhour.domain.model.valueobject.JiraSyncDetailVerbosity;
 import com.devhour.domain.model.valueobject.JiraSyncStatus;
 import com.devhour.domain.model.valueobject.JiraSyncType;
 
@@ -18,7 +22,7 @@ import com.devhour.domain.model.valueobject.JiraSyncType;
  * 
  * 責務:
  * - 同期実行の開始・完了・失敗の管理
- * - 処理結果のサマリ情報管理（総数、成功数、エラー数）
+ * - 処理結果のサマリ情報管理（総数、成功数、エラー数、スキップ数）
  * - 実行時間とパフォーマンス情報の管理
  * - 詳細履歴との関連付け管理
  */
@@ -32,11 +36,27 @@ public class JiraSyncHistory {
     private Integer totalProjectsProcessed;
     private Integer successCount;
     private Integer errorCount;
+    private Integer skippedCount;
     private String errorDetails;
     private String triggeredBy;
     
     // 関連する詳細履歴のコレクション（遅延読み込み用）
     private List<JiraSyncHistoryDetail> details;
+
+    // ステータス別の詳細履歴件数（一覧取得時に詳細本体の代わりに集計値のみ読み込む）
+    private Map<DetailStatus, Long> detailStatusCounts;
+
+    // 追加後まだ永続化されていない詳細履歴（追記書き込み用）
+    private List<JiraSyncHistoryDetail> unpersistedDetails = new ArrayList<>();
+
+    // 最後に採番した詳細履歴のseqとステータス別の詳細履歴件数（永続化済みで保持しない詳細も含む）
+    private int lastDetailSeq;
+    private Map<DetailStatus, Long> recordedDetailCounts = new EnumMap<>(DetailStatus.class);
+
+    // イシューごとのペイロード詳細の記録レベル（永続化対象外の実行時設定）
+    private JiraSyncDetailVerbosity detailVerbosity = JiraSyncDetailVerbosity.FULL;
+    private int detailSampleInterval = 1;
+    private long payloadDetailCount;
     
     private JiraSyncHistory() {
         // MyBatisのマッピング用に必要
@@ -57,6 +77,7 @@ public class JiraSyncHistory {
         this.totalProjectsProcessed = 0;
         this.successCount = 0;
         this.errorCount = 0;
+        this.skippedCount = 0;
         this.errorDetails = null;
         this.triggeredBy = triggeredBy;
         this.details = new ArrayList<>();
@@ -77,6 +98,7 @@ public class JiraSyncHistory {
         this.totalProjectsProcessed = totalProjectsProcessed;
         this.successCount = successCount;
         this.errorCount = errorCount;
+        this.skippedCount = 0;
         this.errorDetails = errorDetails;
         this.triggeredBy = triggeredBy;
         this.details = new ArrayList<>();
@@ -217,6 +239,25 @@ public class JiraSyncHistory {
         this.errorCount++;
     }
     
+    /**
+     * 内容に変更がなくスキップしたイシュー数を加算
+     * 
+     * 複数のJQLクエリを並列実行する場合にも加算できるよう排他的に行う。
+     * 
+     * @param count 加算するスキップ数
+     * @throws IllegalArgumentException 負の値の場合
+     * @throws IllegalStateException 実行中以外の状態で呼び出された場合
+     */
+    public synchronized void addSkipped(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("スキップ数は0以上で指定してください");
+        }
+        if (!syncStatus.isInProgress()) {
+            throw new IllegalStateException("実行中ではない同期のカウントを変更することはできません");
+        }
+        this.skippedCount = (this.skippedCount != null ? this.skippedCount : 0) + count;
+    }
+    
     /**
      * 詳細履歴を追加
      * 
@@ -237,19 +278,70 @@ public class JiraSyncHistory {
         }
         
         this.details.add(detail);
+        this.unpersistedDetails.add(detail);
+        this.recordedDetailCounts.merge(detail.getStatus(), 1L, Long::sum);
     }
     
-    public void addDetail(String operation, DetailStatus status, String result) {
-        // details.size() + 1 でseqを自動計算
-        int nextSeq = (this.details != null ? this.details.size() : 0) + 1;
-
+    /**
+     * 操作結果を詳細履歴として追加
+     * 
+     * 複数のJQLクエリを並列実行する場合にも同一の同期履歴へ記録できるよう、
+     * seqの採番と追加を排他的に行う。
+     * 
+     * @param operation 実行された操作
+     * @param status 詳細ステータス
+     * @param result 結果メッセージ
+     */
+    public synchronized void addDetail(String operation, DetailStatus status, String result) {
+        // 永続化済みで手放した詳細履歴も含めて連番を採番する
         if (status == DetailStatus.SUCCESS) {
-            addDetail(JiraSyncHistoryDetail.createSuccess(this.id, nextSeq, operation, result));
+            addDetail(JiraSyncHistoryDetail.createSuccess(this.id, ++lastDetailSeq, operation, result));
         } else if (status == DetailStatus.ERROR) {
-            addDetail(JiraSyncHistoryDetail.createError(this.id, nextSeq, operation, result));
+            addDetail(JiraSyncHistoryDetail.createError(this.id, ++lastDetailSeq, operation, result));
         }
     }
 
+    /**
+     * イシューごとのペイロード詳細の記録レベルを設定
+     * 
+     * @param verbosity 記録レベル
+     * @param sampleInterval SAMPLEDの場合にペイロードを保存する間隔（n件に1件）
+     * @throws IllegalArgumentException 記録レベルがnull、またはSAMPLEDで間隔が1未満の場合
+     */
+    public synchronized void configureDetailVerbosity(JiraSyncDetailVerbosity verbosity, int sampleInterval) {
+        if (verbosity == null) {
+            throw new IllegalArgumentException("詳細記録レベルは必須です");
+        }
+        if (verbosity == JiraSyncDetailVerbosity.SAMPLED && sampleInterval < 1) {
+            throw new IllegalArgumentException("サンプリング間隔は1以上で指定してください");
+        }
+        this.detailVerbosity = verbosity;
+        this.detailSampleInterval = Math.max(sampleInterval, 1);
+    }
+    
+    /**
+     * イシューごとの処理結果をペイロード付きの成功詳細として追加
+     * 
+     * 記録レベルに応じて、ペイロードまたは概要のいずれかを結果メッセージとして記録する。
+     * ペイロードは記録する場合のみ、並列実行中の他のクエリを待たせないよう排他区間の外で生成する。
+     * 
+     * @param operation 実行された操作
+     * @param summary 概要（イシューキー、プロジェクト名など）
+     * @param payload ペイロード（共通フォーマットJSON、プロジェクト内容など）の生成関数
+     */
+    public void addPayloadDetail(String operation, String summary, Supplier<String> payload) {
+        boolean recordPayload;
+        synchronized (this) {
+            recordPayload = switch (detailVerbosity) {
+                case FULL -> true;
+                case SAMPLED -> payloadDetailCount % detailSampleInterval == 0;
+                case SUMMARY -> false;
+            };
+            payloadDetailCount++;
+        }
+        addDetail(operation, DetailStatus.SUCCESS, recordPayload ? payload.get() : summary);
+    }
+
     public void addDetail(String operation, DetailStatus status, Object result) {
         String resultJson = result != null ? result.toString() : null;
         addDetail(operation, status, resultJson);
@@ -294,10 +386,13 @@ public class JiraSyncHistory {
     /**
      * 詳細履歴のコレクションを取得
      * 
-     * @return 詳細履歴の読み取り専用リスト
+     * 並列実行中のクエリが追加を続けても安全に走査できるよう、呼び出し時点の複製を返す。
+     * 同期中に追記保存した詳細履歴はメモリに保持しないため含まれない（件数は getDetailCount で取得する）。
+     * 
+     * @return 詳細履歴の読み取り専用リスト（呼び出し時点の複製）
      */
-    public List<JiraSyncHistoryDetail> getDetails() {
-        return details != null ? Collections.unmodifiableList(details) : Collections.emptyList();
+    public synchronized List<JiraSyncHistoryDetail> getDetails() {
+        return details != null ? List.copyOf(details) : Collections.emptyList();
     }
     
     /**
@@ -305,8 +400,97 @@ public class JiraSyncHistory {
      * 
      * @param details 詳細履歴のリスト
      */
-    public void setDetails(List<JiraSyncHistoryDetail> details) {
+    public synchronized void setDetails(List<JiraSyncHistoryDetail> details) {
         this.details = details != null ? new ArrayList<>(details) : new ArrayList<>();
+        this.unpersistedDetails = new ArrayList<>();
+        this.detailStatusCounts = null;
+        this.recordedDetailCounts = new EnumMap<>(DetailStatus.class);
+        this.lastDetailSeq = 0;
+        for (JiraSyncHistoryDetail detail : this.details) {
+            recordedDetailCounts.merge(detail.getStatus(), 1L, Long::sum);
+            if (detail.getSeq() != null) {
+                lastDetailSeq = Math.max(lastDetailSeq, detail.getSeq());
+            }
+        }
+    }
+    
+    /**
+     * ステータス別の詳細履歴件数を設定（リポジトリでの集計結果の読み込み用）
+     * 
+     * @param counts ステータス別件数（集計結果に存在しないステータスは0件として扱う）
+     */
+    public synchronized void setDetailStatusCounts(Map<DetailStatus, Long> counts) {
+        this.detailStatusCounts = new EnumMap<>(DetailStatus.class);
+        if (counts != null) {
+            this.detailStatusCounts.putAll(counts);
+        }
+    }
+    
+    /**
+     * 指定ステータスの詳細履歴件数を取得
+     * 
+     * 集計値が読み込まれている場合はそれを返し、
+     * そうでない場合は追加・読み込みの際に数えた件数（追記保存済みの詳細履歴を含む）を返す。
+     * 
+     * @param status 詳細ステータス
+     * @return 詳細履歴件数
+     */
+    public synchronized long getDetailCount(DetailStatus status) {
+        if (detailStatusCounts != null) {
+            return detailStatusCounts.getOrDefault(status, 0L);
+        }
+        return recordedDetailCounts.getOrDefault(status, 0L);
+    }
+    
+    /**
+     * 未永続化の詳細履歴を取り出す
+     * 
+     * 取り出した詳細履歴は永続化済みとして扱われ、同期中のメモリ使用量を追記保存の間隔に抑えるため
+     * 保持している詳細履歴からも外す（件数とseqの採番は引き続き保持する）。
+     * 書き込みに失敗した場合は requeueUnpersistedDetails で戻す必要がある。
+     * 
+     * @return 追加順の未永続化詳細履歴（存在しない場合は空リスト）
+     */
+    public synchronized List<JiraSyncHistoryDetail> takeUnpersistedDetails() {
+        if (unpersistedDetails.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<JiraSyncHistoryDetail> taken = unpersistedDetails;
+        this.unpersistedDetails = new ArrayList<>();
+        // 未永続化の詳細履歴は常に保持リストの末尾にあるため、末尾から取り除く
+        if (details != null) {
+            details.subList(Math.max(details.size() - taken.size(), 0), details.size()).clear();
+        }
+        return taken;
+    }
+    
+    /**
+     * 書き込みに失敗した詳細履歴を未永続化として戻す
+     * 
+     * 取り出し後に追加された詳細履歴よりも前に戻し、追加順を維持する。
+     * 
+     * @param failedDetails 書き込みに失敗した詳細履歴
+     */
+    public synchronized void requeueUnpersistedDetails(List<JiraSyncHistoryDetail> failedDetails) {
+        if (failedDetails == null || failedDetails.isEmpty()) {
+            return;
+        }
+        List<JiraSyncHistoryDetail> requeued = new ArrayList<>(failedDetails);
+        requeued.addAll(unpersistedDetails);
+        if (details == null) {
+            details = new ArrayList<>();
+        }
+        details.addAll(details.size() - unpersistedDetails.size(), failedDetails);
+        this.unpersistedDetails = requeued;
+    }
+    
+    /**
+     * 未永続化の詳細履歴数を取得
+     * 
+     * @return 未永続化の詳細履歴数
+     */
+    public synchronized int getUnpersistedDetailCount() {
+        return unpersistedDetails.size();
     }
     
     // ゲッター
@@ -318,6 +502,7 @@ public class JiraSyncHistory {
     public Integer getTotalProjectsProcessed() { return totalProjectsProcessed; }
     public Integer getSuccessCount() { return successCount; }
     public Integer getErrorCount() { return errorCount; }
+    public synchronized Integer getSkippedCount() { return skippedCount; }
     public String getErrorDetails() { return errorDetails; }
     public String getTriggeredBy() { return triggeredBy; }
     
@@ -330,6 +515,7 @@ public class JiraSyncHistory {
     void setTotalProjectsProcessed(Integer totalProjectsProcessed) { this.totalProjectsProcessed = totalProjectsProcessed; }
     void setSuccessCount(Integer successCount) { this.successCount = successCount; }
     void setErrorCount(Integer errorCount) { this.errorCount = errorCount; }
+    void setSkippedCount(Integer skippedCount) { this.skippedCount = skippedCount; }
     void setErrorDetails(String errorDetails) { this.errorDetails = errorDetails; }
     void setTriggeredBy(String triggeredBy) { this.triggeredBy = triggeredBy; }
     
@@ -357,7 +543,7 @@ public class JiraSyncHistory {
      */
     @Override
     public String toString() {
-        return String.format("SyncHistory{id='%s', syncType=%s, syncStatus=%s, startedAt=%s, totalProcessed=%d, success=%d, error=%d}", 
-                           id, syncType, syncStatus, startedAt, totalProjectsProcessed, successCount, errorCount);
+        return String.format("SyncHistory{id='%s', syncType=%s, syncStatus=%s, startedAt=%s, totalProcessed=%d, success=%d, error=%d, skipped=%d}", 
+                           id, syncType, syncStatus, startedAt, totalProjectsProcessed, successCount, errorCount, skippedCount);
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
 import com.devhour.domain.model.valueobject.DetailStatus;
+import com.devhour.domain.util.CompressionUtil;
 import com.devhour.domain.util.JsonUtil;
 
 /**
@@ -26,6 +27,8 @@ public class JiraSyncHistoryDetail {
     private String operation;
     private DetailStatus status;
     private String result;
+    // 大きな結果メッセージのGZIP圧縮データ（圧縮時はresultをnullとする）
+    private byte[] compressedResult;
     private LocalDateTime processedAt;
     
     // 親の同期履歴との関連（遅延読み込み用）
@@ -151,6 +154,53 @@ public class JiraSyncHistoryDetail {
                                    status, result, processedAt);
     }
     
+    /**
+     * 保存用に結果メッセージを圧縮した詳細レコードを作成
+     * 
+     * 結果メッセージが閾値を超える場合のみ、結果をGZIP圧縮データに置き換えた複製を返す。
+     * 元の詳細レコードは変更しない。
+     * 
+     * @param thresholdChars 圧縮対象とする結果メッセージの文字数の閾値
+     * @return 圧縮した複製、圧縮不要の場合は自身
+     */
+    public JiraSyncHistoryDetail compressResultIfLargerThan(int thresholdChars) {
+        if (result == null || compressedResult != null || result.length() <= thresholdChars) {
+            return this;
+        }
+        
+        byte[] compressed = CompressionUtil.gzip(result);
+        if (compressed.length >= result.length()) {
+            return this;
+        }
+        
+        JiraSyncHistoryDetail copy = new JiraSyncHistoryDetail(id, syncHistoryId, seq, operation,
+                                                               status, null, processedAt);
+        copy.compressedResult = compressed;
+        copy.syncHistory = syncHistory;
+        return copy;
+    }
+    
+    /**
+     * 結果メッセージが圧縮されているかを判定
+     * 
+     * @return 圧縮されている場合true
+     */
+    public boolean isResultCompressed() {
+        return compressedResult != null;
+    }
+    
+    /**
+     * 圧縮を展開した結果メッセージを取得
+     * 
+     * 圧縮データは呼び出し時に初めて展開する。
+     * 一覧表示など展開が不要な用途では {@link #getResult()} を使用する。
+     * 
+     * @return 結果メッセージ
+     */
+    public String getDecompressedResult() {
+        return compressedResult != null ? CompressionUtil.gunzip(compressedResult) : result;
+    }
+    
     /**
      * 作成パラメータの検証
      */
@@ -225,6 +275,7 @@ public class JiraSyncHistoryDetail {
     public String getOperation() { return operation; }
     public DetailStatus getStatus() { return status; }
     public String getResult() { return result; }
+    public byte[] getCompressedResult() { return compressedResult; }
     public LocalDateTime getProcessedAt() { return processedAt; }
     
     // MyBatis用のpackage-privateセッター
@@ -234,6 +285,7 @@ public class JiraSyncHistoryDetail {
     void setOperation(String operation) { this.operation = operation; }
     void setStatus(DetailStatus status) { this.status = status; }
     void setResult(String result) { this.result = result; }
+    void setCompressedResult(byte[] compressedResult) { this.compressedResult = compressedResult; }
     void setProcessedAt(LocalDateTime processedAt) { this.processedAt = processedAt; }
     
     /**
@@ -42,6 +42,13 @@ public class Project {
     private String jiraIssueKey;
     private String customFields;
     
+    /**
+     * JIRA同期時に反映した共通フォーマットJSONのフィンガープリント
+     * 内容に変更のないイシューの反映を省略するために使用し、
+     * プロジェクトが変更された場合はクリアして次回同期で再反映させる
+     */
+    private String jiraSyncFingerprint;
+    
     private Project() {
         // MyBatisのマッピング用に必要
         // デフォルトコンストラクタは使用しない
@@ -266,6 +273,7 @@ public class Project {
         this.description = description != null ? description.trim() : null;
         this.startDate = startDate;
         this.plannedEndDate = plannedEndDate;
+        this.jiraSyncFingerprint = null;
         this.updatedAt = LocalDateTime.now();
     }
     
@@ -307,6 +315,7 @@ public class Project {
         }
         
         this.status = status.transitionTo(ProjectStatus.IN_PROGRESS);
+        this.jiraSyncFingerprint = null;
         this.updatedAt = LocalDateTime.now();
     }
     
@@ -334,6 +343,7 @@ public class Project {
         
         this.status = status.transitionTo(ProjectStatus.CLOSED);
         this.actualEndDate = actualEndDate;
+        this.jiraSyncFingerprint = null;
         this.updatedAt = LocalDateTime.now();
     }
     
@@ -382,6 +392,7 @@ public class Project {
         
         validateJiraIssueKey(jiraIssueKey);
         this.jiraIssueKey = jiraIssueKey.trim();
+        this.jiraSyncFingerprint = null;
         this.updatedAt = LocalDateTime.now();
     }
     
@@ -391,6 +402,7 @@ public class Project {
      */
     public void removeJiraIntegration() {
         this.jiraIssueKey = null;
+        this.jiraSyncFingerprint = null;
         this.updatedAt = LocalDateTime.now();
     }
     
@@ -442,9 +454,35 @@ public class Project {
         this.plannedEndDate = plannedEndDate;
         this.status = status;
         this.customFields = customFields;
+        this.jiraSyncFingerprint = null;
         this.updatedAt = LocalDateTime.now();
     }
     
+    /**
+     * JIRA同期で反映した内容のフィンガープリントを記録
+     * 
+     * JIRAからの作成・更新を反映した直後に呼び出す。更新日時は変更しない。
+     * 
+     * @param fingerprint 共通フォーマットJSONのフィンガープリント
+     * @throws IllegalArgumentException フィンガープリントが空の場合
+     */
+    public void recordJiraSyncFingerprint(String fingerprint) {
+        if (fingerprint == null || fingerprint.trim().isEmpty()) {
+            throw new IllegalArgumentException("フィンガープリントは必須です");
+        }
+        this.jiraSyncFingerprint = fingerprint;
+    }
+    
+    /**
+     * 前回のJIRA同期から内容が変わっていないかチェック
+     * 
+     * @param fingerprint 今回の共通フォーマットJSONのフィンガープリント
+     * @return 前回反映時と同じフィンガープリントの場合true
+     */
+    public boolean isJiraSyncUnchanged(String fingerprint) {
+        return this.jiraSyncFingerprint != null && this.jiraSyncFingerprint.equals(fingerprint);
+    }
+    
     /**
      * 他のプロジェクトと同じJIRAイシューキーを持つかチェック
      * 
@@ -487,6 +525,7 @@ public class Project {
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public String getJiraIssueKey() { return jiraIssueKey; }
     public String getCustomFields() { return customFields; }
+    public String getJiraSyncFingerprint() { return jiraSyncFingerprint; }
     
     // MyBatis用のpackage-privateセッター
     void setId(String id) { this.id = id; }
@@ -501,6 +540,7 @@ public class Project {
     void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
     void setJiraIssueKey(String jiraIssueKey) { this.jiraIssueKey = jiraIssueKey; }
     void setCustomFields(String customFields) { this.customFields = customFields; }
+    void setJiraSyncFingerprint(String jiraSyncFingerprint) { this.jiraSyncFingerprint = jiraSyncFingerprint; }
     
     /**
      * 等価性の判定（IDベース）
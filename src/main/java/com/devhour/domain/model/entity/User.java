@@ -468,6 +468,17 @@ public class User {
         return oktaUserId != null && !oktaUserId.trim().isEmpty();
     }
     
+    /**
+     * 同一内容の別インスタンスを作成
+     * キャッシュなど複数の呼び出し元で共有する箇所で、一方の変更が他方に反映されないようにするために使用
+     * 
+     * @return 複製されたUserエンティティ
+     */
+    public User copy() {
+        return new User(id, username, email, fullName,
+                       userStatus, lastLoginAt, createdAt, updatedAt, oktaUserId);
+    }
+    
     // ゲッター
     public String getId() { return id; }
     public String getUsername() { return username; }
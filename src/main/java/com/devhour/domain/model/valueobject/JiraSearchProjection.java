@@ -0,0 +1,177 @@
+package com.devhour.domain.model.valueobject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * JIRA検索の取得項目（fields / expand）を表す値オブジェクト
+ *
+ * レスポンステンプレートが参照する項目のみをJIRAに要求し、
+ * レスポンスサイズとJIRA側の処理時間を削減するために使用する。
+ *
+ * ビジネスルール:
+ * - fieldsが空の場合は最小限のフィールド（summary）のみを要求する
+ *   （JIRAはfields未指定を既定のフィールド一式として扱うため）
+ * - expandが空の場合はexpandパラメータを送らない
+ * - テンプレートから参照先を特定できない場合は全項目を要求する
+ */
+public record JiraSearchProjection(Set<String> fields, Set<String> expand) {
+
+    /**
+     * 全項目取得時のfields指定（従来の既定値）
+     */
+    private static final List<String> ALL_FIELDS = List.of("*all", "-comment", "-attachment", "-worklog");
+
+    /**
+     * 全項目取得時のexpand指定（従来の既定値）
+     */
+    private static final List<String> ALL_EXPAND = List.of("renderedFields", "names", "schema", "operations", "editmeta", "changelog");
+
+    /**
+     * fieldsが空の場合に要求するフィールド
+     */
+    private static final String MINIMUM_FIELD = "summary";
+
+    /**
+     * テンプレート内で展開項目として扱うトップレベル参照
+     */
+    private static final Set<String> EXPANDABLE_REFERENCES = Set.of(
+        "renderedFields", "names", "schema", "operations", "editmeta", "changelog", "transitions", "versionedRepresentations");
+
+    /**
+     * Velocity参照（$name, $!name, ${name}, $!{name} とそれに続くプロパティ参照）の抽出パターン
+     */
+    private static final Pattern REFERENCE_PATTERN = Pattern.compile(
+        "\\$!?\\{?([A-Za-z_][\\w-]*)((?:\\.[A-Za-z_][\\w-]*)*)(\\s*\\()?");
+
+    /**
+     * コンストラクタ - レコードの compact constructor
+     *
+     * @param fields 取得するフィールド
+     * @param expand 展開する項目
+     */
+    public JiraSearchProjection {
+        fields = fields != null ? Collections.unmodifiableSet(new LinkedHashSet<>(fields)) : Set.of();
+        expand = expand != null ? Collections.unmodifiableSet(new LinkedHashSet<>(expand)) : Set.of();
+    }
+
+    /**
+     * 全項目を取得する指定を作成（テンプレートから参照先を特定できない場合に使用）
+     *
+     * @return 全項目取得の指定
+     */
+    public static JiraSearchProjection all() {
+        return new JiraSearchProjection(new LinkedHashSet<>(ALL_FIELDS), new LinkedHashSet<>(ALL_EXPAND));
+    }
+
+    /**
+     * Velocityテンプレートが参照する項目から取得指定を導出
+     *
+     * $fields.xxx / $renderedFields.xxx / $data.fields.xxx の参照からフィールドを、
+     * $renderedFields / $names / $changelog 等の参照から展開項目を導出する。
+     * $rawData や $data の全体参照、$fields の全体参照（メソッド呼び出しや変数への代入を含む）の場合は
+     * 参照先を特定できないため全フィールドを要求する。
+     *
+     * @param velocityTemplate Velocityテンプレート文字列
+     * @return 導出した取得指定
+     */
+    public static JiraSearchProjection fromVelocityTemplate(String velocityTemplate) {
+        if (velocityTemplate == null || velocityTemplate.isBlank()) {
+            return all();
+        }
+
+        Set<String> fields = new LinkedHashSet<>();
+        Set<String> expand = new LinkedHashSet<>();
+        boolean allFields = false;
+
+        Matcher matcher = REFERENCE_PATTERN.matcher(velocityTemplate);
+        while (matcher.find()) {
+            List<String> path = new ArrayList<>();
+            path.add(matcher.group(1));
+            if (!matcher.group(2).isEmpty()) {
+                path.addAll(Arrays.asList(matcher.group(2).substring(1).split("\\.")));
+            }
+            boolean methodCall = matcher.group(3) != null;
+
+            // $data.xxx は $xxx と同じ参照として扱う
+            if (path.get(0).equals("data")) {
+                path.remove(0);
+                if (path.isEmpty()) {
+                    return all();
+                }
+            }
+            if (path.get(0).equals("rawData")) {
+                return all();
+            }
+
+            String root = path.get(0);
+            if (root.equals("fields") || root.equals("renderedFields")) {
+                if (root.equals("renderedFields")) {
+                    expand.add(root);
+                }
+                // $fields 全体、または $fields.get(...) のようなメソッド呼び出しは参照先を特定できない
+                if (path.size() == 1 || (path.size() == 2 && methodCall)) {
+                    allFields = true;
+                } else {
+                    fields.add(path.get(1));
+                }
+            } else if (EXPANDABLE_REFERENCES.contains(root)) {
+                expand.add(root);
+            }
+        }
+
+        if (allFields) {
+            fields = new LinkedHashSet<>(ALL_FIELDS);
+        }
+        return new JiraSearchProjection(fields, expand);
+    }
+
+    /**
+     * 別の取得指定と合成した取得指定を作成
+     *
+     * 同一イシューを複数のテンプレートで変換する場合に、いずれかが参照する項目をすべて要求するために使用する。
+     * どちらかが全フィールドを要求する場合は全フィールドを要求する。
+     *
+     * @param other 合成する取得指定
+     * @return 両方の項目を含む取得指定
+     */
+    public JiraSearchProjection union(JiraSearchProjection other) {
+        if (other == null) {
+            return this;
+        }
+        Set<String> unionFields;
+        if (fields.containsAll(ALL_FIELDS) || other.fields().containsAll(ALL_FIELDS)) {
+            unionFields = new LinkedHashSet<>(ALL_FIELDS);
+        } else {
+            unionFields = new LinkedHashSet<>(fields);
+            unionFields.addAll(other.fields());
+        }
+        Set<String> unionExpand = new LinkedHashSet<>(expand);
+        unionExpand.addAll(other.expand());
+        return new JiraSearchProjection(unionFields, unionExpand);
+    }
+
+    /**
+     * JIRA検索APIのfieldsパラメータ値を取得
+     *
+     * @return カンマ区切りのフィールド指定
+     */
+    public String fieldsParameter() {
+        return fields.isEmpty() ? MINIMUM_FIELD : String.join(",", fields);
+    }
+
+    /**
+     * JIRA検索APIのexpandパラメータ値を取得
+     *
+     * @return カンマ区切りの展開項目、展開不要の場合null
+     */
+    public String expandParameter() {
+        return expand.isEmpty() ? null : String.join(",", expand);
+    }
+}
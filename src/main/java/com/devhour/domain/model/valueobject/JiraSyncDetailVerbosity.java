@@ -0,0 +1,46 @@
+package com.devhour.domain.model.valueobject;
+
+/**
+ * 同期履歴詳細の記録レベル値オブジェクト
+ *
+ * JIRA同期でイシューごとに記録する詳細履歴のペイロード（共通フォーマットJSON、プロジェクト内容）を
+ * どこまで保存するかを表現する列挙型
+ * エラー詳細やクエリ単位の詳細は記録レベルに関わらず常に保存する
+ */
+public enum JiraSyncDetailVerbosity {
+
+    /**
+     * 概要のみ - ペイロードは保存せず、イシューキー等の概要のみを保存
+     */
+    SUMMARY("SUMMARY"),
+
+    /**
+     * サンプリング - 一定間隔ごとにペイロードを保存し、それ以外は概要のみを保存
+     */
+    SAMPLED("SAMPLED"),
+
+    /**
+     * 全件 - すべてのペイロードを保存
+     */
+    FULL("FULL");
+
+    private final String value;
+
+    JiraSyncDetailVerbosity(String value) {
+        this.value = value;
+    }
+
+    /**
+     * 設定値を取得
+     *
+     * @return 記録レベル値
+     */
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
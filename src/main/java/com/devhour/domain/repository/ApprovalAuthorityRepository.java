@@ -1,5 +1,6 @@
 package com.devhour.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import com.devhour.domain.model.entity.ApprovalAuthority;
@@ -63,6 +64,23 @@ public interface ApprovalAuthorityRepository {
      */
     void deleteByEmail(String email);
     
+    /**
+     * 承認権限を一括保存
+     * メールアドレスが既存の場合は更新（IDと作成日時は既存のまま）、存在しない場合は新規作成
+     * 承認権限バッチでの差分適用に使用
+     * 
+     * @param approvalAuthorities 保存対象の承認権限エンティティのリスト
+     */
+    void saveAll(List<ApprovalAuthority> approvalAuthorities);
+    
+    /**
+     * 複数のメールアドレスで承認権限を一括削除
+     * 承認権限バッチでの差分適用に使用
+     * 
+     * @param emails 削除対象のメールアドレスのコレクション
+     */
+    void deleteByEmails(Collection<String> emails);
+    
     /**
      * 役職レベルで承認権限一覧を取得
      * 特定の役職レベルの承認者の一覧表示に使用
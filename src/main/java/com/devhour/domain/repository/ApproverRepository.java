@@ -2,6 +2,7 @@ package com.devhour.domain.repository;
 
 import com.devhour.domain.model.entity.Approver;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -98,6 +99,22 @@ public interface ApproverRepository {
      */
     Map<String, Set<String>> findAllGroupedByTarget();
     
+    /**
+     * 全承認者関係を取得
+     * 承認者関係グラフの構築など、有効期間を含めて全件を扱う処理で使用
+     * 
+     * @return 承認者関係のリスト
+     */
+    List<Approver> findAll();
+    
+    /**
+     * 複数の対象者メールアドレスで承認者関係を一括検索
+     * 
+     * @param targetEmails 対象者メールアドレスのコレクション
+     * @return 承認者関係のリスト（空のコレクションの場合は空リスト）
+     */
+    List<Approver> findByTargetEmails(Collection<String> targetEmails);
+    
     
     // ===== Maintenance Operations =====
     
@@ -110,4 +127,20 @@ public interface ApproverRepository {
      */
     void deleteByTargetAndApprover(String targetEmail, String approverEmail);
     
+    /**
+     * 新規の承認者関係を一括登録
+     * 承認権限バッチでの差分適用に使用
+     * 
+     * @param approvers 登録対象の承認者関係のリスト
+     */
+    void insertAll(List<Approver> approvers);
+    
+    /**
+     * 対象者ごとの承認者の組み合わせで関係を一括削除
+     * 承認権限バッチでの差分適用に使用
+     * 
+     * @param approverEmailsByTarget キー: 対象者メールアドレス、値: 削除する承認者メールアドレスのセット
+     */
+    void deleteByTargetAndApprovers(Map<String, Set<String>> approverEmailsByTarget);
+    
 }
\ No newline at end of file
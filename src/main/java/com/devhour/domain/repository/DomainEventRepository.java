@@ -2,6 +2,7 @@ package com.devhour.domain.repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.devhour.domain.event.WorkRecordApprovalEvent;
@@ -29,6 +30,13 @@ public interface DomainEventRepository {
      */
     void save(WorkRecordApprovalEvent event);
     
+    /**
+     * 複数のドメインイベントを一括保存（userIdをパーティションキーとして使用）
+     * 
+     * @param events 工数記録承認イベントのリスト
+     */
+    void saveAll(List<WorkRecordApprovalEvent> events);
+    
     /**
      * イベントIDでドメインイベントを取得
      * 
@@ -45,6 +53,51 @@ public interface DomainEventRepository {
      */
     List<WorkRecordApprovalEvent> findPendingEvents(int limit);
     
+    /**
+     * 未発行のイベントを取得し、トランザクション終了まで他の発行処理から除外する
+     * 
+     * 他のトランザクションが取得中のイベントは読み飛ばすため、
+     * 複数ノードの発行処理が同じイベントを重複して取得しない。
+     * トランザクション内で呼び出す必要がある。
+     * 
+     * @param maxRetryCount 最大リトライ回数
+     * @param limit 取得件数上限
+     * @return 取得した未発行イベントのリスト（作成日時昇順）
+     */
+    List<WorkRecordApprovalEvent> claimPendingEvents(int maxRetryCount, int limit);
+    
+    /**
+     * 指定IDの未発行イベントを取得し、トランザクション終了まで他の発行処理から除外する
+     * 
+     * コミット直後のイベントを即時発行する際に使用する。
+     * 発行済み、または他のトランザクションが取得中のイベントは含まれない。
+     * 
+     * @param eventIds イベントIDのリスト
+     * @return 取得した未発行イベントのリスト（作成日時昇順）
+     */
+    List<WorkRecordApprovalEvent> claimPendingEventsByIds(List<String> eventIds);
+    
+    /**
+     * 複数イベントを一括で発行済みとしてマーク
+     * 
+     * @param eventIds イベントIDのリスト
+     */
+    void markAllAsPublished(List<String> eventIds);
+    
+    /**
+     * 複数イベントの発行失敗を一括で記録
+     * 
+     * @param errorMessages キー: イベントID、値: エラーメッセージ
+     */
+    void markAllAsFailed(Map<String, String> errorMessages);
+    
+    /**
+     * 複数イベントのリトライ回数を一括でインクリメント
+     * 
+     * @param eventIds イベントIDのリスト
+     */
+    void incrementRetryCounts(List<String> eventIds);
+    
     /**
      * イベントを発行済みとしてマーク
      * 
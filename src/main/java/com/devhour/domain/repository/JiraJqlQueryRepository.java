@@ -120,6 +120,16 @@ public interface JiraJqlQueryRepository {
      */
     List<JiraJqlQuery> saveAll(List<JiraJqlQuery> jqlQueries);
     
+    /**
+     * 同期済み日時（差分同期のハイウォーターマーク）を更新
+     * 
+     * クエリ定義の更新日時・更新者は変更しない
+     * 
+     * @param jqlQuery 同期済み日時を記録したJQLクエリエンティティ
+     * @throws IllegalArgumentException jqlQueryがnullの場合
+     */
+    void updateLastSyncedAt(JiraJqlQuery jqlQuery);
+    
     /**
      * JQLクエリを削除
      * 
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import com.devhour.domain.model.entity.JiraSyncHistory;
+import com.devhour.domain.model.entity.JiraSyncHistoryDetail;
 import com.devhour.domain.model.valueobject.JiraSyncStatus;
 import com.devhour.domain.model.valueobject.JiraSyncType;
 
@@ -54,6 +55,20 @@ public interface JiraSyncHistoryRepository {
      */
     Optional<JiraSyncHistory> findWithDetails(String id);
     
+    /**
+     * 同期履歴の詳細履歴をカーソル指定でページ取得
+     * 
+     * 大量の詳細を持つ同期実行の詳細表示に使用
+     * シーケンス番号の昇順で、カーソルより後の詳細を最大limit件取得する
+     * 
+     * @param syncHistoryId 同期履歴ID
+     * @param afterSeq このシーケンス番号より後の詳細を取得（nullの場合は先頭から）
+     * @param limit 取得件数
+     * @return 詳細履歴リスト（シーケンス番号昇順）
+     * @throws IllegalArgumentException syncHistoryIdがnull、またはlimit <= 0の場合
+     */
+    List<JiraSyncHistoryDetail> findDetailsPage(String syncHistoryId, Integer afterSeq, int limit);
+    
     /**
      * 最近30日間の同期履歴を取得
      * 
@@ -69,6 +84,7 @@ public interface JiraSyncHistoryRepository {
      * 
      * 特定期間の同期実行状況分析に使用
      * 開始日時の降順でソート
+     * 詳細履歴本体は読み込まず、ステータス別の詳細件数のみを設定する
      * 
      * @param startDate 検索開始日時（この日時以降）
      * @param endDate 検索終了日時（この日時以前）
@@ -83,6 +99,7 @@ public interface JiraSyncHistoryRepository {
      * 
      * 同期実行状況の分析や失敗したジョブの確認に使用
      * 開始日時の降順でソート
+     * 詳細履歴本体は読み込まず、ステータス別の詳細件数のみを設定する
      * 
      * @param status 同期ステータス
      * @return 指定ステータスの同期履歴リスト（開始日時降順）
@@ -95,6 +112,7 @@ public interface JiraSyncHistoryRepository {
      * 
      * 手動実行・自動実行の実行状況分析に使用
      * 開始日時の降順でソート
+     * 詳細履歴本体は読み込まず、ステータス別の詳細件数のみを設定する
      * 
      * @param triggerType トリガータイプ（MANUAL, SCHEDULED）
      * @return 指定トリガータイプの同期履歴リスト（開始日時降順）
@@ -107,6 +125,7 @@ public interface JiraSyncHistoryRepository {
      * 
      * 同期の重複実行防止や進行状況確認に使用
      * 開始日時の昇順でソート（古い実行から順）
+     * 詳細履歴本体は読み込まず、ステータス別の詳細件数のみを設定する
      * 
      * @return 実行中の同期履歴リスト（開始日時昇順）
      */
@@ -117,6 +136,7 @@ public interface JiraSyncHistoryRepository {
      * 
      * 管理画面でのページング表示に使用（REQ-6.1対応）
      * 開始日時の降順（最新から順）でソート
+     * 詳細履歴本体は読み込まず、ステータス別の詳細件数のみを設定する
      * 
      * @param limit 取得件数制限
      * @param offset 取得開始位置
@@ -137,6 +157,19 @@ public interface JiraSyncHistoryRepository {
      */
     JiraSyncHistory save(JiraSyncHistory syncHistory);
     
+    /**
+     * 未永続化の詳細履歴を追記保存
+     * 
+     * 同期実行中に蓄積した詳細履歴を途中で書き出す際に使用
+     * 追加済みの詳細履歴の再読み込み・更新は行わず、新規分のみを挿入する
+     * 同期履歴本体は保存済みである必要がある
+     * 
+     * @param syncHistory 詳細履歴を保持する同期履歴エンティティ
+     * @return 保存した詳細履歴数
+     * @throws IllegalArgumentException syncHistoryがnullの場合
+     */
+    int appendDetails(JiraSyncHistory syncHistory);
+    
     /**
      * 複数同期履歴を一括保存
      * 
@@ -1,5 +1,6 @@
 package com.devhour.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import com.devhour.domain.model.entity.Project;
@@ -44,6 +45,24 @@ public interface ProjectRepository {
      */
     Optional<Project> findByJiraIssueKey(String jiraIssueKey);
     
+    /**
+     * 複数のJIRAイシューキーでプロジェクトを一括検索
+     * JIRA同期のバッチ処理で、イシューごとの検索を1回のクエリにまとめる際に使用
+     * 
+     * @param jiraIssueKeys JIRAイシューキーのコレクション
+     * @return 該当するプロジェクトのリスト（存在しないキーは含まれない）
+     */
+    List<Project> findByJiraIssueKeys(Collection<String> jiraIssueKeys);
+    
+    /**
+     * 複数のプロジェクトIDでプロジェクトを一括検索
+     * 工数集計で、レコードごとの検索を1回のクエリにまとめる際に使用
+     * 
+     * @param projectIds プロジェクトIDのコレクション
+     * @return 該当するプロジェクトのリスト（存在しないIDは含まれない）
+     */
+    List<Project> findByIds(Collection<String> projectIds);
+    
     /**
      * 全プロジェクト一覧を取得
      * 
@@ -111,6 +130,7 @@ public interface ProjectRepository {
     /**
      * プロジェクトを保存
      * 新規作成・更新の両方で使用
+     * ローカルでの変更として扱い、JIRA同期のフィンガープリントは保存しない
      * 
      * @param project 保存対象のプロジェクトエンティティ
      * @return 保存されたプロジェクトエンティティ
@@ -119,6 +139,8 @@ public interface ProjectRepository {
     
     /**
      * 複数プロジェクトを一括保存
+     * 新規作成・更新をまとめて書き込み、プロジェクトごとの往復を行わない
+     * JIRA同期のフィンガープリントもエンティティの値で保存する
      * 
      * @param projects 保存対象のプロジェクトエンティティのリスト
      * @return 保存されたプロジェクトエンティティのリスト
@@ -1,5 +1,6 @@
 package com.devhour.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import com.devhour.domain.model.entity.User;
@@ -25,6 +26,14 @@ public interface UserRepository {
      */
     Optional<User> findById(String userId);
     
+    /**
+     * 複数のユーザーIDでユーザーを一括検索
+     * 
+     * @param userIds ユーザーIDのコレクション
+     * @return 該当するユーザーのリスト（順序は保証しない、空の場合は空リスト）
+     */
+    List<User> findByIds(Collection<String> userIds);
+    
     /**
      * ユーザー名でユーザーを検索
      * 認証時に使用
@@ -43,6 +52,15 @@ public interface UserRepository {
      */
     Optional<User> findByEmail(String email);
     
+    /**
+     * 複数のメールアドレスでユーザーを一括検索
+     * 承認者関係からユーザーを解決する際に、メールアドレスごとの検索を避けるために使用
+     * 
+     * @param emails メールアドレスのコレクション
+     * @return 該当するユーザーのリスト（順序は保証しない、空の場合は空リスト）
+     */
+    List<User> findByEmails(Collection<String> emails);
+    
     /**
      * アクティブユーザーをメールアドレスで検索
      * Oktaユーザープロビジョニング時にアクティブなユーザーの存在確認で使用
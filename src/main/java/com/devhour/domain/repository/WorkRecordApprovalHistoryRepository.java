@@ -1,8 +1,10 @@
 package com.devhour.domain.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import com.devhour.domain.model.entity.WorkRecordApprovalHistory;
 
 /**
@@ -19,6 +21,13 @@ public interface WorkRecordApprovalHistoryRepository {
      */
     void save(WorkRecordApprovalHistory history);
     
+    /**
+     * 複数の承認履歴を一括保存
+     * 
+     * @param histories 承認履歴のリスト
+     */
+    void saveAll(List<WorkRecordApprovalHistory> histories);
+    
     /**
      * 履歴IDで承認履歴を取得
      * 
@@ -110,4 +119,12 @@ public interface WorkRecordApprovalHistoryRepository {
      * @return 存在する場合true
      */
     boolean existsById(String historyId);
+    
+    /**
+     * 指定した履歴IDのうち登録済みのものを取得
+     * 
+     * @param historyIds 履歴IDのリスト
+     * @return 登録済みの履歴IDの集合
+     */
+    Set<String> findExistingIds(Collection<String> historyIds);
 }
\ No newline at end of file
@@ -2,7 +2,9 @@ package com.devhour.domain.repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import com.devhour.domain.model.entity.WorkRecordApproval;
 import com.devhour.domain.model.valueobject.ApprovalStatus;
 
@@ -29,6 +31,31 @@ public interface WorkRecordApprovalRepository {
      */
     List<WorkRecordApproval> findByUsersAndStatuses(List<String> userIds, List<ApprovalStatus> statuses);
     
+    /**
+     * 複数の申請者IDと承認ステータスで承認レコードをカーソル指定でページ取得
+     * 
+     * 工数日の降順・申請者IDの昇順で、カーソル（前ページ最後の工数日と申請者ID）より後の
+     * 承認レコードを最大limit件取得する
+     * 
+     * @param userIds 申請者IDリスト
+     * @param statuses 承認ステータスリスト
+     * @param cursorWorkDate 前ページ最後の工数日（nullの場合は先頭から）
+     * @param cursorUserId 前ページ最後の申請者ID（nullの場合はcursorWorkDateより前の日付から）
+     * @param limit 取得件数
+     * @return 承認レコードリスト（工数日降順、申請者ID昇順）
+     * @throws IllegalArgumentException limit <= 0の場合
+     */
+    List<WorkRecordApproval> findPageByUsersAndStatuses(List<String> userIds, List<ApprovalStatus> statuses,
+                                                       LocalDate cursorWorkDate, String cursorUserId, int limit);
+    
+    /**
+     * 複数申請者の指定日の承認レコードを一括検索
+     * 
+     * @param workDatesByUserId 申請者IDごとの作業日セット
+     * @return 承認レコードリスト（存在するもののみ、順序は保証しない）
+     */
+    List<WorkRecordApproval> findByUserIdsAndDates(Map<String, Set<LocalDate>> workDatesByUserId);
+    
     /**
      * 申請者IDで承認レコードを検索
      * 
@@ -71,6 +98,14 @@ public interface WorkRecordApprovalRepository {
      */
     WorkRecordApproval save(WorkRecordApproval approval);
     
+    /**
+     * 承認レコードを一括保存（存在する場合は更新）
+     * 
+     * @param approvals 承認レコードリスト
+     * @return 保存された承認レコードリスト（更新日時を設定済み、入力と同じ順序）
+     */
+    List<WorkRecordApproval> saveAll(List<WorkRecordApproval> approvals);
+    
     /**
      * 承認レコードを削除
      * 
@@ -2,7 +2,9 @@ package com.devhour.domain.repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import com.devhour.domain.model.entity.WorkRecord;
 
 /**
@@ -34,6 +36,16 @@ public interface WorkRecordRepository {
      */
     List<WorkRecord> findByUserIdAndDate(String userId, LocalDate workDate);
     
+    /**
+     * 複数ユーザーの指定日の工数記録を一括検索
+     * 
+     * ユーザーと日付の組ごとに検索を繰り返さないよう、1回のクエリで取得する
+     * 
+     * @param workDatesByUserId ユーザーIDごとの作業日セット
+     * @return 工数記録のリスト（ユーザーID・作業日・作成日時の昇順）
+     */
+    List<WorkRecord> findByUserIdsAndDates(Map<String, Set<LocalDate>> workDatesByUserId);
+    
     /**
      * ユーザーID、日付、プロジェクトIDで工数記録を検索
      * 
@@ -101,6 +113,8 @@ public interface WorkRecordRepository {
     /**
      * 複数の工数記録を一括保存
      * 
+     * 新規作成・更新を区別せず、ユーザー・プロジェクト・作業日が同じ既存記録は上書きする
+     * 
      * @param workRecords 保存対象の工数記録エンティティのリスト
      * @return 保存された工数記録エンティティのリスト
      */
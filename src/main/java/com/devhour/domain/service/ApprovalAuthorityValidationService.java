@@ -1,27 +1,23 @@
 package com.devhour.domain.service;
 
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import org.springframework.stereotype.Service;
-import com.devhour.domain.model.entity.User;
-import com.devhour.domain.repository.ApproverRepository;
-import com.devhour.domain.repository.UserRepository;
 
 /**
  * 承認権限検証ドメインサービス
  * 
  * 承認権限の存在を検証し、適切な例外を投げる責務を持つ
+ * 判定はメモリ上の承認者関係グラフ（ApproverRelationGraph）で行い、承認・差し戻しのたびのDB検索を省く
  */
 @Service
 public class ApprovalAuthorityValidationService {
 
-    private final UserRepository userRepository;
-    private final ApproverRepository approverRepository;
+    private final ApproverRelationGraph approverRelationGraph;
 
-    public ApprovalAuthorityValidationService(UserRepository userRepository,
-                                           ApproverRepository approverRepository) {
-        this.userRepository = userRepository;
-        this.approverRepository = approverRepository;
+    public ApprovalAuthorityValidationService(ApproverRelationGraph approverRelationGraph) {
+        this.approverRelationGraph = approverRelationGraph;
     }
 
     /**
@@ -44,20 +40,21 @@ public class ApprovalAuthorityValidationService {
      * @return 承認権限がある場合true、ユーザーが存在しない場合や権限がない場合false
      */
     public boolean validateAuthorityForDate(String approverId, String targetId, LocalDate date) {
-        // 1. ユーザー存在チェック
-        Optional<User> approverUser = userRepository.findById(approverId);
-        Optional<User> targetUser = userRepository.findById(targetId);
-
-        // ユーザーが存在しない場合はfalseを返す
-        if (approverUser.isEmpty() || targetUser.isEmpty()) {
-            return false;
-        }
-
-        // 2. 指定日付での承認権限チェック
-        String approverEmail = approverUser.get().getEmail();
-        String targetEmail = targetUser.get().getEmail();
+        return approverRelationGraph.isValidApprover(approverId, targetId, date);
+    }
 
-        return approverRepository.isValidApprover(targetEmail, approverEmail, date);
+    /**
+     * 複数の対象者・日付の組について承認権限を一括検証する
+     * 
+     * validateAuthorityForDateと同じ条件（有効期間の日付比較）で承認者関係グラフ上で判定する
+     * 
+     * @param approverId 承認者ID
+     * @param workDatesByTargetId 対象者IDごとの対象日付セット
+     * @return 承認権限がある組のみを含む対象者IDごとの日付セット（承認者が存在しない場合は空）
+     */
+    public Map<String, Set<LocalDate>> filterAuthorizedDates(String approverId,
+                                                             Map<String, Set<LocalDate>> workDatesByTargetId) {
+        return approverRelationGraph.filterAuthorizedDates(approverId, workDatesByTargetId);
     }
 
     /**
@@ -82,19 +79,6 @@ public class ApprovalAuthorityValidationService {
      * @return 承認権限がある場合true、ユーザーが存在しない場合や権限がない場合false
      */
     public boolean hasAuthorityForDate(String approverId, String targetId, LocalDate date) {
-        // 1. ユーザー存在チェック
-        Optional<User> approverUser = userRepository.findById(approverId);
-        Optional<User> targetUser = userRepository.findById(targetId);
-
-        // ユーザーが存在しない場合はfalseを返す
-        if (approverUser.isEmpty() || targetUser.isEmpty()) {
-            return false;
-        }
-
-        // 2. 指定日付での承認権限チェック
-        String approverEmail = approverUser.get().getEmail();
-        String targetEmail = targetUser.get().getEmail();
-
-        return approverRepository.isValidApprover(targetEmail, approverEmail, date);
+        return approverRelationGraph.isValidApprover(approverId, targetId, date);
     }
 }
\ No newline at end of file
@@ -0,0 +1,415 @@
+package com.devhour.domain.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.devhour.domain.model.entity.Approver;
+import com.devhour.domain.event.UserChangedEvent;
+import com.devhour.domain.model.entity.User;
+import com.devhour.domain.repository.ApproverRepository;
+import com.devhour.domain.repository.UserRepository;
+
+/**
+ * 承認者関係グラフ
+ *
+ * 承認者関係（approvers）を有効期間つきの「対象者→承認者」「承認者→対象者」の隣接マップとして
+ * メモリ上に保持し、承認権限の判定や承認対象者・承認者の列挙をDBアクセスなしで行う
+ *
+ * 仕様:
+ * - 初回参照時に全承認者関係を読み込み、TTL経過後の参照で全件を再読み込みする
+ * - 承認権限バッチで変更された対象者はrefreshTargetsで差分更新する
+ *   （差分更新はバッチを実行したノードのみ。他のノードでは最大TTLの間、変更前の承認権限で判定する）
+ * - ユーザーID→メールアドレスの対応は参照時に必要な分だけ読み込み、全件再読み込み時に破棄する
+ *   （ユーザー変更のコミット後に該当ユーザーの対応を破棄する）
+ * - 有効期間の判定はApprover#isValidForDateと同じく日付単位で行う
+ * - メールアドレスは大文字小文字を区別しない（DBの照合順序と同じ）
+ * - スナップショットと未解決ユーザーIDの読み込みをそれぞれ参照1回として、
+ *   メモリ上で回答できた参照をヒット、DBアクセスを伴った参照をミスとして計数する
+ */
+@Component
+public class ApproverRelationGraph {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApproverRelationGraph.class);
+
+    private final ApproverRepository approverRepository;
+    private final UserRepository userRepository;
+    private final Duration ttl;
+    private final Clock clock;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public ApproverRelationGraph(ApproverRepository approverRepository,
+                                 UserRepository userRepository,
+                                 @Value("${approval.approver-graph.ttl-seconds:60}") long ttlSeconds) {
+        this(approverRepository, userRepository, Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+    }
+
+    ApproverRelationGraph(ApproverRepository approverRepository, UserRepository userRepository,
+                          Duration ttl, Clock clock) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTLは1秒以上である必要があります");
+        }
+        this.approverRepository = approverRepository;
+        this.userRepository = userRepository;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * 指定日付での承認権限を判定
+     *
+     * @param approverId 承認者ID
+     * @param targetId 対象者ID
+     * @param date 対象日付
+     * @return 有効期間内の承認者関係がある場合true、ユーザーが存在しない場合や権限がない場合false
+     */
+    public boolean isValidApprover(String approverId, String targetId, LocalDate date) {
+        Snapshot current = currentSnapshot();
+        Map<String, String> emails = resolveEmails(current, Arrays.asList(approverId, targetId));
+        String approverEmail = emails.get(approverId);
+        String targetEmail = emails.get(targetId);
+        if (approverEmail == null || targetEmail == null) {
+            return false;
+        }
+        return isValid(current.intervals(targetEmail, approverEmail), date);
+    }
+
+    /**
+     * 複数の対象者・日付の組について承認権限を一括判定
+     *
+     * @param approverId 承認者ID
+     * @param workDatesByTargetId 対象者IDごとの対象日付セット
+     * @return 承認権限がある組のみを含む対象者IDごとの日付セット（承認者が存在しない場合は空）
+     */
+    public Map<String, Set<LocalDate>> filterAuthorizedDates(String approverId,
+                                                             Map<String, Set<LocalDate>> workDatesByTargetId) {
+        Map<String, Set<LocalDate>> authorized = new HashMap<>();
+        if (workDatesByTargetId.isEmpty()) {
+            return authorized;
+        }
+
+        Snapshot current = currentSnapshot();
+        Set<String> userIds = new LinkedHashSet<>();
+        userIds.add(approverId);
+        userIds.addAll(workDatesByTargetId.keySet());
+        Map<String, String> emails = resolveEmails(current, userIds);
+        String approverEmail = emails.get(approverId);
+        if (approverEmail == null) {
+            return authorized;
+        }
+
+        workDatesByTargetId.forEach((targetId, dates) -> {
+            String targetEmail = emails.get(targetId);
+            if (targetEmail == null) {
+                return;
+            }
+            List<Interval> intervals = current.intervals(targetEmail, approverEmail);
+            for (LocalDate date : dates) {
+                if (isValid(intervals, date)) {
+                    authorized.computeIfAbsent(targetId, id -> new HashSet<>()).add(date);
+                }
+            }
+        });
+        return authorized;
+    }
+
+    /**
+     * 承認者の承認対象者メールアドレスを列挙（有効期間を問わない）
+     *
+     * @param approverEmail 承認者メールアドレス
+     * @return 対象者メールアドレスのリスト（有効開始日の新しい順）
+     */
+    public List<String> findTargetEmailsByApprover(String approverEmail) {
+        return sortByLatestStart(currentSnapshot().targetsByApprover().get(normalizeEmail(approverEmail)));
+    }
+
+    /**
+     * 対象者の承認者メールアドレスを列挙（有効期間を問わない）
+     *
+     * @param targetEmail 対象者メールアドレス
+     * @return 承認者メールアドレスのリスト（有効開始日の新しい順）
+     */
+    public List<String> findApproverEmailsByTarget(String targetEmail) {
+        return sortByLatestStart(currentSnapshot().approversByTarget().get(normalizeEmail(targetEmail)));
+    }
+
+    /**
+     * 指定対象者の承認者関係をDBから読み直して差分更新
+     *
+     * 未読み込みの場合は何もしない（次回参照時に全件を読み込む）
+     *
+     * @param targetEmails 承認者関係が変更された対象者メールアドレス
+     */
+    public synchronized void refreshTargets(Collection<String> targetEmails) {
+        Snapshot current = snapshot;
+        if (current == null || targetEmails == null || targetEmails.isEmpty()) {
+            return;
+        }
+
+        Set<String> targets = new HashSet<>();
+        targetEmails.forEach(email -> targets.add(normalizeEmail(email)));
+
+        Map<String, Map<String, List<Interval>>> approversByTarget = new HashMap<>(current.approversByTarget());
+        Map<String, Map<String, List<Interval>>> targetsByApprover = new HashMap<>(current.targetsByApprover());
+        Set<String> copiedApprovers = new HashSet<>();
+
+        // 1. 変更対象者の既存の辺を両方向から取り除く
+        for (String target : targets) {
+            Map<String, List<Interval>> previous = approversByTarget.remove(target);
+            if (previous == null) {
+                continue;
+            }
+            for (String approver : previous.keySet()) {
+                copiedInner(targetsByApprover, approver, copiedApprovers).remove(target);
+            }
+        }
+
+        // 2. 最新の承認者関係で辺を張り直す
+        for (Approver relation : approverRepository.findByTargetEmails(targets)) {
+            String target = normalizeEmail(relation.getTargetEmail());
+            String approver = normalizeEmail(relation.getApproverEmail());
+            Interval interval = Interval.of(relation);
+            approversByTarget.computeIfAbsent(target, key -> new HashMap<>())
+                .computeIfAbsent(approver, key -> new ArrayList<>()).add(interval);
+            copiedInner(targetsByApprover, approver, copiedApprovers)
+                .computeIfAbsent(target, key -> new ArrayList<>()).add(interval);
+        }
+        copiedApprovers.stream()
+            .filter(approver -> targetsByApprover.get(approver).isEmpty())
+            .forEach(targetsByApprover::remove);
+
+        snapshot = new Snapshot(approversByTarget, targetsByApprover, current.emailByUserId(), current.expiresAt());
+        logger.debug("承認者関係グラフを差分更新: targets={}", targets.size());
+    }
+
+    /**
+     * 指定ユーザーのユーザーID→メールアドレスの対応を破棄（次回参照時に読み込み直す）
+     *
+     * @param userId ユーザーID
+     */
+    public void invalidateUser(String userId) {
+        Snapshot current = snapshot;
+        if (current != null && userId != null) {
+            current.emailByUserId().remove(userId);
+        }
+    }
+
+    /**
+     * ユーザー変更のコミット後に該当ユーザーのメールアドレスの対応を破棄
+     *
+     * @param event ユーザー変更通知
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidateUser(event.userId());
+    }
+
+    /**
+     * 保持している承認者関係とユーザーIDの対応をすべて破棄（次回参照時に全件を読み込む）
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * メモリ上で回答できた参照の回数
+     *
+     * @return ヒット数
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * DBアクセスを伴った参照の回数
+     *
+     * @return ミス数
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * 保持している承認者関係（対象者・承認者の組）の件数
+     *
+     * @return 組の件数（未読み込みの場合は0）
+     */
+    public int size() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return 0;
+        }
+        return current.approversByTarget().values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * 有効なスナップショットを取得し、未読み込みまたは失効済みの場合は全件を読み込む
+     */
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null && current.expiresAt().isAfter(clock.instant())) {
+            hitCount.incrementAndGet();
+            return current;
+        }
+        missCount.incrementAndGet();
+        return reload();
+    }
+
+    private synchronized Snapshot reload() {
+        Snapshot current = snapshot;
+        Instant now = clock.instant();
+        if (current != null && current.expiresAt().isAfter(now)) {
+            return current;
+        }
+
+        Map<String, Map<String, List<Interval>>> approversByTarget = new HashMap<>();
+        Map<String, Map<String, List<Interval>>> targetsByApprover = new HashMap<>();
+        List<Approver> relations = approverRepository.findAll();
+        for (Approver relation : relations) {
+            String target = normalizeEmail(relation.getTargetEmail());
+            String approver = normalizeEmail(relation.getApproverEmail());
+            Interval interval = Interval.of(relation);
+            approversByTarget.computeIfAbsent(target, key -> new HashMap<>())
+                .computeIfAbsent(approver, key -> new ArrayList<>()).add(interval);
+            targetsByApprover.computeIfAbsent(approver, key -> new HashMap<>())
+                .computeIfAbsent(target, key -> new ArrayList<>()).add(interval);
+        }
+
+        Snapshot loaded = new Snapshot(approversByTarget, targetsByApprover, new ConcurrentHashMap<>(),
+            now.plus(ttl));
+        snapshot = loaded;
+        logger.info("承認者関係グラフを読み込み: relations={}, targets={}, approvers={}",
+            relations.size(), approversByTarget.size(), targetsByApprover.size());
+        return loaded;
+    }
+
+    /**
+     * ユーザーIDをメールアドレスに解決し、未解決のIDのみを1回の検索で読み込む
+     *
+     * @return ユーザーIDをキーとする正規化済みメールアドレス（存在しないユーザーは含まない）
+     */
+    private Map<String, String> resolveEmails(Snapshot current, Collection<String> userIds) {
+        Map<String, String> emailByUserId = current.emailByUserId();
+        Map<String, String> resolved = new HashMap<>();
+        Set<String> unresolved = new LinkedHashSet<>();
+        for (String userId : userIds) {
+            String email = userId != null ? emailByUserId.get(userId) : null;
+            if (email != null) {
+                resolved.put(userId, email);
+            } else if (userId != null) {
+                unresolved.add(userId);
+            }
+        }
+        if (unresolved.isEmpty()) {
+            hitCount.incrementAndGet();
+            return resolved;
+        }
+
+        missCount.incrementAndGet();
+        for (User user : userRepository.findByIds(unresolved)) {
+            String email = normalizeEmail(user.getEmail());
+            emailByUserId.put(user.getId(), email);
+            resolved.put(user.getId(), email);
+        }
+        return resolved;
+    }
+
+    /**
+     * 差分更新中のマップについて、承認者ごとの内側のマップを1回だけ複製して返す
+     */
+    private static Map<String, List<Interval>> copiedInner(Map<String, Map<String, List<Interval>>> targetsByApprover,
+                                                           String approver, Set<String> copiedApprovers) {
+        if (copiedApprovers.add(approver)) {
+            Map<String, List<Interval>> original = targetsByApprover.get(approver);
+            targetsByApprover.put(approver, original != null ? new HashMap<>(original) : new HashMap<>());
+        }
+        return targetsByApprover.get(approver);
+    }
+
+    private static boolean isValid(List<Interval> intervals, LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("チェック対象日は必須です");
+        }
+        for (Interval interval : intervals) {
+            if (interval.contains(date)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> sortByLatestStart(Map<String, List<Interval>> neighbors) {
+        if (neighbors == null || neighbors.isEmpty()) {
+            return List.of();
+        }
+        Map<String, LocalDate> latestStarts = new HashMap<>();
+        neighbors.forEach((email, intervals) -> latestStarts.put(email, intervals.stream()
+            .map(Interval::from)
+            .max(Comparator.naturalOrder())
+            .orElse(LocalDate.MIN)));
+        return latestStarts.keySet().stream()
+            .sorted(Comparator.comparing((String email) -> latestStarts.get(email)).reversed()
+                .thenComparing(Comparator.naturalOrder()))
+            .toList();
+    }
+
+    private static String normalizeEmail(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * 承認者関係の有効期間（日付単位、終了日はnullの場合無期限）
+     */
+    private record Interval(LocalDate from, LocalDate to) {
+
+        static Interval of(Approver relation) {
+            return new Interval(relation.getEffectiveFrom().toLocalDate(),
+                relation.getEffectiveTo() != null ? relation.getEffectiveTo().toLocalDate() : null);
+        }
+
+        boolean contains(LocalDate date) {
+            return !date.isBefore(from) && (to == null || !date.isAfter(to));
+        }
+    }
+
+    /**
+     * 読み込み済みの承認者関係（隣接マップは公開後に変更しない）
+     * ユーザーID→メールアドレスの対応は参照時に追加され、スナップショットとともに失効する
+     */
+    private record Snapshot(Map<String, Map<String, List<Interval>>> approversByTarget,
+                            Map<String, Map<String, List<Interval>>> targetsByApprover,
+                            Map<String, String> emailByUserId,
+                            Instant expiresAt) {
+
+        List<Interval> intervals(String targetEmail, String approverEmail) {
+            Map<String, List<Interval>> approvers = approversByTarget.get(targetEmail);
+            if (approvers == null) {
+                return List.of();
+            }
+            return approvers.getOrDefault(approverEmail, List.of());
+        }
+    }
+}
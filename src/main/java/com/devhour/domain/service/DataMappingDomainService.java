@@ -1,11 +1,16 @@
 package com.devhour.domain.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import org.springframework.stereotype.Component;
 import com.devhour.config.JiraProjectStatusMappingConfiguration;
 import com.devhour.domain.model.entity.Project;
@@ -14,6 +19,9 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -23,7 +31,9 @@ import lombok.extern.slf4j.Slf4j;
  * データマッピングを担当するドメインサービス
  * 
  * 責務:
+ * - 共通フォーマットJSON（文字列・JsonNode）からCommonFormatProjectへの変換
  * - 共通フォーマットJSONからJIRAイシューキーの抽出
+ * - 差分検出用の共通フォーマットJSONフィンガープリント算出
  * - 共通フォーマットJSONから新規Projectエンティティの作成
  * - 共通フォーマットJSONによる既存Projectエンティティの更新
  * - フィールドマッピングと検証
@@ -53,25 +63,116 @@ public class DataMappingDomainService {
      */
     public String extractIssueKey(String commonFormatJson) {
         try {
-            JsonNode root = objectMapper.readTree(commonFormatJson);
-            JsonNode issueKeyNode = root.get("issueKey");
-            
-            if (issueKeyNode == null || issueKeyNode.isNull()) {
-                throw new DataMappingException("Issue key not found in common format JSON");
-            }
-            
-            String issueKey = issueKeyNode.asText().trim();
-            if (issueKey.isEmpty()) {
-                throw new DataMappingException("Issue key is empty in common format JSON");
-            }
-            
-            return issueKey;
-            
+            return extractIssueKey(objectMapper.readTree(commonFormatJson));
         } catch (JsonProcessingException e) {
             throw new DataMappingException("Failed to parse common format JSON: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * 共通フォーマットJSONツリーからJIRAイシューキーを抽出
+     * 
+     * CommonFormatProjectへのマッピングを行わずにキーだけを取り出す。
+     * 
+     * @param commonFormatNode 共通フォーマットJSONツリー
+     * @return JIRAイシューキー
+     * @throws DataMappingException イシューキーが存在しない場合
+     */
+    public String extractIssueKey(JsonNode commonFormatNode) {
+        JsonNode issueKeyNode = commonFormatNode != null ? commonFormatNode.get("issueKey") : null;
+        
+        if (issueKeyNode == null || issueKeyNode.isNull()) {
+            throw new DataMappingException("Issue key not found in common format JSON");
+        }
+        
+        String issueKey = issueKeyNode.asText().trim();
+        if (issueKey.isEmpty()) {
+            throw new DataMappingException("Issue key is empty in common format JSON");
+        }
+        
+        return issueKey;
+    }
+    
+    /**
+     * 共通フォーマットJSONツリーのフィンガープリントを算出
+     * 
+     * オブジェクトのキーを再帰的にソートした正規形JSONのSHA-256ハッシュ（16進数）を返す。
+     * フィールドの出現順に依存しないため、内容が同じイシューは常に同じ値になる。
+     * 
+     * @param commonFormatNode 共通フォーマットJSONツリー
+     * @return 64文字の16進数フィンガープリント
+     * @throws DataMappingException JSONツリーがnullの場合
+     */
+    public String computeFingerprint(JsonNode commonFormatNode) {
+        if (commonFormatNode == null) {
+            throw new DataMappingException("Common format data is null");
+        }
+        
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(canonicalize(commonFormatNode).toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    /**
+     * 共通フォーマットデータからJIRAイシューキーを抽出
+     * 
+     * @param commonFormat 共通フォーマットデータ
+     * @return JIRAイシューキー
+     * @throws DataMappingException イシューキーが存在しない場合
+     */
+    public String extractIssueKey(CommonFormatProject commonFormat) {
+        if (commonFormat == null || commonFormat.getIssueKey() == null) {
+            throw new DataMappingException("Issue key not found in common format JSON");
+        }
+        
+        String issueKey = commonFormat.getIssueKey().trim();
+        if (issueKey.isEmpty()) {
+            throw new DataMappingException("Issue key is empty in common format JSON");
+        }
+        
+        return issueKey;
+    }
+    
+    /**
+     * 共通フォーマットJSON文字列をCommonFormatProjectに変換
+     * 
+     * @param commonFormatJson 共通フォーマットJSON文字列
+     * @return 共通フォーマットデータ
+     * @throws DataMappingException JSONの解析に失敗した場合
+     */
+    public CommonFormatProject parseCommonFormat(String commonFormatJson) {
+        try {
+            return objectMapper.readValue(commonFormatJson, CommonFormatProject.class);
+        } catch (JsonProcessingException e) {
+            throw new DataMappingException("Failed to parse common format JSON: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 共通フォーマットJSONツリーをCommonFormatProjectに変換
+     * 
+     * 変換済みのJsonNodeを文字列化・再解析せずにマッピングする。
+     * 
+     * @param commonFormatNode 共通フォーマットJSONツリー
+     * @return 共通フォーマットデータ
+     * @throws DataMappingException マッピングに失敗した場合
+     */
+    public CommonFormatProject toCommonFormat(JsonNode commonFormatNode) {
+        if (commonFormatNode == null || !commonFormatNode.isObject()) {
+            throw new DataMappingException("Common format JSON must be an object");
+        }
+        
+        try {
+            return objectMapper.treeToValue(commonFormatNode, CommonFormatProject.class);
+        } catch (JsonProcessingException e) {
+            throw new DataMappingException("Failed to map common format JSON: " + e.getMessage(), e);
+        }
+    }
+    
     /**
      * 共通フォーマットJSONから新規Projectエンティティを作成
      * 
@@ -85,7 +186,22 @@ public class DataMappingDomainService {
             throw new DataMappingException("createdBy is required for project creation");
         }
         
-        CommonFormatProject commonFormat = parseCommonFormat(commonFormatJson);
+        return createProjectFromCommonFormat(parseCommonFormat(commonFormatJson), createdBy);
+    }
+    
+    /**
+     * 共通フォーマットデータから新規Projectエンティティを作成
+     * 
+     * @param commonFormat 共通フォーマットデータ
+     * @param createdBy 作成者ID
+     * @return 新規Projectエンティティ
+     * @throws DataMappingException データマッピングエラーの場合
+     */
+    public Project createProjectFromCommonFormat(CommonFormatProject commonFormat, String createdBy) {
+        if (createdBy == null || createdBy.trim().isEmpty()) {
+            throw new DataMappingException("createdBy is required for project creation");
+        }
+        
         validateCommonFormat(commonFormat);
         
         return mapCommonFormatToProject(commonFormat, createdBy.trim(), null);
@@ -104,7 +220,22 @@ public class DataMappingDomainService {
             throw new DataMappingException("existingProject is required for project update");
         }
         
-        CommonFormatProject commonFormat = parseCommonFormat(commonFormatJson);
+        return updateProjectFromCommonFormat(existingProject, parseCommonFormat(commonFormatJson));
+    }
+    
+    /**
+     * 共通フォーマットデータで既存Projectエンティティを更新
+     * 
+     * @param existingProject 既存のProjectエンティティ
+     * @param commonFormat 共通フォーマットデータ
+     * @return 更新されたProjectエンティティ
+     * @throws DataMappingException データマッピングエラーの場合
+     */
+    public Project updateProjectFromCommonFormat(Project existingProject, CommonFormatProject commonFormat) {
+        if (existingProject == null) {
+            throw new DataMappingException("existingProject is required for project update");
+        }
+        
         validateCommonFormat(commonFormat);
         
         return mapCommonFormatToProject(commonFormat, null, existingProject);
@@ -190,17 +321,6 @@ public class DataMappingDomainService {
     
     // ========== プライベートメソッド ==========
     
-    /**
-     * JSONからCommonFormatProjectオブジェクトをパース
-     */
-    private CommonFormatProject parseCommonFormat(String commonFormatJson) {
-        try {
-            return objectMapper.readValue(commonFormatJson, CommonFormatProject.class);
-        } catch (JsonProcessingException e) {
-            throw new DataMappingException("Failed to parse common format JSON: " + e.getMessage(), e);
-        }
-    }
-    
     /**
      * 共通フォーマットデータの基本検証
      */
@@ -218,6 +338,26 @@ public class DataMappingDomainService {
         }
     }
     
+    /**
+     * フィンガープリント算出用にオブジェクトのキーを再帰的にソートする
+     */
+    private JsonNode canonicalize(JsonNode node) {
+        if (node.isObject()) {
+            Map<String, JsonNode> fields = new TreeMap<>();
+            node.properties().forEach(field -> fields.put(field.getKey(), field.getValue()));
+            
+            ObjectNode sorted = JsonNodeFactory.instance.objectNode();
+            fields.forEach((name, value) -> sorted.set(name, canonicalize(value)));
+            return sorted;
+        }
+        if (node.isArray()) {
+            ArrayNode array = JsonNodeFactory.instance.arrayNode();
+            node.forEach(element -> array.add(canonicalize(element)));
+            return array;
+        }
+        return node;
+    }
+    
     /**
      * 共通フォーマットからProjectエンティティへのマッピング
      */
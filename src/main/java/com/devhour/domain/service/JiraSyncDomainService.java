@@ -1,13 +1,22 @@
 package com.devhour.domain.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import com.devhour.domain.exception.JiraSyncException;
 import com.devhour.domain.model.entity.JiraSyncHistory;
 import com.devhour.domain.model.entity.Project;
 import com.devhour.domain.model.valueobject.DetailStatus;
 import com.devhour.domain.repository.ProjectRepository;
+import com.devhour.domain.service.DataMappingDomainService.CommonFormatProject;
 import com.devhour.domain.service.DataMappingDomainService.DataMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -53,9 +62,156 @@ public class JiraSyncDomainService {
     public void applyProjectChanges(String commonFormatJson, JiraSyncHistory syncHistory) {
         validateConflictResolutionParameters(commonFormatJson, syncHistory);
         
+        applyProjectChanges(() -> dataMappingDomainService.parseCommonFormat(commonFormatJson), syncHistory);
+    }
+    
+    /**
+     * プロジェクトコンフリクトを解決する（JsonNode版）
+     * 
+     * 変換済みの共通フォーマットJSONツリーを文字列化せずに反映する。
+     * 処理内容は文字列版の {@link #applyProjectChanges(String, JiraSyncHistory)} と同じ。
+     * 
+     * @param commonFormatNode JIRA共通フォーマットJSONツリー
+     * @param syncHistory 同期履歴
+     * @throws IllegalArgumentException パラメータが不正な場合
+     */
+    public void applyProjectChanges(JsonNode commonFormatNode, JiraSyncHistory syncHistory) {
+        if (commonFormatNode == null || commonFormatNode.isNull() || commonFormatNode.isMissingNode()) {
+            throw new IllegalArgumentException("共通フォーマットJSONは必須です");
+        }
+        if (syncHistory == null) {
+            throw new IllegalArgumentException("同期履歴は必須です");
+        }
+        
+        applyProjectChanges(() -> dataMappingDomainService.toCommonFormat(commonFormatNode), syncHistory);
+    }
+    
+    /**
+     * 複数イシューのプロジェクト変更をバッチ単位で反映する
+     * 
+     * {@link #applyProjectChanges(JsonNode, JiraSyncHistory)} をイシューごとに呼ぶ代わりに、
+     * バッチ内のイシューキーを1回の検索で解決し、作成・更新内容をメモリ上で計算した上で
+     * 一括保存する。同期履歴にはイシューごとの成功・失敗詳細を従来と同じ操作名で記録する。
+     * 一括保存に失敗した場合は、失敗したイシューを特定するため1件ずつの保存に切り替える。
+     * 
+     * 共通フォーマットJSONのフィンガープリントが前回反映時と同じイシューは、
+     * マッピング・保存・詳細記録を行わずにスキップし、スキップ数を同期履歴に加算する。
+     * 変換結果のペイロード詳細（"Convert Response by Velocity Template"）は反映対象のイシューについてのみ記録する。
+     * 
+     * @param commonFormatNodes JIRA共通フォーマットJSONツリーのリスト
+     * @param syncHistory 同期履歴
+     * @return 反映に失敗したイシュー数
+     * @throws IllegalArgumentException パラメータが不正な場合
+     */
+    public int applyProjectChangesInBatch(List<JsonNode> commonFormatNodes, JiraSyncHistory syncHistory) {
+        if (commonFormatNodes == null) {
+            throw new IllegalArgumentException("共通フォーマットJSONリストは必須です");
+        }
+        if (syncHistory == null) {
+            throw new IllegalArgumentException("同期履歴は必須です");
+        }
+        if (commonFormatNodes.isEmpty()) {
+            return 0;
+        }
+        
+        int failedCount = 0;
+        
+        // 1. イシューキーとフィンガープリントを算出し、イシューキーごとにまとめる（同一キーは後勝ち）
+        Map<String, IssueChange> issuesByKey = new LinkedHashMap<>();
+        for (JsonNode commonFormatNode : commonFormatNodes) {
+            try {
+                String issueKey = dataMappingDomainService.extractIssueKey(commonFormatNode);
+                issuesByKey.put(issueKey, new IssueChange(
+                    commonFormatNode, dataMappingDomainService.computeFingerprint(commonFormatNode)));
+            } catch (DataMappingException e) {
+                failedCount++;
+                log.error("共通フォーマットJSONのマッピングエラー: {}", e.getMessage(), e);
+                syncHistory.addDetail("Resolving Conflicts (Error)", DetailStatus.ERROR, "共通フォーマットJSONのマッピングエラー: " + e.getMessage());
+            }
+        }
+        if (issuesByKey.isEmpty()) {
+            return failedCount;
+        }
+        
+        // 2. 既存プロジェクトを1回のクエリで検索
+        Map<String, Project> existingProjects = projectRepository.findByJiraIssueKeys(issuesByKey.keySet()).stream()
+            .collect(Collectors.toMap(Project::getJiraIssueKey, Function.identity(), (first, second) -> first));
+        
+        // 3. 作成・更新内容をメモリ上で計算（JIRAデータ優先、REQ-7.1）
+        int skippedCount = 0;
+        List<ProjectChange> changes = new ArrayList<>();
+        for (Map.Entry<String, IssueChange> entry : issuesByKey.entrySet()) {
+            Project existingProject = existingProjects.get(entry.getKey());
+            IssueChange issue = entry.getValue();
+            
+            // 前回反映時から内容が変わっていないイシューはマッピング・保存を行わない
+            if (existingProject != null && existingProject.isJiraSyncUnchanged(issue.fingerprint())) {
+                skippedCount++;
+                continue;
+            }
+            syncHistory.addPayloadDetail("Convert Response by Velocity Template",
+                "Converted: " + entry.getKey(), issue.commonFormatNode()::toString);
+            
+            try {
+                CommonFormatProject commonFormat = dataMappingDomainService.toCommonFormat(issue.commonFormatNode());
+                Project project = existingProject != null
+                    ? dataMappingDomainService.updateProjectFromCommonFormat(existingProject, commonFormat)
+                    : dataMappingDomainService.createProjectFromCommonFormat(commonFormat, "jira-sync");
+                project.recordJiraSyncFingerprint(issue.fingerprint());
+                changes.add(new ProjectChange(project, existingProject == null));
+            } catch (DataMappingException e) {
+                failedCount++;
+                if (existingProject != null) {
+                    log.error("既存プロジェクト {} の更新中にマッピングエラー: {}", existingProject.getId(), e.getMessage());
+                    syncHistory.addDetail("Project Update Failed", DetailStatus.ERROR, "データマッピングエラー: " + e.getMessage());
+                } else {
+                    log.error("新規プロジェクト作成中にマッピングエラー: {}", e.getMessage());
+                    syncHistory.addDetail("Instantiate from JIRA", DetailStatus.ERROR, "データマッピングエラー: " + e.getMessage());
+                }
+            }
+        }
+        if (skippedCount > 0) {
+            log.debug("内容に変更のないイシューをスキップ: {} 件", skippedCount);
+            syncHistory.addSkipped(skippedCount);
+        }
+        if (changes.isEmpty()) {
+            return failedCount;
+        }
+        
+        // 4. 一括保存
         try {
-            // 1. JIRAイシューキーを抽出
-            String issueKey = dataMappingDomainService.extractIssueKey(commonFormatJson);
+            projectRepository.saveAll(changes.stream().map(ProjectChange::project).toList());
+            changes.forEach(change -> recordSavedProject(change, syncHistory));
+        } catch (Exception e) {
+            log.warn("プロジェクトの一括保存に失敗したため1件ずつ保存します: {}", e.getMessage());
+            for (ProjectChange change : changes) {
+                try {
+                    projectRepository.saveAll(List.of(change.project()));
+                    recordSavedProject(change, syncHistory);
+                } catch (Exception saveError) {
+                    failedCount++;
+                    log.error("プロジェクト {} の保存に失敗: {}", change.project().getId(), saveError.getMessage(), saveError);
+                    syncHistory.addDetail(change.created() ? "Instantiate from JIRA" : "Project Update Failed",
+                        DetailStatus.ERROR, "プロジェクト保存エラー: " + saveError.getMessage());
+                }
+            }
+        }
+        return failedCount;
+    }
+    
+    // ========== プライベートメソッド ==========
+    
+    /**
+     * プロジェクトコンフリクト解決の共通処理
+     * 
+     * @param commonFormatParser 共通フォーマットデータの変換処理（マッピングエラーを同期履歴に記録するため遅延実行）
+     * @param syncHistory 同期履歴
+     */
+    private void applyProjectChanges(Supplier<CommonFormatProject> commonFormatParser, JiraSyncHistory syncHistory) {
+        try {
+            // 1. 共通フォーマットデータに変換し、JIRAイシューキーを抽出
+            CommonFormatProject commonFormat = commonFormatParser.get();
+            String issueKey = dataMappingDomainService.extractIssueKey(commonFormat);
             log.debug("JIRAイシューキー抽出完了: {}", issueKey);
             
             // 2. 既存プロジェクトを検索
@@ -63,40 +219,40 @@ public class JiraSyncDomainService {
             
             if (existingProjectOpt.isPresent()) {
                 // 3a. 既存プロジェクトが存在 → JIRAデータで更新（REQ-7.1）
-                handleExistingProjectUpdate(existingProjectOpt.get(), commonFormatJson, syncHistory);
+                handleExistingProjectUpdate(existingProjectOpt.get(), commonFormat, syncHistory);
             } else {
                 // 3b. 新規プロジェクト → JIRAデータから作成
-                handleNewProjectCreation(commonFormatJson, syncHistory);
+                handleNewProjectCreation(commonFormat, syncHistory);
             }
         } catch (DataMappingException e) {
             // 4. データマッピングエラー → エラー詳細記録
             log.error("共通フォーマットJSONのマッピングエラー: {}", e.getMessage(), e);
-            syncHistory.addDetail("Resolving Conflicts (Error)", DetailStatus.ERROR, "共通フォーマットJSONのマッピングエラー: {}" + e.getMessage());
+            syncHistory.addDetail("Resolving Conflicts (Error)", DetailStatus.ERROR, "共通フォーマットJSONのマッピングエラー: " + e.getMessage());
         } catch (Exception e) {
             // 5. その他の予期しないエラー
             log.error("プロジェクトコンフリクト解決中に予期しないエラーが発生: {}", e.getMessage(), e);
-            syncHistory.addDetail("Resolving Conflicts (Error)", DetailStatus.ERROR, "プロジェクトコンフリクト解決中に予期しないエラーが発生: {}" + e.getMessage());
+            syncHistory.addDetail("Resolving Conflicts (Error)", DetailStatus.ERROR, "プロジェクトコンフリクト解決中に予期しないエラーが発生: " + e.getMessage());
         }
     }
     
-    // ========== プライベートメソッド ==========
-    
     /**
      * 既存プロジェクト更新処理
      */
     private void handleExistingProjectUpdate(Project existingProject, 
-                                                               String commonFormatJson, 
+                                                               CommonFormatProject commonFormat, 
                                                                JiraSyncHistory syncHistory) {
         try {
             // JIRAデータでプロジェクトを更新（マスター優先）
             Project updatedProject = dataMappingDomainService.updateProjectFromCommonFormat(
-                existingProject, commonFormatJson);
+                existingProject, commonFormat);
             
             projectRepository.save(updatedProject);
 
             // 同期履歴詳細を作成（プロジェクト情報を文字列表現で記録）
             log.info("プロジェクト {} をJIRAデータで更新完了", updatedProject.getId());
-            syncHistory.addDetail("Project Updated", DetailStatus.SUCCESS, updatedProject);
+            syncHistory.addPayloadDetail("Project Updated",
+                String.format("Project updated: %s (%s)", updatedProject.getName(), updatedProject.getId()),
+                updatedProject::toString);
         } catch (DataMappingException e) {
             log.error("既存プロジェクト {} の更新中にマッピングエラー: {}", existingProject.getId(), e.getMessage());
             syncHistory.addDetail("Project Update Failed", DetailStatus.ERROR, "データマッピングエラー: " + e.getMessage());
@@ -106,12 +262,12 @@ public class JiraSyncDomainService {
     /**
      * 新規プロジェクト作成処理
      */
-    private void handleNewProjectCreation(String commonFormatJson, 
+    private void handleNewProjectCreation(CommonFormatProject commonFormat, 
                                                             JiraSyncHistory syncHistory) {
         try {
             // JIRAデータから新規プロジェクトを作成
             Project newProject = dataMappingDomainService.createProjectFromCommonFormat(
-                commonFormatJson, "jira-sync");
+                commonFormat, "jira-sync");
 
             projectRepository.save(newProject);
 
@@ -125,6 +281,39 @@ public class JiraSyncDomainService {
         }
     }
     
+    /**
+     * 保存済みプロジェクトの同期履歴詳細を記録
+     */
+    private void recordSavedProject(ProjectChange change, JiraSyncHistory syncHistory) {
+        Project project = change.project();
+        if (change.created()) {
+            log.info("新規プロジェクト {} をJIRAデータから作成完了", project.getId());
+            syncHistory.addDetail("Instantiate from JIRA", DetailStatus.SUCCESS,
+                String.format("Project created: %s (%s)", project.getName(), project.getId()));
+        } else {
+            log.info("プロジェクト {} をJIRAデータで更新完了", project.getId());
+            syncHistory.addPayloadDetail("Project Updated",
+                String.format("Project updated: %s (%s)", project.getName(), project.getId()),
+                project::toString);
+        }
+    }
+    
+    /**
+     * バッチ反映対象のプロジェクト変更
+     * 
+     * @param project 保存対象のプロジェクト
+     * @param created 新規作成の場合true
+     */
+    private record ProjectChange(Project project, boolean created) {}
+    
+    /**
+     * バッチ内のイシューごとの共通フォーマットJSONとフィンガープリント
+     * 
+     * @param commonFormatNode 共通フォーマットJSONツリー
+     * @param fingerprint 共通フォーマットJSONのフィンガープリント
+     */
+    private record IssueChange(JsonNode commonFormatNode, String fingerprint) {}
+    
     // ========== バリデーションメソッド ==========
     
     private void validateConflictResolutionParameters(String commonFormatJson, JiraSyncHistory syncHistory) {
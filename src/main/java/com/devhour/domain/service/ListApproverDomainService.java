@@ -1,12 +1,14 @@
 package com.devhour.domain.service;
 
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
-import com.devhour.domain.model.entity.Approver;
 import com.devhour.domain.model.entity.User;
-import com.devhour.domain.repository.ApproverRepository;
 import com.devhour.domain.repository.UserRepository;
 
 /**
@@ -22,16 +24,17 @@ import com.devhour.domain.repository.UserRepository;
  * - 特定ユーザーの承認者リストの取得
  * 
  * V44移行対応: メールアドレスベースのリポジトリAPIを使用
+ * 承認者関係はメモリ上の承認者関係グラフ（ApproverRelationGraph）から取得する
  */
 @Service
 public class ListApproverDomainService {
     
-    private final ApproverRepository approverRepository;
+    private final ApproverRelationGraph approverRelationGraph;
     private final UserRepository userRepository;
     
-    public ListApproverDomainService(ApproverRepository approverRepository,
+    public ListApproverDomainService(ApproverRelationGraph approverRelationGraph,
                               UserRepository userRepository) {
-        this.approverRepository = approverRepository;
+        this.approverRelationGraph = approverRelationGraph;
         this.userRepository = userRepository;
     }
     
@@ -42,13 +45,7 @@ public class ListApproverDomainService {
      * @return 承認対象者のユーザーリスト
      */
     public List<User> findApprovalTargetsByApprover(User approverUser) {
-        List<Approver> approvers = approverRepository.findByApproverEmail(approverUser.getEmail());
-        
-        return approvers.stream()
-            .map(approver -> userRepository.findByEmail(approver.getTargetEmail()))
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .collect(Collectors.toList());
+        return resolveUsersByEmail(approverRelationGraph.findTargetEmailsByApprover(approverUser.getEmail()));
     }
     
     /**
@@ -58,12 +55,34 @@ public class ListApproverDomainService {
      * @return 承認者のユーザーリスト
      */
     public List<User> findApproversByTarget(User targetUser) {
-        List<Approver> approvers = approverRepository.findByTargetEmail(targetUser.getEmail());
+        return resolveUsersByEmail(approverRelationGraph.findApproverEmailsByTarget(targetUser.getEmail()));
+    }
+    
+    /**
+     * メールアドレスのリストをユーザーに一括変換
+     * 
+     * 1回の検索でユーザーを取得し、入力の順序を保って返す。
+     * メールアドレスの照合はDBと同様に大文字小文字を区別せず、該当ユーザーが存在しないものは除外する。
+     * 
+     * @param emails メールアドレスのリスト
+     * @return ユーザーのリスト
+     */
+    private List<User> resolveUsersByEmail(List<String> emails) {
+        if (emails.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<String, User> usersByEmail = userRepository.findByEmails(new LinkedHashSet<>(emails)).stream()
+            .collect(Collectors.toMap(user -> normalizeEmail(user.getEmail()), Function.identity(),
+                (first, second) -> first));
         
-        return approvers.stream()
-            .map(approver -> userRepository.findByEmail(approver.getApproverEmail()))
-            .filter(Optional::isPresent)
-            .map(Optional::get)
+        return emails.stream()
+            .map(email -> usersByEmail.get(normalizeEmail(email)))
+            .filter(Objects::nonNull)
             .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+    
+    private static String normalizeEmail(String email) {
+        return email != null ? email.toLowerCase(Locale.ROOT) : null;
+    }
+}
@@ -2,7 +2,6 @@ package com.devhour.domain.service;
 
 import java.util.*;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
@@ -50,14 +49,19 @@ public class OrganizationHierarchyProcessor {
         
         Map<String, Set<String>> approverRelations = new HashMap<>();
         
-        // 組織階層マップを構築（コードベースでグルーピング）
-        Map<String, List<EmployeeRecord>> byLevel1 = groupBy(allEmployees.values(), EmployeeRecord::level1Code);
-        Map<String, List<EmployeeRecord>> byLevel2 = groupBy(allEmployees.values(), EmployeeRecord::level2Code);  
-        Map<String, List<EmployeeRecord>> byLevel3 = groupBy(allEmployees.values(), EmployeeRecord::level3Code);
-        Map<String, List<EmployeeRecord>> byLevel4 = groupBy(allEmployees.values(), EmployeeRecord::level4Code);
+        // 組織コードごとに承認者となる役職の社員を1回の走査で索引化（社員ごとのグループ走査を避ける）
+        Map<String, String> generalManagerByLevel1 =
+            indexFirstByPosition(allEmployees.values(), EmployeeRecord::level1Code, Position.GENERAL_MANAGER);
+        Map<String, String> divisionManagerByLevel2 =
+            indexFirstByPosition(allEmployees.values(), EmployeeRecord::level2Code, Position.DIVISION_MANAGER);
+        Map<String, String> departmentManagerByLevel3 =
+            indexFirstByPosition(allEmployees.values(), EmployeeRecord::level3Code, Position.DEPARTMENT_MANAGER);
+        Map<String, String> managerByLevel4 =
+            indexFirstByPosition(allEmployees.values(), EmployeeRecord::level4Code, Position.MANAGER);
         
         log.debug("Organization hierarchy built - L1: {}, L2: {}, L3: {}, L4: {}", 
-                 byLevel1.size(), byLevel2.size(), byLevel3.size(), byLevel4.size());
+                 generalManagerByLevel1.size(), divisionManagerByLevel2.size(),
+                 departmentManagerByLevel3.size(), managerByLevel4.size());
         
         for (EmployeeRecord employee : allEmployees.values()) {
             Set<String> approvers = new HashSet<>();
@@ -69,39 +73,26 @@ public class OrganizationHierarchyProcessor {
                 switch (position) {
                     case EMPLOYEE:
                         // 一般社員の場合: 同じグループのマネージャーを探す
-                        if (employee.level4Code() != null) {
-                            findApproverByPosition(byLevel4.get(employee.level4Code()), Position.MANAGER.getJapaneseName())
-                                .ifPresent(approvers::add);
-                        }
+                        addApprover(approvers, managerByLevel4, employee.level4Code());
                         // マネージャーがいない場合は部長
-                        if (approvers.isEmpty() && employee.level3Code() != null) {
-                            findApproverByPosition(byLevel3.get(employee.level3Code()), Position.DEPARTMENT_MANAGER.getJapaneseName())
-                                .ifPresent(approvers::add);
+                        if (approvers.isEmpty()) {
+                            addApprover(approvers, departmentManagerByLevel3, employee.level3Code());
                         }
                         break;
                         
                     case MANAGER:
                         // 同じ部の部長を探す
-                        if (employee.level3Code() != null) {
-                            findApproverByPosition(byLevel3.get(employee.level3Code()), Position.DEPARTMENT_MANAGER.getJapaneseName())
-                                .ifPresent(approvers::add);
-                        }
+                        addApprover(approvers, departmentManagerByLevel3, employee.level3Code());
                         break;
                         
                     case DEPARTMENT_MANAGER:
                         // 同じ本部の本部長を探す
-                        if (employee.level2Code() != null) {
-                            findApproverByPosition(byLevel2.get(employee.level2Code()), Position.DIVISION_MANAGER.getJapaneseName())
-                                .ifPresent(approvers::add);
-                        }
+                        addApprover(approvers, divisionManagerByLevel2, employee.level2Code());
                         break;
                         
                     case DIVISION_MANAGER:
                         // 同じ統括本部の統括本部長を探す
-                        if (employee.level1Code() != null) {
-                            findApproverByPosition(byLevel1.get(employee.level1Code()), Position.GENERAL_MANAGER.getJapaneseName())
-                                .ifPresent(approvers::add);
-                        }
+                        addApprover(approvers, generalManagerByLevel1, employee.level1Code());
                         break;
                         
                     case GENERAL_MANAGER:
@@ -127,39 +118,45 @@ public class OrganizationHierarchyProcessor {
     }
     
     /**
-     * コレクションを指定されたキー抽出関数でグルーピング
-     * nullキーは除外される
+     * 組織コードごとに指定役職の最初の社員のメールアドレスを索引化
+     * 組織コードがnullの社員は除外される
      * 
-     * @param items グルーピング対象のアイテム
-     * @param keyExtractor キー抽出関数
-     * @return グルーピング結果のマップ
+     * @param employees 社員のコレクション（走査順で最初に現れた社員を採用）
+     * @param codeExtractor 組織コード抽出関数
+     * @param position 索引化する役職
+     * @return 組織コード -> 承認者メールアドレスのマップ
      */
-    private <T> Map<String, List<T>> groupBy(Collection<T> items, Function<T, String> keyExtractor) {
-        if (items == null || items.isEmpty()) {
-            return new HashMap<>();
+    private Map<String, String> indexFirstByPosition(Collection<EmployeeRecord> employees,
+                                                     Function<EmployeeRecord, String> codeExtractor,
+                                                     Position position) {
+        Map<String, String> index = new HashMap<>();
+        String positionName = position.getJapaneseName();
+        for (EmployeeRecord employee : employees) {
+            if (employee == null || !positionName.equals(employee.position())) {
+                continue;
+            }
+            String code = codeExtractor.apply(employee);
+            if (code != null) {
+                index.putIfAbsent(code, employee.email());
+            }
         }
-        
-        return items.stream()
-                   .filter(item -> item != null && keyExtractor.apply(item) != null)
-                   .collect(Collectors.groupingBy(keyExtractor));
+        return index;
     }
     
     /**
-     * 指定されたポジションの承認者候補を検索
-     * 候補リストの中から指定されたポジション（日本語名）に一致する最初の従業員のメールアドレスを返す
+     * 組織コードに対応する承認者が存在する場合に追加
      * 
-     * @param candidates 承認者候補のリスト
-     * @param position 検索対象のポジション（日本語名）
-     * @return 承認者のメールアドレス（見つからない場合はOptional.empty()）
+     * @param approvers 承認者の追加先
+     * @param approverByCode 組織コード -> 承認者メールアドレスのマップ
+     * @param code 組織コード（nullの場合は何もしない）
      */
-    private Optional<String> findApproverByPosition(List<EmployeeRecord> candidates, String position) {
-        if (candidates == null || candidates.isEmpty() || position == null) {
-            return Optional.empty();
+    private void addApprover(Set<String> approvers, Map<String, String> approverByCode, String code) {
+        if (code == null) {
+            return;
+        }
+        String approver = approverByCode.get(code);
+        if (approver != null) {
+            approvers.add(approver);
         }
-        
-        return candidates.stream()
-                        .filter(candidate -> position.equals(candidate.position()))
-                        .map(EmployeeRecord::email)
-                        .findFirst();
     }
-}
\ No newline at end of file
+}
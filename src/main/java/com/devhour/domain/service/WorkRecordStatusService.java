@@ -74,12 +74,26 @@ public class WorkRecordStatusService {
             .map(WorkRecord::getWorkDate)
             .collect(Collectors.toSet());
         
+        return findMissingDates(startDate, endDate, existingDates);
+    }
+    
+    /**
+     * 工数記録済み日付から指定期間内の未入力日を特定
+     * 
+     * 呼び出し側で読み込み済みの工数記録を再利用する場合に使用
+     * 
+     * @param startDate 開始日
+     * @param endDate 終了日
+     * @param recordedDates 工数記録済み日付
+     * @return 未入力日のリスト（営業日のみ）
+     */
+    public List<LocalDate> findMissingDates(LocalDate startDate, LocalDate endDate, Set<LocalDate> recordedDates) {
         // 指定期間の全営業日を生成
         List<LocalDate> allBusinessDays = generateBusinessDays(startDate, endDate);
         
         // 営業日から既存の工数記録日を除いて未入力日を特定
         return allBusinessDays.stream()
-            .filter(date -> !existingDates.contains(date))
+            .filter(date -> !recordedDates.contains(date))
             .collect(Collectors.toList());
     }
     
@@ -0,0 +1,60 @@
+package com.devhour.domain.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 文字列圧縮ユーティリティ
+ *
+ * 大きなテキストをGZIP形式で保存・復元するための静的メソッドを提供
+ */
+public final class CompressionUtil {
+
+    private CompressionUtil() {
+        // ユーティリティクラスのためインスタンス化を防ぐ
+    }
+
+    /**
+     * 文字列をUTF-8でエンコードしてGZIP圧縮
+     *
+     * @param text 圧縮対象の文字列
+     * @return 圧縮データ、textがnullの場合null
+     */
+    public static byte[] gzip(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(text.length() / 4, 64));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("文字列の圧縮に失敗しました", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * GZIP圧縮データを展開してUTF-8文字列に復元
+     *
+     * @param compressed 圧縮データ
+     * @return 復元した文字列、compressedがnullの場合null
+     * @throws UncheckedIOException 圧縮データが不正な場合
+     */
+    public static String gunzip(byte[] compressed) {
+        if (compressed == null) {
+            return null;
+        }
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("圧縮データの展開に失敗しました", e);
+        }
+    }
+}
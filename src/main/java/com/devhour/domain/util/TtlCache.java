@@ -0,0 +1,142 @@
+package com.devhour.domain.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 有効期限・最大件数付きの小規模なインメモリキャッシュ
+ *
+ * 仕様:
+ * - エントリはTTL経過後に失効する
+ * - 最大件数を超える場合は失効済みエントリ、次いで最も早く失効するエントリから削除する
+ * - 読み込み中に破棄が発生した場合は、破棄前の状態の可能性があるため読み込み結果をキャッシュしない
+ * - nullはキャッシュしない
+ * - TTLが0または最大件数が0の場合はキャッシュしない
+ *
+ * @param <K> キーの型
+ * @param <V> 値の型
+ */
+public final class TtlCache<K, V> {
+
+    private static final Logger logger = LoggerFactory.getLogger(TtlCache.class);
+
+    private final String name;
+    private final Duration ttl;
+    private final int maxSize;
+    private final Clock clock;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    // 破棄の発生回数（読み込み中の破棄を検出するため）
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * @param name ログ出力用のキャッシュ名
+     * @param ttl エントリの有効期間（0以上）
+     * @param maxSize 最大件数（0以上）
+     * @param clock 有効期限の判定に使用する時計
+     */
+    public TtlCache(String name, Duration ttl, int maxSize, Clock clock) {
+        if (ttl == null || ttl.isNegative()) {
+            throw new IllegalArgumentException("TTLは0以上である必要があります");
+        }
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("最大件数は0以上である必要があります");
+        }
+        this.name = name;
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * 有効期限内の値を取得し、存在しない場合は読み込んでキャッシュ
+     *
+     * @param key キー
+     * @param loader キャッシュにない場合の読み込み処理（nullを返した場合はキャッシュしない）
+     * @return キャッシュ済みの値、または読み込んだ値
+     */
+    public V get(K key, Supplier<V> loader) {
+        Instant now = clock.instant();
+        Entry<V> cached = entries.get(key);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(now)) {
+                return cached.value();
+            }
+            entries.remove(key, cached);
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        V value = loader.get();
+        if (value == null || maxSize == 0 || ttl.isZero() || invalidations.get() != invalidationsBeforeLoad) {
+            return value;
+        }
+
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            evict(now);
+        }
+        Entry<V> loaded = new Entry<>(value, now.plus(ttl));
+        entries.put(key, loaded);
+        // 確認と登録の間に破棄が発生した場合は、破棄の走査より後に登録した可能性があるため取り消す
+        if (invalidations.get() != invalidationsBeforeLoad) {
+            entries.remove(key, loaded);
+        }
+        return value;
+    }
+
+    /**
+     * 指定キーのエントリを破棄
+     *
+     * @param key キー
+     */
+    public void invalidate(K key) {
+        invalidations.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * 条件に一致する値のエントリを破棄
+     *
+     * @param condition 破棄する値の条件
+     */
+    public void invalidateIf(Predicate<? super V> condition) {
+        invalidations.incrementAndGet();
+        entries.values().removeIf(entry -> condition.test(entry.value()));
+    }
+
+    /**
+     * キャッシュ件数を取得
+     *
+     * @return キャッシュ件数
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 失効済みエントリを削除し、なお上限に達している場合は最も早く失効するエントリを削除
+     */
+    private void evict(Instant now) {
+        entries.entrySet().removeIf(entry -> !entry.getValue().expiresAt().isAfter(now));
+
+        while (entries.size() >= maxSize) {
+            entries.entrySet().stream()
+                .min(Comparator.comparing(entry -> entry.getValue().expiresAt()))
+                .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+        }
+        logger.debug("{}キャッシュを整理: size={}", name, entries.size());
+    }
+
+    /**
+     * キャッシュエントリ
+     */
+    private record Entry<T>(T value, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.devhour.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.devhour.application.service.ApprovalAuthorityBatchService;
+
+/**
+ * 承認権限者バッチのメトリクス設定クラス
+ *
+ * 実行中または直近のバッチ処理の進捗をActuatorのメトリクスとして公開する
+ * - approval.authority-batch.lines-read: CSVの読み込み済み行数
+ * - approval.authority-batch.records{result=valid|error}: 検証に成功・失敗したレコード数
+ * - approval.authority-batch.phase: 処理段階（BatchProgress.Phaseの序数）
+ */
+@Configuration
+public class ApprovalAuthorityBatchMetricsConfig {
+
+    /**
+     * 承認権限者バッチの進捗をメトリクスに登録
+     *
+     * @param batchService 承認権限バッチサービス
+     * @return メトリクスバインダー
+     */
+    @Bean
+    public MeterBinder approvalAuthorityBatchMetrics(ApprovalAuthorityBatchService batchService) {
+        return registry -> {
+            Gauge.builder("approval.authority-batch.lines-read", batchService,
+                    service -> service.getProgress().linesRead())
+                .description("承認権限者CSVの読み込み済み行数")
+                .register(registry);
+            Gauge.builder("approval.authority-batch.records", batchService,
+                    service -> service.getProgress().validRecords())
+                .tag("result", "valid")
+                .description("検証に成功した承認権限者CSVのレコード数")
+                .register(registry);
+            Gauge.builder("approval.authority-batch.records", batchService,
+                    service -> service.getProgress().errorRecords())
+                .tag("result", "error")
+                .description("検証エラーとなった承認権限者CSVのレコード数")
+                .register(registry);
+            Gauge.builder("approval.authority-batch.phase", batchService,
+                    service -> service.getProgress().phase().ordinal())
+                .description("承認権限者バッチの処理段階（0:IDLE 1:PARSING 2:CALCULATING 3:APPLYING 4:COMPLETED 5:FAILED）")
+                .register(registry);
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.devhour.infrastructure.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.devhour.domain.service.ApproverRelationGraph;
+
+/**
+ * 承認者関係グラフのメトリクス設定クラス
+ *
+ * Actuatorのメトリクスとして以下を公開する
+ * - approval.approver-graph.lookups{result=hit|miss}: メモリ上で回答できた参照とDBアクセスを伴った参照の回数
+ * - approval.approver-graph.relations: 保持している承認者関係（対象者・承認者の組）の件数
+ */
+@Configuration
+public class ApproverRelationGraphMetricsConfig {
+
+    /**
+     * 承認者関係グラフのヒット・ミス数と保持件数をメトリクスに登録
+     *
+     * @param approverRelationGraph 承認者関係グラフ
+     * @return メトリクスバインダー
+     */
+    @Bean
+    public MeterBinder approverRelationGraphMetrics(ApproverRelationGraph approverRelationGraph) {
+        return registry -> {
+            FunctionCounter.builder("approval.approver-graph.lookups", approverRelationGraph,
+                    ApproverRelationGraph::getHitCount)
+                .tag("result", "hit")
+                .description("承認者関係グラフの参照のうちメモリ上で回答できた回数")
+                .register(registry);
+            FunctionCounter.builder("approval.approver-graph.lookups", approverRelationGraph,
+                    ApproverRelationGraph::getMissCount)
+                .tag("result", "miss")
+                .description("承認者関係グラフの参照のうちDBアクセスを伴った回数")
+                .register(registry);
+            Gauge.builder("approval.approver-graph.relations", approverRelationGraph, ApproverRelationGraph::size)
+                .description("承認者関係グラフが保持している承認者関係の件数")
+                .register(registry);
+        };
+    }
+}
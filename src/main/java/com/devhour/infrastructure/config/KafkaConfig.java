@@ -1,7 +1,12 @@
 package com.devhour.infrastructure.config;
 
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
 
 /**
  * Kafka設定クラス
@@ -13,4 +18,21 @@ import org.springframework.kafka.annotation.EnableKafka;
 public class KafkaConfig {
     // Kafka configuration will be auto-configured by Spring Boot
     // when spring.kafka.enabled=true
-}
\ No newline at end of file
+    
+    /**
+     * バッチ受信用のリスナーコンテナファクトリ
+     * 
+     * 1回のpollで取得したレコードをまとめてリスナーに渡し、
+     * リスナーがバッチ単位でオフセットをコミットする
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(AckMode.MANUAL);
+        return factory;
+    }
+}
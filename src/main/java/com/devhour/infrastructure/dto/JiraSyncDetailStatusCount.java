@@ -0,0 +1,63 @@
+package com.devhour.infrastructure.dto;
+
+import com.devhour.domain.model.valueobject.DetailStatus;
+
+/**
+ * 同期履歴ごとのステータス別詳細件数を表すDTO
+ * 同期履歴一覧で詳細本体を読み込まずに件数のみを取得する際に使用
+ */
+public class JiraSyncDetailStatusCount {
+
+    private String syncHistoryId;
+    private DetailStatus status;
+    private long count;
+
+    public JiraSyncDetailStatusCount() {
+        // MyBatisのマッピング用デフォルトコンストラクタ
+    }
+
+    public JiraSyncDetailStatusCount(String syncHistoryId, DetailStatus status, long count) {
+        this.syncHistoryId = syncHistoryId;
+        this.status = status;
+        this.count = count;
+    }
+
+    /**
+     * 同期履歴ID
+     */
+    public String getSyncHistoryId() {
+        return syncHistoryId;
+    }
+
+    public void setSyncHistoryId(String syncHistoryId) {
+        this.syncHistoryId = syncHistoryId;
+    }
+
+    /**
+     * 詳細ステータス
+     */
+    public DetailStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(DetailStatus status) {
+        this.status = status;
+    }
+
+    /**
+     * 詳細件数
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("JiraSyncDetailStatusCount{syncHistoryId='%s', status=%s, count=%d}",
+            syncHistoryId, status, count);
+    }
+}
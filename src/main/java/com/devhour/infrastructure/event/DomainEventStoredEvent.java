@@ -0,0 +1,12 @@
+package com.devhour.infrastructure.event;
+
+/**
+ * ドメインイベント保存通知
+ * 
+ * domain_eventsテーブルへのイベント保存時にアプリケーション内で通知するイベント
+ * 保存したトランザクションのコミット後にKafka発行処理を即座に起動するために使用
+ * 
+ * @param eventId 保存したドメインイベントのID
+ */
+public record DomainEventStoredEvent(String eventId) {
+}
@@ -1,5 +1,9 @@
 package com.devhour.infrastructure.jira;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -13,8 +17,11 @@ import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 import com.devhour.config.JiraConfiguration;
+import com.devhour.domain.model.valueobject.JiraSearchProjection;
 import com.devhour.infrastructure.jira.dto.JiraIssueSearchResponse;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -53,7 +60,7 @@ public class JiraClient {
     }
     
     /**
-     * JQLクエリを実行してプロジェクト情報を取得
+     * JQLクエリを実行してプロジェクト情報を取得（全項目を取得）
      * 
      * @param jqlQuery JQLクエリ文字列
      * @param maxResults 最大取得件数（デフォルト: 50）
@@ -62,6 +69,21 @@ public class JiraClient {
      * @throws JiraClientException JIRA通信エラーの場合
      */
     public JiraIssueSearchResponse searchIssues(String jqlQuery, Integer maxResults, Integer startAt) {
+        return searchIssues(jqlQuery, maxResults, startAt, JiraSearchProjection.all());
+    }
+    
+    /**
+     * JQLクエリを実行してプロジェクト情報を取得
+     * 
+     * @param jqlQuery JQLクエリ文字列
+     * @param maxResults 最大取得件数（デフォルト: 50）
+     * @param startAt 取得開始位置（デフォルト: 0）
+     * @param projection 取得する項目（fields / expand）
+     * @return JIRA検索結果
+     * @throws JiraClientException JIRA通信エラーの場合
+     */
+    public JiraIssueSearchResponse searchIssues(String jqlQuery, Integer maxResults, Integer startAt,
+                                                JiraSearchProjection projection) {
         log.info("JQLクエリ実行開始: query={}, maxResults={}, startAt={}", 
                 jqlQuery, maxResults, startAt);
         
@@ -71,7 +93,7 @@ public class JiraClient {
         validateSearchParameters(jqlQuery, maxResults, startAt);
         
         try {
-            String url = buildSearchUrl(jqlQuery, maxResults, startAt);
+            String url = buildSearchUrl(jqlQuery, maxResults, startAt, projection);
             HttpEntity<String> entity = new HttpEntity<>(createAuthHeaders());
             
             ResponseEntity<String> response = jiraRestTemplate.exchange(
@@ -81,7 +103,7 @@ public class JiraClient {
                 response.getBody(), JiraIssueSearchResponse.class);
             
             log.info("JQLクエリ実行完了: total={}, returned={}", 
-                    searchResponse.getIssues().size(), searchResponse.getIssues().size());
+                    searchResponse.getTotal(), searchResponse.getIssues().size());
             
             return searchResponse;
             
@@ -94,6 +116,55 @@ public class JiraClient {
         }
     }
 
+    /**
+     * JQLクエリを実行し、イシューを1件ずつ読み込みながら処理する（ストリーミングモード）
+     * 
+     * レスポンスボディを文字列として保持せず、入力ストリームをJsonParserで逐次読み込む。
+     * イシューは読み込んだ順に1件ずつissueConsumerへ渡し、ページ全体のイシューを同時に保持しない。
+     * 
+     * issueConsumerで発生した例外はそのまま呼び出し元に伝播する。
+     * 
+     * @param jqlQuery JQLクエリ文字列
+     * @param maxResults 最大取得件数（デフォルト: 50）
+     * @param startAt 取得開始位置（デフォルト: 0）
+     * @param projection 取得する項目（fields / expand）
+     * @param issueConsumer 読み込んだイシューを受け取る処理
+     * @return ページ情報（startAt, maxResults, total等）。issuesは常に空リスト
+     * @throws JiraClientException JIRA通信エラーまたはレスポンスのパースエラーの場合
+     */
+    public JiraIssueSearchResponse streamIssues(String jqlQuery, Integer maxResults, Integer startAt,
+                                                JiraSearchProjection projection, Consumer<JsonNode> issueConsumer) {
+        log.info("JQLクエリ実行開始(ストリーミング): query={}, maxResults={}, startAt={}", 
+                jqlQuery, maxResults, startAt);
+        
+        if (!jiraConfiguration.isConfigured()) {
+            throw new JiraClientException("JIRA APIトークンが設定されていません。JIRA統合機能を利用できません。");
+        }
+        validateSearchParameters(jqlQuery, maxResults, startAt);
+        if (issueConsumer == null) {
+            throw new IllegalArgumentException("Issue consumer is required");
+        }
+        
+        try {
+            String url = buildSearchUrl(jqlQuery, maxResults, startAt, projection);
+            HttpHeaders headers = createAuthHeaders();
+            
+            JiraIssueSearchResponse searchResponse = jiraRestTemplate.execute(
+                url, HttpMethod.GET,
+                request -> request.getHeaders().putAll(headers),
+                response -> readSearchResponse(response.getBody(), issueConsumer));
+            
+            log.info("JQLクエリ実行完了(ストリーミング): total={}", 
+                    searchResponse != null ? searchResponse.getTotal() : null);
+            
+            return searchResponse;
+            
+        } catch (RestClientException e) {
+            log.error("JIRA API通信エラー: query={}", jqlQuery, e);
+            throw new JiraClientException("Failed to search issues: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * 特定のイシューの詳細情報を取得
      *
@@ -184,25 +255,114 @@ public class JiraClient {
         return headers;
     }
     
+    /**
+     * 検索レスポンスを逐次読み込み
+     * 
+     * issues配列の要素は1件ずつツリーに変換してissueConsumerへ渡し、
+     * それ以外のページ情報のみを戻り値に保持する。
+     * 
+     * @param body レスポンスボディの入力ストリーム
+     * @param issueConsumer 読み込んだイシューを受け取る処理
+     * @return ページ情報（issuesは空リスト）
+     * @throws IOException ストリームの読み込みに失敗した場合
+     * @throws JiraClientException レスポンスのパースに失敗した場合
+     */
+    private JiraIssueSearchResponse readSearchResponse(InputStream body, Consumer<JsonNode> issueConsumer) throws IOException {
+        JiraIssueSearchResponse searchResponse = new JiraIssueSearchResponse();
+        searchResponse.setIssues(List.of());
+        
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JiraClientException("Failed to parse JIRA response");
+            }
+            
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                
+                switch (fieldName) {
+                    case "issues" -> readIssues(parser, valueToken, issueConsumer);
+                    case "expand" -> searchResponse.setExpand(parser.getValueAsString());
+                    case "startAt" -> searchResponse.setStartAt(readInteger(parser, valueToken));
+                    case "maxResults" -> searchResponse.setMaxResults(readInteger(parser, valueToken));
+                    case "total" -> searchResponse.setTotal(readInteger(parser, valueToken));
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.error("JIRAレスポンスのパースエラー", e);
+            throw new JiraClientException("Failed to parse JIRA response", e);
+        }
+        
+        return searchResponse;
+    }
+    
+    /**
+     * issues配列を1件ずつ読み込んで処理に渡す
+     * 
+     * @param parser issues配列の開始位置にあるパーサー
+     * @param valueToken issuesフィールドの値トークン
+     * @param issueConsumer 読み込んだイシューを受け取る処理
+     * @throws IOException ストリームの読み込みに失敗した場合
+     */
+    private void readIssues(JsonParser parser, JsonToken valueToken, Consumer<JsonNode> issueConsumer) throws IOException {
+        if (valueToken != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+            JsonNode issue = parser.readValueAsTree();
+            if (issue != null && issue.isObject()) {
+                issueConsumer.accept(issue);
+            }
+        }
+    }
+    
+    /**
+     * 数値フィールドの読み込み（数値以外はnull）
+     * 
+     * @param parser 値の位置にあるパーサー
+     * @param valueToken 値トークン
+     * @return 数値、数値でない場合null
+     * @throws IOException ストリームの読み込みに失敗した場合
+     */
+    private Integer readInteger(JsonParser parser, JsonToken valueToken) throws IOException {
+        if (valueToken == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        parser.skipChildren();
+        return null;
+    }
+    
     /**
      * 検索用URLを構築
      * 
      * @param jqlQuery JQLクエリ
      * @param maxResults 最大取得件数
      * @param startAt 開始位置
+     * @param projection 取得する項目（nullの場合は全項目）
      * @return 構築されたURL
      */
-    private String buildSearchUrl(String jqlQuery, Integer maxResults, Integer startAt) {
+    private String buildSearchUrl(String jqlQuery, Integer maxResults, Integer startAt, JiraSearchProjection projection) {
         log.info("元のJQLクエリ: '{}'", jqlQuery);
+        JiraSearchProjection searchProjection = projection != null ? projection : JiraSearchProjection.all();
         
         // UriComponentsBuilderを使用して適切なURLエンコーディングを行う（エンコードなし）
-        String url = UriComponentsBuilder
+        UriComponentsBuilder builder = UriComponentsBuilder
             .fromUriString(jiraConfiguration.getFullApiUrl("/rest/api/3/search/jql"))
             .queryParam("jql", jqlQuery)
             .queryParam("maxResults", maxResults != null ? maxResults : 50)
-            .queryParam("startAt", startAt != null ? startAt : 0)
-            .queryParam("expand", "renderedFields,names,schema,operations,editmeta,changelog")
-            .queryParam("fields", "*all,-comment,-attachment,-worklog")
+            .queryParam("startAt", startAt != null ? startAt : 0);
+        
+        // 展開不要の場合はexpandを送らない
+        if (searchProjection.expandParameter() != null) {
+            builder.queryParam("expand", searchProjection.expandParameter());
+        }
+        
+        String url = builder
+            .queryParam("fields", searchProjection.fieldsParameter())
             .build(false)  // エンコードを無効にする
             .toUriString();
         
@@ -0,0 +1,270 @@
+package com.devhour.infrastructure.jira;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import com.devhour.domain.exception.JiraRateLimitException;
+import com.devhour.domain.exception.JiraSyncException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JIRA API呼び出し用の適応型トークンバケット
+ *
+ * JIRA APIへの全リクエスト（定期同期・手動同期・イシュー詳細取得・接続テスト）で共有し、
+ * リクエスト送信前に許可を取得することで429エラーを事前に回避する。
+ *
+ * 適応ルール:
+ * - X-RateLimit-Limit: バケット容量を更新
+ * - X-RateLimit-FillRate / X-RateLimit-Interval-Seconds: 補充レートを更新
+ * - X-RateLimit-Remaining: 残りトークン数をサーバー側の値以下に補正
+ * - Retry-After（429/503）: 指定時間までトークンの補充を停止し、全呼び出し元を待機させる
+ * - レート制限ヘッダーなしの429: 補充レートを半減し、以降の成功応答ごとに初期レートまで徐々に回復
+ *
+ * トークンは先取り（負の残高を許容）で予約するため、待機中の呼び出し元も到着順に一定間隔で送信される。
+ *
+ * 呼び出しスレッドを停止させる待機は最大待機時間までに限る。それを超える場合はトークンを予約せずに
+ * JiraRateLimitExceptionで即座に失敗させ、例外の待機秒数に従った再実行は呼び出し元に委ねる
+ * （JIRA同期ではクエリを延期して再スケジュールする）。これにより並列実行・先読みのスレッドが長時間停止しない。
+ */
+@Slf4j
+public class JiraRateLimiter {
+
+    static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    static final String HEADER_FILL_RATE = "X-RateLimit-FillRate";
+    static final String HEADER_INTERVAL_SECONDS = "X-RateLimit-Interval-Seconds";
+    static final String HEADER_RETRY_AFTER = "Retry-After";
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final double MIN_REQUESTS_PER_SECOND = 0.1;
+    private static final double RECOVERY_RATIO = 0.05;
+    private static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(2);
+
+    private final double configuredRequestsPerSecond;
+    private final long maxWaitNanos;
+    private final LongSupplier nanoClock;
+
+    private double capacity;
+    private double requestsPerSecond;
+    private double tokens;
+    private long lastRefillNanos;
+    private boolean serverRateKnown;
+
+    /**
+     * JiraRateLimiterのコンストラクタ
+     *
+     * @param requestsPerSecond 初期の補充レート（リクエスト/秒）
+     * @param burst バケット容量
+     */
+    public JiraRateLimiter(double requestsPerSecond, int burst) {
+        this(requestsPerSecond, burst, DEFAULT_MAX_WAIT);
+    }
+
+    /**
+     * 最大待機時間を指定するコンストラクタ
+     *
+     * @param requestsPerSecond 初期の補充レート（リクエスト/秒）
+     * @param burst バケット容量
+     * @param maxWait 呼び出しスレッドを停止させる最大待機時間
+     */
+    public JiraRateLimiter(double requestsPerSecond, int burst, Duration maxWait) {
+        this(requestsPerSecond, burst, maxWait, System::nanoTime);
+    }
+
+    /**
+     * 時刻取得関数を指定するコンストラクタ（テスト用）
+     *
+     * @param requestsPerSecond 初期の補充レート（リクエスト/秒）
+     * @param burst バケット容量
+     * @param maxWait 呼び出しスレッドを停止させる最大待機時間
+     * @param nanoClock 単調増加するナノ秒時刻の取得関数
+     */
+    JiraRateLimiter(double requestsPerSecond, int burst, Duration maxWait, LongSupplier nanoClock) {
+        if (requestsPerSecond < MIN_REQUESTS_PER_SECOND) {
+            throw new IllegalArgumentException("補充レートは0.1以上で指定してください");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("バケット容量は1以上で指定してください");
+        }
+        if (maxWait == null || maxWait.isNegative()) {
+            throw new IllegalArgumentException("最大待機時間は0以上で指定してください");
+        }
+        this.configuredRequestsPerSecond = requestsPerSecond;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.requestsPerSecond = requestsPerSecond;
+        this.capacity = burst;
+        this.tokens = burst;
+        this.nanoClock = nanoClock;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * リクエスト1件分の許可を取得
+     *
+     * トークンが不足している場合は、予約したトークンが補充されるまで最大待機時間まで待機する。
+     *
+     * @throws JiraRateLimitException 送信可能になるまでの時間が最大待機時間を超える場合（トークンは予約しない）
+     * @throws JiraSyncException 待機中に割り込みが発生した場合
+     */
+    public void acquire() {
+        long waitNanos = reserve();
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        log.debug("JIRA APIレート制限のため送信待機: {} ms", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JiraSyncException("JIRA APIレート制限の待機中に割り込みが発生しました", e);
+        }
+    }
+
+    /**
+     * トークンを1件予約し、送信可能になるまでの待機時間を返す
+     *
+     * @return 待機時間（ナノ秒）、即時送信可能な場合0
+     * @throws JiraRateLimitException 待機時間が最大待機時間を超える場合（トークンは予約しない）
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        double remaining = tokens - 1;
+
+        // 補充停止中（Retry-After）の場合は停止解除までの時間を加算
+        long frozenNanos = Math.max(0, lastRefillNanos - now);
+        long debtNanos = remaining < 0 ? (long) Math.ceil(-remaining / requestsPerSecond * NANOS_PER_SECOND) : 0;
+        long waitNanos = frozenNanos + debtNanos;
+        if (waitNanos > maxWaitNanos) {
+            long retryAfterSeconds = (long) Math.ceil(waitNanos / NANOS_PER_SECOND);
+            throw new JiraRateLimitException(
+                String.format("JIRA APIレート制限の待機時間が上限を超えています: %d ms", TimeUnit.NANOSECONDS.toMillis(waitNanos)),
+                retryAfterSeconds);
+        }
+        tokens = remaining;
+        return waitNanos;
+    }
+
+    /**
+     * JIRAのレスポンスヘッダーからレート制限状態を反映
+     *
+     * @param statusCode HTTPステータスコード
+     * @param headers レスポンスヘッダー
+     */
+    public synchronized void onResponse(HttpStatusCode statusCode, HttpHeaders headers) {
+        long now = nanoClock.getAsLong();
+        refill(now);
+
+        Double limit = parseDouble(headers.getFirst(HEADER_LIMIT));
+        if (limit != null && limit >= 1) {
+            capacity = limit;
+            tokens = Math.min(tokens, capacity);
+        }
+
+        Double fillRate = parseDouble(headers.getFirst(HEADER_FILL_RATE));
+        Double intervalSeconds = parseDouble(headers.getFirst(HEADER_INTERVAL_SECONDS));
+        if (fillRate != null && fillRate > 0) {
+            double interval = intervalSeconds != null && intervalSeconds > 0 ? intervalSeconds : 1.0;
+            requestsPerSecond = Math.max(fillRate / interval, MIN_REQUESTS_PER_SECOND);
+            serverRateKnown = true;
+        }
+
+        Double remaining = parseDouble(headers.getFirst(HEADER_REMAINING));
+        if (remaining != null && remaining >= 0) {
+            tokens = Math.min(tokens, remaining);
+        }
+
+        Duration retryAfter = parseRetryAfter(headers.getFirst(HEADER_RETRY_AFTER));
+        if (retryAfter != null && (statusCode.value() == 429 || statusCode.value() == 503)) {
+            pause(now, retryAfter);
+        }
+
+        if (statusCode.value() == 429) {
+            if (!serverRateKnown) {
+                requestsPerSecond = Math.max(requestsPerSecond / 2, MIN_REQUESTS_PER_SECOND);
+            }
+            tokens = Math.min(tokens, 0);
+            log.warn("JIRA APIレート制限を検出: requestsPerSecond={}, retryAfter={}", requestsPerSecond, retryAfter);
+        } else if (statusCode.is2xxSuccessful() && !serverRateKnown && requestsPerSecond < configuredRequestsPerSecond) {
+            requestsPerSecond = Math.min(requestsPerSecond + configuredRequestsPerSecond * RECOVERY_RATIO,
+                                         configuredRequestsPerSecond);
+        }
+    }
+
+    /**
+     * 現在の補充レートを取得
+     *
+     * @return 補充レート（リクエスト/秒）
+     */
+    public synchronized double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    /**
+     * 現在のバケット容量を取得
+     *
+     * @return バケット容量
+     */
+    public synchronized double getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 経過時間分のトークンを補充
+     *
+     * @param now 現在時刻（ナノ秒）
+     */
+    private void refill(long now) {
+        if (now <= lastRefillNanos) {
+            return;
+        }
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / NANOS_PER_SECOND * requestsPerSecond);
+        lastRefillNanos = now;
+    }
+
+    /**
+     * 指定時間トークンの補充を停止
+     *
+     * @param now 現在時刻（ナノ秒）
+     * @param duration 停止時間
+     */
+    private void pause(long now, Duration duration) {
+        tokens = Math.min(tokens, 0);
+        lastRefillNanos = Math.max(lastRefillNanos, now + duration.toNanos());
+    }
+
+    /**
+     * 数値ヘッダーの解析
+     *
+     * @param value ヘッダー値
+     * @return 数値、解析できない場合null
+     */
+    private Double parseDouble(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            log.debug("レート制限ヘッダーの解析に失敗: {}", value);
+            return null;
+        }
+    }
+
+    /**
+     * Retry-Afterヘッダー（秒数）の解析
+     *
+     * @param value ヘッダー値
+     * @return 待機時間、解析できない場合null
+     */
+    private Duration parseRetryAfter(String value) {
+        Double seconds = parseDouble(value);
+        if (seconds == null || seconds < 0) {
+            return null;
+        }
+        return Duration.ofMillis((long) (seconds * 1000));
+    }
+}
@@ -1,69 +1,192 @@
 package com.devhour.infrastructure.kafka;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.devhour.domain.event.WorkRecordApprovalEvent;
 import com.devhour.domain.repository.DomainEventRepository;
+import com.devhour.infrastructure.event.DomainEventStoredEvent;
+import jakarta.annotation.PreDestroy;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * ドメインイベント発行サービス
  * 
  * Outboxパターンでドメインイベントを確実にKafkaへ発行
+ * 
+ * 未発行イベントはバッチ単位で行ロック（SKIP LOCKED）付きで取得するため、
+ * 複数ノードで同時に実行しても同じイベントを重複して発行しない。
+ * バッチ内のイベントはまとめて非同期送信し、送信結果は1回のUPDATEで反映する。
+ * 取得件数がバッチサイズに達した場合は待機せずに次のバッチを処理し、滞留を解消する。
+ * 
+ * イベントを保存したトランザクションのコミット後には、そのイベントを即座に発行する。
+ * 定期ポーリングは即時発行に失敗したイベントの救済として動作する。
  */
 @Service
 public class DomainEventPublisher {
     
     private static final Logger logger = LoggerFactory.getLogger(DomainEventPublisher.class);
     private static final String TOPIC = "work-record-approval-changed";
-    private static final int BATCH_SIZE = 100;
     private static final int MAX_RETRY_COUNT = 3;
     
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final DomainEventRepository domainEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    // 1回の取得・送信で扱うイベント数
+    @Value("${kafka.outbox.batch-size:100}")
+    private int batchSize = 100;
+    
+    // 1回のポーリングで連続処理する最大バッチ数（滞留時のみ連続処理する）
+    @Value("${kafka.outbox.max-batches-per-poll:50}")
+    private int maxBatchesPerPoll = 50;
+    
+    // バッチ送信結果の待機時間（ミリ秒）
+    @Value("${kafka.outbox.send-timeout-ms:30000}")
+    private long sendTimeoutMs = 30000;
+    
+    // コミット直後のイベントを即時発行するか
+    @Value("${kafka.outbox.publish-on-commit:true}")
+    private boolean publishOnCommit = true;
+    
+    // コミット済みで即時発行待ちのイベントID（複数コミット分をまとめて発行する）
+    private final Set<String> committedEventIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean committedPublishScheduled = new AtomicBoolean();
+    private final ExecutorService committedPublishExecutor =
+        Executors.newSingleThreadExecutor(new CustomizableThreadFactory("outbox-publish-on-commit-"));
     
     public DomainEventPublisher(KafkaTemplate<String, Object> kafkaTemplate,
                                DomainEventRepository domainEventRepository,
-                               ObjectMapper objectMapper) {
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager) {
         this.kafkaTemplate = kafkaTemplate;
         this.domainEventRepository = domainEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     
     /**
-     * 定期的に未発行イベントを発行（5秒ごと）
+     * 定期的に未発行イベントを発行（既定5秒ごと、即時発行の救済用）
+     * 
+     * バッチが満杯の間は待機せずに次のバッチを処理し、空きが出た時点で次回のポーリングまで待機する。
+     * 各バッチは個別のトランザクションで取得・発行・結果反映を行う。
      */
-    @Scheduled(fixedDelay = 5000)
-    @Transactional
+    @Scheduled(fixedDelayString = "${kafka.outbox.poll-interval-ms:5000}")
     public void publishPendingEvents() {
-        List<WorkRecordApprovalEvent> pendingEvents = 
-            domainEventRepository.findPendingEvents(BATCH_SIZE);
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            Integer claimed = transactionTemplate.execute(status ->
+                publishBatch(domainEventRepository.claimPendingEvents(MAX_RETRY_COUNT, batchSize)));
+            if (claimed == null || claimed < batchSize) {
+                return;
+            }
+        }
+        logger.info("未発行イベントが滞留しています: 1回のポーリングで{}バッチを処理", maxBatchesPerPoll);
+    }
+    
+    /**
+     * イベント保存トランザクションのコミット後に即時発行を起動
+     * 
+     * 呼び出し元スレッド（承認APIのリクエストスレッド）では発行を行わず、
+     * 発行用スレッドに引き渡してまとめて発行する。
+     * トランザクション外で保存された場合は保存直後に起動する。
+     * 
+     * @param event ドメインイベント保存通知
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDomainEventStored(DomainEventStoredEvent event) {
+        if (!publishOnCommit) {
+            return;
+        }
+        
+        committedEventIds.add(event.eventId());
+        if (committedPublishScheduled.compareAndSet(false, true)) {
+            try {
+                committedPublishExecutor.execute(this::publishCommittedEvents);
+            } catch (RejectedExecutionException e) {
+                // 停止処理中は定期ポーリングに任せる
+                committedPublishScheduled.set(false);
+                logger.warn("即時発行を起動できませんでした。定期ポーリングで発行します: eventId={}", event.eventId());
+            }
+        }
+    }
+    
+    /**
+     * コミット済みイベントをバッチで発行
+     * 
+     * 他ノードのポーリングが取得中のイベントは読み飛ばす。
+     * 失敗した場合も未発行のまま残るため、定期ポーリングで再度発行される。
+     */
+    void publishCommittedEvents() {
+        // 取り出し前にフラグを戻し、取り出し後に届いたイベントで次の発行を起動できるようにする
+        committedPublishScheduled.set(false);
         
-        for (WorkRecordApprovalEvent event : pendingEvents) {
-            publishEvent(event);
+        List<String> eventIds = new ArrayList<>();
+        for (Iterator<String> it = committedEventIds.iterator(); it.hasNext();) {
+            eventIds.add(it.next());
+            it.remove();
         }
+        
+        for (int from = 0; from < eventIds.size(); from += batchSize) {
+            List<String> chunk = eventIds.subList(from, Math.min(from + batchSize, eventIds.size()));
+            try {
+                transactionTemplate.execute(status ->
+                    publishBatch(domainEventRepository.claimPendingEventsByIds(chunk)));
+            } catch (Exception e) {
+                logger.warn("コミット済みイベントの即時発行に失敗しました。定期ポーリングで再試行します: count={}, error={}",
+                    chunk.size(), e.getMessage(), e);
+            }
+        }
+    }
+    
+    /**
+     * 即時発行用スレッドを停止
+     */
+    @PreDestroy
+    public void shutdown() {
+        committedPublishExecutor.shutdown();
     }
     
     /**
      * リトライ可能なイベントを再発行（30秒ごと）
      */
     @Scheduled(fixedDelay = 30000)
-    @Transactional
     public void retryFailedEvents() {
-        List<WorkRecordApprovalEvent> retryableEvents = 
-            domainEventRepository.findRetryableEvents(MAX_RETRY_COUNT, BATCH_SIZE);
-        
-        for (WorkRecordApprovalEvent event : retryableEvents) {
-            domainEventRepository.incrementRetryCount(event.eventId());
-            publishEvent(event);
-        }
+        transactionTemplate.executeWithoutResult(status -> {
+            List<WorkRecordApprovalEvent> retryableEvents =
+                domainEventRepository.claimPendingEvents(MAX_RETRY_COUNT, batchSize);
+            if (retryableEvents.isEmpty()) {
+                return;
+            }
+            
+            domainEventRepository.incrementRetryCounts(
+                retryableEvents.stream().map(WorkRecordApprovalEvent::eventId).toList());
+            publishBatch(retryableEvents);
+        });
     }
     
     /**
@@ -77,6 +200,57 @@ public class DomainEventPublisher {
         logger.info("削除された古いイベント数: {}", deletedCount);
     }
     
+    /**
+     * イベントのバッチを発行し、結果を一括で反映
+     * 
+     * 全イベントを送信してから送信結果をまとめて待機し、
+     * 成功・失敗それぞれを1回のUPDATEで記録する。
+     * 
+     * @param events 発行対象のイベント
+     * @return 処理したイベント数
+     */
+    private int publishBatch(List<WorkRecordApprovalEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        
+        Map<String, CompletableFuture<SendResult<String, Object>>> futures = new LinkedHashMap<>();
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (WorkRecordApprovalEvent event : events) {
+            try {
+                // パーティションキーはuserIdを使用
+                futures.put(event.eventId(), kafkaTemplate.send(TOPIC, event.userId(), event));
+            } catch (Exception e) {
+                failures.put(event.eventId(), e.getMessage());
+                logger.error("イベント発行エラー: eventId={}, error={}", event.eventId(), e.getMessage(), e);
+            }
+        }
+        
+        List<String> published = new ArrayList<>(futures.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (Map.Entry<String, CompletableFuture<SendResult<String, Object>>> entry : futures.entrySet()) {
+            try {
+                entry.getValue().get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+                published.add(entry.getKey());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                failures.put(entry.getKey(), cause.getMessage());
+                logger.error("イベント発行失敗: eventId={}, error={}", entry.getKey(), cause.getMessage(), cause);
+            } catch (TimeoutException e) {
+                failures.put(entry.getKey(), "Kafka送信がタイムアウトしました");
+                logger.error("イベント発行タイムアウト: eventId={}", entry.getKey());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failures.put(entry.getKey(), "Kafka送信の待機が中断されました");
+            }
+        }
+        
+        domainEventRepository.markAllAsPublished(published);
+        domainEventRepository.markAllAsFailed(failures);
+        logger.info("イベントバッチ発行完了: topic={}, published={}, failed={}", TOPIC, published.size(), failures.size());
+        return events.size();
+    }
+    
     /**
      * 単一イベントを発行
      */
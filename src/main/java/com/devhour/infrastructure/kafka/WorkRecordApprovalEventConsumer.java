@@ -1,22 +1,38 @@
 package com.devhour.infrastructure.kafka;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import com.devhour.domain.event.WorkRecordApprovalEvent;
+import com.devhour.domain.model.entity.WorkRecordApprovalHistory;
 import com.devhour.domain.repository.WorkRecordApprovalHistoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * 工数記録イベントコンシューマー
  * 
- * Kafkaから工数記録変更イベントを受信して処理
+ * Kafkaから工数記録変更イベントをバッチで受信して処理
+ * 
+ * 1回のpollで受信したイベントについて、登録済み履歴の確認を1回のクエリで行い、
+ * 未登録の承認履歴をまとめて登録した後、オフセットをバッチ単位でコミットする。
+ * リスナーの並行数はパーティション数を上限として設定で変更できる。
+ * 
+ * 一括登録に失敗した場合（削除済みのプロジェクト・工数記録を参照するイベントによる外部キー違反など）は
+ * レコード単位の登録に切り替え、失敗したレコードの位置をBatchListenerFailedExceptionで通知する。
+ * エラーハンドラーは失敗位置より前のオフセットをコミットし、失敗したレコードのみをリトライ・スキップするため、
+ * 1件の不正なイベントで同じpollの他のイベントが破棄されることはない。
+ * 登録済みのレコードはコミット済みとなるよう、リスナー全体をトランザクションで囲まない
+ * （再受信時は履歴IDによる重複排除で二重登録されない）。
  */
 @Service
 public class WorkRecordApprovalEventConsumer {
@@ -24,107 +40,155 @@ public class WorkRecordApprovalEventConsumer {
     private static final Logger logger = LoggerFactory.getLogger(WorkRecordApprovalEventConsumer.class);
     
     private final WorkRecordApprovalHistoryRepository approvalHistoryRepository;
+    private final ObjectMapper objectMapper;
     
     public WorkRecordApprovalEventConsumer(WorkRecordApprovalHistoryRepository approvalHistoryRepository,
                                   ObjectMapper objectMapper) {
         this.approvalHistoryRepository = approvalHistoryRepository;
+        this.objectMapper = objectMapper;
     }
     
     /**
-     * 工数記録変更イベントを処理
+     * 工数記録変更イベントをバッチで処理
      */
     @KafkaListener(topics = "work-record-approval-changed", 
                   groupId = "${spring.kafka.consumer.group-id:work-hours-approval-group}",
-                  containerFactory = "kafkaListenerContainerFactory")
-    @Transactional
-    public void handleWorkRecordApprovalEvent(@Payload WorkRecordApprovalEvent event,
-                                            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
-                                            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-                                            @Header(KafkaHeaders.OFFSET) long offset,
-                                            Acknowledgment acknowledgment) {
+                  containerFactory = "batchKafkaListenerContainerFactory",
+                  concurrency = "${kafka.consumer.work-record-approval.concurrency:3}",
+                  properties = "max.poll.records:${kafka.consumer.work-record-approval.max-poll-records:500}")
+    public void handleWorkRecordApprovalEvents(List<ConsumerRecord<String, WorkRecordApprovalEvent>> records,
+                                               Acknowledgment acknowledgment) {
+        if (records.isEmpty()) {
+            acknowledgment.acknowledge();
+            return;
+        }
+        
+        ConsumerRecord<String, WorkRecordApprovalEvent> first = records.get(0);
+        ConsumerRecord<String, WorkRecordApprovalEvent> last = records.get(records.size() - 1);
+        logger.info("イベント受信: count={}, topic={}, partition={}, offsets={}-{}",
+            records.size(), first.topic(), first.partition(), first.offset(), last.offset());
+        
         try {
-            logger.info("イベント受信: eventId={}, action={}, topic={}, partition={}, offset={}",
-                event.eventId(), event.action(), topic, partition, offset);
-            
-            // イベントIDをhistoryIdとして使用（workRecordId#version形式）
-            String historyId = event.eventId();
-            
-            // 既に処理済みかチェック（重複排除）
-            if (approvalHistoryRepository.existsById(historyId)) {
-                logger.info("既に処理済みのイベント: historyId={}", historyId);
-                acknowledgment.acknowledge();
-                return;
+            // レコードごとに承認履歴を作成（バッチ内の重複は先勝ち）
+            Set<String> historyIds = new LinkedHashSet<>();
+            List<List<WorkRecordApprovalHistory>> historiesByRecord = new ArrayList<>(records.size());
+            for (ConsumerRecord<String, WorkRecordApprovalEvent> record : records) {
+                List<WorkRecordApprovalHistory> recordHistories = new ArrayList<>();
+                WorkRecordApprovalEvent event = record.value();
+                if (event == null) {
+                    logger.warn("空のイベントをスキップ: partition={}, offset={}", record.partition(), record.offset());
+                } else {
+                    for (WorkRecordApprovalHistory history : createApprovalHistories(event)) {
+                        if (historyIds.add(history.getHistoryId())) {
+                            recordHistories.add(history);
+                        }
+                    }
+                }
+                historiesByRecord.add(recordHistories);
             }
             
-            // 承認履歴を作成
-            // ApprovalHistory history = createApprovalHistory(event);
-            // approvalHistoryRepository.save(history);
+            // 既に処理済みの履歴を1回のクエリで除外（重複排除）
+            Set<String> existingIds = historyIds.isEmpty()
+                ? Set.of()
+                : approvalHistoryRepository.findExistingIds(historyIds);
+            List<WorkRecordApprovalHistory> newHistories = new ArrayList<>();
+            for (List<WorkRecordApprovalHistory> recordHistories : historiesByRecord) {
+                recordHistories.removeIf(history -> existingIds.contains(history.getHistoryId()));
+                newHistories.addAll(recordHistories);
+            }
             
-            // イベント処理完了をログ出力
-            // logEventProcessed(event);
+            if (!newHistories.isEmpty()) {
+                saveHistories(records, historiesByRecord, newHistories);
+            }
             
-            // Kafkaオフセットをコミット
+            // Kafkaオフセットをバッチ単位でコミット
             acknowledgment.acknowledge();
             
-            logger.info("イベント処理完了: eventId={}", event.eventId());
+            logger.info("イベント処理完了: count={}, inserted={}, skipped={}",
+                records.size(), newHistories.size(), existingIds.size());
             
         } catch (Exception e) {
-            logger.error("イベント処理エラー: eventId={}, error={}", 
-                event.eventId(), e.getMessage(), e);
-            // エラー時はオフセットをコミットしない（リトライ対象とする）
+            logger.error("イベント処理エラー: count={}, partition={}, offsets={}-{}, error={}",
+                records.size(), first.partition(), first.offset(), last.offset(), e.getMessage(), e);
+            // エラー時はオフセットをコミットしない（失敗位置以降をリトライ対象とする）
             throw e;
         }
     }
     
     /**
-     * イベントから承認履歴を作成
+     * 承認履歴を一括登録し、失敗した場合はレコード単位で登録し直す
+     * 
+     * @throws BatchListenerFailedException レコード単位の登録に失敗した場合（失敗したレコードの位置を含む）
      */
-    // private ApprovalHistory createApprovalHistory(WorkRecordApprovalEvent event) {
-    //     try {
-    //         // イベント自体をJSON化してスナップショットとする
-    //         String workRecordSnapshot = objectMapper.writeValueAsString(event);
-            
-    //         return ApprovalHistory.restore(
-    //             event.eventId(),
-    //             event.workRecordId(),
-    //             event.userId(),
-    //             event.projectId(),
-    //             event.workDate(),
-    //             event.categoryHours(),
-    //             event.totalHours(),
-    //             event.description(),
-    //             event.action(),
-    //             event.previousStatus(),
-    //             event.currentStatus(),
-    //             event.approverId(),
-    //             event.rejectionReason(),
-    //             workRecordSnapshot,
-    //             event.occurredAt(),
-    //             event.occurredAt()
-    //         );
-    //     } catch (Exception e) {
-    //         throw new RuntimeException("承認履歴の作成に失敗しました", e);
-    //     }
-    // }
+    private void saveHistories(List<ConsumerRecord<String, WorkRecordApprovalEvent>> records,
+                               List<List<WorkRecordApprovalHistory>> historiesByRecord,
+                               List<WorkRecordApprovalHistory> newHistories) {
+        try {
+            approvalHistoryRepository.saveAll(newHistories);
+            return;
+        } catch (RuntimeException e) {
+            logger.warn("承認履歴の一括登録に失敗したためレコード単位で登録: count={}, error={}",
+                newHistories.size(), e.getMessage());
+        }
+        
+        for (int index = 0; index < historiesByRecord.size(); index++) {
+            List<WorkRecordApprovalHistory> recordHistories = historiesByRecord.get(index);
+            if (recordHistories.isEmpty()) {
+                continue;
+            }
+            try {
+                approvalHistoryRepository.saveAll(recordHistories);
+            } catch (RuntimeException e) {
+                ConsumerRecord<String, WorkRecordApprovalEvent> record = records.get(index);
+                throw new BatchListenerFailedException(
+                    String.format("承認履歴の登録に失敗: partition=%d, offset=%d", record.partition(), record.offset()),
+                    e, index);
+            }
+        }
+    }
     
-    // /**
-    //  * イベント処理完了をログ出力
-    //  */
-    // private void logEventProcessed(WorkRecordApprovalEvent event) {
-    //     String actionDescription = switch (event.action()) {
-    //         case "CREATE" -> "工数記録作成";
-    //         case "UPDATE" -> "工数記録更新";
-    //         case "APPROVE" -> "承認";
-    //         case "REJECT" -> "却下";
-    //         case "RESUBMIT" -> "再申請";
-    //         default -> event.action();
-    //     };
+    /**
+     * イベントから対象工数記録ごとの承認履歴を作成
+     * 
+     * 履歴IDは「イベントID#工数記録ID」形式とし、同一イベントの再受信時に重複登録されないようにする
+     */
+    private List<WorkRecordApprovalHistory> createApprovalHistories(WorkRecordApprovalEvent event) {
+        if (event.targetWorkRecords() == null) {
+            return List.of();
+        }
         
-    //     logger.info("アクション処理: {} - workRecordId={}, userId={}, projectId={}, workDate={}",
-    //         actionDescription,
-    //         event.workRecordId(),
-    //         event.userId(),
-    //         event.projectId(),
-    //         event.workDate());
-    // }
-}
\ No newline at end of file
+        List<WorkRecordApprovalHistory> histories = new ArrayList<>(event.targetWorkRecords().size());
+        for (WorkRecordApprovalEvent.WorkRecordSnapshot snapshot : event.targetWorkRecords()) {
+            histories.add(WorkRecordApprovalHistory.restore(
+                event.eventId() + "#" + snapshot.workRecordId(),
+                snapshot.workRecordId(),
+                event.userId(),
+                snapshot.projectId(),
+                event.workDate(),
+                snapshot.categoryHoursJson() != null ? snapshot.categoryHoursJson() : "{}",
+                snapshot.totalHours() != null ? snapshot.totalHours() : BigDecimal.ZERO,
+                snapshot.description(),
+                event.action(),
+                null, // 変更前ステータスはイベントに含まれない
+                event.currentStatus(),
+                event.approverId(),
+                event.rejectionReason(),
+                toJson(snapshot),
+                event.occurredAt(),
+                event.occurredAt()
+            ));
+        }
+        return histories;
+    }
+    
+    /**
+     * 工数記録スナップショットをJSON化
+     */
+    private String toJson(WorkRecordApprovalEvent.WorkRecordSnapshot snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("承認履歴の作成に失敗しました", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.devhour.infrastructure.mapper;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -186,6 +187,46 @@ public interface ApprovalAuthorityMapper {
         """)
     void update(ApprovalAuthority approvalAuthority);
 
+    /**
+     * 承認権限を一括登録（メールアドレスが既存の場合は更新）
+     * 承認権限バッチでの差分適用に使用
+     * 既存行のIDと作成日時は維持される
+     * 
+     * @param authorities 登録対象の承認権限エンティティのリスト（空でないこと）
+     */
+    @Insert("""
+        <script>
+        INSERT INTO approval_authorities (
+            id, email, name, position,
+            level_1_code, level_1_name, level_2_code, level_2_name,
+            level_3_code, level_3_name, level_4_code, level_4_name,
+            created_at, updated_at
+        ) VALUES
+        <foreach item='authority' collection='authorities' separator=','>
+        (
+            #{authority.id}, #{authority.email}, #{authority.name},
+            #{authority.position, typeHandler=com.devhour.infrastructure.typehandler.PositionTypeHandler},
+            #{authority.level1Code}, #{authority.level1Name}, #{authority.level2Code}, #{authority.level2Name},
+            #{authority.level3Code}, #{authority.level3Name}, #{authority.level4Code}, #{authority.level4Name},
+            #{authority.createdAt}, #{authority.updatedAt}
+        )
+        </foreach>
+        ON DUPLICATE KEY UPDATE
+            name = VALUES(name),
+            position = VALUES(position),
+            level_1_code = VALUES(level_1_code),
+            level_1_name = VALUES(level_1_name),
+            level_2_code = VALUES(level_2_code),
+            level_2_name = VALUES(level_2_name),
+            level_3_code = VALUES(level_3_code),
+            level_3_name = VALUES(level_3_name),
+            level_4_code = VALUES(level_4_code),
+            level_4_name = VALUES(level_4_name),
+            updated_at = VALUES(updated_at)
+        </script>
+        """)
+    void upsertAll(@Param("authorities") List<ApprovalAuthority> authorities);
+
     /**
      * メールアドレスで承認権限を削除
      * 承認権限者の削除・無効化に使用
@@ -198,6 +239,23 @@ public interface ApprovalAuthorityMapper {
         """)
     void deleteByEmail(@Param("email") String email);
 
+    /**
+     * 複数のメールアドレスで承認権限を一括削除
+     * 承認権限バッチでの差分適用に使用
+     * 
+     * @param emails 削除対象のメールアドレスのコレクション（空でないこと）
+     */
+    @Delete("""
+        <script>
+        DELETE FROM approval_authorities
+        WHERE email IN
+        <foreach collection="emails" item="email" open="(" separator="," close=")">
+            #{email}
+        </foreach>
+        </script>
+        """)
+    void deleteByEmails(@Param("emails") Collection<String> emails);
+
     /**
      * 役職レベルで承認権限一覧を取得
      * 特定の役職レベルの承認者の一覧表示に使用
@@ -1,8 +1,11 @@
 package com.devhour.infrastructure.mapper;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
@@ -423,6 +426,99 @@ public interface ApproverMapper {
     void deleteByTargetAndApprover(@Param("targetEmail") String targetEmail,
                                   @Param("approverEmail") String approverEmail);
 
+    /**
+     * 承認者関係を一括登録（承認権限バッチでの差分適用用）
+     * 
+     * @param approvers 登録対象の承認者関係のリスト（空でないこと）
+     */
+    @Insert("""
+        <script>
+        INSERT INTO approvers (
+            id, target_email, approver_email, effective_from, effective_to,
+            created_at, updated_at
+        ) VALUES
+        <foreach item='approver' collection='approvers' separator=','>
+        (
+            #{approver.id}, #{approver.targetEmail}, #{approver.approverEmail},
+            #{approver.effectiveFrom}, #{approver.effectiveTo},
+            #{approver.createdAt}, #{approver.updatedAt}
+        )
+        </foreach>
+        </script>
+        """)
+    void insertAll(@Param("approvers") List<Approver> approvers);
+
+    /**
+     * 対象者ごとの承認者の組み合わせで一括削除（承認権限バッチでの差分適用用）
+     * 
+     * @param approverEmailsByTarget キー: 対象者メールアドレス、値: 削除する承認者メールアドレス（いずれも空でないこと）
+     */
+    @Update("""
+        <script>
+        DELETE FROM approvers
+        WHERE
+        <foreach collection="approverEmailsByTarget" index="targetEmail" item="approverEmails" separator=" OR ">
+            (target_email = #{targetEmail}
+             AND approver_email IN
+             <foreach collection="approverEmails" item="approverEmail" open="(" separator="," close=")">
+                 #{approverEmail}
+             </foreach>)
+        </foreach>
+        </script>
+        """)
+    void deleteByTargetAndApprovers(@Param("approverEmailsByTarget") Map<String, Set<String>> approverEmailsByTarget);
+
+    /**
+     * 全承認者関係を取得（承認者関係グラフの構築用）
+     * 
+     * @return 承認者関係のリスト
+     */
+    @Select("""
+        SELECT id, target_email, approver_email, effective_from, effective_to,
+               created_at, updated_at
+        FROM approvers
+        ORDER BY target_email, effective_from DESC
+        """)
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "targetEmail", column = "target_email"),
+        @Result(property = "approverEmail", column = "approver_email"),
+        @Result(property = "effectiveFrom", column = "effective_from"),
+        @Result(property = "effectiveTo", column = "effective_to"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "updatedAt", column = "updated_at")
+    })
+    List<Approver> findAll();
+
+    /**
+     * 複数の対象者メールアドレスで承認者関係を一括検索（承認者関係グラフの差分更新用）
+     * 
+     * @param targetEmails 対象者メールアドレスのコレクション（空でないこと）
+     * @return 承認者関係のリスト
+     */
+    @Select("""
+        <script>
+        SELECT id, target_email, approver_email, effective_from, effective_to,
+               created_at, updated_at
+        FROM approvers
+        WHERE target_email IN
+        <foreach collection="targetEmails" item="targetEmail" open="(" separator="," close=")">
+            #{targetEmail}
+        </foreach>
+        ORDER BY target_email, effective_from DESC
+        </script>
+        """)
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "targetEmail", column = "target_email"),
+        @Result(property = "approverEmail", column = "approver_email"),
+        @Result(property = "effectiveFrom", column = "effective_from"),
+        @Result(property = "effectiveTo", column = "effective_to"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "updatedAt", column = "updated_at")
+    })
+    List<Approver> findByTargetEmails(@Param("targetEmails") Collection<String> targetEmails);
+
     /**
      * 全承認者関係を対象者でグループ化して取得（バッチ処理用）
      * 
@@ -4,6 +4,7 @@ import com.devhour.infrastructure.event.DomainEventEntity;
 import org.apache.ibatis.annotations.*;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Mapper
@@ -22,6 +23,24 @@ public interface DomainEventMapper {
         """)
     void insert(DomainEventEntity event);
     
+    @Insert("""
+        <script>
+        INSERT INTO domain_events (
+            event_id, aggregate_id, aggregate_type, event_type, event_action,
+            event_data, event_status, partition_key, occurred_at,
+            retry_count, created_at
+        ) VALUES
+        <foreach item='event' collection='events' separator=','>
+        (
+            #{event.eventId}, #{event.aggregateId}, #{event.aggregateType}, #{event.eventType}, #{event.eventAction},
+            #{event.eventData}, #{event.eventStatus}, #{event.partitionKey}, #{event.occurredAt},
+            0, CURRENT_TIMESTAMP
+        )
+        </foreach>
+        </script>
+        """)
+    void insertAll(@Param("events") List<DomainEventEntity> events);
+    
     @Update("""
         UPDATE domain_events
         SET event_status = #{status},
@@ -64,6 +83,134 @@ public interface DomainEventMapper {
     List<DomainEventEntity> findPendingEvents(@Param("maxRetryCount") int maxRetryCount,
                                               @Param("limit") int limit);
     
+    /**
+     * 未発行イベントを行ロック付きで取得（複数ノードでの分担用）
+     * 
+     * 他のトランザクションがロック中の行は読み飛ばすため、
+     * 複数のアプリケーションノードが同時に実行しても同じイベントを重複して取得しない。
+     * トランザクション内で呼び出す必要がある。
+     */
+    @Select("""
+        SELECT event_id, aggregate_id, aggregate_type, event_type, event_action,
+               event_data, event_status, partition_key, occurred_at,
+               published_at, retry_count, error_message, created_at
+        FROM domain_events
+        WHERE event_status = 'PENDING'
+          AND retry_count < #{maxRetryCount}
+        ORDER BY created_at ASC
+        LIMIT #{limit}
+        FOR UPDATE SKIP LOCKED
+        """)
+    @Results({
+        @Result(property = "eventId", column = "event_id"),
+        @Result(property = "aggregateId", column = "aggregate_id"),
+        @Result(property = "aggregateType", column = "aggregate_type"),
+        @Result(property = "eventType", column = "event_type"),
+        @Result(property = "eventAction", column = "event_action"),
+        @Result(property = "eventData", column = "event_data"),
+        @Result(property = "eventStatus", column = "event_status"),
+        @Result(property = "partitionKey", column = "partition_key"),
+        @Result(property = "occurredAt", column = "occurred_at"),
+        @Result(property = "publishedAt", column = "published_at"),
+        @Result(property = "retryCount", column = "retry_count"),
+        @Result(property = "errorMessage", column = "error_message"),
+        @Result(property = "createdAt", column = "created_at")
+    })
+    List<DomainEventEntity> claimPendingEvents(@Param("maxRetryCount") int maxRetryCount,
+                                               @Param("limit") int limit);
+    
+    /**
+     * 指定IDの未発行イベントを行ロック付きで取得（コミット直後の即時発行用）
+     */
+    @Select("""
+        <script>
+        SELECT event_id, aggregate_id, aggregate_type, event_type, event_action,
+               event_data, event_status, partition_key, occurred_at,
+               published_at, retry_count, error_message, created_at
+        FROM domain_events
+        WHERE event_id IN
+        <foreach collection="eventIds" item="eventId" open="(" separator="," close=")">
+            #{eventId}
+        </foreach>
+          AND event_status = 'PENDING'
+        ORDER BY created_at ASC
+        FOR UPDATE SKIP LOCKED
+        </script>
+        """)
+    @Results({
+        @Result(property = "eventId", column = "event_id"),
+        @Result(property = "aggregateId", column = "aggregate_id"),
+        @Result(property = "aggregateType", column = "aggregate_type"),
+        @Result(property = "eventType", column = "event_type"),
+        @Result(property = "eventAction", column = "event_action"),
+        @Result(property = "eventData", column = "event_data"),
+        @Result(property = "eventStatus", column = "event_status"),
+        @Result(property = "partitionKey", column = "partition_key"),
+        @Result(property = "occurredAt", column = "occurred_at"),
+        @Result(property = "publishedAt", column = "published_at"),
+        @Result(property = "retryCount", column = "retry_count"),
+        @Result(property = "errorMessage", column = "error_message"),
+        @Result(property = "createdAt", column = "created_at")
+    })
+    List<DomainEventEntity> claimPendingEventsByIds(@Param("eventIds") List<String> eventIds);
+    
+    /**
+     * 複数イベントを1回のUPDATEで発行済みに更新
+     */
+    @Update("""
+        <script>
+        UPDATE domain_events
+        SET event_status = 'PUBLISHED',
+            published_at = #{publishedAt},
+            retry_count = 0,
+            error_message = NULL
+        WHERE event_id IN
+        <foreach collection="eventIds" item="eventId" open="(" separator="," close=")">
+            #{eventId}
+        </foreach>
+        </script>
+        """)
+    int markAllAsPublished(@Param("eventIds") List<String> eventIds,
+                           @Param("publishedAt") LocalDateTime publishedAt);
+    
+    /**
+     * 複数イベントを1回のUPDATEで発行失敗に更新（リトライ回数を加算）
+     * 
+     * @param errorMessages キー: イベントID、値: エラーメッセージ
+     */
+    @Update("""
+        <script>
+        UPDATE domain_events
+        SET event_status = 'FAILED',
+            retry_count = retry_count + 1,
+            error_message = CASE event_id
+            <foreach collection="errorMessages" index="eventId" item="errorMessage">
+                WHEN #{eventId} THEN #{errorMessage}
+            </foreach>
+            END
+        WHERE event_id IN
+        <foreach collection="errorMessages" index="eventId" open="(" separator="," close=")">
+            #{eventId}
+        </foreach>
+        </script>
+        """)
+    int markAllAsFailed(@Param("errorMessages") Map<String, String> errorMessages);
+    
+    /**
+     * 複数イベントのリトライ回数を1回のUPDATEで加算
+     */
+    @Update("""
+        <script>
+        UPDATE domain_events
+        SET retry_count = retry_count + 1
+        WHERE event_id IN
+        <foreach collection="eventIds" item="eventId" open="(" separator="," close=")">
+            #{eventId}
+        </foreach>
+        </script>
+        """)
+    int incrementRetryCounts(@Param("eventIds") List<String> eventIds);
+    
     @Select("""
         SELECT event_id, aggregate_id, aggregate_type, event_type, event_action,
                event_data, event_status, partition_key, occurred_at,
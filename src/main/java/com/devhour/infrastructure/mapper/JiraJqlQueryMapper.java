@@ -1,5 +1,6 @@
 package com.devhour.infrastructure.mapper;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -68,7 +69,7 @@ public interface JiraJqlQueryMapper {
      */
     @Select("""
         SELECT id, query_name, jql_expression, template_id, is_active,
-               priority, created_at, updated_at, created_by, updated_by
+               priority, created_at, updated_at, created_by, updated_by, last_synced_at
         FROM jira_jql_queries 
         WHERE id = #{id}
         """)
@@ -82,7 +83,8 @@ public interface JiraJqlQueryMapper {
         @Result(property = "createdAt", column = "created_at"),
         @Result(property = "updatedAt", column = "updated_at"),
         @Result(property = "createdBy", column = "created_by"),
-        @Result(property = "updatedBy", column = "updated_by")
+        @Result(property = "updatedBy", column = "updated_by"),
+        @Result(property = "lastSyncedAt", column = "last_synced_at")
     })
     Optional<JiraJqlQuery> selectById(@Param("id") String id);
 
@@ -94,7 +96,7 @@ public interface JiraJqlQueryMapper {
      */
     @Select("""
         SELECT id, query_name, jql_expression, template_id, is_active,
-               priority, created_at, updated_at, created_by, updated_by
+               priority, created_at, updated_at, created_by, updated_by, last_synced_at
         FROM jira_jql_queries 
         WHERE query_name = #{queryName}
         """)
@@ -108,7 +110,8 @@ public interface JiraJqlQueryMapper {
         @Result(property = "createdAt", column = "created_at"),
         @Result(property = "updatedAt", column = "updated_at"),
         @Result(property = "createdBy", column = "created_by"),
-        @Result(property = "updatedBy", column = "updated_by")
+        @Result(property = "updatedBy", column = "updated_by"),
+        @Result(property = "lastSyncedAt", column = "last_synced_at")
     })
     Optional<JiraJqlQuery> selectByQueryName(@Param("queryName") String queryName);
 
@@ -123,13 +126,15 @@ public interface JiraJqlQueryMapper {
      * @param priority 優先度
      * @param updatedAt 更新日時
      * @param updatedBy 更新者
+     * @param lastSyncedAt 同期済み日時（JQL式・テンプレート変更時はnullにリセットされる）
      * @return 更新された行数
      */
     @Update("""
         UPDATE jira_jql_queries 
         SET query_name = #{queryName}, jql_expression = #{jqlExpression}, 
             template_id = #{templateId}, is_active = #{isActive}, 
-            priority = #{priority}, updated_at = #{updatedAt}, updated_by = #{updatedBy}
+            priority = #{priority}, updated_at = #{updatedAt}, updated_by = #{updatedBy},
+            last_synced_at = #{lastSyncedAt}
         WHERE id = #{id}
         """)
     int update(@Param("id") String id,
@@ -139,7 +144,25 @@ public interface JiraJqlQueryMapper {
               @Param("isActive") Boolean isActive,
               @Param("priority") Integer priority,
               @Param("updatedAt") LocalDateTime updatedAt,
-              @Param("updatedBy") String updatedBy);
+              @Param("updatedBy") String updatedBy,
+              @Param("lastSyncedAt") Instant lastSyncedAt);
+
+    /**
+     * 同期済み日時を更新
+     * 
+     * 同期状態の更新のため、updated_atは現在値を維持する（ON UPDATE CURRENT_TIMESTAMPの抑止）
+     * 
+     * @param id クエリID
+     * @param lastSyncedAt 同期済み日時（UTCで保存）
+     * @return 更新された行数
+     */
+    @Update("""
+        UPDATE jira_jql_queries 
+        SET last_synced_at = #{lastSyncedAt}, updated_at = updated_at
+        WHERE id = #{id}
+        """)
+    int updateLastSyncedAt(@Param("id") String id,
+                          @Param("lastSyncedAt") Instant lastSyncedAt);
 
     /**
      * 全JQLクエリをページネーションで取得
@@ -150,7 +173,7 @@ public interface JiraJqlQueryMapper {
      */
     @Select("""
         SELECT id, query_name, jql_expression, template_id, is_active,
-               priority, created_at, updated_at, created_by, updated_by
+               priority, created_at, updated_at, created_by, updated_by, last_synced_at
         FROM jira_jql_queries 
         ORDER BY priority ASC, created_at DESC
         LIMIT #{limit} OFFSET #{offset}
@@ -165,7 +188,8 @@ public interface JiraJqlQueryMapper {
         @Result(property = "createdAt", column = "created_at"),
         @Result(property = "updatedAt", column = "updated_at"),
         @Result(property = "createdBy", column = "created_by"),
-        @Result(property = "updatedBy", column = "updated_by")
+        @Result(property = "updatedBy", column = "updated_by"),
+        @Result(property = "lastSyncedAt", column = "last_synced_at")
     })
     List<JiraJqlQuery> selectAllWithPagination(@Param("limit") int limit, @Param("offset") int offset);
 
@@ -178,7 +202,7 @@ public interface JiraJqlQueryMapper {
      */
     @Select("""
         SELECT id, query_name, jql_expression, template_id, is_active,
-               priority, created_at, updated_at, created_by, updated_by
+               priority, created_at, updated_at, created_by, updated_by, last_synced_at
         FROM jira_jql_queries 
         ORDER BY priority ASC, created_at DESC
         """)
@@ -192,7 +216,8 @@ public interface JiraJqlQueryMapper {
         @Result(property = "createdAt", column = "created_at"),
         @Result(property = "updatedAt", column = "updated_at"),
         @Result(property = "createdBy", column = "created_by"),
-        @Result(property = "updatedBy", column = "updated_by")
+        @Result(property = "updatedBy", column = "updated_by"),
+        @Result(property = "lastSyncedAt", column = "last_synced_at")
     })
     List<JiraJqlQuery> selectAll();
 
@@ -203,7 +228,7 @@ public interface JiraJqlQueryMapper {
      */
     @Select("""
         SELECT id, query_name, jql_expression, template_id, is_active,
-               priority, created_at, updated_at, created_by, updated_by
+               priority, created_at, updated_at, created_by, updated_by, last_synced_at
         FROM jira_jql_queries 
         WHERE is_active = true
         ORDER BY priority ASC, created_at ASC
@@ -218,7 +243,8 @@ public interface JiraJqlQueryMapper {
         @Result(property = "createdAt", column = "created_at"),
         @Result(property = "updatedAt", column = "updated_at"),
         @Result(property = "createdBy", column = "created_by"),
-        @Result(property = "updatedBy", column = "updated_by")
+        @Result(property = "updatedBy", column = "updated_by"),
+        @Result(property = "lastSyncedAt", column = "last_synced_at")
     })
     List<JiraJqlQuery> selectActiveQueriesOrderByPriority();
 
@@ -230,7 +256,7 @@ public interface JiraJqlQueryMapper {
      */
     @Select("""
         SELECT id, query_name, jql_expression, template_id, is_active,
-               priority, created_at, updated_at, created_by, updated_by
+               priority, created_at, updated_at, created_by, updated_by, last_synced_at
         FROM jira_jql_queries 
         WHERE template_id = #{templateId}
         ORDER BY priority ASC, created_at DESC
@@ -245,7 +271,8 @@ public interface JiraJqlQueryMapper {
         @Result(property = "createdAt", column = "created_at"),
         @Result(property = "updatedAt", column = "updated_at"),
         @Result(property = "createdBy", column = "created_by"),
-        @Result(property = "updatedBy", column = "updated_by")
+        @Result(property = "updatedBy", column = "updated_by"),
+        @Result(property = "lastSyncedAt", column = "last_synced_at")
     })
     List<JiraJqlQuery> selectByTemplateId(@Param("templateId") String templateId);
 
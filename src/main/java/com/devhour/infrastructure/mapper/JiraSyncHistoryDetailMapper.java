@@ -11,6 +11,7 @@ import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 import com.devhour.domain.model.entity.JiraSyncHistoryDetail;
+import com.devhour.infrastructure.dto.JiraSyncDetailStatusCount;
 
 /**
  * 同期履歴詳細MyBatisマッパー
@@ -21,6 +22,8 @@ import com.devhour.domain.model.entity.JiraSyncHistoryDetail;
  * 責務:
  * - 同期履歴詳細の基本CRUD操作
  * - 同期履歴IDでの詳細一覧取得
+ * - シーケンス番号をカーソルとした詳細のページ取得
+ * - 同期履歴ごとのステータス別詳細件数の集計
  * - JIRAイシューキー別詳細検索
  * - エラー・成功ステータス別詳細取得
  */
@@ -52,6 +55,27 @@ public interface JiraSyncHistoryDetailMapper {
                @Param("result") String result,
                @Param("processedAt") LocalDateTime processedAt);
 
+    /**
+     * 同期履歴詳細を一括挿入
+     *
+     * 複数行のINSERT文1回で挿入する（追記専用のため既存行の確認は行わない）
+     * 圧縮済みの結果メッセージはresult_compressed列に保存する
+     *
+     * @param details 挿入する同期履歴詳細リスト（1件以上）
+     */
+    @Insert("""
+        <script>
+        INSERT INTO jira_sync_history_details (id, sync_history_id, seq, operation,
+                                         status, result, result_compressed, processed_at)
+        VALUES
+        <foreach collection="details" item="detail" separator=",">
+            (#{detail.id}, #{detail.syncHistoryId}, #{detail.seq}, #{detail.operation},
+             #{detail.status.value}, #{detail.result}, #{detail.compressedResult}, #{detail.processedAt})
+        </foreach>
+        </script>
+        """)
+    void insertAll(@Param("details") List<JiraSyncHistoryDetail> details);
+
     /**
      * 同期履歴詳細を更新
      *
@@ -88,7 +112,7 @@ public interface JiraSyncHistoryDetailMapper {
      */
     @Select("""
         SELECT id, sync_history_id, seq, operation,
-               status, result, processed_at
+               status, result, result_compressed, processed_at
         FROM jira_sync_history_details
         WHERE id = #{id}
         """)
@@ -100,6 +124,7 @@ public interface JiraSyncHistoryDetailMapper {
         @Result(property = "status", column = "status",
                 typeHandler = com.devhour.infrastructure.typehandler.DetailStatusTypeHandler.class),
         @Result(property = "result", column = "result"),
+        @Result(property = "compressedResult", column = "result_compressed"),
         @Result(property = "processedAt", column = "processed_at")
     })
     Optional<JiraSyncHistoryDetail> selectById(@Param("id") String id);
@@ -115,7 +140,7 @@ public interface JiraSyncHistoryDetailMapper {
      */
     @Select("""
         SELECT id, sync_history_id, seq, operation,
-               status, result, processed_at
+               status, result, result_compressed, processed_at
         FROM jira_sync_history_details
         WHERE sync_history_id = #{syncHistoryId}
         ORDER BY seq ASC, processed_at ASC
@@ -128,10 +153,79 @@ public interface JiraSyncHistoryDetailMapper {
         @Result(property = "status", column = "status",
                 typeHandler = com.devhour.infrastructure.typehandler.DetailStatusTypeHandler.class),
         @Result(property = "result", column = "result"),
+        @Result(property = "compressedResult", column = "result_compressed"),
         @Result(property = "processedAt", column = "processed_at")
     })
     List<JiraSyncHistoryDetail> selectBySyncHistoryId(@Param("syncHistoryId") String syncHistoryId);
 
+    /**
+     * 同期履歴IDで詳細をシーケンス番号のカーソル指定でページ取得
+     *
+     * 大量の詳細を持つ同期実行でも、(sync_history_id, seq) インデックスを使い
+     * 指定カーソル以降の一定件数のみを読み込む
+     *
+     * @param syncHistoryId 同期履歴ID
+     * @param afterSeq このシーケンス番号より後の詳細を取得（nullの場合は先頭から）
+     * @param limit 取得件数
+     * @return 同期履歴詳細リスト（シーケンス番号昇順）
+     */
+    @Select("""
+        <script>
+        SELECT id, sync_history_id, seq, operation,
+               status, result, result_compressed, processed_at
+        FROM jira_sync_history_details
+        WHERE sync_history_id = #{syncHistoryId}
+        <if test="afterSeq != null">
+          AND seq &gt; #{afterSeq}
+        </if>
+        ORDER BY seq ASC
+        LIMIT #{limit}
+        </script>
+        """)
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "syncHistoryId", column = "sync_history_id"),
+        @Result(property = "seq", column = "seq"),
+        @Result(property = "operation", column = "operation"),
+        @Result(property = "status", column = "status",
+                typeHandler = com.devhour.infrastructure.typehandler.DetailStatusTypeHandler.class),
+        @Result(property = "result", column = "result"),
+        @Result(property = "compressedResult", column = "result_compressed"),
+        @Result(property = "processedAt", column = "processed_at")
+    })
+    List<JiraSyncHistoryDetail> selectPageBySyncHistoryId(@Param("syncHistoryId") String syncHistoryId,
+                                                          @Param("afterSeq") Integer afterSeq,
+                                                          @Param("limit") int limit);
+
+    /**
+     * 複数の同期履歴についてステータス別の詳細件数を集計
+     *
+     * 同期履歴一覧で詳細本体を読み込まずに件数のみを表示する際に使用
+     * 1回のGROUP BYクエリで全同期履歴分を取得する
+     *
+     * @param syncHistoryIds 同期履歴IDリスト（1件以上）
+     * @return 同期履歴ID・ステータスごとの件数リスト
+     */
+    @Select("""
+        <script>
+        SELECT sync_history_id, status, COUNT(*) AS detail_count
+        FROM jira_sync_history_details
+        WHERE sync_history_id IN
+        <foreach collection="syncHistoryIds" item="syncHistoryId" open="(" separator="," close=")">
+            #{syncHistoryId}
+        </foreach>
+        GROUP BY sync_history_id, status
+        </script>
+        """)
+    @Results({
+        @Result(property = "syncHistoryId", column = "sync_history_id"),
+        @Result(property = "status", column = "status",
+                typeHandler = com.devhour.infrastructure.typehandler.DetailStatusTypeHandler.class),
+        @Result(property = "count", column = "detail_count")
+    })
+    List<JiraSyncDetailStatusCount> countByStatusGroupedBySyncHistoryId(
+        @Param("syncHistoryIds") List<String> syncHistoryIds);
+
     /**
      * 操作タイプで同期履歴詳細を検索
      *
@@ -143,7 +237,7 @@ public interface JiraSyncHistoryDetailMapper {
      */
     @Select("""
         SELECT id, sync_history_id, seq, operation,
-               status, result, processed_at
+               status, result, result_compressed, processed_at
         FROM jira_sync_history_details
         WHERE operation = #{operation}
         ORDER BY processed_at DESC, seq ASC
@@ -156,6 +250,7 @@ public interface JiraSyncHistoryDetailMapper {
         @Result(property = "status", column = "status",
                 typeHandler = com.devhour.infrastructure.typehandler.DetailStatusTypeHandler.class),
         @Result(property = "result", column = "result"),
+        @Result(property = "compressedResult", column = "result_compressed"),
         @Result(property = "processedAt", column = "processed_at")
     })
     List<JiraSyncHistoryDetail> selectByOperation(@Param("operation") String operation);
@@ -172,7 +267,7 @@ public interface JiraSyncHistoryDetailMapper {
     @Select("""
         <script>
         SELECT id, sync_history_id, seq, operation,
-               status, result, processed_at
+               status, result, result_compressed, processed_at
         FROM jira_sync_history_details
         WHERE status = 'ERROR'
         <if test="syncHistoryId != null">
@@ -189,6 +284,7 @@ public interface JiraSyncHistoryDetailMapper {
         @Result(property = "status", column = "status",
                 typeHandler = com.devhour.infrastructure.typehandler.DetailStatusTypeHandler.class),
         @Result(property = "result", column = "result"),
+        @Result(property = "compressedResult", column = "result_compressed"),
         @Result(property = "processedAt", column = "processed_at")
     })
     List<JiraSyncHistoryDetail> selectErrorDetails(@Param("syncHistoryId") String syncHistoryId);
@@ -205,7 +301,7 @@ public interface JiraSyncHistoryDetailMapper {
     @Select("""
         <script>
         SELECT id, sync_history_id, seq, operation,
-               status, result, processed_at
+               status, result, result_compressed, processed_at
         FROM jira_sync_history_details
         WHERE status = 'SUCCESS'
         <if test="syncHistoryId != null">
@@ -222,6 +318,7 @@ public interface JiraSyncHistoryDetailMapper {
         @Result(property = "status", column = "status",
                 typeHandler = com.devhour.infrastructure.typehandler.DetailStatusTypeHandler.class),
         @Result(property = "result", column = "result"),
+        @Result(property = "compressedResult", column = "result_compressed"),
         @Result(property = "processedAt", column = "processed_at")
     })
     List<JiraSyncHistoryDetail> selectSuccessDetails(@Param("syncHistoryId") String syncHistoryId);
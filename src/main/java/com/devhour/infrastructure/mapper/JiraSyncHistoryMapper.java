@@ -70,7 +70,7 @@ public interface JiraSyncHistoryMapper {
      */
     @Select("""
         SELECT id, sync_type, sync_status, started_at, completed_at,
-               total_projects_processed, success_count, error_count,
+               total_projects_processed, success_count, error_count, skipped_count,
                error_details, triggered_by
         FROM jira_sync_histories 
         WHERE id = #{id}
@@ -86,6 +86,7 @@ public interface JiraSyncHistoryMapper {
         @Result(property = "totalProjectsProcessed", column = "total_projects_processed"),
         @Result(property = "successCount", column = "success_count"),
         @Result(property = "errorCount", column = "error_count"),
+        @Result(property = "skippedCount", column = "skipped_count"),
         @Result(property = "errorDetails", column = "error_details"),
         @Result(property = "triggeredBy", column = "triggered_by")
     })
@@ -100,6 +101,7 @@ public interface JiraSyncHistoryMapper {
      * @param totalProjectsProcessed 処理プロジェクト総数
      * @param successCount 成功数
      * @param errorCount エラー数
+     * @param skippedCount スキップ数
      * @param errorDetails エラー詳細
      * @return 更新された行数
      */
@@ -108,7 +110,7 @@ public interface JiraSyncHistoryMapper {
         SET sync_status = #{syncStatus}, completed_at = #{completedAt},
             total_projects_processed = #{totalProjectsProcessed}, 
             success_count = #{successCount}, error_count = #{errorCount},
-            error_details = #{errorDetails}
+            skipped_count = #{skippedCount}, error_details = #{errorDetails}
         WHERE id = #{id}
         """)
     int update(@Param("id") String id,
@@ -117,6 +119,7 @@ public interface JiraSyncHistoryMapper {
               @Param("totalProjectsProcessed") Integer totalProjectsProcessed,
               @Param("successCount") Integer successCount,
               @Param("errorCount") Integer errorCount,
+              @Param("skippedCount") Integer skippedCount,
               @Param("errorDetails") String errorDetails);
 
     /**
@@ -131,7 +134,7 @@ public interface JiraSyncHistoryMapper {
      */
     @Select("""
         SELECT id, sync_type, sync_status, started_at, completed_at,
-               total_projects_processed, success_count, error_count,
+               total_projects_processed, success_count, error_count, skipped_count,
                error_details, triggered_by
         FROM jira_sync_histories 
         WHERE (#{status} IS NULL OR sync_status = #{status})
@@ -149,6 +152,7 @@ public interface JiraSyncHistoryMapper {
         @Result(property = "totalProjectsProcessed", column = "total_projects_processed"),
         @Result(property = "successCount", column = "success_count"),
         @Result(property = "errorCount", column = "error_count"),
+        @Result(property = "skippedCount", column = "skipped_count"),
         @Result(property = "errorDetails", column = "error_details"),
         @Result(property = "triggeredBy", column = "triggered_by")
     })
@@ -164,7 +168,7 @@ public interface JiraSyncHistoryMapper {
      */
     @Select("""
         SELECT id, sync_type, sync_status, started_at, completed_at,
-               total_projects_processed, success_count, error_count,
+               total_projects_processed, success_count, error_count, skipped_count,
                error_details, triggered_by
         FROM jira_sync_histories 
         WHERE sync_status = 'IN_PROGRESS'
@@ -181,6 +185,7 @@ public interface JiraSyncHistoryMapper {
         @Result(property = "totalProjectsProcessed", column = "total_projects_processed"),
         @Result(property = "successCount", column = "success_count"),
         @Result(property = "errorCount", column = "error_count"),
+        @Result(property = "skippedCount", column = "skipped_count"),
         @Result(property = "errorDetails", column = "error_details"),
         @Result(property = "triggeredBy", column = "triggered_by")
     })
@@ -198,7 +203,7 @@ public interface JiraSyncHistoryMapper {
      */
     @Select("""
         SELECT id, sync_type, sync_status, started_at, completed_at,
-               total_projects_processed, success_count, error_count,
+               total_projects_processed, success_count, error_count, skipped_count,
                error_details, triggered_by
         FROM jira_sync_histories 
         WHERE started_at >= #{startDate} AND started_at <= #{endDate}
@@ -216,6 +221,7 @@ public interface JiraSyncHistoryMapper {
         @Result(property = "totalProjectsProcessed", column = "total_projects_processed"),
         @Result(property = "successCount", column = "success_count"),
         @Result(property = "errorCount", column = "error_count"),
+        @Result(property = "skippedCount", column = "skipped_count"),
         @Result(property = "errorDetails", column = "error_details"),
         @Result(property = "triggeredBy", column = "triggered_by")
     })
@@ -234,7 +240,7 @@ public interface JiraSyncHistoryMapper {
      */
     @Select("""
         SELECT id, sync_type, sync_status, started_at, completed_at,
-               total_projects_processed, success_count, error_count,
+               total_projects_processed, success_count, error_count, skipped_count,
                error_details, triggered_by
         FROM jira_sync_histories 
         WHERE sync_status = #{status}
@@ -251,6 +257,7 @@ public interface JiraSyncHistoryMapper {
         @Result(property = "totalProjectsProcessed", column = "total_projects_processed"),
         @Result(property = "successCount", column = "success_count"),
         @Result(property = "errorCount", column = "error_count"),
+        @Result(property = "skippedCount", column = "skipped_count"),
         @Result(property = "errorDetails", column = "error_details"),
         @Result(property = "triggeredBy", column = "triggered_by")
     })
@@ -267,7 +274,7 @@ public interface JiraSyncHistoryMapper {
      */
     @Select("""
         SELECT id, sync_type, sync_status, started_at, completed_at,
-               total_projects_processed, success_count, error_count,
+               total_projects_processed, success_count, error_count, skipped_count,
                error_details, triggered_by
         FROM jira_sync_histories 
         WHERE sync_type = #{triggerType}
@@ -284,6 +291,7 @@ public interface JiraSyncHistoryMapper {
         @Result(property = "totalProjectsProcessed", column = "total_projects_processed"),
         @Result(property = "successCount", column = "success_count"),
         @Result(property = "errorCount", column = "error_count"),
+        @Result(property = "skippedCount", column = "skipped_count"),
         @Result(property = "errorDetails", column = "error_details"),
         @Result(property = "triggeredBy", column = "triggered_by")
     })
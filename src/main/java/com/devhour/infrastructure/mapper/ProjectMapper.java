@@ -2,6 +2,7 @@ package com.devhour.infrastructure.mapper;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.ibatis.annotations.Insert;
@@ -361,12 +362,16 @@ public interface ProjectMapper {
     
     /**
      * プロジェクト更新
+     * 
+     * 個別の更新はローカルでの変更とみなし、JIRA同期のフィンガープリントをクリアする
+     * （次回同期でJIRAの内容を再反映させる）
      */
     @Update("""
         UPDATE projects
         SET name = #{name}, description = #{description}, status = #{status}, start_date = #{startDate},
             planned_end_date = #{plannedEndDate}, jira_issue_key = #{jiraIssueKey},
-            custom_fields = #{customFields}, updated_at = #{updatedAt}
+            custom_fields = #{customFields}, jira_sync_fingerprint = NULL,
+            updated_at = #{updatedAt}
         WHERE id = #{id} AND deleted_at IS NULL
         """)
     int update(@Param("id") String id,
@@ -453,7 +458,8 @@ public interface ProjectMapper {
      */
     @Select("""
         SELECT id, name, description, status, start_date, planned_end_date,
-               actual_end_date, created_by, created_at, updated_at, jira_issue_key, custom_fields
+               actual_end_date, created_by, created_at, updated_at, jira_issue_key, custom_fields,
+               jira_sync_fingerprint
         FROM projects 
         WHERE jira_issue_key = #{jiraIssueKey} AND deleted_at IS NULL
         """)
@@ -470,10 +476,167 @@ public interface ProjectMapper {
         @Result(property = "createdAt", column = "created_at"),
         @Result(property = "updatedAt", column = "updated_at"),
         @Result(property = "jiraIssueKey", column = "jira_issue_key"),
-        @Result(property = "customFields", column = "custom_fields")
+        @Result(property = "customFields", column = "custom_fields"),
+        @Result(property = "jiraSyncFingerprint", column = "jira_sync_fingerprint")
     })
     Optional<Project> selectByJiraIssueKey(@Param("jiraIssueKey") String jiraIssueKey);
     
+    /**
+     * 複数のJIRAイシューキーでプロジェクトを一括検索
+     * 
+     * JIRA同期のバッチ処理で、バッチ内のイシューキーを1回のクエリで解決する際に使用
+     * 
+     * @param jiraIssueKeys JIRAイシューキーのリスト（空でないこと）
+     * @return 該当するプロジェクトのリスト（存在しないキーは含まれない）
+     */
+    @Select("""
+        <script>
+        SELECT id, name, description, status, start_date, planned_end_date,
+               actual_end_date, created_by, created_at, updated_at, jira_issue_key, custom_fields,
+               jira_sync_fingerprint
+        FROM projects 
+        WHERE deleted_at IS NULL
+          AND jira_issue_key IN
+          <foreach item='jiraIssueKey' collection='jiraIssueKeys' open='(' separator=',' close=')'>
+            #{jiraIssueKey}
+          </foreach>
+        </script>
+        """)
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "name", column = "name"),
+        @Result(property = "description", column = "description"),
+        @Result(property = "status", column = "status", 
+                typeHandler = com.devhour.infrastructure.typehandler.ProjectStatusTypeHandler.class),
+        @Result(property = "startDate", column = "start_date"),
+        @Result(property = "plannedEndDate", column = "planned_end_date"),
+        @Result(property = "actualEndDate", column = "actual_end_date"),
+        @Result(property = "createdBy", column = "created_by"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "updatedAt", column = "updated_at"),
+        @Result(property = "jiraIssueKey", column = "jira_issue_key"),
+        @Result(property = "customFields", column = "custom_fields"),
+        @Result(property = "jiraSyncFingerprint", column = "jira_sync_fingerprint")
+    })
+    List<Project> selectByJiraIssueKeys(@Param("jiraIssueKeys") Collection<String> jiraIssueKeys);
+    
+    /**
+     * 複数のプロジェクトIDでプロジェクトを一括検索
+     * 
+     * 工数集計などで、レコードごとのプロジェクト検索を1回のクエリにまとめる際に使用
+     * 
+     * @param ids プロジェクトIDのリスト（空でないこと）
+     * @return 該当するプロジェクトのリスト（存在しないIDは含まれない）
+     */
+    @Select("""
+        <script>
+        SELECT id, name, description, status, start_date, planned_end_date,
+               actual_end_date, created_by, created_at, updated_at, jira_issue_key, custom_fields,
+               jira_sync_fingerprint
+        FROM projects 
+        WHERE deleted_at IS NULL
+          AND id IN
+          <foreach item='id' collection='ids' open='(' separator=',' close=')'>
+            #{id}
+          </foreach>
+        </script>
+        """)
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "name", column = "name"),
+        @Result(property = "description", column = "description"),
+        @Result(property = "status", column = "status", 
+                typeHandler = com.devhour.infrastructure.typehandler.ProjectStatusTypeHandler.class),
+        @Result(property = "startDate", column = "start_date"),
+        @Result(property = "plannedEndDate", column = "planned_end_date"),
+        @Result(property = "actualEndDate", column = "actual_end_date"),
+        @Result(property = "createdBy", column = "created_by"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "updatedAt", column = "updated_at"),
+        @Result(property = "jiraIssueKey", column = "jira_issue_key"),
+        @Result(property = "customFields", column = "custom_fields"),
+        @Result(property = "jiraSyncFingerprint", column = "jira_sync_fingerprint")
+    })
+    List<Project> selectByIds(@Param("ids") Collection<String> ids);
+    
+    /**
+     * 指定IDのうち存在するプロジェクトIDを一括取得
+     * 
+     * 一括保存時に新規作成・更新を1回のクエリで振り分ける際に使用
+     * 
+     * @param ids プロジェクトIDのリスト（空でないこと）
+     * @return 存在するプロジェクトIDのリスト
+     */
+    @Select("""
+        <script>
+        SELECT id
+        FROM projects 
+        WHERE deleted_at IS NULL
+          AND id IN
+          <foreach item='id' collection='ids' open='(' separator=',' close=')'>
+            #{id}
+          </foreach>
+        </script>
+        """)
+    List<String> selectExistingIds(@Param("ids") Collection<String> ids);
+    
+    /**
+     * プロジェクト一括作成
+     * 
+     * 複数行のINSERTを1文で実行する
+     * 
+     * @param projects 作成するプロジェクトのリスト（空でないこと）
+     * @return 作成された行数
+     */
+    @Insert("""
+        <script>
+        INSERT INTO projects (id, name, description, status, start_date, planned_end_date,
+                             created_by, created_at, updated_at, jira_issue_key, custom_fields,
+                             jira_sync_fingerprint)
+        VALUES
+        <foreach item='project' collection='projects' separator=','>
+            (#{project.id}, #{project.name}, #{project.description},
+             #{project.status, typeHandler=com.devhour.infrastructure.typehandler.ProjectStatusTypeHandler},
+             #{project.startDate}, #{project.plannedEndDate}, #{project.createdBy},
+             #{project.createdAt}, #{project.updatedAt}, #{project.jiraIssueKey}, #{project.customFields},
+             #{project.jiraSyncFingerprint})
+        </foreach>
+        </script>
+        """)
+    int insertAll(@Param("projects") List<Project> projects);
+    
+    /**
+     * 既存プロジェクト一括更新
+     * 
+     * 渡された行を派生テーブルとして主キー(id)でJOINし、1文のUPDATEで更新する。
+     * INSERTを伴わないため、並行して論理削除・削除された行が再作成されることはなく、
+     * 該当行が存在しないプロジェクトは更新されずに無視される。
+     * 作成者・作成日時・JIRAイシューキーは更新しない。JIRA同期のフィンガープリントはエンティティの値で更新する。
+     * 
+     * @param projects 更新するプロジェクトのリスト（空でないこと）
+     * @return 更新された行数（値に変化のない行は含まれない）
+     */
+    @Update("""
+        <script>
+        UPDATE projects p
+        JOIN (
+        <foreach item='project' collection='projects' separator=' UNION ALL '>
+            SELECT #{project.id} AS id, #{project.name} AS name, #{project.description} AS description,
+                   #{project.status, typeHandler=com.devhour.infrastructure.typehandler.ProjectStatusTypeHandler} AS status,
+                   #{project.startDate} AS start_date, #{project.plannedEndDate} AS planned_end_date,
+                   #{project.customFields} AS custom_fields, #{project.jiraSyncFingerprint} AS jira_sync_fingerprint,
+                   #{project.updatedAt} AS updated_at
+        </foreach>
+        ) v ON p.id = v.id
+        SET p.name = v.name, p.description = v.description, p.status = v.status,
+            p.start_date = v.start_date, p.planned_end_date = v.planned_end_date,
+            p.custom_fields = v.custom_fields, p.jira_sync_fingerprint = v.jira_sync_fingerprint,
+            p.updated_at = v.updated_at
+        WHERE p.deleted_at IS NULL
+        </script>
+        """)
+    int updateAll(@Param("projects") List<Project> projects);
+    
     /**
      * プロジェクト総数取得
      */
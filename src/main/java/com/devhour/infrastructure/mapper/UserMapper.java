@@ -1,6 +1,7 @@
 package com.devhour.infrastructure.mapper;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.ibatis.annotations.Insert;
@@ -43,6 +44,33 @@ public interface UserMapper {
     })
     Optional<User> findById(@Param("id") String id);
     
+    /**
+     * 複数のユーザーIDでユーザーを一括検索
+     */
+    @Select("""
+        <script>
+        SELECT id, username, email, full_name, 
+               user_status, last_login_at, created_at, updated_at, okta_user_id
+        FROM users 
+        WHERE id IN
+        <foreach item='id' collection='ids' open='(' separator=',' close=')'>
+            #{id}
+        </foreach>
+        </script>
+        """)
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "username", column = "username"),
+        @Result(property = "email", column = "email"), 
+        @Result(property = "fullName", column = "full_name"),
+        @Result(property = "userStatus", column = "user_status", typeHandler = com.devhour.infrastructure.typehandler.UserStatusTypeHandler.class),
+        @Result(property = "lastLoginAt", column = "last_login_at"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "updatedAt", column = "updated_at"),
+        @Result(property = "oktaUserId", column = "okta_user_id")
+    })
+    List<User> findByIds(@Param("ids") Collection<String> ids);
+    
     /**
      * ユーザー名でユーザーを検索
      */
@@ -87,6 +115,33 @@ public interface UserMapper {
     })
     Optional<User> findByEmail(@Param("email") String email);
     
+    /**
+     * 複数のメールアドレスでユーザーを一括検索
+     */
+    @Select("""
+        <script>
+        SELECT id, username, email, full_name, 
+               user_status, last_login_at, created_at, updated_at, okta_user_id
+        FROM users 
+        WHERE email IN
+        <foreach item='email' collection='emails' open='(' separator=',' close=')'>
+            #{email}
+        </foreach>
+        </script>
+        """)
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "username", column = "username"),
+        @Result(property = "email", column = "email"), 
+        @Result(property = "fullName", column = "full_name"),
+        @Result(property = "userStatus", column = "user_status", typeHandler = com.devhour.infrastructure.typehandler.UserStatusTypeHandler.class),
+        @Result(property = "lastLoginAt", column = "last_login_at"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "updatedAt", column = "updated_at"),
+        @Result(property = "oktaUserId", column = "okta_user_id")
+    })
+    List<User> findByEmails(@Param("emails") Collection<String> emails);
+    
     /**
      * アクティブユーザーをメールアドレスで検索
      * 削除済み（deleted_at != NULL）のユーザーは除外
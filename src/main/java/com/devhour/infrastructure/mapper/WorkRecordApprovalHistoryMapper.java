@@ -28,6 +28,29 @@ public interface WorkRecordApprovalHistoryMapper {
         """)
     void insert(WorkRecordApprovalHistory history);
     
+    /**
+     * 複数の承認履歴を1回のINSERTで登録
+     */
+    @Insert("""
+        <script>
+        INSERT INTO work_record_approval_histories (
+            history_id, work_record_id, user_id, project_id, work_date,
+            category_hours, total_hours, description, action,
+            previous_status, current_status, approver_id, rejection_reason,
+            work_record_snapshot, occurred_at, created_at
+        ) VALUES
+        <foreach collection="histories" item="h" separator=",">
+        (
+            #{h.historyId}, #{h.workRecordId}, #{h.userId}, #{h.projectId}, #{h.workDate},
+            #{h.categoryHours}, #{h.totalHours}, #{h.description}, #{h.action},
+            #{h.previousStatus}, #{h.currentStatus}, #{h.approverId}, #{h.rejectionReason},
+            #{h.workRecordSnapshot}, #{h.occurredAt}, CURRENT_TIMESTAMP
+        )
+        </foreach>
+        </script>
+        """)
+    int insertAll(@Param("histories") List<WorkRecordApprovalHistory> histories);
+    
     @Select("""
         SELECT history_id, work_record_id, user_id, project_id, work_date,
                category_hours, total_hours, description, action,
@@ -124,4 +147,19 @@ public interface WorkRecordApprovalHistoryMapper {
         WHERE history_id = #{historyId}
         """)
     int countByHistoryId(@Param("historyId") String historyId);
+    
+    /**
+     * 指定した履歴IDのうち登録済みのものを1回のクエリで取得
+     */
+    @Select("""
+        <script>
+        SELECT history_id
+        FROM work_record_approval_histories
+        WHERE history_id IN
+        <foreach collection="historyIds" item="historyId" open="(" separator="," close=")">
+            #{historyId}
+        </foreach>
+        </script>
+        """)
+    List<String> findExistingHistoryIds(@Param("historyIds") List<String> historyIds);
 }
\ No newline at end of file
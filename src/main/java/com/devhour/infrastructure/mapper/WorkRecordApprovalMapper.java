@@ -6,7 +6,9 @@ import org.apache.ibatis.annotations.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 作業記録承認マッパー
@@ -68,6 +70,76 @@ public interface WorkRecordApprovalMapper {
         @Param("statuses") List<ApprovalStatus> statuses
     );
     
+    @Select("""
+        <script>
+        SELECT 
+            user_id,
+            work_date,
+            approval_status,
+            approver_id,
+            approved_at,
+            rejection_reason,
+            created_at,
+            updated_at
+        FROM work_record_approval
+        WHERE user_id IN
+        <foreach item='userId' collection='userIds' open='(' separator=',' close=')'>
+            #{userId}
+        </foreach>
+        AND approval_status IN
+        <foreach item='status' collection='statuses' open='(' separator=',' close=')'>
+            #{status}
+        </foreach>
+        <if test="cursorWorkDate != null">
+            <choose>
+                <when test="cursorUserId != null">
+                    AND (work_date &lt; #{cursorWorkDate}
+                         OR (work_date = #{cursorWorkDate} AND user_id &gt; #{cursorUserId}))
+                </when>
+                <otherwise>
+                    AND work_date &lt; #{cursorWorkDate}
+                </otherwise>
+            </choose>
+        </if>
+        ORDER BY work_date DESC, user_id
+        LIMIT #{limit}
+        </script>
+    """)
+    @ResultMap("workRecordApprovalResultMap")
+    List<WorkRecordApproval> findPageByUsersAndStatuses(
+        @Param("userIds") List<String> userIds,
+        @Param("statuses") List<ApprovalStatus> statuses,
+        @Param("cursorWorkDate") LocalDate cursorWorkDate,
+        @Param("cursorUserId") String cursorUserId,
+        @Param("limit") int limit
+    );
+    
+    @Select("""
+        <script>
+        SELECT 
+            user_id,
+            work_date,
+            approval_status,
+            approver_id,
+            approved_at,
+            rejection_reason,
+            created_at,
+            updated_at
+        FROM work_record_approval
+        WHERE
+        <foreach item='workDates' index='userId' collection='workDatesByUserId' open='(' separator=' OR ' close=')'>
+            (user_id = #{userId} AND work_date IN
+            <foreach item='workDate' collection='workDates' open='(' separator=',' close=')'>
+                #{workDate}
+            </foreach>)
+        </foreach>
+        </script>
+    """)
+    @ResultMap("workRecordApprovalResultMap")
+    List<WorkRecordApproval> findByUserIdsAndDates(
+        @Param("workDatesByUserId") Map<String, Set<LocalDate>> workDatesByUserId
+    );
+    
     @Select("""
         SELECT 
             user_id,
@@ -165,6 +237,40 @@ public interface WorkRecordApprovalMapper {
     """)
     void insert(WorkRecordApproval approval);
     
+    @Insert("""
+        <script>
+        INSERT INTO work_record_approval (
+            user_id,
+            work_date,
+            approval_status,
+            approver_id,
+            approved_at,
+            rejection_reason,
+            created_at,
+            updated_at
+        ) VALUES
+        <foreach item='approval' collection='approvals' separator=','>
+        (
+            #{approval.userId},
+            #{approval.workDate},
+            #{approval.approvalStatus,typeHandler=com.devhour.infrastructure.typehandler.ApprovalStatusTypeHandler},
+            #{approval.approverId},
+            #{approval.approvedAt},
+            #{approval.rejectionReason},
+            #{approval.createdAt},
+            #{approval.updatedAt}
+        )
+        </foreach>
+        ON DUPLICATE KEY UPDATE
+            approval_status = VALUES(approval_status),
+            approver_id = VALUES(approver_id),
+            approved_at = VALUES(approved_at),
+            rejection_reason = VALUES(rejection_reason),
+            updated_at = VALUES(updated_at)
+        </script>
+    """)
+    void upsertAll(@Param("approvals") List<WorkRecordApproval> approvals);
+    
     @Update("""
         UPDATE work_record_approval
         SET approval_status = #{approvalStatus,typeHandler=com.devhour.infrastructure.typehandler.ApprovalStatusTypeHandler},
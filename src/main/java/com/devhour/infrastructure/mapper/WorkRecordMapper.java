@@ -3,7 +3,9 @@ package com.devhour.infrastructure.mapper;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
@@ -76,6 +78,41 @@ public interface WorkRecordMapper {
     List<WorkRecord> findByUserIdAndDate(@Param("userId") String userId,
                                        @Param("workDate") LocalDate workDate);
     
+    /**
+     * 複数ユーザーの指定日の工数記録を一括取得
+     */
+    @Select("""
+        <script>
+        SELECT id, user_id, project_id, work_date, category_hours, 
+               description, created_by, created_at, updated_by, updated_at
+        FROM work_records 
+        WHERE deleted_at IS NULL
+        AND (
+        <foreach item='workDates' index='userId' collection='workDatesByUserId' separator=' OR '>
+            (user_id = #{userId} AND work_date IN
+            <foreach item='workDate' collection='workDates' open='(' separator=',' close=')'>
+                #{workDate}
+            </foreach>)
+        </foreach>
+        )
+        ORDER BY user_id ASC, work_date ASC, created_at ASC
+        </script>
+        """)
+    @Results({
+        @Result(property = "id", column = "id"),
+        @Result(property = "userId", column = "user_id"),
+        @Result(property = "projectId", column = "project_id"),
+        @Result(property = "workDate", column = "work_date"),
+        @Result(property = "categoryHours", column = "category_hours", 
+                typeHandler = CategoryHoursValueObjectTypeHandler.class),
+        @Result(property = "description", column = "description"),
+        @Result(property = "createdBy", column = "created_by"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "updatedBy", column = "updated_by"),
+        @Result(property = "updatedAt", column = "updated_at")
+    })
+    List<WorkRecord> findByUserIdsAndDates(@Param("workDatesByUserId") Map<String, Set<LocalDate>> workDatesByUserId);
+    
     /**
      * ユーザーの指定日の特定プロジェクトの工数記録を取得
      */
@@ -271,6 +308,36 @@ public interface WorkRecordMapper {
               @Param("updatedBy") String updatedBy,
               @Param("updatedAt") LocalDateTime updatedAt);
     
+    /**
+     * 工数記録一括保存
+     * 
+     * INSERT ... ON DUPLICATE KEY UPDATE により、新規行の作成と既存行（主キーまたは
+     * ユーザー・プロジェクト・作業日の一意キー重複）の更新を1文で実行する。
+     * 作成者・作成日時は更新しない。論理削除済みの行は新しいIDで復活させる。
+     * 
+     * @param workRecords 保存する工数記録のリスト（空でないこと）
+     * @return MySQLの影響行数（更新された行は2、変更のない行は0として数えられる）
+     */
+    @Insert("""
+        <script>
+        INSERT INTO work_records (
+            id, user_id, project_id, work_date, category_hours, description,
+            created_by, created_at, updated_by, updated_at
+        ) VALUES
+        <foreach item='record' collection='workRecords' separator=','>
+            (#{record.id}, #{record.userId}, #{record.projectId}, #{record.workDate},
+             #{record.categoryHours,typeHandler=com.devhour.infrastructure.typehandler.CategoryHoursValueObjectTypeHandler},
+             #{record.description}, #{record.createdBy}, #{record.createdAt}, #{record.updatedBy}, #{record.updatedAt})
+        </foreach>
+        ON DUPLICATE KEY UPDATE
+            id = IF(deleted_at IS NULL, id, VALUES(id)),
+            category_hours = VALUES(category_hours), description = VALUES(description),
+            updated_by = VALUES(updated_by), updated_at = VALUES(updated_at),
+            deleted_at = NULL
+        </script>
+        """)
+    int upsertAll(@Param("workRecords") List<WorkRecord> workRecords);
+    
     /**
      * 説明文のみ更新
      */
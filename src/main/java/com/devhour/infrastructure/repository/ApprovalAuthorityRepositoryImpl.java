@@ -1,6 +1,9 @@
 package com.devhour.infrastructure.repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +36,9 @@ public class ApprovalAuthorityRepositoryImpl implements ApprovalAuthorityReposit
     
     private static final Logger logger = LoggerFactory.getLogger(ApprovalAuthorityRepositoryImpl.class);
     
+    // 1回の一括登録・削除で扱う最大件数
+    private static final int CHUNK_SIZE = 500;
+    
     private final ApprovalAuthorityMapper mapper;
     
     /**
@@ -139,6 +145,41 @@ public class ApprovalAuthorityRepositoryImpl implements ApprovalAuthorityReposit
         logger.info("承認権限を削除しました: email={}", email);
     }
     
+    @Override
+    @Transactional
+    public void saveAll(List<ApprovalAuthority> approvalAuthorities) {
+        if (approvalAuthorities == null || approvalAuthorities.isEmpty()) {
+            return;
+        }
+        for (ApprovalAuthority approvalAuthority : approvalAuthorities) {
+            if (approvalAuthority == null) {
+                throw new IllegalArgumentException("承認権限エンティティは必須です");
+            }
+        }
+        
+        // メールアドレスの一意キー重複時は更新となるため、事前の存在確認は行わない
+        for (int from = 0; from < approvalAuthorities.size(); from += CHUNK_SIZE) {
+            mapper.upsertAll(approvalAuthorities.subList(from, Math.min(from + CHUNK_SIZE, approvalAuthorities.size())));
+        }
+        logger.info("承認権限を一括保存しました: {}件", approvalAuthorities.size());
+    }
+    
+    @Override
+    @Transactional
+    public void deleteByEmails(Collection<String> emails) {
+        if (emails == null || emails.isEmpty()) {
+            return;
+        }
+        
+        List<String> targetEmails = new ArrayList<>(new LinkedHashSet<>(emails));
+        targetEmails.forEach(email -> validateRequiredString(email, "メールアドレスは必須です"));
+        
+        for (int from = 0; from < targetEmails.size(); from += CHUNK_SIZE) {
+            mapper.deleteByEmails(targetEmails.subList(from, Math.min(from + CHUNK_SIZE, targetEmails.size())));
+        }
+        logger.info("承認権限を一括削除しました: {}件", targetEmails.size());
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<ApprovalAuthority> findByPosition(Position position) {
@@ -1,8 +1,11 @@
 package com.devhour.infrastructure.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -42,6 +45,9 @@ public class ApproverRepositoryImpl implements ApproverRepository {
         "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9]([a-zA-Z0-9.-]*[a-zA-Z0-9])?\\.[a-zA-Z]{2,}$"
     );
     
+    // 1回の一括登録で扱う最大件数
+    private static final int INSERT_CHUNK_SIZE = 500;
+    
     private final ApproverMapper mapper;
     
     public ApproverRepositoryImpl(ApproverMapper mapper) {
@@ -200,6 +206,33 @@ public class ApproverRepositoryImpl implements ApproverRepository {
         return result;
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<Approver> findAll() {
+        List<Approver> result = mapper.findAll();
+        logger.debug("全承認者関係を {} 件取得しました", result.size());
+        return result;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Approver> findByTargetEmails(Collection<String> targetEmails) {
+        if (targetEmails == null || targetEmails.isEmpty()) {
+            return List.of();
+        }
+        
+        Set<String> normalizedEmails = new LinkedHashSet<>();
+        for (String targetEmail : targetEmails) {
+            validateEmail(targetEmail, "対象者メールアドレス");
+            normalizedEmails.add(targetEmail.trim().toLowerCase());
+        }
+        
+        List<Approver> result = mapper.findByTargetEmails(normalizedEmails);
+        logger.debug("対象者 {} 名の承認者関係を {} 件取得しました", normalizedEmails.size(), result.size());
+        
+        return result;
+    }
+    
     // ===== Maintenance Operations =====
     
     @Override
@@ -215,6 +248,54 @@ public class ApproverRepositoryImpl implements ApproverRepository {
         logger.info("承認者関係を削除しました: target={}, approver={}", targetEmail, approverEmail);
     }
     
+    @Override
+    @Transactional
+    public void insertAll(List<Approver> approvers) {
+        if (approvers == null || approvers.isEmpty()) {
+            return;
+        }
+        
+        for (Approver approver : approvers) {
+            if (approver == null) {
+                throw new IllegalArgumentException("承認者関係は必須です");
+            }
+            validateApproverEntity(approver);
+        }
+        
+        for (int from = 0; from < approvers.size(); from += INSERT_CHUNK_SIZE) {
+            mapper.insertAll(approvers.subList(from, Math.min(from + INSERT_CHUNK_SIZE, approvers.size())));
+        }
+        logger.info("承認者関係を一括登録しました: {}件", approvers.size());
+    }
+    
+    @Override
+    @Transactional
+    public void deleteByTargetAndApprovers(Map<String, Set<String>> approverEmailsByTarget) {
+        if (approverEmailsByTarget == null || approverEmailsByTarget.isEmpty()) {
+            return;
+        }
+        
+        Map<String, Set<String>> normalized = new LinkedHashMap<>();
+        approverEmailsByTarget.forEach((targetEmail, approverEmails) -> {
+            if (approverEmails == null || approverEmails.isEmpty()) {
+                return;
+            }
+            validateEmail(targetEmail, "対象者メールアドレス");
+            Set<String> normalizedApprovers = normalized.computeIfAbsent(
+                targetEmail.trim().toLowerCase(), key -> new LinkedHashSet<>());
+            for (String approverEmail : approverEmails) {
+                validateEmail(approverEmail, "承認者メールアドレス");
+                normalizedApprovers.add(approverEmail.trim().toLowerCase());
+            }
+        });
+        if (normalized.isEmpty()) {
+            return;
+        }
+        
+        mapper.deleteByTargetAndApprovers(normalized);
+        logger.info("承認者関係を一括削除しました: 対象者 {} 名", normalized.size());
+    }
+    
     // ===== Validation Methods =====
     
     /**
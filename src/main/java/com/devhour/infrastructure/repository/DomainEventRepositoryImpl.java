@@ -1,14 +1,18 @@
 package com.devhour.infrastructure.repository;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
 import com.devhour.domain.event.WorkRecordApprovalEvent;
 import com.devhour.domain.repository.DomainEventRepository;
 import com.devhour.infrastructure.event.DomainEventEntity;
+import com.devhour.infrastructure.event.DomainEventStoredEvent;
 import com.devhour.infrastructure.mapper.DomainEventMapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,20 +26,54 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @Repository
 public class DomainEventRepositoryImpl implements DomainEventRepository {
     
+    // 一括保存で1回のSQLに含める最大件数（イベントデータを含むため小さめに区切る）
+    private static final int INSERT_CHUNK_SIZE = 100;
+    
     private final DomainEventMapper mapper;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
     
-    public DomainEventRepositoryImpl(DomainEventMapper mapper, ObjectMapper objectMapper) {
+    public DomainEventRepositoryImpl(DomainEventMapper mapper, ObjectMapper objectMapper,
+                                     ApplicationEventPublisher applicationEventPublisher) {
         this.mapper = mapper;
         this.objectMapper = objectMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
     
     @Override
     public void save(WorkRecordApprovalEvent event, String partitionKey) {
+        mapper.insert(toEntity(event, partitionKey));
+        
+        // コミット後に発行処理を起動するための通知（コミット前に発行されることはない）
+        applicationEventPublisher.publishEvent(new DomainEventStoredEvent(event.eventId()));
+    }
+    
+    @Override
+    public void save(WorkRecordApprovalEvent event) {
+        save(event, event.userId()); // userIdをデフォルトのパーティションキーとして使用
+    }
+    
+    @Override
+    public void saveAll(List<WorkRecordApprovalEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+        
+        List<DomainEventEntity> entities = events.stream()
+            .map(event -> toEntity(event, event.userId()))
+            .toList();
+        for (int from = 0; from < entities.size(); from += INSERT_CHUNK_SIZE) {
+            mapper.insertAll(entities.subList(from, Math.min(from + INSERT_CHUNK_SIZE, entities.size())));
+        }
+        
+        events.forEach(event -> applicationEventPublisher.publishEvent(new DomainEventStoredEvent(event.eventId())));
+    }
+    
+    private DomainEventEntity toEntity(WorkRecordApprovalEvent event, String partitionKey) {
         try {
             String eventData = objectMapper.writeValueAsString(event);
             
-            DomainEventEntity entity = new DomainEventEntity(
+            return new DomainEventEntity(
                 event.eventId(),
                 event.userId(), // userIdを集約IDとして使用
                 "WorkRecordApproval",
@@ -45,18 +83,11 @@ public class DomainEventRepositoryImpl implements DomainEventRepository {
                 partitionKey,
                 event.occurredAt()
             );
-            
-            mapper.insert(entity);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("イベントのシリアライズに失敗しました", e);
         }
     }
     
-    @Override
-    public void save(WorkRecordApprovalEvent event) {
-        save(event, event.userId()); // userIdをデフォルトのパーティションキーとして使用
-    }
-    
     @Override
     public Optional<WorkRecordApprovalEvent> findById(String eventId) {
         Optional<DomainEventEntity> entity = mapper.findById(eventId);
@@ -76,13 +107,47 @@ public class DomainEventRepositoryImpl implements DomainEventRepository {
         mapper.updateStatus(eventId, "PUBLISHED", LocalDateTime.now(), 0, null);
     }
     
+    @Override
+    public List<WorkRecordApprovalEvent> claimPendingEvents(int maxRetryCount, int limit) {
+        List<DomainEventEntity> entities = mapper.claimPendingEvents(maxRetryCount, limit);
+        return entities.stream()
+            .map(this::deserializeApprovalEvent)
+            .toList();
+    }
+    
+    @Override
+    public List<WorkRecordApprovalEvent> claimPendingEventsByIds(List<String> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return List.of();
+        }
+        List<DomainEventEntity> entities = mapper.claimPendingEventsByIds(eventIds);
+        return entities.stream()
+            .map(this::deserializeApprovalEvent)
+            .toList();
+    }
+    
+    @Override
+    public void markAllAsPublished(List<String> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return;
+        }
+        mapper.markAllAsPublished(eventIds, LocalDateTime.now());
+    }
+    
     @Override
     public void markAsFailed(String eventId, String errorMessage) {
-        Optional<DomainEventEntity> entity = mapper.findById(eventId);
-        if (entity.isPresent()) {
-            int retryCount = entity.get().getRetryCount() + 1;
-            mapper.updateStatus(eventId, "FAILED", null, retryCount, errorMessage);
+        // 存在しないイベントは更新対象0件となるため、事前の存在確認は行わない
+        Map<String, String> errorMessages = new HashMap<>();
+        errorMessages.put(eventId, errorMessage);
+        mapper.markAllAsFailed(errorMessages);
+    }
+    
+    @Override
+    public void markAllAsFailed(Map<String, String> errorMessages) {
+        if (errorMessages == null || errorMessages.isEmpty()) {
+            return;
         }
+        mapper.markAllAsFailed(errorMessages);
     }
     
     @Override
@@ -90,6 +155,14 @@ public class DomainEventRepositoryImpl implements DomainEventRepository {
         mapper.incrementRetryCount(eventId);
     }
     
+    @Override
+    public void incrementRetryCounts(List<String> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return;
+        }
+        mapper.incrementRetryCounts(eventIds);
+    }
+    
     @Override
     public List<WorkRecordApprovalEvent> findByAggregateId(String aggregateId) {
         List<DomainEventEntity> entities = mapper.findByAggregateId(aggregateId);
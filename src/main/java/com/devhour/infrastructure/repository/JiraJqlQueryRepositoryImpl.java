@@ -117,7 +117,8 @@ public class JiraJqlQueryRepositoryImpl implements JiraJqlQueryRepository {
                 jqlQuery.isActive(),
                 jqlQuery.getPriority(),
                 jqlQuery.getUpdatedAt(),
-                jqlQuery.getUpdatedBy()
+                jqlQuery.getUpdatedBy(),
+                jqlQuery.getLastSyncedAt()
             );
         }
         return jqlQuery;
@@ -134,6 +135,15 @@ public class JiraJqlQueryRepositoryImpl implements JiraJqlQueryRepository {
         return jqlQueries;
     }
     
+    @Override
+    @Transactional
+    public void updateLastSyncedAt(JiraJqlQuery jqlQuery) {
+        if (jqlQuery == null) {
+            throw new IllegalArgumentException("JQLクエリエンティティは必須です");
+        }
+        jqlQueryMapper.updateLastSyncedAt(jqlQuery.getId(), jqlQuery.getLastSyncedAt());
+    }
+    
     @Override
     @Transactional
     public void deleteById(String id) {
@@ -1,15 +1,21 @@
 package com.devhour.infrastructure.repository;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import com.devhour.domain.model.entity.JiraSyncHistory;
 import com.devhour.domain.model.entity.JiraSyncHistoryDetail;
+import com.devhour.domain.model.valueobject.DetailStatus;
 import com.devhour.domain.model.valueobject.JiraSyncStatus;
 import com.devhour.domain.model.valueobject.JiraSyncType;
 import com.devhour.domain.repository.JiraSyncHistoryRepository;
+import com.devhour.infrastructure.dto.JiraSyncDetailStatusCount;
 import com.devhour.infrastructure.mapper.JiraSyncHistoryDetailMapper;
 import com.devhour.infrastructure.mapper.JiraSyncHistoryMapper;
 
@@ -36,9 +42,18 @@ import com.devhour.infrastructure.mapper.JiraSyncHistoryMapper;
 @Transactional(readOnly = true)
 public class JiraSyncHistoryRepositoryImpl implements JiraSyncHistoryRepository {
     
+    /**
+     * 詳細履歴の一括挿入1回あたりの最大行数
+     */
+    private static final int DETAIL_INSERT_CHUNK_SIZE = 500;
+    
     private final JiraSyncHistoryMapper syncHistoryMapper;
     private final JiraSyncHistoryDetailMapper syncHistoryDetailMapper;
     
+    // この文字数を超える結果メッセージは圧縮して保存する（0以下の場合は圧縮しない）
+    @Value("${jira.sync.history.detail-compression-threshold:4096}")
+    private int detailCompressionThreshold;
+    
     public JiraSyncHistoryRepositoryImpl(JiraSyncHistoryMapper syncHistoryMapper, 
                                    JiraSyncHistoryDetailMapper syncHistoryDetailMapper) {
         this.syncHistoryMapper = syncHistoryMapper;
@@ -69,6 +84,17 @@ public class JiraSyncHistoryRepositoryImpl implements JiraSyncHistoryRepository
         return syncHistory;
     }
     
+    @Override
+    public List<JiraSyncHistoryDetail> findDetailsPage(String syncHistoryId, Integer afterSeq, int limit) {
+        if (syncHistoryId == null) {
+            throw new IllegalArgumentException("同期履歴IDは必須です");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("取得件数は1以上である必要があります");
+        }
+        return syncHistoryDetailMapper.selectPageBySyncHistoryId(syncHistoryId, afterSeq, limit);
+    }
+    
     @Override
     public List<JiraSyncHistory> findRecent() {
         // 30日前から現在まで
@@ -90,7 +116,7 @@ public class JiraSyncHistoryRepositoryImpl implements JiraSyncHistoryRepository
         }
         
         List<JiraSyncHistory> histories = syncHistoryMapper.selectByDateRange(startDate, endDate, status);
-        setSyncHistoryDetails(histories);
+        setSyncHistoryDetailCounts(histories);
         return histories;
     }
 
@@ -101,7 +127,7 @@ public class JiraSyncHistoryRepositoryImpl implements JiraSyncHistoryRepository
         }
 
         List<JiraSyncHistory> histories = syncHistoryMapper.selectByStatus(status.getValue());
-        setSyncHistoryDetails(histories);
+        setSyncHistoryDetailCounts(histories);
         return histories;
     }
     
@@ -112,14 +138,14 @@ public class JiraSyncHistoryRepositoryImpl implements JiraSyncHistoryRepository
         }
 
         List<JiraSyncHistory> histories = syncHistoryMapper.selectByTriggerType(triggerType.getValue());
-        setSyncHistoryDetails(histories);
+        setSyncHistoryDetailCounts(histories);
         return histories;
     }
     
     @Override
     public List<JiraSyncHistory> findInProgress() {
         List<JiraSyncHistory> histories = syncHistoryMapper.selectInProgress();
-        setSyncHistoryDetails(histories);
+        setSyncHistoryDetailCounts(histories);
         return histories;
     }
     
@@ -133,7 +159,7 @@ public class JiraSyncHistoryRepositoryImpl implements JiraSyncHistoryRepository
         }
         
         List<JiraSyncHistory> histories = syncHistoryMapper.selectRecentWithPagination(limit, offset, status);
-        setSyncHistoryDetails(histories);
+        setSyncHistoryDetailCounts(histories);
         return histories;
     }
     
@@ -167,40 +193,37 @@ public class JiraSyncHistoryRepositoryImpl implements JiraSyncHistoryRepository
                 syncHistory.getTotalProjectsProcessed(),
                 syncHistory.getSuccessCount(),
                 syncHistory.getErrorCount(),
+                syncHistory.getSkippedCount(),
                 syncHistory.getErrorDetails()
             );
         }
         
-        List<JiraSyncHistoryDetail> records = syncHistoryDetailMapper.selectBySyncHistoryId(syncHistory.getId());
-        for (JiraSyncHistoryDetail detail : syncHistory.getDetails()) {
-            if (!records.stream().anyMatch(r -> r.getId().equals(detail.getId()))) {
-                // 新しい詳細履歴を挿入
-                syncHistoryDetailMapper.insert(
-                    detail.getId(),
-                    syncHistory.getId(),
-                    detail.getSeq(),
-                    detail.getOperation(),
-                    detail.getStatus().getValue(),
-                    detail.getResult(),
-                    detail.getProcessedAt()
-                );
-            } else {
-                // 既存の詳細履歴を更新
-                syncHistoryDetailMapper.update(
-                    detail.getId(),
-                    syncHistory.getId(),
-                    detail.getSeq(),
-                    detail.getOperation(),
-                    detail.getStatus().getValue(),
-                    detail.getResult(),
-                    detail.getProcessedAt()
-                );
-            }
-        }
+        appendDetails(syncHistory);
         
         return syncHistory;
     }
     
+    @Override
+    @Transactional
+    public int appendDetails(JiraSyncHistory syncHistory) {
+        if (syncHistory == null) {
+            throw new IllegalArgumentException("同期履歴エンティティは必須です");
+        }
+        
+        List<JiraSyncHistoryDetail> details = syncHistory.takeUnpersistedDetails();
+        try {
+            for (int from = 0; from < details.size(); from += DETAIL_INSERT_CHUNK_SIZE) {
+                int to = Math.min(from + DETAIL_INSERT_CHUNK_SIZE, details.size());
+                syncHistoryDetailMapper.insertAll(compressForStorage(details.subList(from, to)));
+            }
+        } catch (RuntimeException e) {
+            // トランザクションはロールバックされるため、全件を未永続化に戻して次回の保存で再試行する
+            syncHistory.requeueUnpersistedDetails(details);
+            throw e;
+        }
+        return details.size();
+    }
+    
     @Override
     @Transactional
     public List<JiraSyncHistory> saveAll(List<JiraSyncHistory> syncHistories) {
@@ -252,14 +275,40 @@ public class JiraSyncHistoryRepositoryImpl implements JiraSyncHistoryRepository
     }
 
     /**
-     * 同期履歴リストに対応する詳細履歴を設定
+     * 結果メッセージが閾値を超える詳細履歴を圧縮した保存用リストを作成
+     * 
+     * @param details 保存対象の詳細履歴
+     * @return 保存用の詳細履歴リスト
+     */
+    private List<JiraSyncHistoryDetail> compressForStorage(List<JiraSyncHistoryDetail> details) {
+        if (detailCompressionThreshold <= 0) {
+            return details;
+        }
+        return details.stream()
+            .map(detail -> detail.compressResultIfLargerThan(detailCompressionThreshold))
+            .toList();
+    }
+    
+    /**
+     * 同期履歴リストに対応するステータス別の詳細件数を設定
+     * 
+     * 詳細履歴本体は読み込まず、1回の集計クエリで全同期履歴分の件数を取得する
      * 
      * @param histories 同期履歴リスト
-     */    
-    private void setSyncHistoryDetails(List<JiraSyncHistory> histories) {
+     */
+    private void setSyncHistoryDetailCounts(List<JiraSyncHistory> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+        
+        List<String> ids = histories.stream().map(JiraSyncHistory::getId).toList();
+        Map<String, Map<DetailStatus, Long>> countsById = new HashMap<>();
+        for (JiraSyncDetailStatusCount count : syncHistoryDetailMapper.countByStatusGroupedBySyncHistoryId(ids)) {
+            countsById.computeIfAbsent(count.getSyncHistoryId(), id -> new EnumMap<>(DetailStatus.class))
+                .put(count.getStatus(), count.getCount());
+        }
         for (JiraSyncHistory history : histories) {
-            List<JiraSyncHistoryDetail> details = syncHistoryDetailMapper.selectBySyncHistoryId(history.getId());
-            history.setDetails(details);
+            history.setDetailStatusCounts(countsById.get(history.getId()));
         }
     }
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.devhour.infrastructure.repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import com.devhour.domain.model.entity.Project;
 import com.devhour.domain.model.valueobject.ProjectStatus;
 import com.devhour.domain.repository.ProjectRepository;
@@ -41,6 +46,22 @@ public class ProjectRepositoryImpl implements ProjectRepository {
         return projectMapper.selectByJiraIssueKey(jiraIssueKey);
     }
     
+    @Override
+    public List<Project> findByJiraIssueKeys(Collection<String> jiraIssueKeys) {
+        if (jiraIssueKeys == null || jiraIssueKeys.isEmpty()) {
+            return List.of();
+        }
+        return projectMapper.selectByJiraIssueKeys(jiraIssueKeys);
+    }
+    
+    @Override
+    public List<Project> findByIds(Collection<String> projectIds) {
+        if (projectIds == null || projectIds.isEmpty()) {
+            return List.of();
+        }
+        return projectMapper.selectByIds(projectIds);
+    }
+    
     @Override
     public List<Project> findAll() {
         return projectMapper.findAll();
@@ -116,8 +137,32 @@ public class ProjectRepositoryImpl implements ProjectRepository {
     }
     
     @Override
+    @Transactional
     public List<Project> saveAll(List<Project> projects) {
-        projects.forEach(this::save);
+        if (projects == null || projects.isEmpty()) {
+            return projects;
+        }
+        
+        // 存在チェックを1回のクエリで行い、新規作成と更新に振り分ける
+        Set<String> existingIds = new HashSet<>(projectMapper.selectExistingIds(
+            projects.stream().map(Project::getId).toList()));
+        
+        List<Project> newProjects = new ArrayList<>();
+        List<Project> existingProjects = new ArrayList<>();
+        for (Project project : projects) {
+            if (existingIds.contains(project.getId())) {
+                existingProjects.add(project);
+            } else {
+                newProjects.add(project);
+            }
+        }
+        
+        if (!newProjects.isEmpty()) {
+            projectMapper.insertAll(newProjects);
+        }
+        if (!existingProjects.isEmpty()) {
+            projectMapper.updateAll(existingProjects);
+        }
         return projects;
     }
     
@@ -1,6 +1,7 @@
 package com.devhour.infrastructure.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
@@ -28,6 +29,14 @@ public class UserRepositoryImpl implements UserRepository {
         return userMapper.findById(userId);
     }
     
+    @Override
+    public List<User> findByIds(Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        return userMapper.findByIds(userIds);
+    }
+    
     @Override
     public Optional<User> findByUsername(String username) {
         return userMapper.findByUsername(username);
@@ -38,6 +47,14 @@ public class UserRepositoryImpl implements UserRepository {
         return userMapper.findByEmail(email);
     }
     
+    @Override
+    public List<User> findByEmails(Collection<String> emails) {
+        if (emails == null || emails.isEmpty()) {
+            return List.of();
+        }
+        return userMapper.findByEmails(emails);
+    }
+    
     @Override
     public Optional<User> findByEmailAndDeletedAtIsNull(String email) {
         return userMapper.findByEmailAndDeletedAtIsNull(email);
@@ -1,8 +1,12 @@
 package com.devhour.infrastructure.repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Repository;
 import com.devhour.domain.model.entity.WorkRecordApprovalHistory;
@@ -17,6 +21,9 @@ import com.devhour.infrastructure.mapper.WorkRecordApprovalHistoryMapper;
 @Repository
 public class WorkRecordApprovalHistoryRepositoryImpl implements WorkRecordApprovalHistoryRepository {
     
+    // 1回のSQLで扱う最大件数（プレースホルダ数の上限対策）
+    private static final int CHUNK_SIZE = 500;
+    
     private final WorkRecordApprovalHistoryMapper mapper;
     
     public WorkRecordApprovalHistoryRepositoryImpl(WorkRecordApprovalHistoryMapper mapper) {
@@ -29,6 +36,13 @@ public class WorkRecordApprovalHistoryRepositoryImpl implements WorkRecordApprov
         mapper.insert(history);
     }
     
+    @Override
+    public void saveAll(List<WorkRecordApprovalHistory> histories) {
+        for (int from = 0; from < histories.size(); from += CHUNK_SIZE) {
+            mapper.insertAll(histories.subList(from, Math.min(from + CHUNK_SIZE, histories.size())));
+        }
+    }
+    
     @Override
     public Optional<WorkRecordApprovalHistory> findById(String historyId) {
         List<WorkRecordApprovalHistory> histories = mapper.findByWorkRecordId(historyId.split("#")[0]);
@@ -98,4 +112,14 @@ public class WorkRecordApprovalHistoryRepositoryImpl implements WorkRecordApprov
     public boolean existsById(String historyId) {
         return mapper.countByHistoryId(historyId) > 0;
     }
+    
+    @Override
+    public Set<String> findExistingIds(Collection<String> historyIds) {
+        Set<String> existingIds = new HashSet<>();
+        List<String> ids = new ArrayList<>(historyIds);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            existingIds.addAll(mapper.findExistingHistoryIds(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()))));
+        }
+        return existingIds;
+    }
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package com.devhour.infrastructure.repository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Repository;
 import com.devhour.domain.model.entity.WorkRecordApproval;
 import com.devhour.domain.model.valueobject.ApprovalStatus;
@@ -18,6 +20,9 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class WorkRecordApprovalRepositoryImpl implements WorkRecordApprovalRepository {
     
+    // 一括保存で1回のSQLに含める最大件数
+    private static final int UPSERT_CHUNK_SIZE = 500;
+    
     private final WorkRecordApprovalMapper mapper;
     
     @Override
@@ -33,6 +38,26 @@ public class WorkRecordApprovalRepositoryImpl implements WorkRecordApprovalRepos
         return mapper.findByUsersAndStatuses(userIds, statuses);
     }
     
+    @Override
+    public List<WorkRecordApproval> findPageByUsersAndStatuses(List<String> userIds, List<ApprovalStatus> statuses,
+                                                              LocalDate cursorWorkDate, String cursorUserId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("取得件数は1以上である必要があります");
+        }
+        if (userIds == null || userIds.isEmpty() || statuses == null || statuses.isEmpty()) {
+            return List.of();
+        }
+        return mapper.findPageByUsersAndStatuses(userIds, statuses, cursorWorkDate, cursorUserId, limit);
+    }
+    
+    @Override
+    public List<WorkRecordApproval> findByUserIdsAndDates(Map<String, Set<LocalDate>> workDatesByUserId) {
+        if (workDatesByUserId == null || workDatesByUserId.isEmpty()) {
+            return List.of();
+        }
+        return mapper.findByUserIdsAndDates(workDatesByUserId);
+    }
+    
     @Override
     public List<WorkRecordApproval> findByUserId(String userId) {
         return mapper.findByUserId(userId);
@@ -81,6 +106,29 @@ public class WorkRecordApprovalRepositoryImpl implements WorkRecordApprovalRepos
         return toSave;
     }
     
+    @Override
+    public List<WorkRecordApproval> saveAll(List<WorkRecordApproval> approvals) {
+        LocalDateTime now = LocalDateTime.now();
+        List<WorkRecordApproval> toSave = approvals.stream()
+            .map(approval -> new WorkRecordApproval(
+                approval.getUserId(),
+                approval.getWorkDate(),
+                approval.getApprovalStatus(),
+                approval.getApproverId(),
+                approval.getApprovedAt(),
+                approval.getRejectionReason(),
+                approval.getCreatedAt() != null ? approval.getCreatedAt() : now,
+                now
+            ))
+            .toList();
+        
+        // 主キー重複時は更新となるため、事前の存在確認は行わない
+        for (int from = 0; from < toSave.size(); from += UPSERT_CHUNK_SIZE) {
+            mapper.upsertAll(toSave.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, toSave.size())));
+        }
+        return toSave;
+    }
+    
     @Override
     public void delete(String userId, LocalDate workDate) {
         mapper.delete(userId, workDate);
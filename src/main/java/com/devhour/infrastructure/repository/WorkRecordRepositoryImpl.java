@@ -3,7 +3,9 @@ package com.devhour.infrastructure.repository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Repository;
 import com.devhour.domain.model.entity.WorkRecord;
 import com.devhour.domain.repository.WorkRecordRepository;
@@ -17,6 +19,9 @@ import com.devhour.infrastructure.mapper.WorkRecordMapper;
 @Repository
 public class WorkRecordRepositoryImpl implements WorkRecordRepository {
     
+    // 一括保存で1回のSQLに含める最大件数
+    private static final int UPSERT_CHUNK_SIZE = 500;
+    
     private final WorkRecordMapper workRecordMapper;
     
     public WorkRecordRepositoryImpl(WorkRecordMapper workRecordMapper) {
@@ -33,6 +38,14 @@ public class WorkRecordRepositoryImpl implements WorkRecordRepository {
         return workRecordMapper.findByUserIdAndDate(userId, workDate);
     }
     
+    @Override
+    public List<WorkRecord> findByUserIdsAndDates(Map<String, Set<LocalDate>> workDatesByUserId) {
+        if (workDatesByUserId == null || workDatesByUserId.isEmpty()) {
+            return List.of();
+        }
+        return workRecordMapper.findByUserIdsAndDates(workDatesByUserId);
+    }
+    
     @Override
     public List<WorkRecord> findByUser(String userId) {
         return workRecordMapper.findByUser(userId);
@@ -93,7 +106,9 @@ public class WorkRecordRepositoryImpl implements WorkRecordRepository {
     
     @Override
     public List<WorkRecord> saveAll(List<WorkRecord> workRecords) {
-        workRecords.forEach(this::save);
+        for (int from = 0; from < workRecords.size(); from += UPSERT_CHUNK_SIZE) {
+            workRecordMapper.upsertAll(workRecords.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, workRecords.size())));
+        }
         return workRecords;
     }
     
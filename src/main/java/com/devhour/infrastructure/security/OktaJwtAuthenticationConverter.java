@@ -25,6 +25,7 @@ import java.util.stream.Collectors;
  * - JWT変換時にOktaユーザー同期サービスを呼び出し
  * - ユーザー情報の自動同期処理を実行
  * - 同期エラー時も認証処理は継続
+ * - 同期済みユーザーをOktaPrincipalCacheに保持し、リクエストごとの同期を省略
  * 
  * Spring Security OAuth2 Resource Serverの統合ポイントとして機能し、
  * Oktaから発行されたJWTトークンの「scp」または「scope」クレームを
@@ -41,19 +42,31 @@ public class OktaJwtAuthenticationConverter implements Converter<Jwt, AbstractAu
     }
 
     private final OktaUserSyncService userSyncService;
+    private final OktaPrincipalCache principalCache;
 
     /**
      * コンストラクタ
      * 
      * @param userSyncService Oktaユーザー同期サービス（オプション）
+     * @param principalCache 同期済みユーザーのキャッシュ（オプション、nullの場合は毎回同期）
      */
-    public OktaJwtAuthenticationConverter(OktaUserSyncService userSyncService) {
+    public OktaJwtAuthenticationConverter(OktaUserSyncService userSyncService, OktaPrincipalCache principalCache) {
         this.userSyncService = userSyncService; // nullも許可（ユーザー同期なしで動作可能）
+        this.principalCache = principalCache;
         logger.warn("=========================================");
         logger.warn("OktaJwtAuthenticationConverter INSTANCE CREATED");
         logger.warn("=========================================");
     }
     
+    /**
+     * コンストラクタ（キャッシュなし）
+     * 
+     * @param userSyncService Oktaユーザー同期サービス（オプション）
+     */
+    public OktaJwtAuthenticationConverter(OktaUserSyncService userSyncService) {
+        this(userSyncService, null);
+    }
+    
     /**
      * デフォルトコンストラクタ
      * ユーザー同期サービスなしで動作
@@ -95,8 +108,10 @@ public class OktaJwtAuthenticationConverter implements Converter<Jwt, AbstractAu
         // 一時的なJwtAuthenticationTokenを作成（ユーザー同期のため）
         JwtAuthenticationToken tempToken = new JwtAuthenticationToken(jwt, authorities, oktaUserId);
         
-        // Phase 3: ユーザー同期処理を実行し、内部ユーザーを取得
-        User internalUser = syncUserIfAvailable(tempToken);
+        // Phase 3: ユーザー同期処理を実行し、内部ユーザーを取得（キャッシュ済みの場合は同期を省略）
+        User internalUser = principalCache != null
+            ? principalCache.get(jwt, () -> syncUserIfAvailable(tempToken))
+            : syncUserIfAvailable(tempToken);
 
         // 内部ユーザー情報を含むカスタム認証トークンを作成
         OktaAuthenticationToken authenticationToken = new OktaAuthenticationToken(jwt, authorities, internalUser);
@@ -0,0 +1,119 @@
+package com.devhour.infrastructure.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.devhour.domain.event.UserChangedEvent;
+import com.devhour.domain.model.entity.User;
+import com.devhour.domain.util.TtlCache;
+
+/**
+ * 認証済みOktaプリンシパルのキャッシュ
+ *
+ * JWT変換のたびに実行されるOktaユーザー同期（ユーザー検索・保存）を省略するため、
+ * sub claimとユーザー情報クレームのハッシュをキーに同期済みの内部ユーザーを短時間保持する
+ *
+ * 仕様:
+ * - エントリはTTL経過後に失効し、次回の認証で再同期される
+ * - email・nameクレームが変わった場合はハッシュ不一致として再同期される
+ * - 最大件数を超える場合は失効済みエントリ、次いで最も早く失効するエントリから削除する
+ * - ユーザーの作成・更新・有効化・無効化（UserChangedEvent）のコミット後に該当ユーザーのエントリを破棄する
+ * - 同期中に破棄が発生した場合は同期結果をキャッシュしない
+ * - 共有による変更の混入を防ぐため、ユーザーは複製を保持し、取得のたびに複製を返す
+ */
+@Component
+@ConditionalOnProperty(name = "security.okta.enabled", havingValue = "true", matchIfMissing = false)
+public class OktaPrincipalCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(OktaPrincipalCache.class);
+
+    private final TtlCache<PrincipalKey, User> principals;
+
+    public OktaPrincipalCache(
+            @Value("${security.okta.principal-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${security.okta.principal-cache.max-size:10000}") int maxSize) {
+        this(Duration.ofSeconds(ttlSeconds), maxSize, Clock.systemUTC());
+    }
+
+    OktaPrincipalCache(Duration ttl, int maxSize, Clock clock) {
+        this.principals = new TtlCache<>("Oktaプリンシパル", ttl, maxSize, clock);
+    }
+
+    /**
+     * キャッシュ済みの内部ユーザーを取得し、存在しない場合は同期してキャッシュ
+     *
+     * 同期中にユーザー変更による破棄が発生した場合は、変更前の状態の可能性があるため同期結果をキャッシュしない。
+     * キャッシュには呼び出し元と共有しない複製を保持し、取得のたびに複製を返す。
+     *
+     * @param jwt JWTトークン
+     * @param loader キャッシュにない場合のユーザー同期処理（nullを返した場合はキャッシュしない）
+     * @return 内部ユーザー（同期できない場合はnull）
+     */
+    public User get(Jwt jwt, Supplier<User> loader) {
+        String subject = jwt.getSubject();
+        if (subject == null) {
+            return loader.get();
+        }
+
+        User user = principals.get(new PrincipalKey(subject, claimsHash(jwt)), () -> {
+            User loaded = loader.get();
+            return loaded != null ? loaded.copy() : null;
+        });
+        return user != null ? user.copy() : null;
+    }
+
+    /**
+     * 指定した内部ユーザーのキャッシュを破棄
+     *
+     * @param userId 内部ユーザーID
+     */
+    public void invalidateUser(String userId) {
+        if (userId != null) {
+            principals.invalidateIf(user -> userId.equals(user.getId()));
+        }
+    }
+
+    /**
+     * ユーザー変更のコミット後に該当ユーザーのキャッシュを破棄
+     *
+     * コミット前に破棄すると、並行する認証が変更前のユーザーを再びキャッシュするためコミット後に行う
+     *
+     * @param event ユーザー変更通知
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidateUser(event.userId());
+        logger.debug("ユーザー変更によりOktaプリンシパルキャッシュを破棄: userId={}", event.userId());
+    }
+
+    /**
+     * キャッシュ件数を取得
+     *
+     * @return キャッシュ件数
+     */
+    public int size() {
+        return principals.size();
+    }
+
+    /**
+     * ユーザー同期に影響するクレームのハッシュを計算
+     */
+    private static int claimsHash(Jwt jwt) {
+        return Objects.hash(jwt.getClaimAsString("email"), jwt.getClaimAsString("name"));
+    }
+
+    /**
+     * キャッシュキー
+     */
+    private record PrincipalKey(String subject, int claimsHash) {
+    }
+}
@@ -3,6 +3,7 @@ package com.devhour.infrastructure.security;
 import java.util.Arrays;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -57,9 +58,14 @@ public class OktaSecurityConfig {
     
     private final OktaJwtAuthenticationConverter jwtAuthenticationConverter;
     
-    public OktaSecurityConfig(OktaUserSyncService oktaUserSyncService) {
+    @Autowired
+    public OktaSecurityConfig(OktaUserSyncService oktaUserSyncService, OktaPrincipalCache oktaPrincipalCache) {
         // Create converter once and reuse
-        this.jwtAuthenticationConverter = new OktaJwtAuthenticationConverter(oktaUserSyncService);
+        this.jwtAuthenticationConverter = new OktaJwtAuthenticationConverter(oktaUserSyncService, oktaPrincipalCache);
+    }
+    
+    public OktaSecurityConfig(OktaUserSyncService oktaUserSyncService) {
+        this(oktaUserSyncService, null);
     }
     
     /**
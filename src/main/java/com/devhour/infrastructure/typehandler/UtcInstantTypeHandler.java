@@ -0,0 +1,45 @@
+package com.devhour.infrastructure.typehandler;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Instant用MyBatis TypeHandler
+ * 
+ * Instantをデータベースの日時カラムとUTCの日時として相互変換を行う
+ * サーバーのタイムゾーンに依存せずに時点を保存する（JIRA差分同期の同期済み日時など）
+ */
+public class UtcInstantTypeHandler extends BaseTypeHandler<Instant> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, Instant parameter, JdbcType jdbcType) throws SQLException {
+        ps.setObject(i, LocalDateTime.ofInstant(parameter, ZoneOffset.UTC));
+    }
+
+    @Override
+    public Instant getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toInstant(rs.getObject(columnName, LocalDateTime.class));
+    }
+
+    @Override
+    public Instant getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toInstant(rs.getObject(columnIndex, LocalDateTime.class));
+    }
+
+    @Override
+    public Instant getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toInstant(cs.getObject(columnIndex, LocalDateTime.class));
+    }
+
+    private Instant toInstant(LocalDateTime value) {
+        return value != null ? value.toInstant(ZoneOffset.UTC) : null;
+    }
+}
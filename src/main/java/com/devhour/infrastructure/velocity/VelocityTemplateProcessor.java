@@ -1,13 +1,17 @@
 package com.devhour.infrastructure.velocity;
 
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
 import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.apache.velocity.runtime.parser.ParseException;
 import org.springframework.stereotype.Component;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -23,6 +27,7 @@ import lombok.extern.slf4j.Slf4j;
  * - JIRA APIレスポンスのテンプレート変換
  * - テンプレート構文の検証
  * - テンプレートのテスト実行
+ * - 解析済みテンプレートのキャッシュ（テンプレートID単位、内容が変わった場合は再解析）
  * - セキュリティ制限とエラーハンドリング
  * - ユーティリティクラスによる文字列・日付・数値処理
  * 
@@ -36,9 +41,12 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class VelocityTemplateProcessor {
     
-    private final VelocityEngine velocityEngine;
+    private final RuntimeInstance velocityEngine;
     private final ObjectMapper objectMapper;
     
+    /** 解析済みテンプレートのキャッシュ（キー: テンプレートID） */
+    private final Map<String, CachedTemplate> templateCache = new ConcurrentHashMap<>();
+    
     /**
      * VelocityTemplateProcessorのコンストラクタ
      * 
@@ -92,6 +100,152 @@ public class VelocityTemplateProcessor {
         }
     }
     
+    /**
+     * JIRAレスポンスを解析済みテンプレートのキャッシュを使用して変換
+     * 
+     * テンプレートの解析（AST生成）はテンプレートIDと内容の組み合わせごとに1回のみ行い、
+     * 以降の呼び出しでは解析済みテンプレートを再利用する。
+     * 同じIDで内容が変わった場合は再解析してキャッシュを置き換える。
+     * 
+     * @param jiraResponse JIRA APIレスポンス（JSON文字列）
+     * @param templateId キャッシュキーとなるテンプレートID
+     * @param velocityTemplate 変換用Velocityテンプレート
+     * @return 変換されたJSON文字列
+     * @throws VelocityTemplateException 変換処理でエラーが発生した場合
+     */
+    public String transformResponse(String jiraResponse, String templateId, String velocityTemplate) {
+        log.debug("Template transformation started with cached template: {}", templateId);
+        
+        // パラメータ検証
+        validateTransformParameters(jiraResponse, velocityTemplate);
+        if (templateId == null || templateId.trim().isEmpty()) {
+            throw new VelocityTemplateException("Template id cannot be null or empty");
+        }
+        
+        try {
+            Template template = getCompiledTemplate(templateId, velocityTemplate);
+            
+            // JIRA レスポンスをJsonNodeに変換
+            JsonNode jiraData = objectMapper.readTree(jiraResponse);
+            
+            // Velocityコンテキスト作成
+            VelocityContext context = createVelocityContext(jiraData);
+            
+            // 解析済みテンプレートでレンダリング
+            StringWriter writer = new StringWriter();
+            template.merge(context, writer);
+            
+            String result = writer.toString();
+            
+            // 結果がJSONとして有効かを検証
+            objectMapper.readTree(result);
+            
+            log.debug("Template transformation completed successfully, result length: {}", result.length());
+            return result;
+            
+        } catch (VelocityTemplateException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Template transformation failed: {}", e.getMessage(), e);
+            throw new VelocityTemplateException("Failed to transform JIRA response with template", e);
+        }
+    }
+    
+    /**
+     * JIRAイシューのJsonNodeを解析済みテンプレートで変換し、結果をJsonNodeで返す
+     * 
+     * 入力をJSON文字列に戻さずにコンテキストを構築し、Velocityの出力は
+     * 妥当性検証を兼ねて1回だけ解析する。後続処理はツリーのまま受け渡せる。
+     * 同じイシューを複数のテンプレートで変換する場合は {@link #createContext(JsonNode)} で
+     * 作成したコンテキストを {@link #transformToTree(TemplateContext, String, String)} に渡すこと。
+     * 
+     * @param jiraData JIRAイシュー（JsonNode）
+     * @param templateId キャッシュキーとなるテンプレートID
+     * @param velocityTemplate 変換用Velocityテンプレート
+     * @return 変換結果のJsonNode
+     * @throws VelocityTemplateException 変換処理でエラーが発生した場合
+     */
+    public JsonNode transformToTree(JsonNode jiraData, String templateId, String velocityTemplate) {
+        return transformToTree(createContext(jiraData), templateId, velocityTemplate);
+    }
+    
+    /**
+     * JIRAイシューから変換用のコンテキストを作成
+     * 
+     * JsonNodeからMapへの変換はこの作成時に1回だけ行う。
+     * 同じイシューを複数のテンプレートで変換する場合は、作成したコンテキストを使い回す。
+     * 
+     * @param jiraData JIRAイシュー（JsonNode）
+     * @return 変換用コンテキスト
+     * @throws VelocityTemplateException イシューがnull、またはコンテキストを作成できない場合
+     */
+    public TemplateContext createContext(JsonNode jiraData) {
+        if (jiraData == null || jiraData.isNull() || jiraData.isMissingNode()) {
+            throw new VelocityTemplateException("JIRA response cannot be null or empty");
+        }
+        
+        try {
+            return new TemplateContext(createVelocityContext(jiraData));
+        } catch (Exception e) {
+            log.error("Template context creation failed: {}", e.getMessage(), e);
+            throw new VelocityTemplateException("Failed to transform JIRA response with template", e);
+        }
+    }
+    
+    /**
+     * 作成済みのコンテキストを解析済みテンプレートで変換し、結果をJsonNodeで返す
+     * 
+     * テンプレート内の#setによる変更が同じコンテキストを使う他の変換に影響しないよう、
+     * 変換ごとに共有コンテキストを内包した子コンテキストで描画する。
+     * 
+     * @param context {@link #createContext(JsonNode)} で作成したコンテキスト
+     * @param templateId キャッシュキーとなるテンプレートID
+     * @param velocityTemplate 変換用Velocityテンプレート
+     * @return 変換結果のJsonNode
+     * @throws VelocityTemplateException 変換処理でエラーが発生した場合
+     */
+    public JsonNode transformToTree(TemplateContext context, String templateId, String velocityTemplate) {
+        if (context == null) {
+            throw new VelocityTemplateException("Template context cannot be null");
+        }
+        if (velocityTemplate == null || velocityTemplate.trim().isEmpty()) {
+            throw new VelocityTemplateException("Velocity template cannot be null or empty");
+        }
+        if (templateId == null || templateId.trim().isEmpty()) {
+            throw new VelocityTemplateException("Template id cannot be null or empty");
+        }
+        
+        try {
+            Template template = getCompiledTemplate(templateId, velocityTemplate);
+            
+            StringWriter writer = new StringWriter();
+            template.merge(new VelocityContext(context.velocityContext), writer);
+            
+            // Velocityの出力は文字列のため、ここで1回だけ解析する（JSON妥当性検証を兼ねる）
+            return objectMapper.readTree(writer.toString());
+            
+        } catch (VelocityTemplateException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Template transformation failed: {}", e.getMessage(), e);
+            throw new VelocityTemplateException("Failed to transform JIRA response with template", e);
+        }
+    }
+    
+    /**
+     * 解析済みテンプレートのキャッシュを破棄
+     * 
+     * 内容が変わったテンプレートは次回の変換で再解析されるため、
+     * テンプレートの更新・削除時に呼び出し、不要になった解析済みテンプレートを解放する。
+     * 
+     * @param templateId 破棄対象のテンプレートID
+     */
+    public void evictTemplate(String templateId) {
+        if (templateId != null && templateCache.remove(templateId) != null) {
+            log.debug("Compiled template evicted from cache: {}", templateId);
+        }
+    }
+    
     /**
      * テンプレートの構文検証
      * 
@@ -200,13 +354,64 @@ public class VelocityTemplateProcessor {
         }
     }
     
+    /**
+     * 解析済みテンプレートを取得（未解析・内容不一致の場合は解析してキャッシュ）
+     * 
+     * 更新日時は秒精度のため同一秒内の更新を区別できない。キャッシュの有効性は
+     * 解析元のテンプレート内容と比較して判定する（同じ文字列インスタンスの場合は参照比較のみで済む）。
+     * 
+     * @param templateId テンプレートID
+     * @param velocityTemplate Velocityテンプレート
+     * @return 解析済みテンプレート
+     * @throws VelocityTemplateException テンプレートの解析に失敗した場合
+     */
+    private Template getCompiledTemplate(String templateId, String velocityTemplate) {
+        CachedTemplate cached = templateCache.get(templateId);
+        if (cached != null && cached.source().equals(velocityTemplate)) {
+            return cached.template();
+        }
+        
+        // 同一テンプレートの同時解析は1回にまとめる
+        return templateCache.compute(templateId, (id, current) -> {
+            if (current != null && current.source().equals(velocityTemplate)) {
+                return current;
+            }
+            return new CachedTemplate(velocityTemplate, compileTemplate(id, velocityTemplate));
+        }).template();
+    }
+    
+    /**
+     * Velocityテンプレートを解析してレンダリング可能なテンプレートを生成
+     * 
+     * @param templateId テンプレートID（エラーメッセージ用）
+     * @param velocityTemplate Velocityテンプレート
+     * @return 解析済みテンプレート
+     * @throws VelocityTemplateException 構文エラーの場合
+     */
+    private Template compileTemplate(String templateId, String velocityTemplate) {
+        log.debug("Compiling velocity template: {}", templateId);
+        
+        Template template = new Template();
+        template.setRuntimeServices(velocityEngine);
+        template.setName(templateId);
+        try {
+            template.setData(velocityEngine.parse(new StringReader(velocityTemplate), template));
+            template.initDocument();
+        } catch (ParseException e) {
+            throw new VelocityTemplateException("Failed to parse template: " + templateId, e);
+        }
+        return template;
+    }
+    
     /**
      * セキュリティが強化されたVelocityエンジンを作成
      * 
-     * @return 設定済みVelocityEngine
+     * 解析済みテンプレートを生成するため、VelocityEngineの内部実装であるRuntimeInstanceを直接使用する。
+     * 
+     * @return 設定済みRuntimeInstance
      */
-    private VelocityEngine createVelocityEngine() {
-        VelocityEngine engine = new VelocityEngine();
+    private RuntimeInstance createVelocityEngine() {
+        RuntimeInstance engine = new RuntimeInstance();
         
         // 基本設定
         engine.setProperty("runtime.log.logsystem.class", "org.apache.velocity.runtime.log.NullLogChute");
@@ -238,7 +443,7 @@ public class VelocityTemplateProcessor {
      * @return ユーティリティ付きVelocityContext
      */
     private VelocityContext createVelocityContext(JsonNode jiraData) {
-        VelocityContext context = new VelocityContext();
+        VelocityContext context = new JiraDataContext(jiraData);
 
         // JsonNodeをMap<String, Object>に変換
         // VelocityはMapとListを自動的にナビゲートできるため、再帰的展開は不要
@@ -254,8 +459,7 @@ public class VelocityTemplateProcessor {
         // 全体のデータも保持（$dataでアクセス可能）
         context.put("data", dataMap);
 
-        // 元のJSON文字列も保持（デバッグ用）
-        context.put("rawData", jiraData.toString());
+        // 元のJSON文字列（$rawData）はJiraDataContextが参照時に1回だけ生成する
 
         // ユーティリティツールを追加
         context.put("stringUtils", new StringUtils());
@@ -284,6 +488,64 @@ public class VelocityTemplateProcessor {
         }
     }
     
+    /**
+     * 元のJSON文字列（$rawData）を参照時に生成するVelocityContext
+     * 
+     * $rawDataはテンプレートからString（length()、contains()、stringUtilsの引数など）として扱われるため、
+     * JsonNodeではなく文字列を返す。参照しないテンプレートでは文字列化を行わず、
+     * 参照された場合も1つのコンテキストにつき1回だけ文字列化する。
+     */
+    private static final class JiraDataContext extends VelocityContext {
+        
+        private static final String RAW_DATA_KEY = "rawData";
+        
+        private final JsonNode jiraData;
+        private String rawData;
+        
+        private JiraDataContext(JsonNode jiraData) {
+            this.jiraData = jiraData;
+        }
+        
+        @Override
+        public Object internalGet(String key) {
+            if (RAW_DATA_KEY.equals(key)) {
+                if (rawData == null) {
+                    rawData = jiraData.toString();
+                }
+                return rawData;
+            }
+            return super.internalGet(key);
+        }
+        
+        @Override
+        public boolean internalContainsKey(String key) {
+            return RAW_DATA_KEY.equals(key) || super.internalContainsKey(key);
+        }
+    }
+    
+    /**
+     * キャッシュされた解析済みテンプレート
+     * 
+     * @param source 解析元のテンプレート内容
+     * @param template 解析済みテンプレート
+     */
+    private record CachedTemplate(String source, Template template) {
+    }
+    
+    /**
+     * JIRAイシュー1件分の変換用コンテキスト
+     * 
+     * 同じイシューを複数のテンプレートで変換する際に、JsonNodeからの変換結果を共有するために使用する。
+     */
+    public static final class TemplateContext {
+        
+        private final VelocityContext velocityContext;
+        
+        private TemplateContext(VelocityContext velocityContext) {
+            this.velocityContext = velocityContext;
+        }
+    }
+    
     /**
      * 文字列操作用ユーティリティクラス
      * 
@@ -279,6 +279,9 @@ public class JiraResponseTemplateController {
             // 削除実行
             responseTemplateRepository.deleteById(id);
 
+            // 解析済みテンプレートのキャッシュを破棄
+            velocityTemplateProcessor.evictTemplate(id);
+
             return ResponseEntity.noContent().build();
 
         } catch (Exception e) {
@@ -22,6 +22,7 @@ import com.devhour.domain.exception.JiraSyncAlreadyRunningException;
 import com.devhour.domain.model.entity.JiraSyncHistory;
 import com.devhour.presentation.dto.response.ConnectionTestResponse;
 import com.devhour.presentation.dto.response.JiraConnectionResponse;
+import com.devhour.presentation.dto.response.JiraSyncHistoryDetailPageResponse;
 import com.devhour.presentation.dto.response.JiraSyncHistoryDetailResponse;
 import com.devhour.presentation.dto.response.JiraSyncHistoryResponse;
 import com.devhour.presentation.dto.response.JiraSyncResponse;
@@ -37,10 +38,11 @@ import lombok.extern.slf4j.Slf4j;
  * エンドポイント:
  * - GET /api/jira/connection: JIRA接続設定情報取得
  * - POST /api/jira/connection/test: JIRA接続テスト実行
- * - POST /api/jira/sync/manual: 手動同期実行
+ * - POST /api/jira/sync/manual: 手動同期実行（fullResync=true で全件再同期）
  * - GET /api/jira/sync/status: 同期ステータス取得
  * - GET /api/jira/sync/history: 同期履歴一覧取得（ページネーション対応）
  * - GET /api/jira/sync/history/{id}: 同期履歴詳細取得
+ * - GET /api/jira/sync/history/{id}/details: 同期履歴詳細のページ取得（カーソル方式）
  * 
  * セキュリティ:
  * - 管理者権限: JIRA接続設定・テスト
@@ -139,15 +141,21 @@ public class JiraSyncController {
      * 手動同期実行
      * 
      * 管理者またはPMOが手動でJIRA同期処理を実行します。
+     * 通常は前回同期以降の差分のみを同期し、fullResync=true の場合は
+     * 同期済み日時を無視して全件を再同期します。
      * 同期が既に実行中の場合は競合エラーを返します。
      * 
+     * @param fullResync 全件再同期を行う場合true
      * @return 手動同期実行結果レスポンス
      */
     @PostMapping("/sync/manual")
     @PreAuthorize("hasAuthority('SCOPE_jira:write')")
-    public ResponseEntity<JiraSyncResponse> executeManualSync() {
+    public ResponseEntity<JiraSyncResponse> executeManualSync(
+            @RequestParam(defaultValue = "false") boolean fullResync) {
         try {
-            JiraSyncHistory syncHistory = jiraSyncApplicationService.executeSync();
+            JiraSyncHistory syncHistory = fullResync
+                    ? jiraSyncApplicationService.executeFullSync()
+                    : jiraSyncApplicationService.executeSync();
             
             log.info("手動同期実行を開始: syncId={}", syncHistory.getId());
             return ResponseEntity.status(HttpStatus.ACCEPTED)
@@ -246,6 +254,42 @@ public class JiraSyncController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 同期履歴詳細のページ取得（カーソル方式）
+     * 
+     * 管理者またはPMOが特定の同期実行の詳細項目を一定件数ずつ取得します。
+     * 前ページのレスポンスに含まれるnextCursorを指定して次ページを取得します。
+     * 
+     * @param id 同期履歴ID
+     * @param cursor 前ページの最後のシーケンス番号（オプション、未指定時は先頭から）
+     * @param size ページサイズ（デフォルト: 100）
+     * @return 同期履歴詳細ページレスポンス
+     */
+    @GetMapping("/sync/history/{id}/details")
+    @PreAuthorize("hasAuthority('SCOPE_jira:read')")
+    public ResponseEntity<JiraSyncHistoryDetailPageResponse> getSyncHistoryDetailPage(
+            @PathVariable String id,
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(defaultValue = "100") Integer size) {
+        // UUIDフォーマット検証
+        try {
+            java.util.UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            log.error("不正な同期履歴IDフォーマット: id={}", id);
+            throw new IllegalArgumentException("同期履歴IDのフォーマットが不正です: " + id);
+        }
+        
+        // パラメータ検証
+        if (size <= 0 || size > 1000) {
+            throw new IllegalArgumentException("ページサイズは1以上1000以下である必要があります");
+        }
+        
+        JiraSyncHistoryDetailPageResponse response =
+            syncHistoryApplicationService.getSyncHistoryDetailPage(id, cursor, size);
+        
+        return ResponseEntity.ok(response);
+    }
+    
     // ========== プライベートメソッド ==========
     
     /**
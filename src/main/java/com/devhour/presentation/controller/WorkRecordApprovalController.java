@@ -1,12 +1,15 @@
 package com.devhour.presentation.controller;
 
+import java.time.LocalDate;
 import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import com.devhour.application.service.DailyApprovalApplicationService;
 import com.devhour.infrastructure.security.SecurityUtils;
@@ -75,6 +78,37 @@ public class WorkRecordApprovalController {
         return ResponseEntity.ok(aggregatedApprovals);
     }
 
+    /**
+     * 承認待ち工数記録一覧をページ取得（集計済み、カーソル方式）
+     * 
+     * 工数日の降順・申請者IDの昇順で一定件数ずつ取得します。
+     * 前ページのレスポンスに含まれるnextCursorWorkDate・nextCursorUserIdを指定して次ページを取得します。
+     * 
+     * @param cursorWorkDate 前ページ最後の工数日（オプション、未指定時は先頭から）
+     * @param cursorUserId 前ページ最後の申請者ID（オプション）
+     * @param size ページサイズ（デフォルト: 50）
+     * @return 集計済み承認待ちページ
+     */
+    @GetMapping("/pending/page")
+    @PreAuthorize("hasAuthority('SCOPE_work-hours:approve')")
+    @Operation(summary = "承認待ち工数記録ページ取得", description = "ログインユーザーが承認可能な承認待ち工数記録の集計済み一覧をカーソル方式でページ取得します")
+    public ResponseEntity<DailyApprovalApplicationService.AggregatedApprovalPage> getPendingApprovalsPage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursorWorkDate,
+            @RequestParam(required = false) String cursorUserId,
+            @RequestParam(defaultValue = "50") Integer size) {
+
+        // パラメータ検証
+        if (size <= 0 || size > 500) {
+            throw new IllegalArgumentException("ページサイズは1以上500以下である必要があります");
+        }
+
+        DailyApprovalApplicationService.AggregatedApprovalPage page =
+                dailyApprovalApplicationService.getPendingAggregatedApprovalsPage(
+                        SecurityUtils.requireCurrentUserId(), cursorWorkDate, cursorUserId, size);
+
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * 申請者/日付単位で承認（日次承認）
      * 
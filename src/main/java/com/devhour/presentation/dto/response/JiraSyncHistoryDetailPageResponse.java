@@ -0,0 +1,81 @@
+package com.devhour.presentation.dto.response;
+
+import java.util.List;
+
+/**
+ * 同期履歴詳細ページレスポンスDTO
+ *
+ * 特定同期の詳細履歴をカーソル方式でページ取得するAPIのレスポンス
+ * 詳細件数が大きい同期実行でも一定件数ずつ取得できる
+ *
+ * 責務:
+ * - 詳細項目のリスト（シーケンス番号昇順）
+ * - 次ページ取得用のカーソル（最後の詳細のシーケンス番号）
+ *
+ * 要件対応:
+ * - REQ-6.2: 管理者が特定同期の詳細情報を参照可能
+ */
+public class JiraSyncHistoryDetailPageResponse {
+
+    private String syncHistoryId;
+    private List<JiraSyncHistoryDetailResponse.SyncDetailItem> details;
+    private Integer nextCursor;
+    private boolean hasNext;
+    private int pageSize;
+
+    public JiraSyncHistoryDetailPageResponse() {
+    }
+
+    public JiraSyncHistoryDetailPageResponse(String syncHistoryId,
+                                             List<JiraSyncHistoryDetailResponse.SyncDetailItem> details,
+                                             Integer nextCursor, boolean hasNext, int pageSize) {
+        this.syncHistoryId = syncHistoryId;
+        this.details = details;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.pageSize = pageSize;
+    }
+
+    public String getSyncHistoryId() {
+        return syncHistoryId;
+    }
+
+    public void setSyncHistoryId(String syncHistoryId) {
+        this.syncHistoryId = syncHistoryId;
+    }
+
+    public List<JiraSyncHistoryDetailResponse.SyncDetailItem> getDetails() {
+        return details;
+    }
+
+    public void setDetails(List<JiraSyncHistoryDetailResponse.SyncDetailItem> details) {
+        this.details = details;
+    }
+
+    /**
+     * 次ページ取得用のカーソル（次ページが存在しない場合はnull）
+     */
+    public Integer getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Integer nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+}
@@ -205,7 +205,8 @@ public class JiraSyncHistoryDetailResponse {
             // projectId, jiraIssueKey, and action fields removed
             this.operation = detail.getOperation();
             this.status = detail.getStatus();
-            this.result = detail.getResult();
+            // 圧縮保存された結果メッセージは詳細表示時にのみ展開する
+            this.result = detail.getDecompressedResult();
             this.processedAt = detail.getProcessedAt();
             
             // 処理時間を計算（同期履歴の開始時間が必要）
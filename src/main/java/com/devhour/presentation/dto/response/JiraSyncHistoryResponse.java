@@ -159,12 +159,15 @@ public class JiraSyncHistoryResponse {
         private Integer totalProjectsProcessed;
         private Integer successCount;
         private Integer errorCount;
+        private Integer skippedCount;
         private String errorDetails;
         private String triggeredBy;
         private long durationMinutes;
         private double successRate;
         
-        private List<SyncHistoryDetail> details;
+        // ステータス別の詳細件数（詳細本体は詳細APIでページ取得する）
+        private long detailSuccessCount;
+        private long detailErrorCount;
 
         /**
          * デフォルトコンストラクター
@@ -184,20 +187,13 @@ public class JiraSyncHistoryResponse {
             this.totalProjectsProcessed = syncHistory.getTotalProjectsProcessed();
             this.successCount = syncHistory.getSuccessCount();
             this.errorCount = syncHistory.getErrorCount();
+            this.skippedCount = syncHistory.getSkippedCount();
             this.errorDetails = syncHistory.getErrorDetails();
             this.triggeredBy = syncHistory.getTriggeredBy();
             this.durationMinutes = syncHistory.getDurationMinutes();
             this.successRate = syncHistory.getSuccessRate();
-            this.details = syncHistory.getDetails().stream()
-                .map(detail -> new SyncHistoryDetail(
-                    detail.getId(),
-                    detail.getSeq(),
-                    detail.getOperation(),
-                    detail.getStatus(),
-                    detail.getResult(),
-                    detail.getProcessedAt()
-                ))
-                .toList();
+            this.detailSuccessCount = syncHistory.getDetailCount(DetailStatus.SUCCESS);
+            this.detailErrorCount = syncHistory.getDetailCount(DetailStatus.ERROR);
         }
         
         // Getters and Setters
@@ -265,6 +261,14 @@ public class JiraSyncHistoryResponse {
             this.errorCount = errorCount;
         }
         
+        public Integer getSkippedCount() {
+            return skippedCount;
+        }
+        
+        public void setSkippedCount(Integer skippedCount) {
+            this.skippedCount = skippedCount;
+        }
+        
         public String getErrorDetails() {
             return errorDetails;
         }
@@ -297,78 +301,20 @@ public class JiraSyncHistoryResponse {
             this.successRate = successRate;
         }
 
-        public List<SyncHistoryDetail> getDetails() {
-            return details;
-        }
-
-        public void setDetails(List<SyncHistoryDetail> details) {
-            this.details = details;
-        }
-    }
-
-    public static class SyncHistoryDetail {
-        private String id;
-        private Integer seq;
-        private String operation;
-        private DetailStatus status;
-        private String result;
-        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
-        private LocalDateTime processedAt;
-
-        public SyncHistoryDetail() {
-        }
-
-        public SyncHistoryDetail(String id, Integer seq, String operation, DetailStatus status, String result, LocalDateTime processedAt) {
-            this.id = id;
-            this.seq = seq;
-            this.operation = operation;
-            this.status = status;
-            this.result = result;
-            this.processedAt = processedAt;
-        }
-
-        public String getId() {
-            return id;
-        }
-
-        public Integer getSeq() {
-            return seq;
-        }
-
-        public void setSeq(Integer seq) {
-            this.seq = seq;
-        }
-
-        public String getOperation() {
-            return operation;
-        }
-
-        public void setOperation(String operation) {
-            this.operation = operation;
-        }
-
-        public DetailStatus getStatus() {
-            return status;
-        }
-
-        public void setStatus(DetailStatus status) {
-            this.status = status;
-        }
-
-        public String getResult() {
-            return result;
+        public long getDetailSuccessCount() {
+            return detailSuccessCount;
         }
 
-        public void setResult(String result) {
-            this.result = result;
+        public void setDetailSuccessCount(long detailSuccessCount) {
+            this.detailSuccessCount = detailSuccessCount;
         }
 
-        public LocalDateTime getProcessedAt() {
-            return processedAt;
+        public long getDetailErrorCount() {
+            return detailErrorCount;
         }
 
-        public void setProcessedAt(LocalDateTime processedAt) {
-            this.processedAt = processedAt;
+        public void setDetailErrorCount(long detailErrorCount) {
+            this.detailErrorCount = detailErrorCount;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,2 @@
+-- 差分同期用: JQLクエリごとの同期済み日時（ハイウォーターマーク、UTCで保存）
+ALTER TABLE jira_jql_queries ADD COLUMN last_synced_at timestamp NULL DEFAULT NULL;
@@ -0,0 +1,5 @@
+-- JIRA同期の差分検出用フィンガープリント（共通フォーマットJSONのSHA-256）
+ALTER TABLE projects ADD COLUMN jira_sync_fingerprint varchar(64) NULL DEFAULT NULL;
+
+-- 内容に変更がなくスキップしたイシュー数
+ALTER TABLE jira_sync_histories ADD COLUMN skipped_count int NOT NULL DEFAULT '0';
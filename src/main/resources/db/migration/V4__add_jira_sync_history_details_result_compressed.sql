@@ -0,0 +1,2 @@
+-- 大きな同期履歴詳細の結果メッセージをGZIP圧縮して保存する列（圧縮時はresultをNULLとする）
+ALTER TABLE jira_sync_history_details ADD COLUMN result_compressed longblob NULL DEFAULT NULL;
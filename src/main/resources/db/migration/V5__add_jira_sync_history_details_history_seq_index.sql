@@ -0,0 +1,2 @@
+-- 同期履歴詳細をシーケンス番号のカーソルでページ取得するための複合インデックス
+ALTER TABLE jira_sync_history_details ADD KEY idx_sync_history_details_history_seq (sync_history_id, seq);
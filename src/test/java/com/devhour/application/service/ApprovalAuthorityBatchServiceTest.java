@@ -6,8 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,12 +28,15 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import com.devhour.application.dto.BatchProgress;
 import com.devhour.application.dto.BatchResult;
 import com.devhour.domain.model.entity.ApprovalAuthority;
-import com.devhour.domain.model.entity.Approver;
 import com.devhour.domain.model.valueobject.Position;
 import com.devhour.domain.repository.ApprovalAuthorityRepository;
 import com.devhour.domain.repository.ApproverRepository;
+import com.devhour.domain.service.ApproverRelationGraph;
 import com.devhour.domain.service.OrganizationHierarchyProcessor;
 
 /**
@@ -53,6 +57,12 @@ class ApprovalAuthorityBatchServiceTest {
     @Mock
     private OrganizationHierarchyProcessor hierarchyProcessor;
     
+    @Mock
+    private ApproverRelationGraph approverRelationGraph;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
     @InjectMocks
     private ApprovalAuthorityBatchService batchService;
     
@@ -104,6 +114,44 @@ class ApprovalAuthorityBatchServiceTest {
             assertEquals(0, result.getErrors().size(), "エラーが発生してはいけない");
         }
         
+        @Test
+        @DisplayName("処理完了後の進捗に読み込み行数と有効レコード数が反映される")
+        void shouldExposeProgressAfterImport() throws IOException {
+            // Arrange
+            Path csvFile = tempDir.resolve("employees.csv");
+            Files.writeString(csvFile, VALID_CSV_CONTENT);
+            
+            // Act
+            batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
+            
+            // Assert
+            BatchProgress progress = batchService.getProgress();
+            assertEquals(BatchProgress.Phase.COMPLETED, progress.phase());
+            assertEquals(5, progress.linesRead());
+            assertEquals(5, progress.validRecords());
+            assertEquals(0, progress.errorRecords());
+        }
+        
+        @Test
+        @DisplayName("同じメールアドレスの行が複数ある場合は後の行を採用する")
+        void shouldPreferLaterRowForDuplicateEmail() throws IOException {
+            // Arrange
+            String duplicatedCsv = """
+                tanaka@example.com,田中旧名,1000,開発統括本部,1100,開発本部,1110,開発1部,1111,開発1グループ,マネージャー
+                tanaka@example.com,田中太郎,1000,開発統括本部,1100,開発本部,1110,開発1部,1111,開発1グループ,マネージャー
+                """;
+            Path csvFile = tempDir.resolve("duplicated.csv");
+            Files.writeString(csvFile, duplicatedCsv);
+            
+            // Act
+            BatchResult result = batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
+            
+            // Assert
+            assertEquals(1, result.getProcessed());
+            verify(approvalAuthorityRepository).saveAll(argThat(authorities ->
+                authorities.size() == 1 && "田中太郎".equals(authorities.get(0).getName())));
+        }
+        
         @Test
         @DisplayName("存在しないファイルパスでエラーが記録される")
         void shouldRecordErrorForNonExistentFile() {
@@ -208,20 +256,15 @@ class ApprovalAuthorityBatchServiceTest {
             Path csvFile = tempDir.resolve("employees.csv");
             Files.writeString(csvFile, VALID_CSV_CONTENT);
             
-            // Mock設定 - 承認権限者のみ保存が呼ばれることを期待
-            when(approvalAuthorityRepository.save(any(ApprovalAuthority.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-            
             // Act
             batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
             
             // Assert
-            // 承認権限者は4人（マネージャー、部長、本部長、統括本部長）
-            verify(approvalAuthorityRepository, times(4)).save(any(ApprovalAuthority.class));
-            
+            // 承認権限者は4人（マネージャー、部長、本部長、統括本部長）を1回の一括保存で保存
             // 一般社員は保存されないことを確認
-            verify(approvalAuthorityRepository, never()).save(argThat(authority -> 
-                authority.getPosition() == Position.EMPLOYEE
+            verify(approvalAuthorityRepository).saveAll(argThat(authorities ->
+                authorities.size() == 4 &&
+                authorities.stream().noneMatch(authority -> authority.getPosition() == Position.EMPLOYEE)
             ));
         }
         
@@ -232,14 +275,11 @@ class ApprovalAuthorityBatchServiceTest {
             Path csvFile = tempDir.resolve("employees.csv");
             Files.writeString(csvFile, VALID_CSV_CONTENT);
             
-            when(approvalAuthorityRepository.save(any(ApprovalAuthority.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-            
             // Act
             batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
             
             // Assert
-            verify(approvalAuthorityRepository).save(argThat(authority -> 
+            verify(approvalAuthorityRepository).saveAll(argThat(authorities -> authorities.stream().anyMatch(authority ->
                 "tanaka@example.com".equals(authority.getEmail()) &&
                 "田中太郎".equals(authority.getName()) &&
                 Position.MANAGER == authority.getPosition() &&
@@ -247,7 +287,7 @@ class ApprovalAuthorityBatchServiceTest {
                 "開発統括本部".equals(authority.getLevel1Name()) &&
                 "1111".equals(authority.getLevel4Code()) &&
                 "開発1グループ".equals(authority.getLevel4Name())
-            ));
+            )));
         }
     }
     
@@ -286,16 +326,13 @@ class ApprovalAuthorityBatchServiceTest {
                 "suzuki@example.com", Set.of("sato@example.com")
             );
             when(hierarchyProcessor.calculateApprovers(any())).thenReturn(mockApproverRelations);
-            when(approverRepository.save(any(Approver.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-            
             // Act
             BatchResult result = batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
             
             // Assert
             assertEquals(2, result.getApproverRelations().getAdded(),
                 "承認者関係が2つ追加されるべき");
-            verify(approverRepository, times(2)).save(any(Approver.class));
+            verify(approverRepository).insertAll(argThat(approvers -> approvers.size() == 2));
         }
     }
     
@@ -311,15 +348,13 @@ class ApprovalAuthorityBatchServiceTest {
             Files.writeString(csvFile, VALID_CSV_CONTENT);
             
             when(approvalAuthorityRepository.findAll()).thenReturn(Collections.emptyList());
-            when(approvalAuthorityRepository.save(any(ApprovalAuthority.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-            
             // Act
             BatchResult result = batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
             
             // Assert
             assertEquals(4, result.getProcessed(), "4人の承認権限者が処理されるべき");
-            verify(approvalAuthorityRepository, times(4)).save(any(ApprovalAuthority.class));
+            assertEquals(4, result.getAdded(), "4人が追加されるべき");
+            verify(approvalAuthorityRepository).saveAll(argThat(authorities -> authorities.size() == 4));
         }
         
         @Test
@@ -336,15 +371,14 @@ class ApprovalAuthorityBatchServiceTest {
                 "1110", "開発1部", "1111", "開発1グループ"
             );
             when(approvalAuthorityRepository.findAll()).thenReturn(List.of(existingAuthority));
-            when(approvalAuthorityRepository.save(any(ApprovalAuthority.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-            
             // Act
             BatchResult result = batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
             
             // Assert
             assertEquals(4, result.getProcessed(), "4人の承認権限者が処理されるべき");
-            verify(approvalAuthorityRepository, times(4)).save(any(ApprovalAuthority.class));
+            assertEquals(1, result.getUpdated(), "1人が更新されるべき");
+            assertEquals(3, result.getAdded(), "3人が追加されるべき");
+            verify(approvalAuthorityRepository).saveAll(argThat(authorities -> authorities.size() == 4));
         }
         
         @Test
@@ -372,7 +406,7 @@ class ApprovalAuthorityBatchServiceTest {
             
             // Assert
             assertEquals(1, result.getDeleted(), "1人が削除されるべき");
-            verify(approvalAuthorityRepository).deleteByEmail("deleted@example.com");
+            verify(approvalAuthorityRepository).deleteByEmails(List.of("deleted@example.com"));
         }
         
         @Test
@@ -401,11 +435,14 @@ class ApprovalAuthorityBatchServiceTest {
             assertEquals(1, result.getApproverRelations().getAdded(), "1つの承認者関係が追加されるべき");
             assertEquals(1, result.getApproverRelations().getDeleted(), "1つの承認者関係が削除されるべき");
             
-            verify(approverRepository).deleteByTargetAndApprover("tanaka@example.com", "oldapprover@example.com");
-            verify(approverRepository).save(argThat(approver -> 
-                "tanaka@example.com".equals(approver.getTargetEmail()) &&
-                "newapprover@example.com".equals(approver.getApproverEmail())
+            verify(approverRepository).deleteByTargetAndApprovers(
+                Map.of("tanaka@example.com", Set.of("oldapprover@example.com")));
+            verify(approverRepository).insertAll(argThat(approvers ->
+                approvers.size() == 1 &&
+                "tanaka@example.com".equals(approvers.get(0).getTargetEmail()) &&
+                "newapprover@example.com".equals(approvers.get(0).getApproverEmail())
             ));
+            verify(approverRelationGraph).refreshTargets(Set.of("tanaka@example.com"));
         }
     }
     
@@ -420,15 +457,14 @@ class ApprovalAuthorityBatchServiceTest {
             Path csvFile = tempDir.resolve("employees.csv");
             Files.writeString(csvFile, VALID_CSV_CONTENT);
             
-            // 特定の承認権限者でエラーが発生する設定
-            when(approvalAuthorityRepository.save(any(ApprovalAuthority.class)))
-                .thenAnswer(invocation -> {
-                    ApprovalAuthority authority = invocation.getArgument(0);
-                    if ("suzuki@example.com".equals(authority.getEmail())) {
-                        throw new RuntimeException("Database error for suzuki");
-                    }
-                    return authority;
-                });
+            // 特定の承認権限者を含む保存でエラーが発生する設定
+            doAnswer(invocation -> {
+                List<ApprovalAuthority> authorities = invocation.getArgument(0);
+                if (authorities.stream().anyMatch(authority -> "suzuki@example.com".equals(authority.getEmail()))) {
+                    throw new RuntimeException("Database error for suzuki");
+                }
+                return null;
+            }).when(approvalAuthorityRepository).saveAll(any());
             
             // Act
             BatchResult result = batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
@@ -439,6 +475,35 @@ class ApprovalAuthorityBatchServiceTest {
                 error.contains("suzuki@example.com")), "suzukiのエラーが記録されるべき");
         }
         
+        @Test
+        @DisplayName("チャンクごとに一括保存し、失敗したチャンクのみ1件ずつ再実行される")
+        void shouldApplyInChunksAndRetryOnlyFailedChunk() throws IOException {
+            // Arrange
+            Path csvFile = tempDir.resolve("employees.csv");
+            Files.writeString(csvFile, VALID_CSV_CONTENT);
+            ReflectionTestUtils.setField(batchService, "chunkSize", 2);
+            
+            // 2番目のチャンク（sato, yamada）のyamadaでエラーが発生
+            doAnswer(invocation -> {
+                List<ApprovalAuthority> authorities = invocation.getArgument(0);
+                if (authorities.stream().anyMatch(authority -> "yamada@example.com".equals(authority.getEmail()))) {
+                    throw new RuntimeException("Database error for yamada");
+                }
+                return null;
+            }).when(approvalAuthorityRepository).saveAll(any());
+            
+            // Act
+            BatchResult result = batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
+            
+            // Assert
+            assertEquals(3, result.getProcessed(), "失敗した1人以外が処理されるべき");
+            assertEquals(1, result.getErrors().size(), "yamadaのエラーのみ記録されるべき");
+            verify(approvalAuthorityRepository, times(4)).saveAll(any());
+            verify(approvalAuthorityRepository).saveAll(argThat(authorities -> authorities.size() == 1
+                && "sato@example.com".equals(authorities.get(0).getEmail())));
+            verify(transactionManager, times(2)).rollback(any());
+        }
+        
         @Test
         @DisplayName("大量データの処理性能を確認")
         void shouldHandleLargeDatasetEfficiently() throws IOException {
@@ -451,9 +516,6 @@ class ApprovalAuthorityBatchServiceTest {
             Path csvFile = tempDir.resolve("large_employees.csv");
             Files.writeString(csvFile, largeCSV.toString());
             
-            when(approvalAuthorityRepository.save(any(ApprovalAuthority.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-            
             // Act
             long startTime = System.currentTimeMillis();
             BatchResult result = batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
@@ -477,9 +539,6 @@ class ApprovalAuthorityBatchServiceTest {
             Path csvFile = tempDir.resolve("employees.csv");
             Files.writeString(csvFile, VALID_CSV_CONTENT);
             
-            when(approvalAuthorityRepository.save(any(ApprovalAuthority.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-            
             // Act
             BatchResult result = batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
             
@@ -502,9 +561,6 @@ class ApprovalAuthorityBatchServiceTest {
             Path csvFile = tempDir.resolve("multiple_positions.csv");
             Files.writeString(csvFile, csvWithMultiplePositions);
             
-            when(approvalAuthorityRepository.save(any(ApprovalAuthority.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-            
             // Act
             BatchResult result = batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
             
@@ -520,8 +576,8 @@ class ApprovalAuthorityBatchServiceTest {
             Path csvFile = tempDir.resolve("employees.csv");
             Files.writeString(csvFile, VALID_CSV_CONTENT);
             
-            when(approvalAuthorityRepository.save(any(ApprovalAuthority.class)))
-                .thenThrow(new RuntimeException("Database connection timeout"));
+            doThrow(new RuntimeException("Database connection timeout"))
+                .when(approvalAuthorityRepository).saveAll(any());
             
             // Act
             BatchResult result = batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
@@ -545,9 +601,6 @@ class ApprovalAuthorityBatchServiceTest {
                 "suzuki@example.com", Set.of("sato@example.com")
             );
             when(hierarchyProcessor.calculateApprovers(any())).thenReturn(newApproverRelations);
-            when(approverRepository.save(any(Approver.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-            
             // Act
             BatchResult result = batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
             
@@ -568,9 +621,6 @@ class ApprovalAuthorityBatchServiceTest {
             Path csvFile = tempDir.resolve("large_dataset.csv");
             Files.writeString(csvFile, largeCSV.toString());
             
-            when(approvalAuthorityRepository.save(any(ApprovalAuthority.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-            
             // Act
             BatchResult result = batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
             
@@ -592,8 +642,8 @@ class ApprovalAuthorityBatchServiceTest {
             Path csvFile = tempDir.resolve("employees.csv");
             Files.writeString(csvFile, VALID_CSV_CONTENT);
             
-            when(approvalAuthorityRepository.save(any(ApprovalAuthority.class)))
-                .thenThrow(new RuntimeException("Database connection error"));
+            doThrow(new RuntimeException("Database connection error"))
+                .when(approvalAuthorityRepository).saveAll(any());
             
             // Act
             BatchResult result = batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
@@ -610,16 +660,16 @@ class ApprovalAuthorityBatchServiceTest {
             Path csvFile = tempDir.resolve("employees.csv");
             Files.writeString(csvFile, VALID_CSV_CONTENT);
             
-            // 2番目と4番目の処理でエラーが発生
-            when(approvalAuthorityRepository.save(any(ApprovalAuthority.class)))
-                .thenAnswer(invocation -> {
-                    ApprovalAuthority authority = invocation.getArgument(0);
-                    if ("suzuki@example.com".equals(authority.getEmail()) || 
-                        "yamada@example.com".equals(authority.getEmail())) {
-                        throw new RuntimeException("Processing error");
-                    }
-                    return authority;
-                });
+            // 2番目と4番目の承認権限者を含む保存でエラーが発生
+            doAnswer(invocation -> {
+                List<ApprovalAuthority> authorities = invocation.getArgument(0);
+                if (authorities.stream().anyMatch(authority ->
+                        "suzuki@example.com".equals(authority.getEmail()) ||
+                        "yamada@example.com".equals(authority.getEmail()))) {
+                    throw new RuntimeException("Processing error");
+                }
+                return null;
+            }).when(approvalAuthorityRepository).saveAll(any());
             
             // Act
             BatchResult result = batchService.importApprovalAuthoritiesFromFile(csvFile.toString());
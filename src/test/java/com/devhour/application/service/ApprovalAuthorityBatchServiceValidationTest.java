@@ -5,7 +5,6 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -21,11 +20,11 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 import com.devhour.application.dto.BatchResult;
-import com.devhour.domain.model.entity.ApprovalAuthority;
-import com.devhour.domain.model.entity.Approver;
 import com.devhour.domain.repository.ApprovalAuthorityRepository;
 import com.devhour.domain.repository.ApproverRepository;
+import com.devhour.domain.service.ApproverRelationGraph;
 import com.devhour.domain.service.OrganizationHierarchyProcessor;
 
 /**
@@ -47,6 +46,12 @@ class ApprovalAuthorityBatchServiceValidationTest {
     @Mock
     private OrganizationHierarchyProcessor hierarchyProcessor;
     
+    @Mock
+    private ApproverRelationGraph approverRelationGraph;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
     @InjectMocks
     private ApprovalAuthorityBatchService batchService;
     
@@ -66,12 +71,6 @@ class ApprovalAuthorityBatchServiceValidationTest {
         lenient().when(approvalAuthorityRepository.findAll()).thenReturn(Collections.emptyList());
         lenient().when(approverRepository.findAllGroupedByTarget()).thenReturn(Collections.emptyMap());
         lenient().when(hierarchyProcessor.calculateApprovers(any())).thenReturn(Collections.emptyMap());
-        lenient().when(approvalAuthorityRepository.save(any(ApprovalAuthority.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        lenient().when(approverRepository.save(any(Approver.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        lenient().doNothing().when(approverRepository).deleteByTargetAndApprover(anyString(), anyString());
-        lenient().doNothing().when(approvalAuthorityRepository).deleteByEmail(anyString());
     }
     
     @Nested
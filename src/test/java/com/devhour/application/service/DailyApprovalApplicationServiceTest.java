@@ -64,6 +64,9 @@ class DailyApprovalApplicationServiceTest {
     @Mock
     private UserRepository userRepository;
     
+    @Mock
+    private MonthlyWorkCalendarCache monthlyWorkCalendarCache;
+    
     @InjectMocks
     private DailyApprovalApplicationService service;
     
@@ -252,20 +255,23 @@ class DailyApprovalApplicationServiceTest {
     void approveBatch_Success() {
         // Arrange
         String approverId = approverUser.getId();
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
         List<ApprovalRequest> requests = Arrays.asList(
-            new ApprovalRequest("user1", LocalDate.now()),
-            new ApprovalRequest("user2", LocalDate.now().minusDays(1))
+            new ApprovalRequest("user1", today),
+            new ApprovalRequest("user2", yesterday)
         );
-        
-        when(approvalAuthorityService.validateAuthorityForDate(eq(approverId), anyString(), any(LocalDate.class)))
-            .thenReturn(true);
-        when(workRecordApprovalRepository.findByUserIdAndDate(anyString(), any(LocalDate.class)))
-            .thenReturn(Optional.empty());
-        when(workRecordApprovalRepository.save(any(WorkRecordApproval.class)))
+        Map<String, Set<LocalDate>> requestedDates = Map.of("user1", Set.of(today), "user2", Set.of(yesterday));
+        WorkRecordApproval existingApproval = new WorkRecordApproval("user2", yesterday);
+        
+        when(approvalAuthorityService.filterAuthorizedDates(approverId, requestedDates))
+            .thenReturn(new HashMap<>(requestedDates));
+        when(workRecordApprovalRepository.findByUserIdsAndDates(requestedDates))
+            .thenReturn(Arrays.asList(existingApproval));
+        when(workRecordApprovalRepository.saveAll(anyList()))
             .thenAnswer(invocation -> invocation.getArgument(0));
-        when(workRecordRepository.findByUserIdAndDate(anyString(), any(LocalDate.class)))
+        when(workRecordRepository.findByUserIdsAndDates(requestedDates))
             .thenReturn(Arrays.asList(testWorkRecord));
-        doNothing().when(domainEventRepository).save(any(WorkRecordApprovalEvent.class));
         
         // Act
         List<ApprovalResult> results = service.approveBatch(requests, approverId);
@@ -275,9 +281,19 @@ class DailyApprovalApplicationServiceTest {
         assertEquals(2, results.size());
         assertEquals("user1", results.get(0).getUserId());
         assertEquals("user2", results.get(1).getUserId());
-        
-        verify(approvalAuthorityService, times(2)).validateAuthorityForDate(eq(approverId), anyString(), any(LocalDate.class));
-        verify(workRecordApprovalRepository, times(2)).save(any(WorkRecordApproval.class));
+        assertEquals("APPROVED", results.get(0).getStatus());
+        assertEquals("APPROVED", results.get(1).getStatus());
+        assertEquals(ApprovalStatus.APPROVED, existingApproval.getApprovalStatus());
+        
+        // 権限検証・保存・イベント保存はそれぞれ一括で1回のみ
+        verify(approvalAuthorityService).filterAuthorizedDates(approverId, requestedDates);
+        verify(approvalAuthorityService, never()).validateAuthorityForDate(any(), any(), any());
+        verify(workRecordApprovalRepository).saveAll(argThat(approvals -> approvals.size() == 2));
+        verify(workRecordApprovalRepository, never()).save(any(WorkRecordApproval.class));
+        verify(domainEventRepository).saveAll(argThat(events -> events.size() == 2));
+        verify(domainEventRepository, never()).save(any(WorkRecordApprovalEvent.class));
+        verify(monthlyWorkCalendarCache).invalidate("user1", today);
+        verify(monthlyWorkCalendarCache).invalidate("user2", yesterday);
     }
     
     @Test
@@ -285,21 +301,23 @@ class DailyApprovalApplicationServiceTest {
     void approveBatch_PartialError() {
         // Arrange
         String approverId = approverUser.getId();
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
         List<ApprovalRequest> requests = Arrays.asList(
-            new ApprovalRequest("user1", LocalDate.now()),
-            new ApprovalRequest("user2", LocalDate.now().minusDays(1))
+            new ApprovalRequest("user1", today),
+            new ApprovalRequest("user2", yesterday)
         );
+        Map<String, Set<LocalDate>> requestedDates = Map.of("user1", Set.of(today), "user2", Set.of(yesterday));
+        Map<String, Set<LocalDate>> authorizedDates = Map.of("user1", Set.of(today));
         
         // 最初のリクエストは成功、2番目は権限エラー
-        when(approvalAuthorityService.validateAuthorityForDate(approverId, "user1", requests.get(0).getWorkDate()))
-            .thenReturn(true);
-        when(approvalAuthorityService.validateAuthorityForDate(approverId, "user2", requests.get(1).getWorkDate()))
-            .thenReturn(false);
-        when(workRecordApprovalRepository.findByUserIdAndDate("user1", requests.get(0).getWorkDate()))
-            .thenReturn(Optional.empty());
-        when(workRecordApprovalRepository.save(any(WorkRecordApproval.class)))
+        when(approvalAuthorityService.filterAuthorizedDates(approverId, requestedDates))
+            .thenReturn(new HashMap<>(authorizedDates));
+        when(workRecordApprovalRepository.findByUserIdsAndDates(authorizedDates))
+            .thenReturn(Collections.emptyList());
+        when(workRecordApprovalRepository.saveAll(anyList()))
             .thenAnswer(invocation -> invocation.getArgument(0));
-        when(workRecordRepository.findByUserIdAndDate("user1", requests.get(0).getWorkDate()))
+        when(workRecordRepository.findByUserIdsAndDates(authorizedDates))
             .thenReturn(Arrays.asList(testWorkRecord));
         
         // Act
@@ -310,7 +328,64 @@ class DailyApprovalApplicationServiceTest {
         assertEquals(2, results.size());
         assertNull(results.get(0).getError());
         assertEquals("ERROR", results.get(1).getStatus());
-        assertNotNull(results.get(1).getError());
+        assertEquals("承認権限がありません", results.get(1).getError());
+        verify(domainEventRepository).saveAll(argThat(events -> events.size() == 1));
+    }
+    
+    @Test
+    @DisplayName("一括承認処理 - 承認済みの行のみエラーとなり、保存は行わない")
+    void approveBatch_AlreadyApproved() {
+        // Arrange
+        String approverId = approverUser.getId();
+        LocalDate today = LocalDate.now();
+        List<ApprovalRequest> requests = Arrays.asList(new ApprovalRequest("user1", today));
+        Map<String, Set<LocalDate>> requestedDates = Map.of("user1", Set.of(today));
+        WorkRecordApproval approvedApproval = new WorkRecordApproval(
+            "user1", today, ApprovalStatus.APPROVED, "other", LocalDateTime.now(), null);
+        
+        when(approvalAuthorityService.filterAuthorizedDates(approverId, requestedDates))
+            .thenReturn(new HashMap<>(requestedDates));
+        when(workRecordApprovalRepository.findByUserIdsAndDates(requestedDates))
+            .thenReturn(Arrays.asList(approvedApproval));
+        
+        // Act
+        List<ApprovalResult> results = service.approveBatch(requests, approverId);
+        
+        // Assert
+        assertEquals(1, results.size());
+        assertEquals("ERROR", results.get(0).getStatus());
+        assertEquals("既に承認済みです", results.get(0).getError());
+        verify(workRecordApprovalRepository, never()).saveAll(anyList());
+        verifyNoInteractions(domainEventRepository, workRecordRepository);
+    }
+    
+    @Test
+    @DisplayName("一括差し戻し処理 - 差し戻しイベントを一括保存する")
+    void rejectBatch_Success() {
+        // Arrange
+        String approverId = approverUser.getId();
+        List<ApprovalRequest> requests = Arrays.asList(new ApprovalRequest(testUser.getId(), testWorkDate));
+        Map<String, Set<LocalDate>> requestedDates = Map.of(testUser.getId(), Set.of(testWorkDate));
+        
+        when(approvalAuthorityService.filterAuthorizedDates(approverId, requestedDates))
+            .thenReturn(new HashMap<>(requestedDates));
+        when(workRecordApprovalRepository.findByUserIdsAndDates(requestedDates))
+            .thenReturn(Arrays.asList(testApproval));
+        when(workRecordApprovalRepository.saveAll(anyList()))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(workRecordRepository.findByUserIdsAndDates(requestedDates))
+            .thenReturn(Arrays.asList(testWorkRecord));
+        
+        // Act
+        List<ApprovalResult> results = service.rejectBatch("修正してください", requests, approverId);
+        
+        // Assert
+        assertEquals(1, results.size());
+        assertEquals("REJECTED", results.get(0).getStatus());
+        verify(domainEventRepository).saveAll(argThat(events -> events.size() == 1
+            && "REJECT".equals(events.get(0).action())
+            && "修正してください".equals(events.get(0).rejectionReason())
+            && events.get(0).targetWorkRecords().size() == 1));
     }
     
     @Test
@@ -327,12 +402,10 @@ class DailyApprovalApplicationServiceTest {
             .thenReturn(Arrays.asList(testUser));
         when(workRecordApprovalRepository.findByUsersAndStatuses(subordinateIds, targetStatuses))
             .thenReturn(Arrays.asList(testApproval));
-        when(userRepository.findById(testUser.getId()))
-            .thenReturn(Optional.of(testUser));
-        when(workRecordRepository.findByUserIdAndDate(testUser.getId(), testWorkDate))
+        when(workRecordRepository.findByUserIdsAndDates(Map.of(testUser.getId(), Set.of(testWorkDate))))
             .thenReturn(Arrays.asList(testWorkRecord));
-        when(projectRepository.findById(testProject.getId()))
-            .thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIds(Set.of(testProject.getId())))
+            .thenReturn(Arrays.asList(testProject));
         
         // Act
         List<AggregatedApproval> result = service.getPendingAggregatedApprovals(approverId);
@@ -344,9 +417,84 @@ class DailyApprovalApplicationServiceTest {
         assertEquals(testWorkDate, result.get(0).getWorkDate());
         assertNotNull(result.get(0).getCategoryHours());
         assertNotNull(result.get(0).getProjectBreakdowns());
+        assertEquals(testProject, result.get(0).getProjectBreakdowns().get(0).getProject());
         
         verify(listApproverService).findApprovalTargetsByApprover(approverUser);
         verify(workRecordApprovalRepository).findByUsersAndStatuses(subordinateIds, targetStatuses);
+        // 申請者・工数記録・プロジェクトは一括取得し、個別検索は行わない
+        verify(userRepository, never()).findById(testUser.getId());
+        verify(workRecordRepository, never()).findByUserIdAndDate(any(), any());
+        verify(projectRepository, never()).findById(any());
+    }
+    
+    @Test
+    @DisplayName("承認待ち一覧をページ取得 - 次ページがある場合はカーソルを返す")
+    void getPendingAggregatedApprovalsPage_HasNext() {
+        // Arrange
+        String approverId = approverUser.getId();
+        List<String> subordinateIds = Arrays.asList(testUser.getId());
+        List<ApprovalStatus> targetStatuses = Arrays.asList(ApprovalStatus.PENDING, ApprovalStatus.REJECTED);
+        LocalDate cursorWorkDate = testWorkDate.plusDays(1);
+        WorkRecordApproval olderApproval = new WorkRecordApproval(testUser.getId(), testWorkDate.minusDays(1));
+        
+        when(userRepository.findById(approverId))
+            .thenReturn(Optional.of(approverUser));
+        when(listApproverService.findApprovalTargetsByApprover(approverUser))
+            .thenReturn(Arrays.asList(testUser));
+        when(workRecordApprovalRepository.findPageByUsersAndStatuses(
+                subordinateIds, targetStatuses, cursorWorkDate, "cursor-user", 2))
+            .thenReturn(Arrays.asList(testApproval, olderApproval));
+        when(workRecordRepository.findByUserIdsAndDates(Map.of(testUser.getId(), Set.of(testWorkDate))))
+            .thenReturn(Arrays.asList(testWorkRecord));
+        when(projectRepository.findByIds(Set.of(testProject.getId())))
+            .thenReturn(Arrays.asList(testProject));
+        
+        // Act
+        AggregatedApprovalPage page = service.getPendingAggregatedApprovalsPage(
+            approverId, cursorWorkDate, "cursor-user", 1);
+        
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertEquals(testWorkDate, page.getItems().get(0).getWorkDate());
+        assertTrue(page.isHasNext());
+        assertEquals(testWorkDate, page.getNextCursorWorkDate());
+        assertEquals(testUser.getId(), page.getNextCursorUserId());
+        assertEquals(1, page.getPageSize());
+    }
+    
+    @Test
+    @DisplayName("承認待ち一覧をページ取得 - 最終ページではカーソルを返さない")
+    void getPendingAggregatedApprovalsPage_LastPage() {
+        // Arrange
+        String approverId = approverUser.getId();
+        List<String> subordinateIds = Arrays.asList(testUser.getId());
+        List<ApprovalStatus> targetStatuses = Arrays.asList(ApprovalStatus.PENDING, ApprovalStatus.REJECTED);
+        
+        when(userRepository.findById(approverId))
+            .thenReturn(Optional.of(approverUser));
+        when(listApproverService.findApprovalTargetsByApprover(approverUser))
+            .thenReturn(Arrays.asList(testUser));
+        when(workRecordApprovalRepository.findPageByUsersAndStatuses(subordinateIds, targetStatuses, null, null, 51))
+            .thenReturn(Collections.emptyList());
+        
+        // Act
+        AggregatedApprovalPage page = service.getPendingAggregatedApprovalsPage(approverId, null, null, 50);
+        
+        // Assert
+        assertTrue(page.getItems().isEmpty());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursorWorkDate());
+        assertNull(page.getNextCursorUserId());
+        verifyNoInteractions(workRecordRepository, projectRepository);
+    }
+    
+    @Test
+    @DisplayName("承認待ち一覧をページ取得 - 不正なページサイズ")
+    void getPendingAggregatedApprovalsPage_InvalidSize() {
+        assertThrows(IllegalArgumentException.class,
+            () -> service.getPendingAggregatedApprovalsPage(approverUser.getId(), null, null, 0));
+        
+        verifyNoInteractions(userRepository, workRecordApprovalRepository);
     }
     
     @Test
@@ -5,16 +5,22 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.ArgumentMatchers;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -28,7 +34,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.retry.RecoveryCallback;
 import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
 import org.springframework.retry.support.RetryTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.ResourceAccessException;
 import com.devhour.application.service.JsonTransformService.JsonTransformException;
 import com.devhour.domain.exception.JiraAuthenticationException;
@@ -37,7 +45,9 @@ import com.devhour.domain.exception.JiraSyncException;
 import com.devhour.domain.model.entity.JiraJqlQuery;
 import com.devhour.domain.model.entity.JiraResponseTemplate;
 import com.devhour.domain.model.entity.JiraSyncHistory;
+import com.devhour.domain.model.entity.JiraSyncHistoryDetail;
 import com.devhour.domain.model.entity.Project;
+import com.devhour.domain.model.valueobject.JiraSearchProjection;
 import com.devhour.domain.model.valueobject.JiraSyncStatus;
 import com.devhour.domain.model.valueobject.JiraSyncType;
 import com.devhour.domain.repository.JiraJqlQueryRepository;
@@ -49,6 +59,7 @@ import com.devhour.domain.service.JiraSyncDomainService;
 import com.devhour.infrastructure.jira.JiraClient;
 import com.devhour.infrastructure.jira.dto.JiraIssueSearchResponse;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -103,7 +114,7 @@ class JiraSyncApplicationServiceTest {
     private JiraSyncHistory testSyncHistory;
     private JiraIssueSearchResponse testJiraResponse;
     private Project testProject;
-    private String testCommonFormatJson;
+    private JsonNode testCommonFormat;
     
     @BeforeEach
     void setUp() {
@@ -147,7 +158,9 @@ class JiraSyncApplicationServiceTest {
         testJiraResponse.setIssues(Arrays.asList(testIssue));
         
         // テスト用共通フォーマットJSON
-        testCommonFormatJson = "{ \"projectKey\": \"TEST-123\", \"projectName\": \"Test Project\" }";
+        testCommonFormat = JsonNodeFactory.instance.objectNode()
+            .put("projectKey", "TEST-123")
+            .put("projectName", "Test Project");
     }
     
     @Test
@@ -164,11 +177,10 @@ class JiraSyncApplicationServiceTest {
                     ArgumentMatchers.<RecoveryCallback<JiraIssueSearchResponse>>any());
 
         when(responseTemplateRepository.findById(testTemplate.getId())).thenReturn(Optional.of(testTemplate));
-        doReturn("{\"key\":\"TEST-123\",\"summary\":\"Test Issue\"}").when(objectMapper).writeValueAsString(any());
-        when(jsonTransformService.transformResponse(anyString(), eq(testTemplate.getTemplateName()))).thenReturn(testCommonFormatJson);
+        when(jsonTransformService.transformToTree(any(JsonNode.class), eq(testTemplate))).thenReturn(testCommonFormat);
 
-        // Mock domain service - applyProjectChanges is now void
-        doNothing().when(jiraSyncDomainService).applyProjectChanges(anyString(), any(JiraSyncHistory.class));
+        // Mock domain service - project changes are applied per batch
+        when(jiraSyncDomainService.applyProjectChangesInBatch(anyList(), any(JiraSyncHistory.class))).thenReturn(0);
         
         // Act
         JiraSyncHistory result = service.executeSync();
@@ -181,9 +193,8 @@ class JiraSyncApplicationServiceTest {
             ArgumentMatchers.<RetryCallback<JiraIssueSearchResponse, RuntimeException>>any(),
             ArgumentMatchers.<RecoveryCallback<JiraIssueSearchResponse>>any());
         verify(responseTemplateRepository).findById(eq(testTemplate.getId()));
-        verify(objectMapper, times(1)).writeValueAsString(any()); // One call per issue
-        verify(jsonTransformService).transformResponse(anyString(), eq(testTemplate.getTemplateName()));
-        verify(jiraSyncDomainService).applyProjectChanges(anyString(), any(JiraSyncHistory.class));
+        verify(jsonTransformService).transformToTree(any(JsonNode.class), eq(testTemplate));
+        verify(jiraSyncDomainService).applyProjectChangesInBatch(anyList(), any(JiraSyncHistory.class));
         // projectRepository.save is not called directly anymore - domain service handles it internally
     }
     
@@ -267,8 +278,7 @@ class JiraSyncApplicationServiceTest {
         when(syncHistoryRepository.save(any(JiraSyncHistory.class))).thenReturn(testSyncHistory);
         when(jiraSyncRetryTemplate.<JiraIssueSearchResponse, RuntimeException>execute(ArgumentMatchers.<RetryCallback<JiraIssueSearchResponse, RuntimeException>>any(), ArgumentMatchers.<RecoveryCallback<JiraIssueSearchResponse>>any())).thenReturn(testJiraResponse);
         when(responseTemplateRepository.findById(testTemplate.getId())).thenReturn(Optional.of(testTemplate));
-        doReturn("{\"key\":\"TEST-123\",\"summary\":\"Test Issue\"}").when(objectMapper).writeValueAsString(any());
-        when(jsonTransformService.transformResponse(anyString(), anyString()))
+        when(jsonTransformService.transformToTree(any(JsonNode.class), any(JiraResponseTemplate.class)))
             .thenThrow(new JsonTransformException("Transform failed"));
         
         // Act
@@ -277,7 +287,7 @@ class JiraSyncApplicationServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(JiraSyncStatus.FAILED, result.getSyncStatus());
-        verify(jsonTransformService).transformResponse(anyString(), eq(testTemplate.getTemplateName()));
+        verify(jsonTransformService).transformToTree(any(JsonNode.class), eq(testTemplate));
         verifyNoInteractions(jiraSyncDomainService);
     }
     
@@ -348,11 +358,10 @@ class JiraSyncApplicationServiceTest {
         when(syncHistoryRepository.save(any(JiraSyncHistory.class))).thenReturn(testSyncHistory);
         when(jiraSyncRetryTemplate.<JiraIssueSearchResponse, RuntimeException>execute(ArgumentMatchers.<RetryCallback<JiraIssueSearchResponse, RuntimeException>>any(), ArgumentMatchers.<RecoveryCallback<JiraIssueSearchResponse>>any())).thenReturn(testJiraResponse);
         when(responseTemplateRepository.findById(anyString())).thenReturn(Optional.of(testTemplate));
-        doReturn("{\"key\":\"TEST-123\",\"summary\":\"Test Issue\"}").when(objectMapper).writeValueAsString(any());
-        when(jsonTransformService.transformResponse(anyString(), eq(testTemplate.getTemplateName()))).thenReturn(testCommonFormatJson);
+        when(jsonTransformService.transformToTree(any(JsonNode.class), eq(testTemplate))).thenReturn(testCommonFormat);
 
-        // Mock domain service - applyProjectChanges is now void
-        doNothing().when(jiraSyncDomainService).applyProjectChanges(anyString(), any(JiraSyncHistory.class));
+        // Mock domain service - project changes are applied per batch
+        when(jiraSyncDomainService.applyProjectChangesInBatch(anyList(), any(JiraSyncHistory.class))).thenReturn(0);
         
         // Act
         JiraSyncHistory result = service.executeSync();
@@ -374,12 +383,11 @@ class JiraSyncApplicationServiceTest {
         when(syncHistoryRepository.save(any(JiraSyncHistory.class))).thenReturn(testSyncHistory);
         when(jiraSyncRetryTemplate.<JiraIssueSearchResponse, RuntimeException>execute(ArgumentMatchers.<RetryCallback<JiraIssueSearchResponse, RuntimeException>>any(), ArgumentMatchers.<RecoveryCallback<JiraIssueSearchResponse>>any())).thenReturn(testJiraResponse);
         when(responseTemplateRepository.findById(testTemplate.getId())).thenReturn(Optional.of(testTemplate));
-        when(jsonTransformService.transformResponse(anyString(), eq(testTemplate.getTemplateName()))).thenReturn(testCommonFormatJson);
+        when(jsonTransformService.transformToTree(any(JsonNode.class), eq(testTemplate))).thenReturn(testCommonFormat);
         
-        doReturn("{\"key\":\"TEST-123\",\"summary\":\"Test Issue\"}").when(objectMapper).writeValueAsString(any());
 
         // Mock domain service to throw exception (simulating project save error inside domain service)
-        doThrow(new RuntimeException("Database error")).when(jiraSyncDomainService).applyProjectChanges(anyString(), any(JiraSyncHistory.class));
+        doThrow(new RuntimeException("Database error")).when(jiraSyncDomainService).applyProjectChangesInBatch(anyList(), any(JiraSyncHistory.class));
         
         // Act
         JiraSyncHistory result = service.executeSync();
@@ -400,11 +408,10 @@ class JiraSyncApplicationServiceTest {
         when(syncHistoryRepository.save(any(JiraSyncHistory.class))).thenReturn(testSyncHistory);
         when(jiraSyncRetryTemplate.<JiraIssueSearchResponse, RuntimeException>execute(ArgumentMatchers.<RetryCallback<JiraIssueSearchResponse, RuntimeException>>any(), ArgumentMatchers.<RecoveryCallback<JiraIssueSearchResponse>>any())).thenReturn(testJiraResponse);
         when(responseTemplateRepository.findById(testTemplate.getId())).thenReturn(Optional.of(testTemplate));
-        doReturn("{\"key\":\"TEST-123\",\"summary\":\"Test Issue\"}").when(objectMapper).writeValueAsString(any());
-        when(jsonTransformService.transformResponse(anyString(), eq(testTemplate.getTemplateName()))).thenReturn(testCommonFormatJson);
+        when(jsonTransformService.transformToTree(any(JsonNode.class), eq(testTemplate))).thenReturn(testCommonFormat);
 
         // Mock domain service to throw exception (simulating conflict resolution error)
-        doThrow(new RuntimeException("Conflict resolution failed")).when(jiraSyncDomainService).applyProjectChanges(anyString(), any(JiraSyncHistory.class));
+        doThrow(new RuntimeException("Conflict resolution failed")).when(jiraSyncDomainService).applyProjectChangesInBatch(anyList(), any(JiraSyncHistory.class));
         
         // Act
         JiraSyncHistory result = service.executeSync();
@@ -413,7 +420,7 @@ class JiraSyncApplicationServiceTest {
         assertNotNull(result);
         assertEquals(JiraSyncStatus.FAILED, result.getSyncStatus());
         verify(syncHistoryRepository, times(2)).save(any(JiraSyncHistory.class));
-        verify(jiraSyncDomainService).applyProjectChanges(eq(testCommonFormatJson), any(JiraSyncHistory.class));
+        verify(jiraSyncDomainService).applyProjectChangesInBatch(eq(List.of(testCommonFormat)), any(JiraSyncHistory.class));
         // projectRepository is handled internally by domain service, not called directly here
     }
     
@@ -427,8 +434,7 @@ class JiraSyncApplicationServiceTest {
         when(jqlQueryRepository.findActiveQueriesOrderByPriority()).thenReturn(activeQueries);
         when(syncHistoryRepository.save(any(JiraSyncHistory.class))).thenReturn(testSyncHistory);
         when(responseTemplateRepository.findById(testTemplate.getId())).thenReturn(Optional.of(testTemplate));
-        when(jsonTransformService.transformResponse(anyString(), eq(testTemplate.getTemplateName()))).thenReturn(testCommonFormatJson);
-        doReturn("{\"key\":\"TEST-123\",\"summary\":\"Test Issue\"}").when(objectMapper).writeValueAsString(any());
+        when(jsonTransformService.transformToTree(any(JsonNode.class), eq(testTemplate))).thenReturn(testCommonFormat);
         
         // リトライテンプレートのモック: 最初失敗、2回目成功をシミュレート
         when(jiraSyncRetryTemplate.<JiraIssueSearchResponse, RuntimeException>execute(ArgumentMatchers.<RetryCallback<JiraIssueSearchResponse, RuntimeException>>any(), ArgumentMatchers.<RecoveryCallback<JiraIssueSearchResponse>>any())).thenAnswer(invocation -> {
@@ -436,8 +442,8 @@ class JiraSyncApplicationServiceTest {
             return testJiraResponse;
         });
 
-        // Mock domain service - applyProjectChanges is now void
-        doNothing().when(jiraSyncDomainService).applyProjectChanges(anyString(), any(JiraSyncHistory.class));
+        // Mock domain service - project changes are applied per batch
+        when(jiraSyncDomainService.applyProjectChangesInBatch(anyList(), any(JiraSyncHistory.class))).thenReturn(0);
         
         // Act
         JiraSyncHistory result = service.executeSync();
@@ -500,6 +506,40 @@ class JiraSyncApplicationServiceTest {
         verify(syncHistoryRepository, times(2)).save(any(JiraSyncHistory.class));
     }
     
+    @Test
+    @DisplayName("リトライ機能 - レート制限エラーはリトライせずクエリを延期し、未処理のページから再開する")
+    void executeSync_RateLimitError_DefersQueryAndResumesFromUnprocessedPage() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(service, "maxRateLimitDeferrals", 1);
+        ReflectionTestUtils.setField(service, "pageSize", 50);
+        when(jqlQueryRepository.findActiveQueriesOrderByPriority()).thenReturn(Arrays.asList(testJqlQuery));
+        when(syncHistoryRepository.save(any(JiraSyncHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jiraSyncRetryTemplate.<JiraIssueSearchResponse, RuntimeException>execute(
+                ArgumentMatchers.<RetryCallback<JiraIssueSearchResponse, RuntimeException>>any(),
+                ArgumentMatchers.<RecoveryCallback<JiraIssueSearchResponse>>any()))
+            .thenAnswer(invocation -> invocation.<RetryCallback<JiraIssueSearchResponse, RuntimeException>>getArgument(0)
+                .doWithRetry(mock(RetryContext.class)));
+        JiraIssueSearchResponse firstPage = pagedResponse(0, 100);
+        JiraIssueSearchResponse secondPage = pagedResponse(50, 100);
+        when(jiraClient.searchIssues(anyString(), anyInt(), anyInt(), any(JiraSearchProjection.class)))
+            .thenReturn(firstPage)
+            .thenThrow(new JiraRateLimitException("Rate limit exceeded", 0))
+            .thenReturn(secondPage);
+        when(responseTemplateRepository.findById(testTemplate.getId())).thenReturn(Optional.of(testTemplate));
+        when(jsonTransformService.transformToTree(any(JsonNode.class), eq(testTemplate))).thenReturn(testCommonFormat);
+        when(jiraSyncDomainService.applyProjectChangesInBatch(anyList(), any(JiraSyncHistory.class))).thenReturn(0);
+        
+        // Act
+        JiraSyncHistory result = service.executeSync();
+        
+        // Assert
+        assertEquals(JiraSyncStatus.COMPLETED, result.getSyncStatus());
+        verify(jiraClient).searchIssues(anyString(), anyInt(), eq(0), any(JiraSearchProjection.class));
+        verify(jiraClient, times(2)).searchIssues(anyString(), anyInt(), eq(50), any(JiraSearchProjection.class));
+        verify(jiraSyncDomainService, times(2)).applyProjectChangesInBatch(anyList(), any(JiraSyncHistory.class));
+        verifyNoInteractions(adminNotificationService);
+    }
+    
     @Test
     @DisplayName("リトライ機能 - 全リトライ失敗で管理者通知")
     void executeSync_AllRetriesFailed_AdminNotification() {
@@ -543,4 +583,227 @@ class JiraSyncApplicationServiceTest {
         verifyNoInteractions(jiraSyncRetryTemplate);
         verifyNoInteractions(adminNotificationService);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("executeSync - 差分同期: 同期済み日時でJQLを絞り込み、成功後に同期済み日時を更新")
+    void executeSync_Incremental_NarrowsJqlAndAdvancesMark() throws Exception {
+        // Arrange
+        enableIncrementalSync();
+        Instant previousMark = Instant.parse("2024-01-15T00:30:00Z");
+        testJqlQuery.markSynced(previousMark);
+        stubSuccessfulQueryExecution();
+        
+        // Act
+        JiraSyncHistory result = service.executeSync();
+        
+        // Assert
+        assertEquals(JiraSyncStatus.COMPLETED, result.getSyncStatus());
+        verify(jiraClient).searchIssues(eq("(project = TEST) AND updated >= \"2024/01/15 09:20\""), eq(50), eq(0), any(JiraSearchProjection.class));
+        verify(jqlQueryRepository).updateLastSyncedAt(testJqlQuery);
+        assertTrue(testJqlQuery.getLastSyncedAt().isAfter(previousMark));
+    }
+    
+    @Test
+    @DisplayName("executeFullSync - 全件再同期: 同期済み日時を無視して元のJQLを実行")
+    void executeFullSync_IgnoresMarkAndExecutesOriginalJql() throws Exception {
+        // Arrange
+        enableIncrementalSync();
+        testJqlQuery.markSynced(Instant.parse("2024-01-15T00:30:00Z"));
+        stubSuccessfulQueryExecution();
+        
+        // Act
+        JiraSyncHistory result = service.executeFullSync();
+        
+        // Assert
+        assertEquals(JiraSyncType.MANUAL, result.getSyncType());
+        verify(jiraClient).searchIssues(eq("project = TEST"), eq(50), eq(0), any(JiraSearchProjection.class));
+        verify(jqlQueryRepository).updateLastSyncedAt(testJqlQuery);
+    }
+    
+    @Test
+    @DisplayName("executeSync - JIRA検索にはテンプレートと共通フォーマットテンプレートが参照する項目を要求する")
+    void executeSync_RequestsTemplateAndCommonFormatFields() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(service, "pageSize", 50);
+        stubSuccessfulQueryExecution();
+        
+        // Act
+        service.executeSync();
+        
+        // Assert
+        verify(jiraClient).searchIssues(eq("project = TEST"), eq(50), eq(0), ArgumentMatchers.argThat(projection ->
+            projection.fields().containsAll(List.of("summary", "status", "project", "reporter", "created", "updated"))));
+    }
+    
+    @Test
+    @DisplayName("executeSync - 差分同期: イシュー処理に失敗した場合は同期済み日時を更新しない")
+    void executeSync_Incremental_IssueFailure_DoesNotAdvanceMark() throws Exception {
+        // Arrange
+        enableIncrementalSync();
+        Instant previousMark = Instant.parse("2024-01-15T00:30:00Z");
+        testJqlQuery.markSynced(previousMark);
+        stubSuccessfulQueryExecution();
+        doThrow(new RuntimeException("DB error"))
+            .when(jiraSyncDomainService).applyProjectChangesInBatch(anyList(), any(JiraSyncHistory.class));
+        
+        // Act
+        service.executeSync();
+        
+        // Assert
+        verify(jqlQueryRepository, never()).updateLastSyncedAt(any(JiraJqlQuery.class));
+        assertEquals(previousMark, testJqlQuery.getLastSyncedAt());
+    }
+    
+    @Test
+    @DisplayName("executeSync - ストリーミングモード: 受け取ったイシューをチャンク単位で反映する")
+    void executeSync_StreamingEnabled_ProcessesIssuesInChunks() throws Exception {
+        // Arrange
+        enableStreaming(2);
+        stubStreamingQueryExecution();
+        JsonNode firstIssue = JsonNodeFactory.instance.objectNode().put("key", "TEST-1");
+        JsonNode secondIssue = JsonNodeFactory.instance.objectNode().put("key", "TEST-2");
+        JsonNode thirdIssue = JsonNodeFactory.instance.objectNode().put("key", "TEST-3");
+        when(jiraClient.streamIssues(eq("project = TEST"), eq(50), eq(0), any(JiraSearchProjection.class), any())).thenAnswer(invocation -> {
+            java.util.function.Consumer<JsonNode> consumer = invocation.getArgument(4);
+            consumer.accept(firstIssue);
+            consumer.accept(secondIssue);
+            consumer.accept(thirdIssue);
+            return streamedPage(3);
+        });
+        
+        // Act
+        JiraSyncHistory result = service.executeSync();
+        
+        // Assert
+        assertEquals(JiraSyncStatus.COMPLETED, result.getSyncStatus());
+        verify(jiraSyncDomainService, times(2)).applyProjectChangesInBatch(anyList(), any(JiraSyncHistory.class));
+        verify(jsonTransformService, times(3)).transformToTree(any(JsonNode.class), eq(testTemplate));
+        verify(jiraClient, never()).searchIssues(anyString(), anyInt(), anyInt(), any(JiraSearchProjection.class));
+    }
+    
+    @Test
+    @DisplayName("executeSync - ストリーミングモード: リトライ時は処理済みのイシューを読み飛ばす")
+    void executeSync_StreamingRetry_SkipsAlreadyProcessedIssues() throws Exception {
+        // Arrange
+        enableStreaming(1);
+        stubStreamingQueryExecution();
+        // 1回目の試行が失敗した場合にもう一度コールバックを実行する
+        when(jiraSyncRetryTemplate.<JiraIssueSearchResponse, RuntimeException>execute(
+                ArgumentMatchers.<RetryCallback<JiraIssueSearchResponse, RuntimeException>>any(),
+                ArgumentMatchers.<RecoveryCallback<JiraIssueSearchResponse>>any()))
+            .thenAnswer(invocation -> {
+                RetryCallback<JiraIssueSearchResponse, RuntimeException> callback = invocation.getArgument(0);
+                try {
+                    return callback.doWithRetry(mock(RetryContext.class));
+                } catch (ResourceAccessException e) {
+                    return callback.doWithRetry(mock(RetryContext.class));
+                }
+            });
+        JsonNode firstIssue = JsonNodeFactory.instance.objectNode().put("key", "TEST-1");
+        JsonNode secondIssue = JsonNodeFactory.instance.objectNode().put("key", "TEST-2");
+        int[] attempts = {0};
+        when(jiraClient.streamIssues(eq("project = TEST"), eq(50), eq(0), any(JiraSearchProjection.class), any())).thenAnswer(invocation -> {
+            java.util.function.Consumer<JsonNode> consumer = invocation.getArgument(4);
+            consumer.accept(firstIssue);
+            if (attempts[0]++ == 0) {
+                throw new ResourceAccessException("Connection reset");
+            }
+            consumer.accept(secondIssue);
+            return streamedPage(2);
+        });
+        
+        // Act
+        service.executeSync();
+        
+        // Assert
+        verify(jsonTransformService).transformToTree(firstIssue, testTemplate);
+        verify(jsonTransformService).transformToTree(secondIssue, testTemplate);
+        verify(jiraSyncDomainService, times(2)).applyProjectChangesInBatch(anyList(), any(JiraSyncHistory.class));
+    }
+    
+    @Test
+    @DisplayName("executeSync - 未保存の詳細履歴が閾値に達した場合は同期中に追記保存する")
+    void executeSync_DetailFlushSizeReached_AppendsDetailsDuringSync() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(service, "detailFlushSize", 1);
+        stubSuccessfulQueryExecution();
+        doThrow(new RuntimeException("Database error")).when(jiraSyncDomainService).applyProjectChangesInBatch(anyList(), any(JiraSyncHistory.class));
+        List<String> appendedOperations = new ArrayList<>();
+        when(syncHistoryRepository.appendDetails(any(JiraSyncHistory.class))).thenAnswer(invocation -> {
+            List<JiraSyncHistoryDetail> details = invocation.<JiraSyncHistory>getArgument(0).takeUnpersistedDetails();
+            details.forEach(detail -> appendedOperations.add(detail.getOperation()));
+            return details.size();
+        });
+        
+        // Act
+        JiraSyncHistory result = service.executeSync();
+        
+        // Assert
+        verify(syncHistoryRepository).appendDetails(result);
+        assertTrue(appendedOperations.contains("Sync Error"));
+        // 追記済みの詳細履歴は同期終了時の保存対象に含まれず、メモリにも保持されない
+        assertEquals(result.getUnpersistedDetailCount(), result.getDetails().size());
+        // 追記済みのエラー詳細も同期結果の判定に含まれる
+        assertEquals(JiraSyncStatus.FAILED, result.getSyncStatus());
+    }
+    
+    private void enableStreaming(int chunkSize) {
+        ReflectionTestUtils.setField(service, "streamingEnabled", true);
+        ReflectionTestUtils.setField(service, "streamingChunkSize", chunkSize);
+        ReflectionTestUtils.setField(service, "pageSize", 50);
+    }
+    
+    private void stubStreamingQueryExecution() throws Exception {
+        when(jqlQueryRepository.findActiveQueriesOrderByPriority()).thenReturn(Arrays.asList(testJqlQuery));
+        when(syncHistoryRepository.save(any(JiraSyncHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(jiraSyncRetryTemplate.<JiraIssueSearchResponse, RuntimeException>execute(
+                ArgumentMatchers.<RetryCallback<JiraIssueSearchResponse, RuntimeException>>any(),
+                ArgumentMatchers.<RecoveryCallback<JiraIssueSearchResponse>>any()))
+            .thenAnswer(invocation -> invocation.<RetryCallback<JiraIssueSearchResponse, RuntimeException>>getArgument(0)
+                .doWithRetry(mock(RetryContext.class)));
+        when(responseTemplateRepository.findById(testTemplate.getId())).thenReturn(Optional.of(testTemplate));
+        when(jsonTransformService.transformToTree(any(JsonNode.class), eq(testTemplate))).thenReturn(testCommonFormat);
+        when(jiraSyncDomainService.applyProjectChangesInBatch(anyList(), any(JiraSyncHistory.class))).thenReturn(0);
+    }
+    
+    private JiraIssueSearchResponse streamedPage(int total) {
+        JiraIssueSearchResponse page = new JiraIssueSearchResponse();
+        page.setStartAt(0);
+        page.setMaxResults(50);
+        page.setTotal(total);
+        page.setIssues(Collections.emptyList());
+        return page;
+    }
+    
+    private JiraIssueSearchResponse pagedResponse(int startAt, int total) {
+        JiraIssueSearchResponse page = new JiraIssueSearchResponse();
+        page.setStartAt(startAt);
+        page.setMaxResults(50);
+        page.setTotal(total);
+        page.setIssues(testJiraResponse.getIssues());
+        return page;
+    }
+    
+    private void enableIncrementalSync() {
+        ReflectionTestUtils.setField(service, "incrementalSyncEnabled", true);
+        ReflectionTestUtils.setField(service, "incrementalOverlapMinutes", 10);
+        ReflectionTestUtils.setField(service, "incrementalTimeZone", "Asia/Tokyo");
+        ReflectionTestUtils.setField(service, "pageSize", 50);
+    }
+    
+    /**
+     * リトライテンプレートがコールバックを実行し、JiraClientの呼び出し内容を検証できるようにする
+     */
+    private void stubSuccessfulQueryExecution() throws Exception {
+        when(jqlQueryRepository.findActiveQueriesOrderByPriority()).thenReturn(Arrays.asList(testJqlQuery));
+        when(syncHistoryRepository.save(any(JiraSyncHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jiraSyncRetryTemplate.<JiraIssueSearchResponse, RuntimeException>execute(
+                ArgumentMatchers.<RetryCallback<JiraIssueSearchResponse, RuntimeException>>any(),
+                ArgumentMatchers.<RecoveryCallback<JiraIssueSearchResponse>>any()))
+            .thenAnswer(invocation -> invocation.<RetryCallback<JiraIssueSearchResponse, RuntimeException>>getArgument(0)
+                .doWithRetry(mock(RetryContext.class)));
+        when(jiraClient.searchIssues(anyString(), anyInt(), anyInt(), any(JiraSearchProjection.class))).thenReturn(testJiraResponse);
+        when(responseTemplateRepository.findById(testTemplate.getId())).thenReturn(Optional.of(testTemplate));
+        when(jsonTransformService.transformToTree(any(JsonNode.class), eq(testTemplate))).thenReturn(testCommonFormat);
+    }
+}
@@ -26,9 +26,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import com.devhour.domain.model.entity.JiraSyncHistory;
+import com.devhour.domain.model.entity.JiraSyncHistoryDetail;
 import com.devhour.domain.model.valueobject.JiraSyncStatus;
 import com.devhour.domain.model.valueobject.JiraSyncType;
 import com.devhour.domain.repository.JiraSyncHistoryRepository;
+import com.devhour.presentation.dto.response.JiraSyncHistoryDetailPageResponse;
 import com.devhour.presentation.dto.response.JiraSyncHistoryDetailResponse;
 import com.devhour.presentation.dto.response.JiraSyncHistoryResponse;
 
@@ -239,6 +241,62 @@ class JiraSyncHistoryApplicationServiceTest {
         verify(syncHistoryRepository, never()).findWithDetails(anyString());
     }
     
+    @Test
+    @DisplayName("getSyncHistoryDetailPage - 次ページがある場合はページサイズ分と次カーソルを返す")
+    void getSyncHistoryDetailPage_HasNext() {
+        // Arrange
+        String syncId = "550e8400-e29b-41d4-a716-446655440001";
+        List<JiraSyncHistoryDetail> details = List.of(
+            JiraSyncHistoryDetail.createSuccess(syncId, 11, "CREATED", "a"),
+            JiraSyncHistoryDetail.createSuccess(syncId, 12, "UPDATED", "b"),
+            JiraSyncHistoryDetail.createError(syncId, 13, "UPDATED", "c")
+        );
+        when(syncHistoryRepository.existsById(syncId)).thenReturn(true);
+        when(syncHistoryRepository.findDetailsPage(syncId, 10, 3)).thenReturn(details);
+        
+        // Act
+        JiraSyncHistoryDetailPageResponse response = service.getSyncHistoryDetailPage(syncId, 10, 2);
+        
+        // Assert
+        assertEquals(2, response.getDetails().size());
+        assertEquals(12, response.getNextCursor());
+        assertTrue(response.isHasNext());
+    }
+    
+    @Test
+    @DisplayName("getSyncHistoryDetailPage - 最終ページの場合は次カーソルを返さない")
+    void getSyncHistoryDetailPage_LastPage() {
+        // Arrange
+        String syncId = "550e8400-e29b-41d4-a716-446655440001";
+        when(syncHistoryRepository.existsById(syncId)).thenReturn(true);
+        when(syncHistoryRepository.findDetailsPage(syncId, null, 3))
+            .thenReturn(List.of(JiraSyncHistoryDetail.createSuccess(syncId, 1, "CREATED", "a")));
+        
+        // Act
+        JiraSyncHistoryDetailPageResponse response = service.getSyncHistoryDetailPage(syncId, null, 2);
+        
+        // Assert
+        assertEquals(1, response.getDetails().size());
+        assertEquals(null, response.getNextCursor());
+        assertFalse(response.isHasNext());
+    }
+    
+    @Test
+    @DisplayName("getSyncHistoryDetailPage - 同期履歴が見つからない場合")
+    void getSyncHistoryDetailPage_NotFound() {
+        // Arrange
+        String syncId = "550e8400-e29b-41d4-a716-446655440999";
+        when(syncHistoryRepository.existsById(syncId)).thenReturn(false);
+        
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> service.getSyncHistoryDetailPage(syncId, null, 100)
+        );
+        assertEquals("同期履歴が見つかりません: " + syncId, exception.getMessage());
+        verify(syncHistoryRepository, never()).findDetailsPage(anyString(), any(), anyInt());
+    }
+    
     // ========== 最近の同期ステータス取得関連のテスト ==========
     
     @Test
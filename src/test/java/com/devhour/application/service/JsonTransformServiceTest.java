@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -24,8 +26,10 @@ import com.devhour.application.service.JsonTransformService.JsonTransformExcepti
 import com.devhour.domain.model.entity.JiraResponseTemplate;
 import com.devhour.domain.repository.JiraResponseTemplateRepository;
 import com.devhour.infrastructure.velocity.VelocityTemplateProcessor;
+import com.devhour.infrastructure.velocity.VelocityTemplateProcessor.TemplateContext;
 import com.devhour.infrastructure.velocity.VelocityTemplateProcessor.ValidationResult;
 import com.devhour.infrastructure.velocity.VelocityTemplateProcessor.VelocityTemplateException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -61,6 +65,69 @@ class JsonTransformServiceTest {
             velocityTemplateProcessor, responseTemplateRepository, objectMapper);
     }
 
+    @Nested
+    @DisplayName("JSON Tree Transformation Tests")
+    class TransformToTreeTests {
+
+        @Test
+        @DisplayName("JsonNodeのまま変換し、カスタムフィールドをマージする")
+        void transformToTree_ValidInput_MergesCustomFields() {
+            // Given
+            JiraResponseTemplate template = createSampleTemplate("Tree Template", "{\"customField1\": \"$key\"}");
+            JsonNode issue = objectMapper.createObjectNode().put("key", "PROJ-123");
+            TemplateContext context = mock(TemplateContext.class);
+
+            when(velocityTemplateProcessor.createContext(issue)).thenReturn(context);
+            when(velocityTemplateProcessor.transformToTree(context, JsonTransformService.COMMON_FORMAT_TEMPLATE_ID,
+                com.devhour.domain.service.DataMappingDomainService.CommonFormatProject.COMMON_FORMAT_VM_TEMPLATE))
+                .thenReturn(objectMapper.createObjectNode().put("issueKey", "PROJ-123"));
+            when(velocityTemplateProcessor.transformToTree(context, template.getId(), template.getVelocityTemplate()))
+                .thenReturn(objectMapper.createObjectNode().put("customField1", "PROJ-123"));
+
+            // When
+            JsonNode result = jsonTransformService.transformToTree(issue, template);
+
+            // Then
+            assertThat(result.get("issueKey").asText()).isEqualTo("PROJ-123");
+            assertThat(result.get("customFields").get("customField1").asText()).isEqualTo("PROJ-123");
+            // イシューからのコンテキスト作成は両テンプレートの変換で共有し、1回のみ行う
+            verify(velocityTemplateProcessor, times(1)).createContext(issue);
+            verifyNoInteractions(responseTemplateRepository);
+        }
+
+        @Test
+        @DisplayName("変換結果がJSONオブジェクトでない場合はエラー")
+        void transformToTree_NonObjectResult_ThrowsException() {
+            // Given
+            JiraResponseTemplate template = createSampleTemplate("Tree Template", "[\"$key\"]");
+            JsonNode issue = objectMapper.createObjectNode().put("key", "PROJ-123");
+            TemplateContext context = mock(TemplateContext.class);
+
+            when(velocityTemplateProcessor.createContext(issue)).thenReturn(context);
+            when(velocityTemplateProcessor.transformToTree(eq(context), eq(JsonTransformService.COMMON_FORMAT_TEMPLATE_ID),
+                any(String.class)))
+                .thenReturn(objectMapper.createObjectNode().put("issueKey", "PROJ-123"));
+            when(velocityTemplateProcessor.transformToTree(context, template.getId(), template.getVelocityTemplate()))
+                .thenReturn(objectMapper.createArrayNode().add("PROJ-123"));
+
+            // When & Then
+            assertThatThrownBy(() -> jsonTransformService.transformToTree(issue, template))
+                .isInstanceOf(JsonTransformException.class)
+                .hasMessageContaining("not a JSON object");
+        }
+
+        @Test
+        @DisplayName("nullテンプレート指定時のエラー")
+        void transformToTree_NullTemplate_ThrowsException() {
+            // When & Then
+            assertThatThrownBy(() -> jsonTransformService.transformToTree(objectMapper.createObjectNode(), null))
+                .isInstanceOf(JsonTransformException.class)
+                .hasMessageContaining("Response template cannot be null");
+
+            verifyNoInteractions(velocityTemplateProcessor);
+        }
+    }
+
     @Nested
     @DisplayName("JIRA Response Transformation Tests")
     class TransformResponseTests {
@@ -91,10 +158,10 @@ class JsonTransformServiceTest {
 
             when(responseTemplateRepository.findByTemplateName(templateName))
                 .thenReturn(Optional.of(template));
-            when(velocityTemplateProcessor.transformResponse(SAMPLE_JIRA_RESPONSE,
+            when(velocityTemplateProcessor.transformResponse(SAMPLE_JIRA_RESPONSE, JsonTransformService.COMMON_FORMAT_TEMPLATE_ID,
                 com.devhour.domain.service.DataMappingDomainService.CommonFormatProject.COMMON_FORMAT_VM_TEMPLATE))
                 .thenReturn("{\"issueKey\": \"PROJ-123\"}");
-            when(velocityTemplateProcessor.transformResponse(SAMPLE_JIRA_RESPONSE, template.getVelocityTemplate()))
+            when(velocityTemplateProcessor.transformResponse(SAMPLE_JIRA_RESPONSE, template.getId(), template.getVelocityTemplate()))
                 .thenReturn("{\"customField1\": \"value1\"}");
 
             // When
@@ -105,9 +172,9 @@ class JsonTransformServiceTest {
             assertThat(result).contains("issueKey");
             assertThat(result).contains("customFields");
             verify(responseTemplateRepository).findByTemplateName(templateName);
-            verify(velocityTemplateProcessor).transformResponse(SAMPLE_JIRA_RESPONSE,
+            verify(velocityTemplateProcessor).transformResponse(SAMPLE_JIRA_RESPONSE, JsonTransformService.COMMON_FORMAT_TEMPLATE_ID,
                 com.devhour.domain.service.DataMappingDomainService.CommonFormatProject.COMMON_FORMAT_VM_TEMPLATE);
-            verify(velocityTemplateProcessor).transformResponse(SAMPLE_JIRA_RESPONSE, template.getVelocityTemplate());
+            verify(velocityTemplateProcessor).transformResponse(SAMPLE_JIRA_RESPONSE, template.getId(), template.getVelocityTemplate());
         }
 
         @Test
@@ -169,7 +236,7 @@ class JsonTransformServiceTest {
 
             when(responseTemplateRepository.findByTemplateName(templateName))
                 .thenReturn(Optional.of(template));
-            when(velocityTemplateProcessor.transformResponse(any(), any()))
+            when(velocityTemplateProcessor.transformResponse(any(), any(), any()))
                 .thenThrow(new VelocityTemplateException("Template processing failed"));
 
             // When & Then
@@ -179,7 +246,7 @@ class JsonTransformServiceTest {
                 .hasCauseInstanceOf(VelocityTemplateException.class);
 
             verify(responseTemplateRepository).findByTemplateName(templateName);
-            verify(velocityTemplateProcessor).transformResponse(eq(SAMPLE_JIRA_RESPONSE), any(String.class));
+            verify(velocityTemplateProcessor).transformResponse(eq(SAMPLE_JIRA_RESPONSE), any(String.class), any(String.class));
         }
 
         private String createSampleVelocityTemplate() {
@@ -303,6 +370,7 @@ class JsonTransformServiceTest {
             verify(responseTemplateRepository).findByTemplateName(templateName);
             verify(velocityTemplateProcessor).validateTemplate(newVelocityTemplate);
             verify(responseTemplateRepository).save(any(JiraResponseTemplate.class));
+            verify(velocityTemplateProcessor).evictTemplate(updatedTemplate.getId());
         }
 
         @Test
@@ -402,10 +470,10 @@ class JsonTransformServiceTest {
 
             when(responseTemplateRepository.findByTemplateName(templateName))
                 .thenReturn(Optional.of(template));
-            when(velocityTemplateProcessor.transformResponse(eq(invalidJson),
+            when(velocityTemplateProcessor.transformResponse(eq(invalidJson), eq(JsonTransformService.COMMON_FORMAT_TEMPLATE_ID),
                 eq(com.devhour.domain.service.DataMappingDomainService.CommonFormatProject.COMMON_FORMAT_VM_TEMPLATE)))
                 .thenReturn("invalid json syntax");
-            when(velocityTemplateProcessor.transformResponse(invalidJson, template.getVelocityTemplate()))
+            when(velocityTemplateProcessor.transformResponse(invalidJson, template.getId(), template.getVelocityTemplate()))
                 .thenReturn("{\"valid\": \"json\"}");
 
             // When & Then
@@ -414,9 +482,9 @@ class JsonTransformServiceTest {
                 .hasMessageContaining("Failed to merge common and custom fields");
 
             verify(responseTemplateRepository).findByTemplateName(templateName);
-            verify(velocityTemplateProcessor).transformResponse(invalidJson,
+            verify(velocityTemplateProcessor).transformResponse(invalidJson, JsonTransformService.COMMON_FORMAT_TEMPLATE_ID,
                 com.devhour.domain.service.DataMappingDomainService.CommonFormatProject.COMMON_FORMAT_VM_TEMPLATE);
-            verify(velocityTemplateProcessor).transformResponse(invalidJson, template.getVelocityTemplate());
+            verify(velocityTemplateProcessor).transformResponse(invalidJson, template.getId(), template.getVelocityTemplate());
         }
     }
 
@@ -443,10 +511,10 @@ class JsonTransformServiceTest {
 
             when(responseTemplateRepository.findByTemplateName(templateName))
                 .thenReturn(Optional.of(template));
-            when(velocityTemplateProcessor.transformResponse(largeResponse.toString(),
+            when(velocityTemplateProcessor.transformResponse(largeResponse.toString(), JsonTransformService.COMMON_FORMAT_TEMPLATE_ID,
                 com.devhour.domain.service.DataMappingDomainService.CommonFormatProject.COMMON_FORMAT_VM_TEMPLATE))
                 .thenReturn("{\"issueKey\": \"LARGE-123\"}");
-            when(velocityTemplateProcessor.transformResponse(largeResponse.toString(), template.getVelocityTemplate()))
+            when(velocityTemplateProcessor.transformResponse(largeResponse.toString(), template.getId(), template.getVelocityTemplate()))
                 .thenReturn("{\"result\": \"processed\"}");
 
             // When
@@ -457,9 +525,9 @@ class JsonTransformServiceTest {
             assertThat(result).contains("issueKey");
             assertThat(result).contains("customFields");
             verify(responseTemplateRepository).findByTemplateName(templateName);
-            verify(velocityTemplateProcessor).transformResponse(largeResponse.toString(),
+            verify(velocityTemplateProcessor).transformResponse(largeResponse.toString(), JsonTransformService.COMMON_FORMAT_TEMPLATE_ID,
                 com.devhour.domain.service.DataMappingDomainService.CommonFormatProject.COMMON_FORMAT_VM_TEMPLATE);
-            verify(velocityTemplateProcessor).transformResponse(largeResponse.toString(), template.getVelocityTemplate());
+            verify(velocityTemplateProcessor).transformResponse(largeResponse.toString(), template.getId(), template.getVelocityTemplate());
         }
 
         @Test
@@ -0,0 +1,95 @@
+package com.devhour.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.devhour.application.dto.MonthlyWorkCalendar;
+import com.devhour.test.MutableClock;
+
+/**
+ * MonthlyWorkCalendarCacheのテストクラス
+ */
+@DisplayName("MonthlyWorkCalendarCache")
+class MonthlyWorkCalendarCacheTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 1);
+
+    private MutableClock clock;
+    private MonthlyWorkCalendarCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-15T00:00:00Z"));
+        cache = new MonthlyWorkCalendarCache(Duration.ofMinutes(5), 2, clock);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("同じユーザー・年月は読み込み済みのカレンダーを返す")
+    void shouldReturnCachedCalendar() {
+        MonthlyWorkCalendar first = cache.get("user1", MONTH, () -> load("user1"));
+        MonthlyWorkCalendar second = cache.get("user1", MONTH, () -> load("user1"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("同じ月の日付で破棄すると再読み込みする")
+    void shouldReloadAfterInvalidate() {
+        cache.get("user1", MONTH, () -> load("user1"));
+
+        cache.invalidate("user1", LocalDate.of(2026, 1, 20));
+        cache.get("user1", MONTH, () -> load("user1"));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("別の月の日付で破棄してもキャッシュは残る")
+    void shouldKeepOtherMonths() {
+        cache.get("user1", MONTH, () -> load("user1"));
+
+        cache.invalidate("user1", LocalDate.of(2026, 2, 1));
+        cache.get("user1", MONTH, () -> load("user1"));
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("読み込み中に破棄された場合は結果をキャッシュしない")
+    void shouldNotCacheWhenInvalidatedDuringLoad() {
+        cache.get("user1", MONTH, () -> {
+            cache.invalidate("user1", LocalDate.of(2026, 1, 5));
+            return load("user1");
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("TTLを経過したエントリは再読み込みする")
+    void shouldExpireAfterTtl() {
+        cache.get("user1", MONTH, () -> load("user1"));
+
+        clock.advance(Duration.ofMinutes(5));
+        cache.get("user1", MONTH, () -> load("user1"));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private MonthlyWorkCalendar load(String userId) {
+        loads.incrementAndGet();
+        return new MonthlyWorkCalendar(userId, MONTH, Map.of(), List.of(), BigDecimal.ZERO, 0);
+    }
+}
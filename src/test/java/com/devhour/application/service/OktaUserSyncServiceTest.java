@@ -15,9 +15,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import com.devhour.domain.event.UserChangedEvent;
 import com.devhour.domain.model.entity.User;
 import com.devhour.domain.repository.UserRepository;
 
@@ -30,12 +32,15 @@ class OktaUserSyncServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     private OktaUserSyncService service;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        service = new OktaUserSyncService(userRepository);
+        service = new OktaUserSyncService(userRepository, applicationEventPublisher);
     }
 
     @Test
@@ -66,6 +71,53 @@ class OktaUserSyncServiceTest {
         verify(userRepository).findByOktaUserId(oktaUserId);
         verify(userRepository).findByEmail(email);
         verify(userRepository).save(any(User.class));
+        verify(applicationEventPublisher).publishEvent(new UserChangedEvent(result.getId()));
+    }
+
+    @Test
+    @DisplayName("既存のOktaユーザーの情報に変更がない場合は保存しない")
+    void syncUser_ExistingOktaUserUnchanged_SkipsSave() {
+        // Arrange
+        String oktaUserId = "00u123456789abcdef";
+        User existingUser = User.restoreWithOkta(
+            "user123", "johndoe", "john.doe@company.com",
+            "John Doe", true,
+            LocalDateTime.now().minusDays(1), LocalDateTime.now().minusHours(1),
+            oktaUserId
+        );
+        
+        Authentication auth = createMockAuthentication(oktaUserId, "John.Doe@company.com", "John Doe");
+        
+        when(userRepository.findByOktaUserId(oktaUserId)).thenReturn(Optional.of(existingUser));
+
+        // Act
+        User result = service.syncUser(auth);
+
+        // Assert
+        assertEquals(existingUser, result);
+        verify(userRepository, never()).save(any(User.class));
+        verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("無効化されたOktaユーザーは情報に変更がない場合もエラーが発生する")
+    void syncUser_InactiveOktaUserUnchanged_ThrowsException() {
+        // Arrange
+        String oktaUserId = "00u123456789abcdef";
+        User inactiveUser = User.restoreWithOkta(
+            "user123", "johndoe", "john.doe@company.com",
+            "John Doe", false,
+            LocalDateTime.now().minusDays(1), LocalDateTime.now().minusHours(1),
+            oktaUserId
+        );
+        
+        Authentication auth = createMockAuthentication(oktaUserId, "john.doe@company.com", "John Doe");
+        
+        when(userRepository.findByOktaUserId(oktaUserId)).thenReturn(Optional.of(inactiveUser));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> service.syncUser(auth));
+        verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
@@ -100,6 +152,7 @@ class OktaUserSyncServiceTest {
         verify(userRepository).findByOktaUserId(oktaUserId);
         verify(userRepository, never()).findByEmail(email);
         verify(userRepository).save(existingUser);
+        verify(applicationEventPublisher).publishEvent(new UserChangedEvent(userId));
     }
 
     @Test
@@ -135,6 +188,7 @@ class OktaUserSyncServiceTest {
         verify(userRepository).findByOktaUserId(oktaUserId);
         verify(userRepository).findByEmail(email);
         verify(userRepository).save(existingUser);
+        verify(applicationEventPublisher).publishEvent(new UserChangedEvent(userId));
     }
 
     @Test
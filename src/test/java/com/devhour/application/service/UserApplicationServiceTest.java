@@ -18,6 +18,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import com.devhour.domain.event.UserChangedEvent;
 import com.devhour.domain.exception.EntityNotFoundException;
 import com.devhour.domain.model.entity.User;
 import com.devhour.domain.repository.UserRepository;
@@ -31,12 +33,15 @@ class UserApplicationServiceTest {
     @Mock
     private UserRepository userRepository;
     
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    
     private UserApplicationService service;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        service = new UserApplicationService(userRepository);
+        service = new UserApplicationService(userRepository, applicationEventPublisher);
     }
 
     @Test
@@ -61,6 +66,7 @@ class UserApplicationServiceTest {
         verify(userRepository).existsByUsername(username);
         verify(userRepository).existsByEmail(email);
         verify(userRepository).save(any(User.class));
+        verify(applicationEventPublisher).publishEvent(any(UserChangedEvent.class));
     }
 
     @Test
@@ -204,6 +210,7 @@ class UserApplicationServiceTest {
         assertNotNull(result);
         verify(mockUser).deactivate();
         verify(userRepository).save(mockUser);
+        verify(applicationEventPublisher).publishEvent(new UserChangedEvent(userId));
     }
 
 //     @Test
@@ -7,6 +7,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -22,12 +25,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import com.devhour.domain.exception.EntityNotFoundException;
 import com.devhour.domain.exception.InvalidParameterException;
@@ -75,6 +80,9 @@ class WorkRecordApplicationServiceTest {
     @Mock
     private WorkRecordStatusService workRecordStatusService;
     
+    @Spy
+    private MonthlyWorkCalendarCache monthlyWorkCalendarCache = new MonthlyWorkCalendarCache(300, 100);
+    
     @InjectMocks
     private WorkRecordApplicationService service;
     
@@ -359,7 +367,7 @@ class WorkRecordApplicationServiceTest {
         when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
         when(workRecordRepository.findByUserIdAndDateRange(userId, startDate, endDate))
             .thenReturn(Arrays.asList(testWorkRecord));
-        when(projectRepository.findById(testProject.getId())).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIds(anyCollection())).thenReturn(List.of(testProject));
         
         // Act
         WorkHoursSummaryResponse result = service.generateWorkHoursSummary(userId, startDate, endDate);
@@ -427,24 +435,28 @@ class WorkRecordApplicationServiceTest {
     @DisplayName("複数工数記録作成 - 正常ケース")
     void saveWorkRecords_Success() {
         // Arrange
+        Project project2 = Project.create("プロジェクト2", "説明2", 
+            LocalDate.now(), LocalDate.now().plusDays(30), "pmo_user");
+        project2.start();
         List<WorkRecordSaveRequest.WorkRecordDto> records = Arrays.asList(
             createWorkRecordDto(testProject.getId(), testWorkDate, testCategoryHours, "作業1"),
-            createWorkRecordDto(testProject.getId(), testWorkDate.minusDays(1), testCategoryHours, "作業2")
+            createWorkRecordDto(project2.getId(), testWorkDate, testCategoryHours, "作業2")
         );
         WorkRecordSaveRequest request = new WorkRecordSaveRequest();
         request.setRecords(records);
         
+        LocalDate workDate = LocalDate.now();
+        WorkRecord existingRecord = WorkRecord.create(testUser.getId(), testProject.getId(), workDate,
+            testCategoryHours, "既存作業", testUser.getId());
+        
         when(userRepository.findById(testUser.getId()))
             .thenReturn(Optional.of(testUser));
-        when(projectRepository.findById(testProject.getId()))
-            .thenReturn(Optional.of(testProject));
-        when(workRecordRepository.findByUserIdAndDateAndProjectId(any(), any(), any()))
-            .thenReturn(Optional.empty());
-        when(workRecordRepository.save(any(WorkRecord.class)))
-            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(projectRepository.findByIds(anyCollection()))
+            .thenReturn(List.of(testProject, project2));
+        when(workRecordRepository.findByUserIdAndDate(testUser.getId(), workDate))
+            .thenReturn(List.of(existingRecord));
         
         // WorkRecordApprovalのモック設定
-        LocalDate workDate = LocalDate.now();
         when(workRecordApprovalRepository.findByUserIdAndDate(testUser.getId(), workDate))
             .thenReturn(Optional.empty());
         when(workRecordApprovalRepository.save(any(WorkRecordApproval.class)))
@@ -457,9 +469,44 @@ class WorkRecordApplicationServiceTest {
         assertNotNull(result);
         assertNotNull(result.getWorkRecords());
         assertEquals(2, result.getWorkRecords().size());
-        verify(userRepository, times(2)).findById(testUser.getId());
-        verify(projectRepository, times(2)).findById(testProject.getId());
-        verify(workRecordRepository, times(2)).save(any(WorkRecord.class));
+        assertEquals(existingRecord.getId(), result.getWorkRecords().get(0).getId());
+        assertEquals("作業1", result.getWorkRecords().get(0).getDescription());
+        assertEquals(project2.getId(), result.getWorkRecords().get(1).getProjectId());
+        
+        // ユーザー・プロジェクト・既存記録はそれぞれ1回だけ取得し、1回で一括保存する
+        verify(userRepository, times(1)).findById(testUser.getId());
+        verify(projectRepository, times(1)).findByIds(Set.of(testProject.getId(), project2.getId()));
+        verify(projectRepository, never()).findById(any());
+        verify(workRecordRepository, times(1)).findByUserIdAndDate(testUser.getId(), workDate);
+        verify(workRecordRepository, never()).findByUserIdAndDateAndProjectId(any(), any(), any());
+        verify(workRecordRepository, times(1)).saveAll(result.getWorkRecords());
+        verify(workRecordRepository, never()).save(any(WorkRecord.class));
+    }
+
+    @Test
+    @DisplayName("複数工数記録作成 - 存在しないプロジェクトを含む場合は保存しない")
+    void saveWorkRecords_ProjectNotFound() {
+        // Arrange
+        List<WorkRecordSaveRequest.WorkRecordDto> records = Arrays.asList(
+            createWorkRecordDto(testProject.getId(), testWorkDate, testCategoryHours, "作業1"),
+            createWorkRecordDto("unknown_project", testWorkDate, testCategoryHours, "作業2")
+        );
+        WorkRecordSaveRequest request = new WorkRecordSaveRequest();
+        request.setRecords(records);
+        
+        LocalDate workDate = LocalDate.now();
+        when(workRecordApprovalRepository.findByUserIdAndDate(testUser.getId(), workDate))
+            .thenReturn(Optional.empty());
+        when(userRepository.findById(testUser.getId()))
+            .thenReturn(Optional.of(testUser));
+        when(projectRepository.findByIds(anyCollection()))
+            .thenReturn(List.of(testProject));
+        
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class,
+            () -> service.saveWorkRecords(testUser.getId(), workDate, request));
+        verify(workRecordRepository, never()).saveAll(any());
+        verify(workRecordApprovalRepository, never()).save(any(WorkRecordApproval.class));
     }
 
 
@@ -529,7 +576,7 @@ class WorkRecordApplicationServiceTest {
         when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
         when(workRecordRepository.findByUserIdAndDateRange(userId, startDate, endDate))
             .thenReturn(Arrays.asList(record1, record2, record3));
-        when(projectRepository.findById(testProject.getId())).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIds(anyCollection())).thenReturn(List.of(testProject));
         
         // Act
         WorkHoursSummaryResponse result = service.generateWorkHoursSummary(userId, startDate, endDate);
@@ -560,7 +607,7 @@ class WorkRecordApplicationServiceTest {
         when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
         when(workRecordRepository.findByUserIdAndDateRange(userId, startDate, endDate))
             .thenReturn(Arrays.asList(testWorkRecord));
-        when(projectRepository.findById(testProject.getId())).thenReturn(Optional.empty());
+        when(projectRepository.findByIds(anyCollection())).thenReturn(List.of());
         
         // Act
         WorkHoursSummaryResponse result = service.generateWorkHoursSummary(userId, startDate, endDate);
@@ -572,7 +619,7 @@ class WorkRecordApplicationServiceTest {
         
         verify(userRepository).findById(userId);
         verify(workRecordRepository).findByUserIdAndDateRange(userId, startDate, endDate);
-        verify(projectRepository).findById(testProject.getId());
+        verify(projectRepository).findByIds(Set.of(testProject.getId()));
     }
 
     @Test
@@ -606,8 +653,7 @@ class WorkRecordApplicationServiceTest {
         when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
         when(workRecordRepository.findByUserIdAndDateRange(userId, startDate, endDate))
             .thenReturn(Arrays.asList(record1, record2));
-        when(projectRepository.findById(testProject.getId())).thenReturn(Optional.of(testProject));
-        when(projectRepository.findById(project2.getId())).thenReturn(Optional.of(project2));
+        when(projectRepository.findByIds(anyCollection())).thenReturn(List.of(testProject, project2));
         
         // Act
         WorkHoursSummaryResponse result = service.generateWorkHoursSummary(userId, startDate, endDate);
@@ -634,8 +680,18 @@ class WorkRecordApplicationServiceTest {
         // Verify daily hours
         assertEquals(2, result.getDailyHours().size());
         
+        // Verify weekly summaries add up to the total
+        assertEquals(new BigDecimal("16.0"), result.getWeeklySummaries().stream()
+            .map(WorkHoursSummaryResponse.WeeklySummary::getTotalHours)
+            .reduce(BigDecimal.ZERO, BigDecimal::add));
+        assertEquals(2, result.getWeeklySummaries().stream()
+            .mapToInt(WorkHoursSummaryResponse.WeeklySummary::getWorkingDays)
+            .sum());
+        
         verify(userRepository).findById(userId);
         verify(workRecordRepository).findByUserIdAndDateRange(userId, startDate, endDate);
+        verify(projectRepository, times(1)).findByIds(anyCollection());
+        verify(projectRepository, never()).findById(any());
     }
 
     private WorkRecordSaveRequest.WorkRecordDto createWorkRecordDto(
@@ -958,7 +1014,7 @@ class WorkRecordApplicationServiceTest {
             startDate.plusDays(4)
         );
 
-        when(workRecordStatusService.findMissingDates(userId, startDate, endDate))
+        when(workRecordStatusService.findMissingDates(eq(startDate), eq(endDate), anySet()))
             .thenReturn(expectedMissingDates);
 
         // Act
@@ -969,7 +1025,8 @@ class WorkRecordApplicationServiceTest {
         assertEquals(expectedMissingDates.size(), result.size());
         assertEquals(expectedMissingDates, result);
         
-        verify(workRecordStatusService).findMissingDates(userId, startDate, endDate);
+        verify(workRecordStatusService).findMissingDates(eq(startDate), eq(endDate), anySet());
+        verify(workRecordRepository).findByUserIdAndDateRange(userId, startDate, endDate);
     }
 
     @Test
@@ -983,7 +1040,7 @@ class WorkRecordApplicationServiceTest {
         LocalDate startDate = LocalDate.of(year, month, 1);
         LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
 
-        when(workRecordStatusService.findMissingDates(userId, startDate, endDate))
+        when(workRecordStatusService.findMissingDates(eq(startDate), eq(endDate), anySet()))
             .thenReturn(Collections.emptyList());
 
         // Act
@@ -993,7 +1050,8 @@ class WorkRecordApplicationServiceTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
         
-        verify(workRecordStatusService).findMissingDates(userId, startDate, endDate);
+        verify(workRecordStatusService).findMissingDates(eq(startDate), eq(endDate), anySet());
+        verify(workRecordRepository).findByUserIdAndDateRange(userId, startDate, endDate);
     }
 
     @Test
@@ -1077,7 +1135,7 @@ class WorkRecordApplicationServiceTest {
             LocalDate.of(year, month, 1)
         );
 
-        when(workRecordStatusService.findMissingDates(userId, startDate, endDate))
+        when(workRecordStatusService.findMissingDates(eq(startDate), eq(endDate), anySet()))
             .thenReturn(expectedMissingDates);
 
         // Act
@@ -1087,7 +1145,8 @@ class WorkRecordApplicationServiceTest {
         assertNotNull(result);
         assertEquals(expectedMissingDates, result);
         
-        verify(workRecordStatusService).findMissingDates(userId, startDate, endDate);
+        verify(workRecordStatusService).findMissingDates(eq(startDate), eq(endDate), anySet());
+        verify(workRecordRepository).findByUserIdAndDateRange(userId, startDate, endDate);
     }
 
     @Test
@@ -1106,7 +1165,7 @@ class WorkRecordApplicationServiceTest {
             endDate     // 月末
         );
 
-        when(workRecordStatusService.findMissingDates(userId, startDate, endDate))
+        when(workRecordStatusService.findMissingDates(eq(startDate), eq(endDate), anySet()))
             .thenReturn(expectedMissingDates);
 
         // Act
@@ -1116,7 +1175,8 @@ class WorkRecordApplicationServiceTest {
         assertNotNull(result);
         assertEquals(expectedMissingDates, result);
         
-        verify(workRecordStatusService).findMissingDates(userId, startDate, endDate);
+        verify(workRecordStatusService).findMissingDates(eq(startDate), eq(endDate), anySet());
+        verify(workRecordRepository).findByUserIdAndDateRange(userId, startDate, endDate);
     }
 
     // === getDateStatusesForMonth テスト ===
@@ -1404,6 +1464,63 @@ class WorkRecordApplicationServiceTest {
         verify(workRecordApprovalRepository).findByUserIdAndDateRange(userId, startDate, endDate);
     }
 
+    @Test
+    @DisplayName("月の日付ステータス取得 - 同じ月は未入力日と合わせて1回だけ読み込む")
+    void getDateStatusesForMonth_CachedPerUserAndMonth() {
+        // Arrange
+        String userId = "user1";
+        LocalDate oneMonthAgo = LocalDate.now().minusMonths(1);
+        int year = oneMonthAgo.getYear();
+        int month = oneMonthAgo.getMonthValue();
+        LocalDate startDate = LocalDate.of(year, month, 1);
+        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
+        
+        when(workRecordRepository.findByUserIdAndDateRange(userId, startDate, endDate))
+            .thenReturn(Collections.emptyList());
+        when(workRecordApprovalRepository.findByUserIdAndDateRange(userId, startDate, endDate))
+            .thenReturn(Collections.emptyList());
+        when(workRecordStatusService.findMissingDates(eq(startDate), eq(endDate), anySet()))
+            .thenReturn(List.of(startDate));
+        
+        // Act
+        Map<LocalDate, DateStatusResponse.DateStatus> statuses = service.getDateStatusesForMonth(userId, year, month);
+        List<LocalDate> missingDates = service.getMissingDatesForMonth(userId, year, month);
+        
+        // Assert
+        assertEquals(startDate.lengthOfMonth(), statuses.size());
+        assertEquals(List.of(startDate), missingDates);
+        verify(workRecordRepository, times(1)).findByUserIdAndDateRange(userId, startDate, endDate);
+        verify(workRecordApprovalRepository, times(1)).findByUserIdAndDateRange(userId, startDate, endDate);
+    }
+    
+    @Test
+    @DisplayName("月の日付ステータス取得 - 工数記録の削除後は再読み込みする")
+    void getDateStatusesForMonth_ReloadsAfterRemove() {
+        // Arrange
+        String userId = "user1";
+        LocalDate oneMonthAgo = LocalDate.now().minusMonths(1);
+        int year = oneMonthAgo.getYear();
+        int month = oneMonthAgo.getMonthValue();
+        LocalDate startDate = LocalDate.of(year, month, 1);
+        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
+        
+        when(workRecordRepository.findByUserIdAndDateRange(userId, startDate, endDate))
+            .thenReturn(Collections.emptyList());
+        when(workRecordApprovalRepository.findByUserIdAndDateRange(userId, startDate, endDate))
+            .thenReturn(Collections.emptyList());
+        when(workRecordApprovalRepository.findByUserIdAndDate(userId, startDate.plusDays(2)))
+            .thenReturn(Optional.empty());
+        
+        // Act
+        service.getDateStatusesForMonth(userId, year, month);
+        service.removeWorkRecords(userId, startDate.plusDays(2), List.of("record1"));
+        service.getDateStatusesForMonth(userId, year, month);
+        
+        // Assert
+        verify(monthlyWorkCalendarCache).invalidate(userId, startDate.plusDays(2));
+        verify(workRecordRepository, times(2)).findByUserIdAndDateRange(userId, startDate, endDate);
+    }
+
     // === 工数記録テスト ===
 
     @Test
@@ -1506,14 +1623,6 @@ class WorkRecordApplicationServiceTest {
         String userId = "any_developer";
         LocalDate workDate = LocalDate.now();
         
-        // 異なるプロジェクトの工数記録リスト
-        List<WorkRecordSaveRequest.WorkRecordDto> records = Arrays.asList(
-            createWorkRecordDto("project_a", workDate, testCategoryHours, "プロジェクトA作業"),
-            createWorkRecordDto("project_b", workDate, testCategoryHours, "プロジェクトB作業")
-        );
-        WorkRecordSaveRequest request = new WorkRecordSaveRequest();
-        request.setRecords(records);
-        
         User anyDeveloper = User.create(userId, "any.dev@example.com", "任意開発者");
         Project projectA = Project.create("プロジェクトA", "説明A", 
             LocalDate.now(), LocalDate.now().plusDays(30), "pmo1");
@@ -1522,16 +1631,20 @@ class WorkRecordApplicationServiceTest {
             LocalDate.now(), LocalDate.now().plusDays(30), "pmo2");
         projectB.start();
         
+        // 異なるプロジェクトの工数記録リスト
+        List<WorkRecordSaveRequest.WorkRecordDto> records = Arrays.asList(
+            createWorkRecordDto(projectA.getId(), workDate, testCategoryHours, "プロジェクトA作業"),
+            createWorkRecordDto(projectB.getId(), workDate, testCategoryHours, "プロジェクトB作業")
+        );
+        WorkRecordSaveRequest request = new WorkRecordSaveRequest();
+        request.setRecords(records);
+        
         when(userRepository.findById(userId))
             .thenReturn(Optional.of(anyDeveloper));
-        when(projectRepository.findById("project_a"))
-            .thenReturn(Optional.of(projectA));
-        when(projectRepository.findById("project_b"))
-            .thenReturn(Optional.of(projectB));
-        when(workRecordRepository.findByUserIdAndDateAndProjectId(any(), any(), any()))
-            .thenReturn(Optional.empty());
-        when(workRecordRepository.save(any(WorkRecord.class)))
-            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(projectRepository.findByIds(anyCollection()))
+            .thenReturn(List.of(projectA, projectB));
+        when(workRecordRepository.findByUserIdAndDate(userId, workDate))
+            .thenReturn(Collections.emptyList());
         
         // WorkRecordApprovalのモック設定
         when(workRecordApprovalRepository.findByUserIdAndDate(userId, workDate))
@@ -1548,12 +1661,11 @@ class WorkRecordApplicationServiceTest {
         assertEquals(2, result.getWorkRecords().size());
 
         // 各プロジェクトに工数記録ができていることを確認
-        assertTrue(result.getWorkRecords().stream().anyMatch(r -> "project_a".equals(r.getProjectId())));
-        assertTrue(result.getWorkRecords().stream().anyMatch(r -> "project_b".equals(r.getProjectId())));
+        assertTrue(result.getWorkRecords().stream().anyMatch(r -> projectA.getId().equals(r.getProjectId())));
+        assertTrue(result.getWorkRecords().stream().anyMatch(r -> projectB.getId().equals(r.getProjectId())));
         
-        verify(userRepository, times(2)).findById(userId);
-        verify(projectRepository).findById("project_a");
-        verify(projectRepository).findById("project_b");
-        verify(workRecordRepository, times(2)).save(any(WorkRecord.class));
+        verify(userRepository).findById(userId);
+        verify(projectRepository).findByIds(Set.of(projectA.getId(), projectB.getId()));
+        verify(workRecordRepository).saveAll(any());
     }
 }
\ No newline at end of file
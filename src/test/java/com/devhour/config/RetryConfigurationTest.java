@@ -1,12 +1,15 @@
 package com.devhour.config;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +20,7 @@ import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 
 import com.devhour.config.JiraClientConfiguration.JiraApiException;
+import com.devhour.domain.exception.JiraRateLimitException;
 
 /**
  * RetryConfigurationのユニットテスト
@@ -39,6 +43,27 @@ class RetryConfigurationTest {
         assertNotNull(retryTemplate);
     }
     
+    @Test
+    @DisplayName("jiraSyncRetryTemplate - レート制限エラーはバックオフで待機せず即座にリカバリーへ委ねる")
+    void jiraSyncRetryTemplate_RateLimitError_NotRetried() {
+        // Arrange
+        RetryTemplate retryTemplate = retryConfiguration.jiraSyncRetryTemplate();
+        AtomicInteger attempts = new AtomicInteger();
+        JiraRateLimitException rateLimitException = new JiraRateLimitException("Rate limit exceeded", 60);
+        
+        // Act
+        long startedAt = System.currentTimeMillis();
+        Throwable recovered = retryTemplate.execute(context -> {
+            attempts.incrementAndGet();
+            throw rateLimitException;
+        }, context -> context.getLastThrowable());
+        
+        // Assert
+        assertSame(rateLimitException, recovered);
+        assertEquals(1, attempts.get());
+        assertTrue(System.currentTimeMillis() - startedAt < RetryConfiguration.INITIAL_INTERVAL);
+    }
+    
     @Test
     @DisplayName("isRetryableException - ネットワーク関連エラーはリトライ可能")
     void isRetryableException_NetworkErrors_Retryable() {
@@ -2,7 +2,11 @@ package com.devhour.domain.model.entity;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -413,6 +417,198 @@ class JiraJqlQueryTest {
         }
     }
 
+    @Nested
+    @DisplayName("差分同期JQL生成のテスト")
+    class BuildIncrementalJqlTest {
+
+        @Test
+        @DisplayName("未同期の場合は元のJQL式を返す")
+        void buildIncrementalJql_WhenNeverSynced_ShouldReturnOriginalJql() {
+            // given
+            JiraJqlQuery query = createTestQuery();
+
+            // when
+            String result = query.buildIncrementalJql(Duration.ofMinutes(10), ZoneOffset.UTC);
+
+            // then
+            assertThat(result).isEqualTo("project = TEST");
+        }
+
+        @Test
+        @DisplayName("同期済みの場合は重複期間を差し引いた日時で絞り込む")
+        void buildIncrementalJql_WhenSynced_ShouldNarrowByUpdated() {
+            // given
+            JiraJqlQuery query = JiraJqlQuery.createNew("テストクエリ", "project = TEST OR project = DEMO", "template-123", 0, "user-123");
+            query.markSynced(Instant.parse("2024-01-15T09:30:00Z"));
+
+            // when
+            String result = query.buildIncrementalJql(Duration.ofMinutes(10), ZoneOffset.UTC);
+
+            // then
+            assertThat(result).isEqualTo("(project = TEST OR project = DEMO) AND updated >= \"2024/01/15 09:20\"");
+        }
+
+        @Test
+        @DisplayName("ORDER BY句は絞り込み条件の後ろに維持する")
+        void buildIncrementalJql_WithOrderBy_ShouldKeepOrderByAtEnd() {
+            // given
+            JiraJqlQuery query = JiraJqlQuery.createNew("テストクエリ", "project = TEST order by created DESC", "template-123", 0, "user-123");
+            query.markSynced(Instant.parse("2024-01-15T09:30:00Z"));
+
+            // when
+            String result = query.buildIncrementalJql(Duration.ZERO, ZoneOffset.UTC);
+
+            // then
+            assertThat(result).isEqualTo("(project = TEST) AND updated >= \"2024/01/15 09:30\" order by created DESC");
+        }
+
+        @Test
+        @DisplayName("文字列リテラル内のORDER BYは句として扱わない")
+        void buildIncrementalJql_WithOrderByInLiteral_ShouldIgnoreLiteral() {
+            // given
+            JiraJqlQuery query = JiraJqlQuery.createNew("テストクエリ",
+                "summary ~ \"order by\" AND text ~ 'say \\'order by\\'' ORDER BY key", "template-123", 0, "user-123");
+            query.markSynced(Instant.parse("2024-01-15T09:30:00Z"));
+
+            // when
+            String result = query.buildIncrementalJql(Duration.ZERO, ZoneOffset.UTC);
+
+            // then
+            assertThat(result).isEqualTo(
+                "(summary ~ \"order by\" AND text ~ 'say \\'order by\\'') AND updated >= \"2024/01/15 09:30\" ORDER BY key");
+        }
+
+        @Test
+        @DisplayName("ORDER BY句がなく文字列リテラル内にのみある場合は全体を絞り込み条件とする")
+        void buildIncrementalJql_WithOnlyLiteralOrderBy_ShouldKeepWholeFilter() {
+            // given
+            JiraJqlQuery query = JiraJqlQuery.createNew("テストクエリ", "summary ~ \"order by\"", "template-123", 0, "user-123");
+            query.markSynced(Instant.parse("2024-01-15T09:30:00Z"));
+
+            // when
+            String result = query.buildIncrementalJql(Duration.ZERO, ZoneOffset.UTC);
+
+            // then
+            assertThat(result).isEqualTo("(summary ~ \"order by\") AND updated >= \"2024/01/15 09:30\"");
+        }
+
+        @Test
+        @DisplayName("同期済み日時はJIRAのタイムゾーンの日時に変換して埋め込む")
+        void buildIncrementalJql_WithJiraTimeZone_ShouldConvertFromUtc() {
+            // given: UTC 2024-01-15 23:50 は Asia/Tokyo では翌日 08:50
+            JiraJqlQuery query = createTestQuery();
+            query.markSynced(Instant.parse("2024-01-15T23:50:00Z"));
+
+            // when
+            String tokyo = query.buildIncrementalJql(Duration.ofMinutes(10), ZoneId.of("Asia/Tokyo"));
+            String newYork = query.buildIncrementalJql(Duration.ofMinutes(10), ZoneId.of("America/New_York"));
+
+            // then
+            assertThat(tokyo).isEqualTo("(project = TEST) AND updated >= \"2024/01/16 08:40\"");
+            assertThat(newYork).isEqualTo("(project = TEST) AND updated >= \"2024/01/15 18:40\"");
+        }
+
+        @Test
+        @DisplayName("同期済みでタイムゾーンがnullの場合例外を投げる")
+        void buildIncrementalJql_WithNullTimeZone_ShouldThrowException() {
+            // given
+            JiraJqlQuery query = createTestQuery();
+            query.markSynced(Instant.parse("2024-01-15T09:30:00Z"));
+
+            // when & then
+            assertThatThrownBy(() -> query.buildIncrementalJql(Duration.ofMinutes(10), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("JIRAのタイムゾーンは必須です");
+        }
+
+        @Test
+        @DisplayName("同期済み日時の記録は更新日時を変更しない")
+        void markSynced_ShouldNotChangeUpdatedAt() {
+            // given
+            JiraJqlQuery query = createTestQuery();
+            LocalDateTime updatedAt = query.getUpdatedAt();
+            Instant syncedAt = Instant.parse("2024-01-15T09:30:00Z");
+
+            // when
+            query.markSynced(syncedAt);
+
+            // then
+            assertThat(query.getLastSyncedAt()).isEqualTo(syncedAt);
+            assertThat(query.getUpdatedAt()).isEqualTo(updatedAt);
+        }
+
+        @Test
+        @DisplayName("JQL式を変更すると同期済み日時がリセットされる")
+        void updateQuery_WithChangedJql_ShouldResetLastSyncedAt() {
+            // given
+            JiraJqlQuery query = createTestQuery();
+            query.markSynced(Instant.parse("2024-01-15T09:30:00Z"));
+
+            // when
+            query.updateQuery("project = DEMO", "updater-123");
+
+            // then
+            assertThat(query.getLastSyncedAt()).isNull();
+            assertThat(query.buildIncrementalJql(Duration.ofMinutes(10), ZoneOffset.UTC)).isEqualTo("project = DEMO");
+        }
+
+        @Test
+        @DisplayName("JQL式が変わらない場合は同期済み日時を維持する")
+        void updateQuery_WithSameJql_ShouldKeepLastSyncedAt() {
+            // given
+            JiraJqlQuery query = createTestQuery();
+            Instant syncedAt = Instant.parse("2024-01-15T09:30:00Z");
+            query.markSynced(syncedAt);
+
+            // when
+            query.updateQuery(" project = TEST ", "updater-123");
+
+            // then
+            assertThat(query.getLastSyncedAt()).isEqualTo(syncedAt);
+        }
+
+        @Test
+        @DisplayName("テンプレートを変更すると同期済み日時がリセットされる")
+        void updateTemplate_WithChangedTemplate_ShouldResetLastSyncedAt() {
+            // given
+            JiraJqlQuery query = createTestQuery();
+            query.markSynced(Instant.parse("2024-01-15T09:30:00Z"));
+
+            // when
+            query.updateTemplate("new-template-456", "updater-123");
+
+            // then
+            assertThat(query.getLastSyncedAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("テンプレートが変わらない場合は同期済み日時を維持する")
+        void updateTemplate_WithSameTemplate_ShouldKeepLastSyncedAt() {
+            // given
+            JiraJqlQuery query = createTestQuery();
+            Instant syncedAt = Instant.parse("2024-01-15T09:30:00Z");
+            query.markSynced(syncedAt);
+
+            // when
+            query.updateTemplate("template-123", "updater-123");
+
+            // then
+            assertThat(query.getLastSyncedAt()).isEqualTo(syncedAt);
+        }
+
+        @Test
+        @DisplayName("同期済み日時がnullの場合例外を投げる")
+        void markSynced_WithNull_ShouldThrowException() {
+            // given
+            JiraJqlQuery query = createTestQuery();
+
+            // when & then
+            assertThatThrownBy(() -> query.markSynced(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("同期済み日時は必須です");
+        }
+    }
+
     @Nested
     @DisplayName("toString メソッドのテスト")
     class ToStringTest {
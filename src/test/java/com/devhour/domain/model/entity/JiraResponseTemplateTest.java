@@ -8,6 +8,7 @@ import java.time.temporal.ChronoUnit;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import com.devhour.domain.model.valueobject.JiraSearchProjection;
 
 @DisplayName("ResponseTemplate エンティティのテスト")
 class JiraResponseTemplateTest {
@@ -448,6 +449,26 @@ class JiraResponseTemplateTest {
         }
     }
 
+    @Nested
+    @DisplayName("deriveSearchProjection メソッドのテスト")
+    class DeriveSearchProjectionTest {
+
+        @Test
+        @DisplayName("テンプレート自身が参照するフィールドのみを要求する")
+        void deriveSearchProjection_WithMinimalTemplate_ShouldIncludeOnlyOwnFields() {
+            // given
+            JiraResponseTemplate template = JiraResponseTemplate.createNew(
+                "最小テンプレート", "{\"key\": \"$!{key}\", \"due\": \"$!{fields.duedate}\"}", null);
+
+            // when
+            JiraSearchProjection projection = template.deriveSearchProjection();
+
+            // then
+            assertThat(projection.fields()).contains("duedate");
+            assertThat(projection.fields()).doesNotContain("summary", "reporter", "description");
+        }
+    }
+
     @Nested
     @DisplayName("toString メソッドのテスト")
     class ToStringTest {
@@ -154,4 +154,40 @@ class JiraSyncHistoryDetailTest {
             assertThat(detail.getResult()).isEqualTo("Connection timeout");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("結果メッセージ圧縮のテスト")
+    class CompressResultTest {
+
+        @Test
+        @DisplayName("閾値を超える結果メッセージは圧縮した複製が作成され、展開時に元に戻る")
+        void testCompressResultIfLargerThan() {
+            String largeResult = "{\"projectName\": \"" + "a".repeat(2000) + "\"}";
+            JiraSyncHistoryDetail detail = JiraSyncHistoryDetail.createSuccess(
+                "sync-history-123", 1, "Convert Response by Velocity Template", largeResult);
+
+            JiraSyncHistoryDetail compressed = detail.compressResultIfLargerThan(100);
+
+            assertThat(compressed).isNotSameAs(detail).isEqualTo(detail);
+            assertThat(compressed.isResultCompressed()).isTrue();
+            assertThat(compressed.getResult()).isNull();
+            assertThat(compressed.getCompressedResult().length).isLessThan(largeResult.length());
+            assertThat(compressed.getDecompressedResult()).isEqualTo(largeResult);
+            // 元の詳細レコードは変更されない
+            assertThat(detail.isResultCompressed()).isFalse();
+            assertThat(detail.getResult()).isEqualTo(largeResult);
+        }
+
+        @Test
+        @DisplayName("閾値以下の結果メッセージは圧縮されない")
+        void testCompressResultIfLargerThan_BelowThreshold() {
+            JiraSyncHistoryDetail detail = JiraSyncHistoryDetail.createSuccess(
+                "sync-history-123", 1, "CREATED", "Project created");
+
+            JiraSyncHistoryDetail result = detail.compressResultIfLargerThan(100);
+
+            assertThat(result).isSameAs(detail);
+            assertThat(result.getDecompressedResult()).isEqualTo("Project created");
+        }
+    }
+}
@@ -5,9 +5,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import com.devhour.domain.model.valueobject.JiraSyncDetailVerbosity;
 import com.devhour.domain.model.valueobject.JiraSyncStatus;
 import com.devhour.domain.model.valueobject.JiraSyncType;
 
@@ -110,6 +112,43 @@ class JiraSyncHistoryTest {
         }
     }
     
+    @Nested
+    @DisplayName("スキップ件数のテスト")
+    class SkippedCountTest {
+        
+        @Test
+        @DisplayName("実行中の同期にスキップ件数を加算できる")
+        void testAddSkipped() {
+            JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.MANUAL, "user123");
+            
+            syncHistory.addSkipped(3);
+            syncHistory.addSkipped(2);
+            
+            assertThat(syncHistory.getSkippedCount()).isEqualTo(5);
+            assertThat(syncHistory.getDetails()).isEmpty();
+        }
+        
+        @Test
+        @DisplayName("負のスキップ件数は例外がスローされる")
+        void testAddSkippedNegative() {
+            JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.MANUAL, "user123");
+            
+            assertThatThrownBy(() -> syncHistory.addSkipped(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("スキップ数は0以上で指定してください");
+        }
+        
+        @Test
+        @DisplayName("実行中以外の同期にスキップ件数を加算しようとすると例外がスローされる")
+        void testAddSkippedWhenNotInProgress() {
+            JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.MANUAL, "user123");
+            syncHistory.completeSync();
+            
+            assertThatThrownBy(() -> syncHistory.addSkipped(1))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+    
     @Nested
     @DisplayName("同期完了のテスト")
     class CompleteSyncTest {
@@ -284,6 +323,153 @@ class JiraSyncHistoryTest {
             assertThat(syncHistory.getDetails()).hasSize(2);
         }
         
+        @Test
+        @DisplayName("取得した詳細履歴は以降の追加の影響を受けない")
+        void testGetDetailsReturnsSnapshot() {
+            JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.MANUAL, "user123");
+            syncHistory.addDetail("CREATED", com.devhour.domain.model.valueobject.DetailStatus.SUCCESS, null);
+
+            List<JiraSyncHistoryDetail> details = syncHistory.getDetails();
+            syncHistory.addDetail("UPDATED", com.devhour.domain.model.valueobject.DetailStatus.SUCCESS, null);
+
+            assertThat(details).hasSize(1);
+            assertThat(syncHistory.getDetails()).hasSize(2);
+        }
+        
+        @Test
+        @DisplayName("追加した詳細履歴は未永続化として一度だけ取り出される")
+        void testTakeUnpersistedDetails() {
+            JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.MANUAL, "user123");
+            syncHistory.addDetail("CREATED", com.devhour.domain.model.valueobject.DetailStatus.SUCCESS, null);
+            syncHistory.addDetail("UPDATED", com.devhour.domain.model.valueobject.DetailStatus.SUCCESS, null);
+
+            assertThat(syncHistory.getUnpersistedDetailCount()).isEqualTo(2);
+            assertThat(syncHistory.takeUnpersistedDetails())
+                .extracting(JiraSyncHistoryDetail::getOperation)
+                .containsExactly("CREATED", "UPDATED");
+
+            syncHistory.addDetail("DELETED", com.devhour.domain.model.valueobject.DetailStatus.SUCCESS, null);
+
+            assertThat(syncHistory.takeUnpersistedDetails())
+                .extracting(JiraSyncHistoryDetail::getSeq)
+                .containsExactly(3);
+            assertThat(syncHistory.takeUnpersistedDetails()).isEmpty();
+            // 取り出した詳細履歴はメモリに保持せず、件数のみ保持する
+            assertThat(syncHistory.getDetails()).isEmpty();
+            assertThat(syncHistory.getDetailCount(com.devhour.domain.model.valueobject.DetailStatus.SUCCESS)).isEqualTo(3);
+        }
+        
+        @Test
+        @DisplayName("書き込みに失敗した詳細履歴は追加順を保って戻される")
+        void testRequeueUnpersistedDetails() {
+            JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.MANUAL, "user123");
+            syncHistory.addDetail("CREATED", com.devhour.domain.model.valueobject.DetailStatus.SUCCESS, null);
+            var failed = syncHistory.takeUnpersistedDetails();
+            syncHistory.addDetail("UPDATED", com.devhour.domain.model.valueobject.DetailStatus.SUCCESS, null);
+
+            syncHistory.requeueUnpersistedDetails(failed);
+
+            assertThat(syncHistory.getDetails())
+                .extracting(JiraSyncHistoryDetail::getOperation)
+                .containsExactly("CREATED", "UPDATED");
+            assertThat(syncHistory.takeUnpersistedDetails())
+                .extracting(JiraSyncHistoryDetail::getOperation)
+                .containsExactly("CREATED", "UPDATED");
+        }
+        
+        @Test
+        @DisplayName("FULLではペイロードを記録する")
+        void testAddPayloadDetail_Full() {
+            JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.MANUAL, "user123");
+
+            syncHistory.addPayloadDetail("Project Updated", "summary", () -> "payload");
+
+            assertThat(syncHistory.getDetails().get(0).getResult()).isEqualTo("payload");
+        }
+        
+        @Test
+        @DisplayName("ペイロードは同期履歴のロックを保持せずに生成する")
+        void testAddPayloadDetail_PayloadBuiltOutsideLock() {
+            JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.MANUAL, "user123");
+            syncHistory.configureDetailVerbosity(JiraSyncDetailVerbosity.FULL, 1);
+
+            syncHistory.addPayloadDetail("Project Updated", "summary", () -> {
+                assertThat(Thread.holdsLock(syncHistory)).isFalse();
+                return "payload";
+            });
+
+            assertThat(syncHistory.getDetails().get(0).getResult()).isEqualTo("payload");
+        }
+        
+        @Test
+        @DisplayName("SUMMARYでは概要のみを記録し、ペイロードを生成しない")
+        void testAddPayloadDetail_Summary() {
+            JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.MANUAL, "user123");
+            syncHistory.configureDetailVerbosity(JiraSyncDetailVerbosity.SUMMARY, 0);
+
+            syncHistory.addPayloadDetail("Project Updated", "summary", () -> {
+                throw new AssertionError("ペイロードは生成されない");
+            });
+
+            assertThat(syncHistory.getDetails().get(0).getResult()).isEqualTo("summary");
+            assertThat(syncHistory.getDetails().get(0).getStatus()).isEqualTo(com.devhour.domain.model.valueobject.DetailStatus.SUCCESS);
+        }
+        
+        @Test
+        @DisplayName("SAMPLEDでは指定間隔ごとにペイロードを記録する")
+        void testAddPayloadDetail_Sampled() {
+            JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.MANUAL, "user123");
+            syncHistory.configureDetailVerbosity(JiraSyncDetailVerbosity.SAMPLED, 2);
+
+            for (int i = 0; i < 4; i++) {
+                int index = i;
+                syncHistory.addPayloadDetail("Project Updated", "summary-" + i, () -> "payload-" + index);
+            }
+
+            assertThat(syncHistory.getDetails())
+                .extracting(JiraSyncHistoryDetail::getResult)
+                .containsExactly("payload-0", "summary-1", "payload-2", "summary-3");
+        }
+        
+        @Test
+        @DisplayName("SAMPLEDで間隔が1未満の場合は例外")
+        void testConfigureDetailVerbosity_InvalidSampleInterval() {
+            JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.MANUAL, "user123");
+
+            assertThatThrownBy(() -> syncHistory.configureDetailVerbosity(JiraSyncDetailVerbosity.SAMPLED, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("サンプリング間隔は1以上で指定してください");
+        }
+        
+        @Test
+        @DisplayName("リポジトリから読み込んだ詳細履歴は永続化済みとして扱われる")
+        void testSetDetailsClearsUnpersistedDetails() {
+            JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.MANUAL, "user123");
+            syncHistory.addDetail("CREATED", com.devhour.domain.model.valueobject.DetailStatus.SUCCESS, null);
+
+            syncHistory.setDetails(java.util.List.copyOf(syncHistory.getDetails()));
+
+            assertThat(syncHistory.getUnpersistedDetailCount()).isZero();
+            assertThat(syncHistory.getDetails()).hasSize(1);
+        }
+        
+        @Test
+        @DisplayName("集計済みの詳細件数が設定されている場合はそれを返し、未設定の場合は記録した件数を返す")
+        void testGetDetailCount() {
+            JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.MANUAL, "user123");
+            syncHistory.addDetail("CREATED", com.devhour.domain.model.valueobject.DetailStatus.SUCCESS, null);
+            syncHistory.takeUnpersistedDetails();
+            syncHistory.addDetail("UPDATED", com.devhour.domain.model.valueobject.DetailStatus.ERROR, "Error occurred");
+
+            assertThat(syncHistory.getDetailCount(com.devhour.domain.model.valueobject.DetailStatus.SUCCESS)).isEqualTo(1);
+            assertThat(syncHistory.getDetailCount(com.devhour.domain.model.valueobject.DetailStatus.ERROR)).isEqualTo(1);
+
+            syncHistory.setDetailStatusCounts(java.util.Map.of(com.devhour.domain.model.valueobject.DetailStatus.SUCCESS, 120L));
+
+            assertThat(syncHistory.getDetailCount(com.devhour.domain.model.valueobject.DetailStatus.SUCCESS)).isEqualTo(120);
+            assertThat(syncHistory.getDetailCount(com.devhour.domain.model.valueobject.DetailStatus.ERROR)).isZero();
+        }
+        
     }
     
     @Nested
@@ -1202,4 +1202,69 @@ class ProjectTest {
           .hasMessageContaining("プロジェクト名は必須です");
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("JIRA同期フィンガープリント - 記録した値と一致する場合は変更なしと判定")
+    void recordJiraSyncFingerprint_SameFingerprint_Unchanged() {
+        // Arrange
+        Project project = Project.create(
+            "Test Project",
+            "Test description",
+            LocalDate.now(),
+            LocalDate.now().plusMonths(6),
+            "manager123"
+        );
+
+        // Act
+        project.recordJiraSyncFingerprint("abc123");
+
+        // Assert
+        assertThat(project.getJiraSyncFingerprint()).isEqualTo("abc123");
+        assertThat(project.isJiraSyncUnchanged("abc123")).isTrue();
+        assertThat(project.isJiraSyncUnchanged("def456")).isFalse();
+    }
+
+    @Test
+    @DisplayName("JIRA同期フィンガープリント - ローカルで更新した場合はクリアされる")
+    void updateProjectInfo_ClearsJiraSyncFingerprint() {
+        // Arrange
+        Project project = Project.create(
+            "Test Project",
+            "Test description",
+            LocalDate.now(),
+            LocalDate.now().plusMonths(6),
+            "manager123"
+        );
+        project.recordJiraSyncFingerprint("abc123");
+
+        // Act
+        project.updateProjectInfo(
+            "New Name",
+            "New description",
+            LocalDate.now(),
+            LocalDate.now().plusMonths(7)
+        );
+
+        // Assert
+        assertThat(project.getJiraSyncFingerprint()).isNull();
+        assertThat(project.isJiraSyncUnchanged("abc123")).isFalse();
+    }
+
+    @Test
+    @DisplayName("JIRA同期フィンガープリント - 空の場合は例外")
+    void recordJiraSyncFingerprint_Blank_ThrowsException() {
+        // Arrange
+        Project project = Project.create(
+            "Test Project",
+            "Test description",
+            LocalDate.now(),
+            LocalDate.now().plusMonths(6),
+            "manager123"
+        );
+
+        // Act & Assert
+        assertThatThrownBy(() -> project.recordJiraSyncFingerprint(" "))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("フィンガープリントは必須です");
+    }
+
+}
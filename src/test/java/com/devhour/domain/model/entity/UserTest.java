@@ -632,4 +632,24 @@ class UserTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("ログイン時刻は必須です");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("copy - 同一内容の別インスタンスを作成し、変更は元のインスタンスに反映されない")
+    void copy_CreatesIndependentInstance() {
+        // Arrange
+        User user = User.createFromOkta("user@example.com", "テストユーザー", "okta-user");
+        user.updateLastLoginAt(java.time.LocalDateTime.now());
+
+        // Act
+        User copied = user.copy();
+        copied.deactivate();
+
+        // Assert
+        assertThat(copied).isNotSameAs(user).isEqualTo(user);
+        assertThat(copied.getEmail()).isEqualTo(user.getEmail());
+        assertThat(copied.getOktaUserId()).isEqualTo("okta-user");
+        assertThat(copied.getLastLoginAt()).isEqualTo(user.getLastLoginAt());
+        assertThat(copied.isActive()).isFalse();
+        assertThat(user.isActive()).isTrue();
+    }
+}
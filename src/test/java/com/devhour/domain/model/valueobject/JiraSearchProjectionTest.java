@@ -0,0 +1,123 @@
+package com.devhour.domain.model.valueobject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JiraSearchProjection値オブジェクトのテストクラス
+ */
+@DisplayName("JiraSearchProjection値オブジェクト")
+class JiraSearchProjectionTest {
+
+    @Nested
+    @DisplayName("fromVelocityTemplate()メソッドのテスト")
+    class FromVelocityTemplateTest {
+
+        @Test
+        @DisplayName("参照しているフィールドのみが要求される")
+        void testReferencedFieldsOnly() {
+            String template = """
+                {
+                  "issueKey": "$!{key}",
+                  "name": "$!{fields.summary}",
+                  "status": "$!fields.status.name",
+                  "components": [#foreach($c in $fields.components)"$c.name"#if($foreach.hasNext),#end#end]
+                }
+                """;
+
+            JiraSearchProjection projection = JiraSearchProjection.fromVelocityTemplate(template);
+
+            assertThat(projection.fields()).containsExactly("summary", "status", "components");
+            assertThat(projection.fieldsParameter()).isEqualTo("summary,status,components");
+            assertThat(projection.expandParameter()).isNull();
+        }
+
+        @Test
+        @DisplayName("renderedFieldsやchangelogの参照は展開項目として要求される")
+        void testExpandReferences() {
+            String template = "{\"description\": \"$!{renderedFields.description}\", \"history\": $jsonUtils.toJson($changelog)}";
+
+            JiraSearchProjection projection = JiraSearchProjection.fromVelocityTemplate(template);
+
+            assertThat(projection.fields()).containsExactly("description");
+            assertThat(projection.expandParameter()).isEqualTo("renderedFields,changelog");
+        }
+
+        @Test
+        @DisplayName("$data経由の参照も同様に扱われる")
+        void testDataReferences() {
+            JiraSearchProjection projection = JiraSearchProjection.fromVelocityTemplate("\"$!{data.fields.duedate}\"");
+
+            assertThat(projection.fields()).containsExactly("duedate");
+        }
+
+        @Test
+        @DisplayName("$fields全体を参照する場合は全フィールドが要求される")
+        void testWholeFieldsReference() {
+            JiraSearchProjection projection = JiraSearchProjection.fromVelocityTemplate(
+                "#set($f = $fields)\"$!{f.summary}\" \"$fields.get(\"customfield_10001\")\"");
+
+            assertThat(projection.fieldsParameter()).isEqualTo("*all,-comment,-attachment,-worklog");
+            assertThat(projection.expandParameter()).isNull();
+        }
+
+        @Test
+        @DisplayName("$rawDataを参照する場合は全項目が要求される")
+        void testRawDataReference() {
+            JiraSearchProjection projection = JiraSearchProjection.fromVelocityTemplate("$rawData");
+
+            assertThat(projection).isEqualTo(JiraSearchProjection.all());
+        }
+
+        @Test
+        @DisplayName("フィールドを参照しない場合は最小限のフィールドのみが要求される")
+        void testNoFieldReference() {
+            JiraSearchProjection projection = JiraSearchProjection.fromVelocityTemplate("{\"issueKey\": \"$!{key}\"}");
+
+            assertThat(projection.fields()).isEmpty();
+            assertThat(projection.fieldsParameter()).isEqualTo("summary");
+        }
+    }
+
+    @Nested
+    @DisplayName("union()メソッドのテスト")
+    class UnionTest {
+
+        @Test
+        @DisplayName("両方のフィールドと展開項目が要求される")
+        void testUnion() {
+            JiraSearchProjection left = JiraSearchProjection.fromVelocityTemplate("\"$!{fields.summary}\" \"$!{renderedFields.description}\"");
+            JiraSearchProjection right = JiraSearchProjection.fromVelocityTemplate("\"$!{fields.status.name}\" \"$!{fields.summary}\"");
+
+            JiraSearchProjection projection = left.union(right);
+
+            assertThat(projection.fields()).containsExactly("summary", "description", "status");
+            assertThat(projection.expandParameter()).isEqualTo("renderedFields");
+        }
+
+        @Test
+        @DisplayName("いずれかが全フィールドを要求する場合は全フィールドが要求される")
+        void testUnionWithAll() {
+            JiraSearchProjection projection = JiraSearchProjection.fromVelocityTemplate("\"$!{fields.summary}\"")
+                .union(JiraSearchProjection.all());
+
+            assertThat(projection.fieldsParameter()).isEqualTo("*all,-comment,-attachment,-worklog");
+        }
+    }
+
+    @Nested
+    @DisplayName("all()メソッドのテスト")
+    class AllTest {
+
+        @Test
+        @DisplayName("従来の既定値と同じ項目が要求される")
+        void testAll() {
+            JiraSearchProjection projection = JiraSearchProjection.all();
+
+            assertThat(projection.fieldsParameter()).isEqualTo("*all,-comment,-attachment,-worklog");
+            assertThat(projection.expandParameter()).isEqualTo("renderedFields,names,schema,operations,editmeta,changelog");
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.devhour.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import com.devhour.domain.event.UserChangedEvent;
+import com.devhour.domain.model.entity.Approver;
+import com.devhour.domain.model.entity.User;
+import com.devhour.domain.repository.ApproverRepository;
+import com.devhour.domain.repository.UserRepository;
+import com.devhour.test.MutableClock;
+
+/**
+ * ApproverRelationGraphのテストクラス
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("承認者関係グラフ")
+class ApproverRelationGraphTest {
+
+    @Mock
+    private ApproverRepository approverRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private MutableClock clock;
+    private ApproverRelationGraph graph;
+
+    private final User approver = user("approver", "Approver@example.com");
+    private final User target1 = user("target1", "target1@example.com");
+    private final User target2 = user("target2", "target2@example.com");
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        graph = new ApproverRelationGraph(approverRepository, userRepository, Duration.ofMinutes(10), clock);
+    }
+
+    @Test
+    @DisplayName("有効期間内の日付のみ承認権限ありと判定し、2回目以降はDBを参照しない")
+    void isValidApprover_UsesIntervalsAndCachesLookups() {
+        when(approverRepository.findAll()).thenReturn(List.of(
+            relation("target1@example.com", "approver@example.com",
+                LocalDateTime.of(2026, 1, 10, 9, 0), LocalDateTime.of(2026, 1, 31, 18, 0))));
+        when(userRepository.findByIds(Set.of("approver", "target1"))).thenReturn(List.of(approver, target1));
+
+        assertThat(graph.isValidApprover("approver", "target1", LocalDate.of(2026, 1, 10))).isTrue();
+        assertThat(graph.isValidApprover("approver", "target1", LocalDate.of(2026, 1, 31))).isTrue();
+        assertThat(graph.isValidApprover("approver", "target1", LocalDate.of(2026, 1, 9))).isFalse();
+        assertThat(graph.isValidApprover("approver", "target1", LocalDate.of(2026, 2, 1))).isFalse();
+
+        verify(approverRepository, times(1)).findAll();
+        verify(userRepository, times(1)).findByIds(Set.of("approver", "target1"));
+        verify(approverRepository, never()).isValidApprover(any(), any(), any());
+        assertThat(graph.getMissCount()).isEqualTo(2);
+        assertThat(graph.getHitCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("ユーザーが存在しない場合はfalseを返す")
+    void isValidApprover_UnknownUser_ReturnsFalse() {
+        when(approverRepository.findAll()).thenReturn(List.of(
+            relation("target1@example.com", "approver@example.com", LocalDateTime.of(2026, 1, 1, 0, 0), null)));
+        when(userRepository.findByIds(Set.of("approver", "missing"))).thenReturn(List.of(approver));
+
+        assertThat(graph.isValidApprover("approver", "missing", LocalDate.of(2026, 1, 10))).isFalse();
+    }
+
+    @Test
+    @DisplayName("TTLを経過した場合は全件を再読み込みする")
+    void isValidApprover_ReloadsAfterTtl() {
+        when(approverRepository.findAll())
+            .thenReturn(List.of(relation("target1@example.com", "approver@example.com",
+                LocalDateTime.of(2026, 1, 1, 0, 0), null)))
+            .thenReturn(List.of());
+        when(userRepository.findByIds(Set.of("approver", "target1"))).thenReturn(List.of(approver, target1));
+
+        assertThat(graph.isValidApprover("approver", "target1", LocalDate.of(2026, 1, 10))).isTrue();
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(graph.isValidApprover("approver", "target1", LocalDate.of(2026, 1, 10))).isFalse();
+
+        verify(approverRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("差分更新で変更対象者の辺を両方向とも張り直す")
+    void refreshTargets_ReplacesEdgesOfChangedTargets() {
+        when(approverRepository.findAll()).thenReturn(List.of(
+            relation("target1@example.com", "approver@example.com", LocalDateTime.of(2026, 1, 1, 0, 0), null),
+            relation("target2@example.com", "approver@example.com", LocalDateTime.of(2026, 1, 5, 0, 0), null)));
+        when(approverRepository.findByTargetEmails(Set.of("target1@example.com"))).thenReturn(List.of(
+            relation("target1@example.com", "other@example.com", LocalDateTime.of(2026, 2, 1, 0, 0), null)));
+
+        assertThat(graph.findTargetEmailsByApprover("approver@example.com"))
+            .containsExactly("target2@example.com", "target1@example.com");
+
+        graph.refreshTargets(List.of("Target1@example.com"));
+
+        assertThat(graph.findTargetEmailsByApprover("APPROVER@example.com")).containsExactly("target2@example.com");
+        assertThat(graph.findTargetEmailsByApprover("other@example.com")).containsExactly("target1@example.com");
+        assertThat(graph.findApproverEmailsByTarget("target1@example.com")).containsExactly("other@example.com");
+        assertThat(graph.size()).isEqualTo(2);
+        verify(approverRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("未読み込みの場合は差分更新でDBを参照しない")
+    void refreshTargets_NotLoaded_DoesNothing() {
+        graph.refreshTargets(List.of("target1@example.com"));
+
+        verify(approverRepository, never()).findByTargetEmails(any());
+        assertThat(graph.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("ユーザー変更通知を受けた場合はそのユーザーのメールアドレスを読み込み直す")
+    void onUserChanged_ReloadsEmailOfChangedUser() {
+        when(approverRepository.findAll()).thenReturn(List.of(
+            relation("target1@example.com", "approver@example.com", LocalDateTime.of(2026, 1, 1, 0, 0), null)));
+        when(userRepository.findByIds(Set.of("approver", "target1"))).thenReturn(List.of(approver, target1));
+        when(userRepository.findByIds(Set.of("approver")))
+            .thenReturn(List.of(user("approver", "renamed@example.com")));
+
+        assertThat(graph.isValidApprover("approver", "target1", LocalDate.of(2026, 1, 10))).isTrue();
+
+        graph.onUserChanged(new UserChangedEvent("approver"));
+
+        assertThat(graph.isValidApprover("approver", "target1", LocalDate.of(2026, 1, 10))).isFalse();
+        verify(userRepository).findByIds(Set.of("approver"));
+        verify(approverRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("一括判定: 有効期間内の組のみを返す")
+    void filterAuthorizedDates_ReturnsOnlyDatesWithinEffectivePeriod() {
+        LocalDate inPeriod = LocalDate.of(2026, 1, 15);
+        LocalDate beforePeriod = LocalDate.of(2025, 12, 31);
+        when(approverRepository.findAll()).thenReturn(List.of(
+            relation("target1@example.com", "approver@example.com", LocalDateTime.of(2026, 1, 1, 9, 0), null)));
+        when(userRepository.findByIds(Set.of("approver", "target1", "target2", "unknown")))
+            .thenReturn(List.of(approver, target1, target2));
+
+        Map<String, Set<LocalDate>> result = graph.filterAuthorizedDates("approver", Map.of(
+            "target1", Set.of(inPeriod, beforePeriod),
+            "target2", Set.of(inPeriod),
+            "unknown", Set.of(inPeriod)));
+
+        assertThat(result).containsOnlyKeys("target1");
+        assertThat(result.get("target1")).containsExactly(inPeriod);
+    }
+
+    private static Approver relation(String targetEmail, String approverEmail,
+                                     LocalDateTime effectiveFrom, LocalDateTime effectiveTo) {
+        return Approver.restore(targetEmail + "-" + approverEmail, targetEmail, approverEmail,
+            effectiveFrom, effectiveTo, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static User user(String id, String email) {
+        return User.restore(id, id, email, id, true, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -1,6 +1,7 @@
 package com.devhour.domain.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -237,6 +238,63 @@ class DataMappingDomainServiceTest {
         assertEquals("Issue key is empty in common format JSON", exception.getMessage());
     }
 
+    @Test
+    void extractIssueKey_jsonNode_success() {
+        // Arrange
+        JsonNode commonFormatNode = new ObjectMapper().createObjectNode().put("issueKey", "PROJ-123");
+
+        // Act & Assert
+        assertEquals("PROJ-123", domainService.extractIssueKey(commonFormatNode));
+    }
+
+    @Test
+    void extractIssueKey_jsonNodeWithoutIssueKey_throwsDataMappingException() {
+        // Arrange
+        JsonNode commonFormatNode = new ObjectMapper().createObjectNode().put("name", "Project");
+
+        // Act & Assert
+        DataMappingException exception = assertThrows(DataMappingException.class,
+            () -> domainService.extractIssueKey(commonFormatNode));
+
+        assertEquals("Issue key not found in common format JSON", exception.getMessage());
+    }
+
+    // ========== computeFingerprint のテスト ==========
+
+    @Test
+    void computeFingerprint_differentKeyOrder_sameFingerprint() throws Exception {
+        // Arrange
+        ObjectMapper realMapper = new ObjectMapper();
+        JsonNode first = realMapper.readTree(
+            "{\"issueKey\":\"PROJ-1\",\"name\":\"A\",\"customFields\":{\"x\":1,\"y\":[{\"b\":2,\"a\":1}]}}");
+        JsonNode second = realMapper.readTree(
+            "{\"customFields\":{\"y\":[{\"a\":1,\"b\":2}],\"x\":1},\"name\":\"A\",\"issueKey\":\"PROJ-1\"}");
+
+        // Act
+        String firstFingerprint = domainService.computeFingerprint(first);
+        String secondFingerprint = domainService.computeFingerprint(second);
+
+        // Assert
+        assertEquals(64, firstFingerprint.length());
+        assertEquals(firstFingerprint, secondFingerprint);
+    }
+
+    @Test
+    void computeFingerprint_differentContent_differentFingerprint() throws Exception {
+        // Arrange
+        ObjectMapper realMapper = new ObjectMapper();
+        JsonNode first = realMapper.readTree("{\"issueKey\":\"PROJ-1\",\"name\":\"A\"}");
+        JsonNode second = realMapper.readTree("{\"issueKey\":\"PROJ-1\",\"name\":\"B\"}");
+
+        // Act & Assert
+        assertNotEquals(domainService.computeFingerprint(first), domainService.computeFingerprint(second));
+    }
+
+    @Test
+    void computeFingerprint_null_throwsDataMappingException() {
+        assertThrows(DataMappingException.class, () -> domainService.computeFingerprint(null));
+    }
+
     // ========== createProjectFromCommonFormat のテスト ==========
 
     @Test
@@ -583,6 +641,34 @@ class DataMappingDomainServiceTest {
         assertNotNull(exception.getCause());
     }
 
+    @Test
+    void toCommonFormat_objectNode_mapsWithoutStringRoundTrip() throws Exception {
+        // Arrange
+        JsonNode commonFormatNode = new ObjectMapper().createObjectNode().put("issueKey", "PROJ-200");
+        DataMappingDomainService.CommonFormatProject commonFormat = new DataMappingDomainService.CommonFormatProject();
+        commonFormat.setIssueKey("PROJ-200");
+        when(objectMapper.treeToValue(commonFormatNode, DataMappingDomainService.CommonFormatProject.class))
+            .thenReturn(commonFormat);
+
+        // Act
+        DataMappingDomainService.CommonFormatProject result = domainService.toCommonFormat(commonFormatNode);
+
+        // Assert
+        assertEquals("PROJ-200", result.getIssueKey());
+    }
+
+    @Test
+    void toCommonFormat_nonObjectNode_throwsDataMappingException() {
+        // Arrange
+        JsonNode arrayNode = new ObjectMapper().createArrayNode();
+
+        // Act & Assert
+        DataMappingException exception = assertThrows(DataMappingException.class,
+            () -> domainService.toCommonFormat(arrayNode));
+
+        assertTrue(exception.getMessage().contains("must be an object"));
+    }
+
     @Test
     void createProjectFromCommonFormat_missingProjectName_throwsDataMappingException() throws Exception {
         // Arrange
@@ -3,10 +3,17 @@ package com.devhour.domain.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,7 +24,11 @@ import com.devhour.domain.model.entity.Project;
 import com.devhour.domain.model.valueobject.DetailStatus;
 import com.devhour.domain.model.valueobject.JiraSyncType;
 import com.devhour.domain.repository.ProjectRepository;
+import com.devhour.domain.service.DataMappingDomainService.CommonFormatProject;
 import com.devhour.domain.service.DataMappingDomainService.DataMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
 
 /**
  * JiraSyncDomainServiceのテストクラス
@@ -47,6 +58,7 @@ class JiraSyncDomainServiceTest {
         // Given
         String issueKey = "PROJ-123";
         String commonFormatJson = createValidCommonFormatJson(issueKey);
+        CommonFormatProject commonFormat = new CommonFormatProject();
         JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.SCHEDULED, "system");
 
         // 既存のローカルプロジェクト
@@ -57,9 +69,10 @@ class JiraSyncDomainServiceTest {
         Project updatedProject = Project.create("JIRA Project", "JIRA desc",
             LocalDate.of(2024, 2, 1), LocalDate.of(2024, 7, 1), "creator", issueKey, null);
 
-        when(dataMappingDomainService.extractIssueKey(commonFormatJson)).thenReturn(issueKey);
+        when(dataMappingDomainService.parseCommonFormat(commonFormatJson)).thenReturn(commonFormat);
+        when(dataMappingDomainService.extractIssueKey(commonFormat)).thenReturn(issueKey);
         when(projectRepository.findByJiraIssueKey(issueKey)).thenReturn(Optional.of(existingProject));
-        when(dataMappingDomainService.updateProjectFromCommonFormat(existingProject, commonFormatJson))
+        when(dataMappingDomainService.updateProjectFromCommonFormat(existingProject, commonFormat))
             .thenReturn(updatedProject);
 
         // When
@@ -77,14 +90,16 @@ class JiraSyncDomainServiceTest {
         // Given
         String issueKey = "PROJ-456";
         String commonFormatJson = createValidCommonFormatJson(issueKey);
+        CommonFormatProject commonFormat = new CommonFormatProject();
         JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.SCHEDULED, "system");
 
         Project newProject = Project.create("New JIRA Project", "New desc",
             LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 1), "jira-sync", issueKey, null);
 
-        when(dataMappingDomainService.extractIssueKey(commonFormatJson)).thenReturn(issueKey);
+        when(dataMappingDomainService.parseCommonFormat(commonFormatJson)).thenReturn(commonFormat);
+        when(dataMappingDomainService.extractIssueKey(commonFormat)).thenReturn(issueKey);
         when(projectRepository.findByJiraIssueKey(issueKey)).thenReturn(Optional.empty());
-        when(dataMappingDomainService.createProjectFromCommonFormat(commonFormatJson, "jira-sync"))
+        when(dataMappingDomainService.createProjectFromCommonFormat(commonFormat, "jira-sync"))
             .thenReturn(newProject);
 
         // When
@@ -104,7 +119,7 @@ class JiraSyncDomainServiceTest {
         String commonFormatJson = "invalid json";
         JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.SCHEDULED, "system");
 
-        when(dataMappingDomainService.extractIssueKey(commonFormatJson))
+        when(dataMappingDomainService.parseCommonFormat(commonFormatJson))
             .thenThrow(new DataMappingException("Invalid JSON format"));
 
         // When
@@ -122,14 +137,16 @@ class JiraSyncDomainServiceTest {
         // Given
         String issueKey = "PROJ-123";
         String commonFormatJson = createValidCommonFormatJson(issueKey);
+        CommonFormatProject commonFormat = new CommonFormatProject();
         JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.SCHEDULED, "system");
 
         Project existingProject = Project.create("Local Project", "Local desc",
             LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 1), "creator", issueKey, null);
 
-        when(dataMappingDomainService.extractIssueKey(commonFormatJson)).thenReturn(issueKey);
+        when(dataMappingDomainService.parseCommonFormat(commonFormatJson)).thenReturn(commonFormat);
+        when(dataMappingDomainService.extractIssueKey(commonFormat)).thenReturn(issueKey);
         when(projectRepository.findByJiraIssueKey(issueKey)).thenReturn(Optional.of(existingProject));
-        when(dataMappingDomainService.updateProjectFromCommonFormat(existingProject, commonFormatJson))
+        when(dataMappingDomainService.updateProjectFromCommonFormat(existingProject, commonFormat))
             .thenThrow(new DataMappingException("Update failed"));
 
         // When
@@ -147,11 +164,13 @@ class JiraSyncDomainServiceTest {
         // Given
         String issueKey = "PROJ-456";
         String commonFormatJson = createValidCommonFormatJson(issueKey);
+        CommonFormatProject commonFormat = new CommonFormatProject();
         JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.SCHEDULED, "system");
 
-        when(dataMappingDomainService.extractIssueKey(commonFormatJson)).thenReturn(issueKey);
+        when(dataMappingDomainService.parseCommonFormat(commonFormatJson)).thenReturn(commonFormat);
+        when(dataMappingDomainService.extractIssueKey(commonFormat)).thenReturn(issueKey);
         when(projectRepository.findByJiraIssueKey(issueKey)).thenReturn(Optional.empty());
-        when(dataMappingDomainService.createProjectFromCommonFormat(commonFormatJson, "jira-sync"))
+        when(dataMappingDomainService.createProjectFromCommonFormat(commonFormat, "jira-sync"))
             .thenThrow(new DataMappingException("Creation failed"));
 
         // When
@@ -169,7 +188,7 @@ class JiraSyncDomainServiceTest {
         JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.SCHEDULED, "system");
 
         assertThrows(IllegalArgumentException.class, () ->
-            jiraSyncDomainService.applyProjectChanges(null, syncHistory));
+            jiraSyncDomainService.applyProjectChanges((String) null, syncHistory));
 
         assertThrows(IllegalArgumentException.class, () ->
             jiraSyncDomainService.applyProjectChanges("", syncHistory));
@@ -178,8 +197,233 @@ class JiraSyncDomainServiceTest {
             jiraSyncDomainService.applyProjectChanges("valid json", null));
     }
 
+    @Test
+    void applyProjectChanges_JsonNode_文字列化せずに既存プロジェクトが更新される() {
+        // Given
+        String issueKey = "PROJ-789";
+        JsonNode commonFormatNode = JsonNodeFactory.instance.objectNode().put("issueKey", issueKey);
+        CommonFormatProject commonFormat = new CommonFormatProject();
+        JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.SCHEDULED, "system");
+
+        Project existingProject = Project.create("Local Project", "Local desc",
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 1), "creator", issueKey, null);
+
+        when(dataMappingDomainService.toCommonFormat(commonFormatNode)).thenReturn(commonFormat);
+        when(dataMappingDomainService.extractIssueKey(commonFormat)).thenReturn(issueKey);
+        when(projectRepository.findByJiraIssueKey(issueKey)).thenReturn(Optional.of(existingProject));
+        when(dataMappingDomainService.updateProjectFromCommonFormat(existingProject, commonFormat))
+            .thenReturn(existingProject);
+
+        // When
+        jiraSyncDomainService.applyProjectChanges(commonFormatNode, syncHistory);
+
+        // Then
+        verify(projectRepository).save(existingProject);
+        assertEquals(1, syncHistory.getDetails().size());
+        assertEquals(DetailStatus.SUCCESS, syncHistory.getDetails().get(0).getStatus());
+    }
+
+    @Test
+    void applyProjectChanges_JsonNode_nullパラメータ_例外が発生する() {
+        JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.SCHEDULED, "system");
+
+        assertThrows(IllegalArgumentException.class, () ->
+            jiraSyncDomainService.applyProjectChanges((JsonNode) null, syncHistory));
+
+        assertThrows(IllegalArgumentException.class, () ->
+            jiraSyncDomainService.applyProjectChanges(NullNode.getInstance(), syncHistory));
+
+        assertThrows(IllegalArgumentException.class, () ->
+            jiraSyncDomainService.applyProjectChanges(JsonNodeFactory.instance.objectNode(), null));
+    }
+
     // ========== ヘルパーメソッド ==========
 
+    // ========== applyProjectChangesInBatch のテスト ==========
+
+    @Test
+    void applyProjectChangesInBatch_既存と新規が混在_一括検索と一括保存で反映される() {
+        // Given
+        JsonNode existingNode = JsonNodeFactory.instance.objectNode().put("issueKey", "PROJ-1");
+        JsonNode newNode = JsonNodeFactory.instance.objectNode().put("issueKey", "PROJ-2");
+        CommonFormatProject existingFormat = new CommonFormatProject();
+        CommonFormatProject newFormat = new CommonFormatProject();
+        JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.SCHEDULED, "system");
+
+        Project existingProject = Project.create("Local Project", "Local desc",
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 1), "creator", "PROJ-1", null);
+        Project newProject = Project.create("New JIRA Project", "New desc",
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 1), "jira-sync", "PROJ-2", null);
+
+        stubIssue(existingNode, "PROJ-1", "fingerprint-1");
+        stubIssue(newNode, "PROJ-2", "fingerprint-2");
+        when(dataMappingDomainService.toCommonFormat(existingNode)).thenReturn(existingFormat);
+        when(dataMappingDomainService.toCommonFormat(newNode)).thenReturn(newFormat);
+        when(projectRepository.findByJiraIssueKeys(Set.of("PROJ-1", "PROJ-2"))).thenReturn(List.of(existingProject));
+        when(dataMappingDomainService.updateProjectFromCommonFormat(existingProject, existingFormat)).thenReturn(existingProject);
+        when(dataMappingDomainService.createProjectFromCommonFormat(newFormat, "jira-sync")).thenReturn(newProject);
+
+        // When
+        int failedCount = jiraSyncDomainService.applyProjectChangesInBatch(List.of(existingNode, newNode), syncHistory);
+
+        // Then
+        assertEquals(0, failedCount);
+        verify(projectRepository).saveAll(List.of(existingProject, newProject));
+        verify(projectRepository, never()).findByJiraIssueKey(anyString());
+        verify(projectRepository, never()).save(any(Project.class));
+        assertEquals("fingerprint-1", existingProject.getJiraSyncFingerprint());
+        assertEquals("fingerprint-2", newProject.getJiraSyncFingerprint());
+        assertEquals(0, syncHistory.getSkippedCount());
+        assertEquals(4, syncHistory.getDetails().size());
+        assertEquals("Convert Response by Velocity Template", syncHistory.getDetails().get(0).getOperation());
+        assertEquals("Convert Response by Velocity Template", syncHistory.getDetails().get(1).getOperation());
+        assertEquals("Project Updated", syncHistory.getDetails().get(2).getOperation());
+        assertEquals("Instantiate from JIRA", syncHistory.getDetails().get(3).getOperation());
+        assertEquals(DetailStatus.SUCCESS, syncHistory.getDetails().get(3).getStatus());
+    }
+
+    @Test
+    void applyProjectChangesInBatch_内容に変更なし_マッピングと保存を行わずスキップ数が記録される() {
+        // Given
+        JsonNode unchangedNode = JsonNodeFactory.instance.objectNode().put("issueKey", "PROJ-1");
+        JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.SCHEDULED, "system");
+
+        Project existingProject = Project.create("Local Project", "Local desc",
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 1), "creator", "PROJ-1", null);
+        existingProject.recordJiraSyncFingerprint("fingerprint-1");
+
+        stubIssue(unchangedNode, "PROJ-1", "fingerprint-1");
+        when(projectRepository.findByJiraIssueKeys(Set.of("PROJ-1"))).thenReturn(List.of(existingProject));
+
+        // When
+        int failedCount = jiraSyncDomainService.applyProjectChangesInBatch(List.of(unchangedNode), syncHistory);
+
+        // Then
+        assertEquals(0, failedCount);
+        assertEquals(1, syncHistory.getSkippedCount());
+        assertTrue(syncHistory.getDetails().isEmpty());
+        verify(dataMappingDomainService, never()).toCommonFormat(any(JsonNode.class));
+        verify(projectRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void applyProjectChangesInBatch_変更なしと変更ありが混在_反映対象のみペイロード詳細が記録される() {
+        // Given
+        JsonNode unchangedNode = JsonNodeFactory.instance.objectNode().put("issueKey", "PROJ-1");
+        JsonNode changedNode = JsonNodeFactory.instance.objectNode().put("issueKey", "PROJ-2");
+        CommonFormatProject changedFormat = new CommonFormatProject();
+        JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.SCHEDULED, "system");
+
+        Project unchangedProject = Project.create("Unchanged", "desc",
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 1), "creator", "PROJ-1", null);
+        unchangedProject.recordJiraSyncFingerprint("fingerprint-1");
+        Project changedProject = Project.create("Changed", "desc",
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 1), "creator", "PROJ-2", null);
+        changedProject.recordJiraSyncFingerprint("fingerprint-old");
+
+        stubIssue(unchangedNode, "PROJ-1", "fingerprint-1");
+        stubIssue(changedNode, "PROJ-2", "fingerprint-2");
+        when(dataMappingDomainService.toCommonFormat(changedNode)).thenReturn(changedFormat);
+        when(projectRepository.findByJiraIssueKeys(Set.of("PROJ-1", "PROJ-2")))
+            .thenReturn(List.of(unchangedProject, changedProject));
+        when(dataMappingDomainService.updateProjectFromCommonFormat(changedProject, changedFormat)).thenReturn(changedProject);
+
+        // When
+        int failedCount = jiraSyncDomainService.applyProjectChangesInBatch(List.of(unchangedNode, changedNode), syncHistory);
+
+        // Then
+        assertEquals(0, failedCount);
+        assertEquals(1, syncHistory.getSkippedCount());
+        assertEquals(2, syncHistory.getDetails().size());
+        assertEquals("Convert Response by Velocity Template", syncHistory.getDetails().get(0).getOperation());
+        assertEquals(changedNode.toString(), syncHistory.getDetails().get(0).getResult());
+        assertEquals("Project Updated", syncHistory.getDetails().get(1).getOperation());
+        assertTrue(syncHistory.getDetails().stream().noneMatch(detail -> detail.getResult().contains("PROJ-1")));
+    }
+
+    @Test
+    void applyProjectChangesInBatch_マッピングエラー_該当イシューのみエラー記録される() {
+        // Given
+        JsonNode invalidNode = JsonNodeFactory.instance.objectNode();
+        JsonNode validNode = JsonNodeFactory.instance.objectNode().put("issueKey", "PROJ-2");
+        CommonFormatProject validFormat = new CommonFormatProject();
+        JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.SCHEDULED, "system");
+
+        Project newProject = Project.create("New JIRA Project", "New desc",
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 1), "jira-sync", "PROJ-2", null);
+
+        when(dataMappingDomainService.extractIssueKey(invalidNode))
+            .thenThrow(new DataMappingException("Issue key not found in common format JSON"));
+        stubIssue(validNode, "PROJ-2", "fingerprint-2");
+        when(dataMappingDomainService.toCommonFormat(validNode)).thenReturn(validFormat);
+        when(projectRepository.findByJiraIssueKeys(Set.of("PROJ-2"))).thenReturn(List.of());
+        when(dataMappingDomainService.createProjectFromCommonFormat(validFormat, "jira-sync")).thenReturn(newProject);
+
+        // When
+        int failedCount = jiraSyncDomainService.applyProjectChangesInBatch(List.of(invalidNode, validNode), syncHistory);
+
+        // Then
+        assertEquals(1, failedCount);
+        verify(projectRepository).saveAll(List.of(newProject));
+        assertEquals(3, syncHistory.getDetails().size());
+        assertEquals("Resolving Conflicts (Error)", syncHistory.getDetails().get(0).getOperation());
+        assertEquals(DetailStatus.ERROR, syncHistory.getDetails().get(0).getStatus());
+        assertEquals("Convert Response by Velocity Template", syncHistory.getDetails().get(1).getOperation());
+        assertEquals(DetailStatus.SUCCESS, syncHistory.getDetails().get(2).getStatus());
+    }
+
+    @Test
+    void applyProjectChangesInBatch_一括保存失敗_1件ずつ保存して失敗イシューを記録する() {
+        // Given
+        JsonNode firstNode = JsonNodeFactory.instance.objectNode().put("issueKey", "PROJ-1");
+        JsonNode secondNode = JsonNodeFactory.instance.objectNode().put("issueKey", "PROJ-2");
+        CommonFormatProject firstFormat = new CommonFormatProject();
+        CommonFormatProject secondFormat = new CommonFormatProject();
+        JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.SCHEDULED, "system");
+
+        Project firstProject = Project.create("First", "desc",
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 1), "jira-sync", "PROJ-1", null);
+        Project secondProject = Project.create("Second", "desc",
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 1), "jira-sync", "PROJ-2", null);
+
+        stubIssue(firstNode, "PROJ-1", "fingerprint-1");
+        stubIssue(secondNode, "PROJ-2", "fingerprint-2");
+        when(dataMappingDomainService.toCommonFormat(firstNode)).thenReturn(firstFormat);
+        when(dataMappingDomainService.toCommonFormat(secondNode)).thenReturn(secondFormat);
+        when(projectRepository.findByJiraIssueKeys(Set.of("PROJ-1", "PROJ-2"))).thenReturn(List.of());
+        when(dataMappingDomainService.createProjectFromCommonFormat(firstFormat, "jira-sync")).thenReturn(firstProject);
+        when(dataMappingDomainService.createProjectFromCommonFormat(secondFormat, "jira-sync")).thenReturn(secondProject);
+        when(projectRepository.saveAll(List.of(firstProject, secondProject))).thenThrow(new RuntimeException("Duplicate entry"));
+        when(projectRepository.saveAll(List.of(secondProject))).thenThrow(new RuntimeException("Duplicate entry"));
+
+        // When
+        int failedCount = jiraSyncDomainService.applyProjectChangesInBatch(List.of(firstNode, secondNode), syncHistory);
+
+        // Then
+        assertEquals(1, failedCount);
+        verify(projectRepository).saveAll(List.of(firstProject));
+        assertEquals(4, syncHistory.getDetails().size());
+        assertEquals(DetailStatus.SUCCESS, syncHistory.getDetails().get(2).getStatus());
+        assertEquals(DetailStatus.ERROR, syncHistory.getDetails().get(3).getStatus());
+        assertTrue(syncHistory.getDetails().get(3).getResult().contains("Duplicate entry"));
+    }
+
+    @Test
+    void applyProjectChangesInBatch_空リスト_リポジトリを呼び出さない() {
+        JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.SCHEDULED, "system");
+
+        assertEquals(0, jiraSyncDomainService.applyProjectChangesInBatch(List.of(), syncHistory));
+        verifyNoInteractions(projectRepository);
+
+        assertThrows(IllegalArgumentException.class, () ->
+            jiraSyncDomainService.applyProjectChangesInBatch(null, syncHistory));
+    }
+
+    private void stubIssue(JsonNode commonFormatNode, String issueKey, String fingerprint) {
+        when(dataMappingDomainService.extractIssueKey(commonFormatNode)).thenReturn(issueKey);
+        when(dataMappingDomainService.computeFingerprint(commonFormatNode)).thenReturn(fingerprint);
+    }
+
     private String createValidCommonFormatJson(String issueKey) {
         return """
             {
@@ -0,0 +1,84 @@
+package com.devhour.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import com.devhour.domain.model.entity.User;
+import com.devhour.domain.repository.UserRepository;
+
+/**
+ * ListApproverDomainServiceのテストクラス
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("承認者リスト取得ドメインサービス")
+class ListApproverDomainServiceTest {
+
+    @Mock
+    private ApproverRelationGraph approverRelationGraph;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private ListApproverDomainService listApproverDomainService;
+
+    private User approverUser;
+    private User targetUser1;
+    private User targetUser2;
+
+    @BeforeEach
+    void setUp() {
+        approverUser = User.create("approver", "approver@example.com", "承認者");
+        targetUser1 = User.create("target1", "target1@example.com", "対象者1");
+        targetUser2 = User.create("target2", "Target2@example.com", "対象者2");
+    }
+
+    @Test
+    @DisplayName("承認対象者を1回の一括検索で取得し、承認者関係の順序を保つ")
+    void findApprovalTargetsByApprover_ResolvesUsersInSingleQuery() {
+        when(approverRelationGraph.findTargetEmailsByApprover("approver@example.com")).thenReturn(List.of(
+            "target2@example.com", "target1@example.com", "unknown@example.com"));
+        when(userRepository.findByEmails(Set.of("target2@example.com", "target1@example.com", "unknown@example.com")))
+            .thenReturn(List.of(targetUser1, targetUser2));
+
+        List<User> result = listApproverDomainService.findApprovalTargetsByApprover(approverUser);
+
+        assertThat(result).containsExactly(targetUser2, targetUser1);
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("承認者関係がない場合はユーザー検索を行わない")
+    void findApprovalTargetsByApprover_NoRelations() {
+        when(approverRelationGraph.findTargetEmailsByApprover("approver@example.com")).thenReturn(List.of());
+
+        List<User> result = listApproverDomainService.findApprovalTargetsByApprover(approverUser);
+
+        assertThat(result).isEmpty();
+        verify(userRepository, never()).findByEmails(any());
+    }
+
+    @Test
+    @DisplayName("対象者の承認者を1回の一括検索で取得する")
+    void findApproversByTarget_ResolvesUsersInSingleQuery() {
+        when(approverRelationGraph.findApproverEmailsByTarget("target1@example.com"))
+            .thenReturn(List.of("approver@example.com"));
+        when(userRepository.findByEmails(Set.of("approver@example.com"))).thenReturn(List.of(approverUser));
+
+        List<User> result = listApproverDomainService.findApproversByTarget(targetUser1);
+
+        assertThat(result).containsExactly(approverUser);
+        verify(userRepository, never()).findByEmail(any());
+    }
+}
@@ -7,8 +7,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,9 +17,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import com.devhour.domain.exception.NoApprovalAuthorityException;
-import com.devhour.domain.model.entity.User;
-import com.devhour.domain.repository.ApproverRepository;
-import com.devhour.domain.repository.UserRepository;
 
 /**
  * ValidateApprovalAuthorityServiceのテストクラス
@@ -29,99 +26,38 @@ import com.devhour.domain.repository.UserRepository;
 class ValidateApprovalAuthorityServiceTest {
 
     @Mock
-    private UserRepository userRepository;
-
-    @Mock
-    private ApproverRepository approverRepository;
+    private ApproverRelationGraph approverRelationGraph;
 
     @InjectMocks
     private ApprovalAuthorityValidationService validateApprovalAuthorityService;
 
     private String approverId;
     private String targetId;
-    private User approverUser;
-    private User targetUser;
 
     @BeforeEach
     void setUp() {
         approverId = "approver123";
         targetId = "target456";
-
-        approverUser = User.restore(
-            approverId,
-            "承認者",
-            "approver@example.com",
-            "Manager",
-            true,
-            LocalDateTime.now(),
-            LocalDateTime.now()
-        );
-
-        targetUser = User.restore(
-            targetId,
-            "対象者",
-            "target@example.com",
-            "Developer",
-            true,
-            LocalDateTime.now(),
-            LocalDateTime.now()
-        );
     }
 
     @Test
     @DisplayName("有効な承認権限が存在する場合、例外を投げない")
     void validateAuthority_ValidAuthority_DoesNotThrowException() {
         // Given
-        when(userRepository.findById(approverId)).thenReturn(Optional.of(approverUser));
-        when(userRepository.findById(targetId)).thenReturn(Optional.of(targetUser));
-        when(approverRepository.isValidApprover(eq("target@example.com"), eq("approver@example.com"), any(LocalDate.class)))
+        when(approverRelationGraph.isValidApprover(eq(approverId), eq(targetId), any(LocalDate.class)))
             .thenReturn(true);
 
         // When & Then
         assertDoesNotThrow(() -> validateApprovalAuthorityService.validateAuthority(approverId, targetId));
 
-        verify(userRepository).findById(approverId);
-        verify(userRepository).findById(targetId);
-        verify(approverRepository).isValidApprover(eq("target@example.com"), eq("approver@example.com"), any(LocalDate.class));
-    }
-
-    @Test
-    @DisplayName("承認者が存在しない場合、falseを返す")
-    void validateAuthority_ApproverNotFound_ReturnsFalse() {
-        // Given
-        when(userRepository.findById(approverId)).thenReturn(Optional.empty());
-
-        // When
-        boolean result = validateApprovalAuthorityService.validateAuthority(approverId, targetId);
-
-        // Then
-        assertThat(result).isFalse();
-        verify(userRepository).findById(approverId);
-    }
-
-    @Test
-    @DisplayName("対象者が存在しない場合、falseを返す")
-    void validateAuthority_TargetNotFound_ReturnsFalse() {
-        // Given
-        when(userRepository.findById(approverId)).thenReturn(Optional.of(approverUser));
-        when(userRepository.findById(targetId)).thenReturn(Optional.empty());
-
-        // When
-        boolean result = validateApprovalAuthorityService.validateAuthority(approverId, targetId);
-
-        // Then
-        assertThat(result).isFalse();
-        verify(userRepository).findById(approverId);
-        verify(userRepository).findById(targetId);
+        verify(approverRelationGraph).isValidApprover(eq(approverId), eq(targetId), any(LocalDate.class));
     }
 
     @Test
-    @DisplayName("承認権限が存在しない場合、falseを返す")
-    void validateAuthority_NoAuthority_ReturnsFalse() {
+    @DisplayName("承認者または対象者が存在しない場合、falseを返す")
+    void validateAuthority_UserNotFound_ReturnsFalse() {
         // Given
-        when(userRepository.findById(approverId)).thenReturn(Optional.of(approverUser));
-        when(userRepository.findById(targetId)).thenReturn(Optional.of(targetUser));
-        when(approverRepository.isValidApprover(eq("target@example.com"), eq("approver@example.com"), any(LocalDate.class)))
+        when(approverRelationGraph.isValidApprover(eq(approverId), eq(targetId), any(LocalDate.class)))
             .thenReturn(false);
 
         // When
@@ -129,18 +65,13 @@ class ValidateApprovalAuthorityServiceTest {
 
         // Then
         assertThat(result).isFalse();
-        verify(userRepository).findById(approverId);
-        verify(userRepository).findById(targetId);
-        verify(approverRepository).isValidApprover(eq("target@example.com"), eq("approver@example.com"), any(LocalDate.class));
     }
 
     @Test
     @DisplayName("NoApprovalAuthorityExceptionのプロパティが正しく設定される")
     void noApprovalAuthorityException_PropertiesAreSet() {
         // Given
-        when(userRepository.findById(approverId)).thenReturn(Optional.of(approverUser));
-        when(userRepository.findById(targetId)).thenReturn(Optional.of(targetUser));
-        when(approverRepository.isValidApprover(eq("target@example.com"), eq("approver@example.com"), any(LocalDate.class)))
+        when(approverRelationGraph.isValidApprover(eq(approverId), eq(targetId), any(LocalDate.class)))
             .thenReturn(false);
 
         // When & Then
@@ -153,21 +84,17 @@ class ValidateApprovalAuthorityServiceTest {
     }
 
     @Test
-    @DisplayName("指定日付で有効な承認権限が存在する場合、例外を投げない")
-    void validateAuthorityForDate_ValidAuthority_DoesNotThrowException() {
+    @DisplayName("指定日付で有効な承認権限が存在する場合、trueを返す")
+    void validateAuthorityForDate_ValidAuthority_ReturnsTrue() {
         // Given
         LocalDate specificDate = LocalDate.of(2024, 6, 15);
-        when(userRepository.findById(approverId)).thenReturn(Optional.of(approverUser));
-        when(userRepository.findById(targetId)).thenReturn(Optional.of(targetUser));
-        when(approverRepository.isValidApprover(eq("target@example.com"), eq("approver@example.com"), eq(specificDate)))
-            .thenReturn(true);
+        when(approverRelationGraph.isValidApprover(approverId, targetId, specificDate)).thenReturn(true);
 
-        // When & Then
-        assertDoesNotThrow(() -> validateApprovalAuthorityService.validateAuthorityForDate(approverId, targetId, specificDate));
+        // When
+        boolean result = validateApprovalAuthorityService.validateAuthorityForDate(approverId, targetId, specificDate);
 
-        verify(userRepository).findById(approverId);
-        verify(userRepository).findById(targetId);
-        verify(approverRepository).isValidApprover(eq("target@example.com"), eq("approver@example.com"), eq(specificDate));
+        // Then
+        assertThat(result).isTrue();
     }
 
     @Test
@@ -175,36 +102,54 @@ class ValidateApprovalAuthorityServiceTest {
     void validateAuthorityForDate_NoAuthority_ReturnsFalse() {
         // Given
         LocalDate specificDate = LocalDate.of(2024, 6, 15);
-        when(userRepository.findById(approverId)).thenReturn(Optional.of(approverUser));
-        when(userRepository.findById(targetId)).thenReturn(Optional.of(targetUser));
-        when(approverRepository.isValidApprover(eq("target@example.com"), eq("approver@example.com"), eq(specificDate)))
-            .thenReturn(false);
+        when(approverRelationGraph.isValidApprover(approverId, targetId, specificDate)).thenReturn(false);
 
         // When
         boolean result = validateApprovalAuthorityService.validateAuthorityForDate(approverId, targetId, specificDate);
 
         // Then
         assertThat(result).isFalse();
-        verify(userRepository).findById(approverId);
-        verify(userRepository).findById(targetId);
-        verify(approverRepository).isValidApprover(eq("target@example.com"), eq("approver@example.com"), eq(specificDate));
     }
 
     @Test
     @DisplayName("validateAuthorityメソッドが今日の日付でvalidateAuthorityForDateを呼び出す")
     void validateAuthority_CallsValidateAuthorityForDateWithToday() {
         // Given
-        when(userRepository.findById(approverId)).thenReturn(Optional.of(approverUser));
-        when(userRepository.findById(targetId)).thenReturn(Optional.of(targetUser));
-        when(approverRepository.isValidApprover(eq("target@example.com"), eq("approver@example.com"), any(LocalDate.class)))
+        when(approverRelationGraph.isValidApprover(eq(approverId), eq(targetId), any(LocalDate.class)))
             .thenReturn(true);
 
         // When
         assertDoesNotThrow(() -> validateApprovalAuthorityService.validateAuthority(approverId, targetId));
 
         // Then
-        verify(userRepository).findById(approverId);
-        verify(userRepository).findById(targetId);
-        verify(approverRepository).isValidApprover(eq("target@example.com"), eq("approver@example.com"), eq(LocalDate.now()));
+        verify(approverRelationGraph).isValidApprover(approverId, targetId, LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("hasAuthorityForDateは承認者関係グラフの判定結果を返す")
+    void hasAuthorityForDate_DelegatesToGraph() {
+        // Given
+        LocalDate specificDate = LocalDate.of(2024, 6, 15);
+        when(approverRelationGraph.isValidApprover(approverId, targetId, specificDate)).thenReturn(true);
+
+        // When & Then
+        assertThat(validateApprovalAuthorityService.hasAuthorityForDate(approverId, targetId, specificDate)).isTrue();
+    }
+
+    @Test
+    @DisplayName("一括検証: 承認者関係グラフの判定結果を返す")
+    void filterAuthorizedDates_DelegatesToGraph() {
+        // Given
+        LocalDate date = LocalDate.of(2026, 1, 15);
+        Map<String, Set<LocalDate>> requested = Map.of(targetId, Set.of(date));
+        Map<String, Set<LocalDate>> authorized = Map.of(targetId, Set.of(date));
+        when(approverRelationGraph.filterAuthorizedDates(approverId, requested)).thenReturn(authorized);
+
+        // When
+        Map<String, Set<LocalDate>> result = validateApprovalAuthorityService.filterAuthorizedDates(approverId,
+            requested);
+
+        // Then
+        assertThat(result).isEqualTo(authorized);
     }
-}
\ No newline at end of file
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -13,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -220,6 +222,20 @@ class WorkRecordStatusServiceTest {
             }
         }
         
+        @Test
+        void findMissingDates_記録済み日付を指定_リポジトリを参照せず営業日から除外する() {
+            // Given
+            LocalDate monday = LocalDate.of(2024, 1, 1);
+            LocalDate sunday = LocalDate.of(2024, 1, 7);
+            
+            // When
+            List<LocalDate> result = service.findMissingDates(monday, sunday, Set.of(monday, monday.plusDays(2)));
+            
+            // Then
+            assertEquals(List.of(monday.plusDays(1), monday.plusDays(3), monday.plusDays(4)), result);
+            verifyNoInteractions(workRecordRepository);
+        }
+        
         @Test
         void findMissingDates_祝日を除外_営業日のみ返す() {
             // Given
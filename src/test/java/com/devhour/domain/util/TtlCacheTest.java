@@ -0,0 +1,135 @@
+package com.devhour.domain.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.devhour.test.MutableClock;
+
+/**
+ * TtlCacheのテストクラス
+ */
+@DisplayName("TtlCache")
+class TtlCacheTest {
+
+    private MutableClock clock;
+    private TtlCache<String, String> cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        cache = new TtlCache<>("テスト", Duration.ofMinutes(5), 2, clock);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("有効期限内は読み込み済みの値を返す")
+    void shouldReturnCachedValue() {
+        String first = cache.get("key1", () -> load("key1"));
+        String second = cache.get("key1", () -> load("key1"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTLを経過したエントリは再読み込みする")
+    void shouldExpireAfterTtl() {
+        cache.get("key1", () -> load("key1"));
+
+        clock.advance(Duration.ofMinutes(5));
+        cache.get("key1", () -> load("key1"));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("最大件数を超える場合は最も早く失効するエントリを削除する")
+    void shouldEvictOldestWhenFull() {
+        cache.get("key1", () -> load("key1"));
+        clock.advance(Duration.ofSeconds(1));
+        cache.get("key2", () -> load("key2"));
+        clock.advance(Duration.ofSeconds(1));
+        cache.get("key3", () -> load("key3"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.get("key3", () -> load("key3"));
+        cache.get("key1", () -> load("key1"));
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("nullはキャッシュしない")
+    void shouldNotCacheNull() {
+        assertThat(cache.get("key1", () -> null)).isNull();
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("TTLが0の場合はキャッシュしない")
+    void shouldNotCacheWithZeroTtl() {
+        TtlCache<String, String> disabled = new TtlCache<>("テスト", Duration.ZERO, 2, clock);
+
+        disabled.get("key1", () -> load("key1"));
+
+        assertThat(disabled.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("破棄したキーは再読み込みし、他のキーは残る")
+    void shouldInvalidateKey() {
+        cache.get("key1", () -> load("key1"));
+        cache.get("key2", () -> load("key2"));
+
+        cache.invalidate("key1");
+        cache.get("key1", () -> load("key1"));
+        cache.get("key2", () -> load("key2"));
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("条件に一致する値のエントリのみ破棄する")
+    void shouldInvalidateMatchingValues() {
+        cache.get("key1", () -> load("key1"));
+        cache.get("key2", () -> load("key2"));
+
+        cache.invalidateIf("value-key1"::equals);
+
+        assertThat(cache.size()).isEqualTo(1);
+        cache.get("key2", () -> load("key2"));
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("読み込み中に破棄された場合は結果をキャッシュしない")
+    void shouldNotCacheWhenInvalidatedDuringLoad() {
+        String value = cache.get("key1", () -> {
+            cache.invalidate("other");
+            return load("key1");
+        });
+
+        assertThat(value).isEqualTo("value-key1");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("TTLまたは最大件数が負の場合は例外")
+    void shouldRejectNegativeSettings() {
+        assertThatThrownBy(() -> new TtlCache<>("テスト", Duration.ofSeconds(-1), 2, clock))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TtlCache<>("テスト", Duration.ofMinutes(5), -1, clock))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String load(String key) {
+        loads.incrementAndGet();
+        return "value-" + key;
+    }
+}
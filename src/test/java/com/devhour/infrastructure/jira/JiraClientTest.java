@@ -10,10 +10,15 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpEntity;
@@ -22,9 +27,13 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import com.devhour.config.JiraConfiguration;
+import com.devhour.domain.model.valueobject.JiraSearchProjection;
 import com.devhour.infrastructure.jira.dto.JiraIssueSearchResponse;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -155,6 +164,58 @@ class JiraClientTest {
         assertThat(capturedUrl).contains("startAt=0");
     }
 
+    @Test
+    void searchIssues_取得項目を指定した場合fieldsとexpandが絞り込まれること() {
+        // given
+        String responseJson = """
+            {
+                "startAt": 0,
+                "maxResults": 50,
+                "total": 0,
+                "issues": []
+            }
+            """;
+        ResponseEntity<String> responseEntity = new ResponseEntity<>(responseJson, HttpStatus.OK);
+        when(jiraRestTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+            .thenReturn(responseEntity);
+        JiraSearchProjection projection = new JiraSearchProjection(
+            new java.util.LinkedHashSet<>(List.of("summary", "status")), java.util.Set.of());
+
+        // when
+        jiraClient.searchIssues("project = PROJ", 50, 0, projection);
+
+        // then
+        ArgumentCaptor<String> urlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(jiraRestTemplate).exchange(urlCaptor.capture(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class));
+        assertThat(urlCaptor.getValue()).contains("fields=summary,status");
+        assertThat(urlCaptor.getValue()).doesNotContain("expand=");
+    }
+
+    @Test
+    void searchIssues_取得項目未指定の場合全項目が要求されること() {
+        // given
+        String responseJson = """
+            {
+                "startAt": 0,
+                "maxResults": 50,
+                "total": 0,
+                "issues": []
+            }
+            """;
+        ResponseEntity<String> responseEntity = new ResponseEntity<>(responseJson, HttpStatus.OK);
+        when(jiraRestTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+            .thenReturn(responseEntity);
+
+        // when
+        jiraClient.searchIssues("project = PROJ", 50, 0);
+
+        // then
+        ArgumentCaptor<String> urlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(jiraRestTemplate).exchange(urlCaptor.capture(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class));
+        assertThat(urlCaptor.getValue()).contains("fields=*all,-comment,-attachment,-worklog");
+        assertThat(urlCaptor.getValue()).contains("expand=renderedFields,names,schema,operations,editmeta,changelog");
+    }
+
     @Test
     void searchIssues_JQLクエリがnullの場合例外が発生すること() {
         // when & then
@@ -350,6 +411,86 @@ class JiraClientTest {
             .hasMessageContaining("Failed to parse JIRA response");
     }
 
+    @Test
+    void streamIssues_イシューが1件ずつ処理に渡されページ情報が返されること() throws Exception {
+        // given
+        String responseJson = """
+            {
+                "expand": "schema,names",
+                "issues": [
+                    {"key": "PROJ-1", "fields": {"summary": "First"}},
+                    {"key": "PROJ-2", "fields": {"summary": "Second"}}
+                ],
+                "names": {"summary": "Summary"},
+                "startAt": 0,
+                "maxResults": 50,
+                "total": 2
+            }
+            """;
+        stubStreamingResponse(responseJson);
+        List<JsonNode> receivedIssues = new ArrayList<>();
+
+        // when
+        JiraIssueSearchResponse result = jiraClient.streamIssues("project = PROJ", 50, 0, JiraSearchProjection.all(), receivedIssues::add);
+
+        // then
+        assertThat(receivedIssues).hasSize(2);
+        assertThat(receivedIssues.get(0).get("key").asText()).isEqualTo("PROJ-1");
+        assertThat(receivedIssues.get(1).get("fields").get("summary").asText()).isEqualTo("Second");
+        assertThat(result.getIssues()).isEmpty();
+        assertThat(result.getExpand()).isEqualTo("schema,names");
+        assertThat(result.getStartAt()).isEqualTo(0);
+        assertThat(result.getMaxResults()).isEqualTo(50);
+        assertThat(result.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void streamIssues_レスポンスのパースエラーでJiraClientExceptionが発生すること() throws Exception {
+        // given
+        stubStreamingResponse("{\"issues\": [{\"key\": \"PROJ-1\"}, {\"key\": ");
+        List<JsonNode> receivedIssues = new ArrayList<>();
+
+        // when & then
+        assertThatThrownBy(() -> jiraClient.streamIssues("project = PROJ", 50, 0, JiraSearchProjection.all(), receivedIssues::add))
+            .isInstanceOf(JiraClient.JiraClientException.class)
+            .hasMessageContaining("Failed to parse JIRA response");
+        assertThat(receivedIssues).hasSize(1);
+    }
+
+    @Test
+    void streamIssues_RestClientExceptionが発生した場合JiraClientExceptionが発生すること() {
+        // given
+        when(jiraRestTemplate.execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class),
+                ArgumentMatchers.<ResponseExtractor<JiraIssueSearchResponse>>any()))
+            .thenThrow(new RestClientException("Network error"));
+
+        // when & then
+        assertThatThrownBy(() -> jiraClient.streamIssues("project = PROJ", 50, 0, JiraSearchProjection.all(), issue -> { }))
+            .isInstanceOf(JiraClient.JiraClientException.class)
+            .hasMessageContaining("Failed to search issues")
+            .hasCauseInstanceOf(RestClientException.class);
+    }
+
+    @Test
+    void streamIssues_処理がnullの場合例外が発生すること() {
+        // when & then
+        assertThatThrownBy(() -> jiraClient.streamIssues("project = PROJ", 50, 0, JiraSearchProjection.all(), null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Issue consumer is required");
+    }
+
+    /**
+     * RestTemplate.executeに渡されたResponseExtractorへ指定のレスポンスボディを流し込む
+     */
+    private void stubStreamingResponse(String responseJson) throws Exception {
+        ClientHttpResponse httpResponse = mock(ClientHttpResponse.class);
+        when(httpResponse.getBody()).thenReturn(new ByteArrayInputStream(responseJson.getBytes(StandardCharsets.UTF_8)));
+        when(jiraRestTemplate.execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class),
+                ArgumentMatchers.<ResponseExtractor<JiraIssueSearchResponse>>any()))
+            .thenAnswer(invocation -> invocation.<ResponseExtractor<JiraIssueSearchResponse>>getArgument(3)
+                .extractData(httpResponse));
+    }
+
     private JiraConfiguration.TimeoutConfig createTimeoutConfig(int connection, int read) {
         JiraConfiguration.TimeoutConfig timeoutConfig = new JiraConfiguration.TimeoutConfig();
         timeoutConfig.setConnection(connection);
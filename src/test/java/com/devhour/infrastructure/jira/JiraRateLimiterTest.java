@@ -0,0 +1,126 @@
+package com.devhour.infrastructure.jira;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import com.devhour.domain.exception.JiraRateLimitException;
+
+/**
+ * JiraRateLimiterのテストクラス
+ */
+@DisplayName("JiraRateLimiter")
+class JiraRateLimiterTest {
+
+    private long now;
+    private JiraRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        rateLimiter = new JiraRateLimiter(2.0, 2, Duration.ofMinutes(1), () -> now);
+    }
+
+    @Test
+    @DisplayName("バケット容量までは待機なしで送信でき、超過分は補充レートの間隔で待機する")
+    void reserve_WithinBurst_NoWait() {
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isZero();
+
+        // 2件/秒のため、3件目は0.5秒、4件目は1秒待機
+        assertThat(rateLimiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(rateLimiter.reserve()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("最大待機時間を超える場合はトークンを予約せずにレート制限エラーとする")
+    void reserve_ExceedsMaxWait_FailsFastWithoutReserving() {
+        JiraRateLimiter limiter = new JiraRateLimiter(2.0, 2, Duration.ofMillis(500), () -> now);
+        limiter.reserve();
+        limiter.reserve();
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertThatThrownBy(limiter::reserve)
+            .isInstanceOf(JiraRateLimitException.class)
+            .satisfies(e -> assertThat(((JiraRateLimitException) e).getRetryAfterSeconds()).isEqualTo(1));
+
+        // 失敗した呼び出しはトークンを予約しないため、0.5秒後の待機は再び0.5秒となる
+        now += TimeUnit.MILLISECONDS.toNanos(500);
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    @DisplayName("経過時間に応じてトークンが補充される")
+    void reserve_AfterElapsedTime_Refilled() {
+        rateLimiter.reserve();
+        rateLimiter.reserve();
+
+        now += TimeUnit.SECONDS.toNanos(1);
+
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isPositive();
+    }
+
+    @Test
+    @DisplayName("X-RateLimitヘッダーから容量と補充レートを反映する")
+    void onResponse_RateLimitHeaders_Adapted() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-RateLimit-Limit", "100");
+        headers.set("X-RateLimit-FillRate", "50");
+        headers.set("X-RateLimit-Interval-Seconds", "10");
+        headers.set("X-RateLimit-Remaining", "0");
+
+        rateLimiter.onResponse(HttpStatus.OK, headers);
+
+        assertThat(rateLimiter.getCapacity()).isEqualTo(100.0);
+        assertThat(rateLimiter.getRequestsPerSecond()).isEqualTo(5.0);
+        // 残りトークン0のため、次の送信は1/5秒待機
+        assertThat(rateLimiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    @DisplayName("Retry-After付きの429では指定時間まで全送信を停止する")
+    void onResponse_TooManyRequestsWithRetryAfter_Paused() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Retry-After", "30");
+
+        rateLimiter.onResponse(HttpStatus.TOO_MANY_REQUESTS, headers);
+
+        assertThat(rateLimiter.reserve()).isGreaterThanOrEqualTo(TimeUnit.SECONDS.toNanos(30));
+
+        now += TimeUnit.SECONDS.toNanos(31);
+        assertThat(rateLimiter.reserve()).isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("レート制限ヘッダーなしの429では補充レートを半減し、成功応答で徐々に回復する")
+    void onResponse_TooManyRequestsWithoutHeaders_RateHalvedAndRecovered() {
+        rateLimiter.onResponse(HttpStatus.TOO_MANY_REQUESTS, new HttpHeaders());
+
+        assertThat(rateLimiter.getRequestsPerSecond()).isEqualTo(1.0);
+
+        rateLimiter.onResponse(HttpStatus.OK, new HttpHeaders());
+        assertThat(rateLimiter.getRequestsPerSecond()).isCloseTo(1.1, within(1e-9));
+
+        for (int i = 0; i < 20; i++) {
+            rateLimiter.onResponse(HttpStatus.OK, new HttpHeaders());
+        }
+        assertThat(rateLimiter.getRequestsPerSecond()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("不正な設定値は例外")
+    void constructor_InvalidSettings_ThrowsException() {
+        assertThatThrownBy(() -> new JiraRateLimiter(0, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new JiraRateLimiter(1, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
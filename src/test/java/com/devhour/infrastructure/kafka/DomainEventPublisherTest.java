@@ -6,7 +6,9 @@ import static org.mockito.Mockito.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,11 +17,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.devhour.domain.event.WorkRecordApprovalEvent;
 import com.devhour.domain.model.entity.WorkRecord;
 import com.devhour.domain.model.entity.WorkRecordApproval;
 import com.devhour.domain.repository.DomainEventRepository;
+import com.devhour.infrastructure.event.DomainEventStoredEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -38,6 +43,12 @@ class DomainEventPublisherTest {
     @Mock
     private ObjectMapper objectMapper;
     
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    @Mock
+    private SendResult<String, Object> sendResult;
+    
     @Mock
     private WorkRecordApproval approval;
     
@@ -48,7 +59,7 @@ class DomainEventPublisherTest {
     private DomainEventPublisher domainEventPublisher;
     
     @Test
-    @DisplayName("publishPendingEvents - 未発行イベントの発行")
+    @DisplayName("publishPendingEvents - 未発行イベントをバッチで発行し一括で発行済みにする")
     void publishPendingEvents_Success() {
         // Arrange
         when(approval.getUserId()).thenReturn("user1");
@@ -59,27 +70,53 @@ class DomainEventPublisherTest {
         WorkRecordApprovalEvent event = WorkRecordApprovalEvent.createForApproval(approval, workRecords);
         List<WorkRecordApprovalEvent> pendingEvents = List.of(event);
         
-        when(domainEventRepository.findPendingEvents(100)).thenReturn(pendingEvents);
+        when(domainEventRepository.claimPendingEvents(3, 100)).thenReturn(pendingEvents);
+        when(kafkaTemplate.send(eq("work-record-approval-changed"), eq(event.userId()), eq(event)))
+            .thenReturn(CompletableFuture.completedFuture(sendResult));
         
         // Act
         domainEventPublisher.publishPendingEvents();
         
         // Assert
-        verify(domainEventRepository).findPendingEvents(100);
+        verify(domainEventRepository).claimPendingEvents(3, 100);
         verify(kafkaTemplate).send(eq("work-record-approval-changed"), eq(event.userId()), eq(event));
+        verify(domainEventRepository).markAllAsPublished(List.of(event.eventId()));
+        verify(domainEventRepository).markAllAsFailed(Map.of());
+    }
+    
+    @Test
+    @DisplayName("publishPendingEvents - 送信に失敗したイベントは一括で失敗として記録する")
+    void publishPendingEvents_SendFailure() {
+        // Arrange
+        when(approval.getUserId()).thenReturn("user1");
+        when(approval.getWorkDate()).thenReturn(LocalDate.now());
+        when(approval.getApproverId()).thenReturn("approver1");
+        
+        WorkRecordApprovalEvent event = WorkRecordApprovalEvent.createForApproval(approval, List.of(workRecord));
+        
+        when(domainEventRepository.claimPendingEvents(3, 100)).thenReturn(List.of(event));
+        when(kafkaTemplate.send(eq("work-record-approval-changed"), eq(event.userId()), eq(event)))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+        
+        // Act
+        domainEventPublisher.publishPendingEvents();
+        
+        // Assert
+        verify(domainEventRepository).markAllAsPublished(List.of());
+        verify(domainEventRepository).markAllAsFailed(Map.of(event.eventId(), "broker unavailable"));
     }
     
     @Test
     @DisplayName("publishPendingEvents - 空のリスト")
     void publishPendingEvents_EmptyList() {
         // Arrange
-        when(domainEventRepository.findPendingEvents(100)).thenReturn(List.of());
+        when(domainEventRepository.claimPendingEvents(3, 100)).thenReturn(List.of());
         
         // Act
         domainEventPublisher.publishPendingEvents();
         
         // Assert
-        verify(domainEventRepository).findPendingEvents(100);
+        verify(domainEventRepository).claimPendingEvents(3, 100);
         verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
     }
     
@@ -95,17 +132,57 @@ class DomainEventPublisherTest {
         WorkRecordApprovalEvent event = WorkRecordApprovalEvent.createForApproval(approval, workRecords);
         List<WorkRecordApprovalEvent> retryableEvents = List.of(event);
         
-        when(domainEventRepository.findRetryableEvents(3, 100)).thenReturn(retryableEvents);
+        when(domainEventRepository.claimPendingEvents(3, 100)).thenReturn(retryableEvents);
+        when(kafkaTemplate.send(eq("work-record-approval-changed"), eq(event.userId()), eq(event)))
+            .thenReturn(CompletableFuture.completedFuture(sendResult));
         
         // Act
         domainEventPublisher.retryFailedEvents();
         
         // Assert
-        verify(domainEventRepository).findRetryableEvents(3, 100);
-        verify(domainEventRepository).incrementRetryCount(event.eventId());
+        verify(domainEventRepository).claimPendingEvents(3, 100);
+        verify(domainEventRepository).incrementRetryCounts(List.of(event.eventId()));
         verify(kafkaTemplate).send(eq("work-record-approval-changed"), eq(event.userId()), eq(event));
     }
     
+    @Test
+    @DisplayName("onDomainEventStored - コミット後に保存済みイベントを即時発行する")
+    void onDomainEventStored_PublishesCommittedEvent() {
+        // Arrange
+        when(approval.getUserId()).thenReturn("user1");
+        when(approval.getWorkDate()).thenReturn(LocalDate.now());
+        when(approval.getApproverId()).thenReturn("approver1");
+        
+        WorkRecordApprovalEvent event = WorkRecordApprovalEvent.createForApproval(approval, List.of(workRecord));
+        
+        when(domainEventRepository.claimPendingEventsByIds(List.of(event.eventId()))).thenReturn(List.of(event));
+        when(kafkaTemplate.send(eq("work-record-approval-changed"), eq(event.userId()), eq(event)))
+            .thenReturn(CompletableFuture.completedFuture(sendResult));
+        
+        // Act
+        domainEventPublisher.onDomainEventStored(new DomainEventStoredEvent(event.eventId()));
+        
+        // Assert
+        verify(domainEventRepository, timeout(5000)).markAllAsPublished(List.of(event.eventId()));
+        verify(domainEventRepository, never()).claimPendingEvents(anyInt(), anyInt());
+        domainEventPublisher.shutdown();
+    }
+    
+    @Test
+    @DisplayName("publishCommittedEvents - 他ノードが取得済みのイベントは発行しない")
+    void publishCommittedEvents_AlreadyClaimed() {
+        // Arrange
+        when(domainEventRepository.claimPendingEventsByIds(anyList())).thenReturn(List.of());
+        
+        // Act
+        domainEventPublisher.onDomainEventStored(new DomainEventStoredEvent("event123"));
+        
+        // Assert
+        verify(domainEventRepository, timeout(5000)).claimPendingEventsByIds(List.of("event123"));
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+        domainEventPublisher.shutdown();
+    }
+    
     @Test
     @DisplayName("cleanupOldEvents - 古いイベントの削除")
     void cleanupOldEvents_Success() {
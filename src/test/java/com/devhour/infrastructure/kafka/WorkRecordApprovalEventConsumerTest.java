@@ -0,0 +1,165 @@
+package com.devhour.infrastructure.kafka;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import com.devhour.domain.event.WorkRecordApprovalEvent;
+import com.devhour.domain.model.entity.WorkRecordApprovalHistory;
+import com.devhour.domain.repository.WorkRecordApprovalHistoryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * WorkRecordApprovalEventConsumerのテストクラス
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkRecordApprovalEventConsumer")
+class WorkRecordApprovalEventConsumerTest {
+    
+    private static final String TOPIC = "work-record-approval-changed";
+    
+    @Mock
+    private WorkRecordApprovalHistoryRepository approvalHistoryRepository;
+    
+    @Mock
+    private Acknowledgment acknowledgment;
+    
+    private WorkRecordApprovalEventConsumer consumer;
+    
+    @BeforeEach
+    void setUp() {
+        consumer = new WorkRecordApprovalEventConsumer(approvalHistoryRepository, new ObjectMapper());
+    }
+    
+    @Test
+    @DisplayName("handleWorkRecordApprovalEvents - 未登録の履歴を一括登録しバッチ単位でコミットする")
+    void handleWorkRecordApprovalEvents_InsertsNewHistories() {
+        // Arrange
+        WorkRecordApprovalEvent event1 = event("user1-2026-01-05-1", "wr1", "wr2");
+        WorkRecordApprovalEvent event2 = event("user1-2026-01-06-2", "wr3");
+        when(approvalHistoryRepository.findExistingIds(anyCollection()))
+            .thenReturn(Set.of("user1-2026-01-05-1#wr2"));
+        
+        // Act
+        consumer.handleWorkRecordApprovalEvents(List.of(record(0, event1), record(1, event2)), acknowledgment);
+        
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WorkRecordApprovalHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(approvalHistoryRepository, times(1)).findExistingIds(anyCollection());
+        verify(approvalHistoryRepository).saveAll(captor.capture());
+        assertEquals(List.of("user1-2026-01-05-1#wr1", "user1-2026-01-06-2#wr3"),
+            captor.getValue().stream().map(WorkRecordApprovalHistory::getHistoryId).toList());
+        assertEquals("APPROVE", captor.getValue().get(0).getAction());
+        verify(acknowledgment, times(1)).acknowledge();
+    }
+    
+    @Test
+    @DisplayName("handleWorkRecordApprovalEvents - バッチ内で重複したイベントは1件だけ登録する")
+    void handleWorkRecordApprovalEvents_DeduplicatesWithinBatch() {
+        // Arrange
+        WorkRecordApprovalEvent event = event("user1-2026-01-05-1", "wr1");
+        when(approvalHistoryRepository.findExistingIds(anyCollection())).thenReturn(Set.of());
+        
+        // Act
+        consumer.handleWorkRecordApprovalEvents(List.of(record(0, event), record(1, event)), acknowledgment);
+        
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WorkRecordApprovalHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(approvalHistoryRepository).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        verify(acknowledgment).acknowledge();
+    }
+    
+    @Test
+    @DisplayName("handleWorkRecordApprovalEvents - 全件処理済みの場合は登録せずにコミットする")
+    void handleWorkRecordApprovalEvents_AllProcessed() {
+        // Arrange
+        WorkRecordApprovalEvent event = event("user1-2026-01-05-1", "wr1");
+        when(approvalHistoryRepository.findExistingIds(anyCollection()))
+            .thenReturn(Set.of("user1-2026-01-05-1#wr1"));
+        
+        // Act
+        consumer.handleWorkRecordApprovalEvents(List.of(record(0, event)), acknowledgment);
+        
+        // Assert
+        verify(approvalHistoryRepository, never()).saveAll(anyList());
+        verify(acknowledgment).acknowledge();
+    }
+    
+    @Test
+    @DisplayName("handleWorkRecordApprovalEvents - 登録に失敗した場合は失敗位置を通知しコミットしない")
+    void handleWorkRecordApprovalEvents_SaveFailure() {
+        // Arrange
+        WorkRecordApprovalEvent event = event("user1-2026-01-05-1", "wr1");
+        when(approvalHistoryRepository.findExistingIds(anyCollection())).thenReturn(Set.of());
+        doThrow(new RuntimeException("DB error")).when(approvalHistoryRepository).saveAll(anyList());
+        
+        // Act & Assert
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+            () -> consumer.handleWorkRecordApprovalEvents(List.of(record(0, event)), acknowledgment));
+        assertEquals(0, exception.getIndex());
+        verify(acknowledgment, never()).acknowledge();
+    }
+    
+    @Test
+    @DisplayName("handleWorkRecordApprovalEvents - 一括登録に失敗した場合はレコード単位で登録し、失敗したレコードの位置を通知する")
+    void handleWorkRecordApprovalEvents_BatchFailure_FallsBackToPerRecordInserts() {
+        // Arrange: 2件目のイベントが削除済みの工数記録を参照している
+        WorkRecordApprovalEvent valid = event("user1-2026-01-05-1", "wr1");
+        WorkRecordApprovalEvent invalid = event("user1-2026-01-06-2", "deleted-wr");
+        WorkRecordApprovalEvent following = event("user1-2026-01-07-3", "wr3");
+        when(approvalHistoryRepository.findExistingIds(anyCollection())).thenReturn(Set.of());
+        doThrow(new RuntimeException("FK violation"))   // 一括登録
+            .doNothing()                                 // 1件目
+            .doThrow(new RuntimeException("FK violation")) // 2件目
+            .when(approvalHistoryRepository).saveAll(anyList());
+        
+        // Act
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+            () -> consumer.handleWorkRecordApprovalEvents(
+                List.of(record(0, valid), record(1, invalid), record(2, following)), acknowledgment));
+        
+        // Assert: 1件目は登録済み、失敗した2件目の位置を通知し、3件目は再受信に委ねる
+        assertEquals(1, exception.getIndex());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WorkRecordApprovalHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(approvalHistoryRepository, times(3)).saveAll(captor.capture());
+        assertEquals(List.of(3, 1, 1), captor.getAllValues().stream().map(List::size).toList());
+        assertEquals("user1-2026-01-05-1#wr1", captor.getAllValues().get(1).get(0).getHistoryId());
+        assertEquals("user1-2026-01-06-2#deleted-wr", captor.getAllValues().get(2).get(0).getHistoryId());
+        verify(acknowledgment, never()).acknowledge();
+    }
+    
+    private static ConsumerRecord<String, WorkRecordApprovalEvent> record(long offset, WorkRecordApprovalEvent event) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, event.userId(), event);
+    }
+    
+    private static WorkRecordApprovalEvent event(String eventId, String... workRecordIds) {
+        List<WorkRecordApprovalEvent.WorkRecordSnapshot> snapshots = Arrays.stream(workRecordIds)
+            .map(id -> new WorkRecordApprovalEvent.WorkRecordSnapshot(
+                id, "project1", "{\"DEV\":8.0}", new BigDecimal("8.0"), "開発作業", "APPROVED", 1))
+            .toList();
+        return new WorkRecordApprovalEvent(eventId, "user1", LocalDate.of(2026, 1, 5), "APPROVE",
+            "approver1", null, "APPROVED", snapshots, LocalDateTime.of(2026, 1, 6, 9, 0));
+    }
+}
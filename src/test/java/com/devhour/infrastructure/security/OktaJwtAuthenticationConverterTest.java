@@ -3,7 +3,11 @@ package com.devhour.infrastructure.security;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
@@ -113,6 +117,31 @@ class OktaJwtAuthenticationConverterTest {
             assertThat(authToken.getInternalUserId()).isEqualTo("user123"); // 同期サービスなしの場合はOkta User IDを返す
         }
 
+        @Test
+        @DisplayName("キャッシュ済みのユーザーは再同期しない")
+        void shouldReuseCachedPrincipal() {
+            // Given
+            converter = new OktaJwtAuthenticationConverter(userSyncService,
+                new OktaPrincipalCache(Duration.ofMinutes(5), 100, Clock.systemUTC()));
+            Map<String, Object> headers = Map.of("alg", "RS256");
+            Map<String, Object> claims = Map.of(
+                "sub", "user123",
+                "email", "test@example.com",
+                "scp", List.of("work-hours:read")
+            );
+            Jwt jwt = new Jwt("token", Instant.now(), Instant.now().plusSeconds(3600), headers, claims);
+            User mockUser = User.createFromOkta("test@example.com", "Test User", "user123");
+            when(userSyncService.syncUser(any())).thenReturn(mockUser);
+
+            // When
+            OktaAuthenticationToken first = (OktaAuthenticationToken) converter.convert(jwt);
+            OktaAuthenticationToken second = (OktaAuthenticationToken) converter.convert(jwt);
+
+            // Then
+            assertThat(second.getInternalUserId()).isEqualTo(first.getInternalUserId());
+            verify(userSyncService, times(1)).syncUser(any());
+        }
+
         @Test
         @DisplayName("スコープクレームの抽出")
         void shouldExtractScopesFromClaims() {
@@ -0,0 +1,123 @@
+package com.devhour.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import com.devhour.domain.event.UserChangedEvent;
+import com.devhour.domain.model.entity.User;
+import com.devhour.test.MutableClock;
+
+/**
+ * OktaPrincipalCacheのテストクラス
+ */
+@DisplayName("OktaPrincipalCache")
+class OktaPrincipalCacheTest {
+
+    private MutableClock clock;
+    private OktaPrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        cache = new OktaPrincipalCache(Duration.ofMinutes(5), 2, clock);
+    }
+
+    @Test
+    @DisplayName("有効期限内でクレームが一致する場合は同期せずにキャッシュ済みユーザーの複製を返す")
+    void shouldReturnCachedUser() {
+        User user = User.createFromOkta("test@example.com", "Test User", "user123");
+        cache.get(jwt("user123", "test@example.com", "Test User"), () -> user);
+
+        User cached = cache.get(jwt("user123", "test@example.com", "Test User"), () -> {
+            throw new AssertionError("キャッシュ済みの場合は同期しない");
+        });
+
+        assertThat(cached).isNotSameAs(user);
+        assertThat(cached.getId()).isEqualTo(user.getId());
+        assertThat(cached.getEmail()).isEqualTo(user.getEmail());
+    }
+
+    @Test
+    @DisplayName("返したユーザーへの変更はキャッシュ済みユーザーに反映されない")
+    void shouldNotShareMutableUser() {
+        User user = User.createFromOkta("test@example.com", "Test User", "user123");
+        cache.get(jwt("user123", "test@example.com", "Test User"), () -> user);
+
+        user.deactivate();
+        cache.get(jwt("user123", "test@example.com", "Test User"), () -> null).deactivate();
+
+        assertThat(cache.get(jwt("user123", "test@example.com", "Test User"), () -> null).isActive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("TTLを経過したエントリは返さない")
+    void shouldExpireAfterTtl() {
+        cache.get(jwt("user123", "test@example.com", "Test User"),
+            () -> User.createFromOkta("test@example.com", "Test User", "user123"));
+
+        clock.advance(Duration.ofMinutes(5));
+
+        assertThat(cache.get(jwt("user123", "test@example.com", "Test User"), () -> null)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("氏名クレームが変わった場合は再同期する")
+    void shouldMissWhenClaimsChange() {
+        cache.get(jwt("user123", "test@example.com", "Test User"),
+            () -> User.createFromOkta("test@example.com", "Test User", "user123"));
+
+        assertThat(cache.get(jwt("user123", "test@example.com", "Renamed User"), () -> null)).isNull();
+    }
+
+    @Test
+    @DisplayName("同期できなかった場合はキャッシュしない")
+    void shouldNotCacheNullUser() {
+        cache.get(jwt("user123", "test@example.com", "Test User"), () -> null);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("ユーザー変更通知を受けると該当ユーザーのエントリのみ破棄する")
+    void shouldInvalidateChangedUser() {
+        User changedUser = User.createFromOkta("user1@example.com", "User 1", "user1");
+        User otherUser = User.createFromOkta("user2@example.com", "User 2", "user2");
+        cache.get(jwt("user1", "user1@example.com", "User 1"), () -> changedUser);
+        cache.get(jwt("user2", "user2@example.com", "User 2"), () -> otherUser);
+
+        cache.onUserChanged(new UserChangedEvent(changedUser.getId()));
+
+        assertThat(cache.get(jwt("user1", "user1@example.com", "User 1"), () -> null)).isNull();
+        assertThat(cache.get(jwt("user2", "user2@example.com", "User 2"), () -> null).getId()).isEqualTo(otherUser.getId());
+    }
+
+    @Test
+    @DisplayName("同期中にユーザー変更通知を受けた場合は同期結果をキャッシュしない")
+    void shouldNotCacheUserLoadedBeforeInvalidation() {
+        User user = User.createFromOkta("user1@example.com", "User 1", "user1");
+
+        User loaded = cache.get(jwt("user1", "user1@example.com", "User 1"), () -> {
+            // 変更前の状態を読み込んだ後、変更のコミットによる破棄が先に実行される
+            cache.onUserChanged(new UserChangedEvent(user.getId()));
+            return user;
+        });
+
+        assertThat(loaded.getId()).isEqualTo(user.getId());
+        assertThat(cache.size()).isZero();
+    }
+
+    private static Jwt jwt(String subject, String email, String name) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("sub", subject);
+        claims.put("email", email);
+        claims.put("name", name);
+        return new Jwt("token", Instant.now(), Instant.now().plusSeconds(3600), Map.of("alg", "RS256"), claims);
+    }
+}
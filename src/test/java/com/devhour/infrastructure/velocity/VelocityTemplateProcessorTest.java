@@ -2,10 +2,12 @@ package com.devhour.infrastructure.velocity;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -163,6 +165,142 @@ class VelocityTemplateProcessorTest {
         }
     }
 
+    @Nested
+    @DisplayName("解析済みテンプレートキャッシュテスト")
+    class CompiledTemplateCacheTests {
+
+        @Test
+        @DisplayName("キャッシュ経由の変換結果は都度解析と一致する")
+        void testCachedTransformMatchesEvaluate() {
+            // When
+            String cached = velocityTemplateProcessor.transformResponse(SAMPLE_JIRA_RESPONSE, "template-1", BASIC_TEMPLATE);
+            String evaluated = velocityTemplateProcessor.transformResponse(SAMPLE_JIRA_RESPONSE, BASIC_TEMPLATE);
+
+            // Then
+            assertThat(cached).isEqualTo(evaluated);
+        }
+
+        @Test
+        @DisplayName("同じIDで内容が変わった場合は再解析する")
+        void testChangedContentRecompilesTemplate() {
+            // Given
+            velocityTemplateProcessor.transformResponse(SAMPLE_JIRA_RESPONSE, "template-1", "{\"key\": \"$!{key}\"}");
+
+            // When: 更新日時が同じでも内容が異なれば再解析される
+            String result = velocityTemplateProcessor.transformResponse(SAMPLE_JIRA_RESPONSE, "template-1", "{\"summary\": \"$!{fields.summary}\"}");
+
+            // Then
+            assertThat(result).contains("\"summary\"").doesNotContain("\"key\"");
+        }
+
+        @Test
+        @DisplayName("IDが異なるテンプレートは別々にキャッシュする")
+        void testDifferentIdsAreCachedSeparately() {
+            // Given
+            velocityTemplateProcessor.transformResponse(SAMPLE_JIRA_RESPONSE, "template-1", "{\"key\": \"$!{key}\"}");
+            velocityTemplateProcessor.transformResponse(SAMPLE_JIRA_RESPONSE, "template-2", "{\"summary\": \"$!{fields.summary}\"}");
+
+            // When
+            String result = velocityTemplateProcessor.transformResponse(SAMPLE_JIRA_RESPONSE, "template-1", "{\"key\": \"$!{key}\"}");
+
+            // Then
+            assertThat(result).contains("\"key\"").doesNotContain("summary");
+        }
+
+        @Test
+        @DisplayName("キャッシュ破棄後も同じIDで変換できる")
+        void testEvictTemplateForcesRecompile() {
+            // Given
+            velocityTemplateProcessor.transformResponse(SAMPLE_JIRA_RESPONSE, "template-1", "{\"key\": \"$!{key}\"}");
+
+            // When
+            velocityTemplateProcessor.evictTemplate("template-1");
+            String result = velocityTemplateProcessor.transformResponse(SAMPLE_JIRA_RESPONSE, "template-1", "{\"key\": \"$!{key}\"}");
+
+            // Then
+            assertThat(result).contains("\"key\"");
+        }
+
+        @Test
+        @DisplayName("構文エラーのテンプレートは例外を投げる")
+        void testInvalidTemplateThrowsException() {
+            assertThatThrownBy(() -> velocityTemplateProcessor.transformResponse(
+                    SAMPLE_JIRA_RESPONSE, "invalid", "{ invalid template syntax ${unclosed_bracket"))
+                .isInstanceOf(VelocityTemplateProcessor.VelocityTemplateException.class);
+        }
+
+        @Test
+        @DisplayName("ツリー変換の結果は文字列変換の結果と一致する")
+        void testTransformToTreeMatchesStringTransform() throws Exception {
+            // Given
+            ObjectMapper objectMapper = new ObjectMapper();
+            JsonNode issue = objectMapper.readTree(SAMPLE_JIRA_RESPONSE);
+
+            // When
+            JsonNode tree = velocityTemplateProcessor.transformToTree(issue, "basic", BASIC_TEMPLATE);
+            String json = velocityTemplateProcessor.transformResponse(SAMPLE_JIRA_RESPONSE, "basic", BASIC_TEMPLATE);
+
+            // Then
+            assertThat(tree).isEqualTo(objectMapper.readTree(json));
+        }
+
+        @Test
+        @DisplayName("$rawDataは文字列として扱え、Stringのメソッドやユーティリティに渡せる")
+        void testRawDataIsString() throws Exception {
+            // Given
+            ObjectMapper objectMapper = new ObjectMapper();
+            JsonNode issue = objectMapper.readTree(SAMPLE_JIRA_RESPONSE);
+            String template = """
+                {
+                  "length": $rawData.length(),
+                  "containsKey": $rawData.contains("PROJ-123"),
+                  "trimmedLength": $stringUtils.trim($rawData).length()
+                }""";
+            int expectedLength = issue.toString().length();
+
+            // When
+            JsonNode fromString = objectMapper.readTree(
+                velocityTemplateProcessor.transformResponse(SAMPLE_JIRA_RESPONSE, "raw-data", template));
+            JsonNode fromTree = velocityTemplateProcessor.transformToTree(issue, "raw-data", template);
+
+            // Then
+            for (JsonNode result : List.of(fromString, fromTree)) {
+                assertThat(result.get("length").asInt()).isEqualTo(expectedLength);
+                assertThat(result.get("containsKey").asBoolean()).isTrue();
+                assertThat(result.get("trimmedLength").asInt()).isEqualTo(expectedLength);
+            }
+        }
+
+        @Test
+        @DisplayName("作成済みコンテキストを複数テンプレートで共有しても#setの変更は他の変換に影響しない")
+        void testSharedContextIsolatesTemplateVariables() throws Exception {
+            // Given
+            ObjectMapper objectMapper = new ObjectMapper();
+            VelocityTemplateProcessor.TemplateContext context =
+                velocityTemplateProcessor.createContext(objectMapper.readTree(SAMPLE_JIRA_RESPONSE));
+
+            // When
+            JsonNode overwritten = velocityTemplateProcessor.transformToTree(
+                context, "overwrite", "#set($key = \"OVERWRITTEN\"){ \"key\": \"$key\" }");
+            JsonNode original = velocityTemplateProcessor.transformToTree(
+                context, "original", "{ \"key\": \"$key\" }");
+
+            // Then
+            assertThat(overwritten.get("key").asText()).isEqualTo("OVERWRITTEN");
+            assertThat(original.get("key").asText()).isEqualTo(objectMapper.readTree(SAMPLE_JIRA_RESPONSE).get("key").asText());
+        }
+
+        @Test
+        @DisplayName("ツリー変換で不正なJSONが出力された場合は例外を投げる")
+        void testTransformToTreeInvalidOutputThrowsException() throws Exception {
+            JsonNode issue = new ObjectMapper().readTree(SAMPLE_JIRA_RESPONSE);
+
+            assertThatThrownBy(() -> velocityTemplateProcessor.transformToTree(
+                    issue, "broken", "{ \"key\": $key"))
+                .isInstanceOf(VelocityTemplateProcessor.VelocityTemplateException.class);
+        }
+    }
+
     @Nested
     @DisplayName("テンプレート検証テスト")
     class TemplateValidationTests {
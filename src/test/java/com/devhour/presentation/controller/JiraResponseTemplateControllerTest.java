@@ -530,6 +530,7 @@ public class JiraResponseTemplateControllerTest {
             
             verify(responseTemplateRepository).existsById("template-id-123");
             verify(responseTemplateRepository).deleteById("template-id-123");
+            verify(velocityTemplateProcessor).evictTemplate("template-id-123");
         }
         
         @Test
@@ -1,5 +1,7 @@
 package com.devhour.presentation.controller;
 
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -228,6 +230,24 @@ class JiraSyncControllerTest {
                 .andExpect(status().isAccepted());
     }
 
+    @Test
+    @DisplayName("手動同期実行 - fullResync指定時は全件再同期を実行")
+    void executeManualSync_WithFullResync_ExecutesFullSync() throws Exception {
+        // Setup
+        JiraSyncHistory syncHistory = JiraSyncHistory.startSync(JiraSyncType.MANUAL, "admin-user");
+        when(jiraSyncApplicationService.executeFullSync()).thenReturn(syncHistory);
+
+        // Execute & Verify
+        mockMvc.perform(post("/api/jira/sync/manual")
+                .param("fullResync", "true")
+                .with(jwt().jwt(jwt -> jwt.subject("admin").claim("scope", "jira:write"))))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.syncId").value(syncHistory.getId()));
+
+        verify(jiraSyncApplicationService).executeFullSync();
+        verify(jiraSyncApplicationService, never()).executeSync();
+    }
+
     // ========== GET /api/jira/sync/status Tests ==========
 
     @Test